@@ -135,6 +135,8 @@ part 'programmatic_zoom_scale.dart';
 
 part 'pause_resume_timers.dart';
 
+part 'plugin_scripts_startup.dart';
+
 part 'post_requests.dart';
 
 part 'print_current_page.dart';
@@ -258,6 +260,7 @@ void main() {
     clearCache();
     tRexRunnerGame();
     pauseResumeTimers();
+    pluginScriptsStartup();
     printCurrentPage();
     getContentHeight();
     clearFocus();
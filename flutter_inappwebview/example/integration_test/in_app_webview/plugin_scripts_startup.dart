@@ -0,0 +1,101 @@
+part of 'main.dart';
+
+void pluginScriptsStartup() {
+  final shouldSkip = kIsWeb
+      ? true
+      : ![
+          TargetPlatform.android,
+        ].contains(defaultTargetPlatform);
+
+  const html = """
+<!DOCTYPE html>
+<html lang="en">
+    <head>
+        <meta charset="UTF-8">
+        <meta name="viewport" content="width=device-width, user-scalable=no, initial-scale=1.0, maximum-scale=1.0, minimum-scale=1.0">
+        <meta http-equiv="X-UA-Compatible" content="ie=edge">
+        <title>Plugin Scripts Startup</title>
+    </head>
+    <body>
+        <h1>Plugin Scripts Startup</h1>
+    </body>
+</html>
+""";
+
+  const optionalPluginScripts = [
+    "IN_APP_WEBVIEW_INTERCEPT_AJAX_REQUEST_JS_PLUGIN_SCRIPT",
+    "IN_APP_WEBVIEW_INTERCEPT_FETCH_REQUEST_JS_PLUGIN_SCRIPT",
+    "IN_APP_WEBVIEW_ON_LOAD_RESOURCE_JS_PLUGIN_SCRIPT",
+    "IN_APP_WEBVIEW_ON_WINDOW_FOCUS_EVENT_JS_PLUGIN_SCRIPT",
+    "IN_APP_WEBVIEW_ON_WINDOW_BLUR_EVENT_JS_PLUGIN_SCRIPT",
+    "IN_APP_WEBVIEW_CONSOLE_LOG_JS_PLUGIN_SCRIPT",
+  ];
+
+  Future<Map<String, dynamic>> measureStartup(WidgetTester tester,
+      {required bool withPluginScripts}) async {
+    final Completer<InAppWebViewController> pageLoaded =
+        Completer<InAppWebViewController>();
+
+    await InAppWebViewController.clearAllCache();
+    await tester.pumpWidget(
+      Directionality(
+        textDirection: TextDirection.ltr,
+        child: InAppWebView(
+          key: GlobalKey(),
+          initialData: InAppWebViewInitialData(data: html),
+          initialSettings: InAppWebViewSettings(
+              useShouldInterceptAjaxRequest: withPluginScripts,
+              useShouldInterceptFetchRequest: withPluginScripts,
+              useOnLoadResource: withPluginScripts,
+              useOnWindowFocus: withPluginScripts,
+              useOnWindowBlur: withPluginScripts,
+              useOnConsoleMessage: withPluginScripts),
+          onLoadStop: (controller, url) {
+            pageLoaded.complete(controller);
+          },
+        ),
+      ),
+    );
+
+    final controller = await pageLoaded.future;
+    final result = await controller.callAsyncJavaScript(functionBody: """
+return await new Promise(function(resolve) {
+  new PerformanceObserver(function(list, observer) {
+    observer.disconnect();
+    resolve(list.getEntries()[0].startTime);
+  }).observe({type: 'paint', buffered: true});
+});
+""");
+    final metrics = await controller.getUserScriptsBundleMetrics();
+    final pluginScriptSizes =
+        (metrics?["pluginScriptSizes"] as Map?)?.cast<String, dynamic>() ??
+            {};
+    var pluginScriptsSize = 0;
+    for (final size in pluginScriptSizes.values) {
+      pluginScriptsSize += size as int;
+    }
+    return {
+      "firstPaint": result?.value as num,
+      "pluginScripts": pluginScriptSizes.keys.toSet(),
+      "pluginScriptsSize": pluginScriptsSize
+    };
+  }
+
+  skippableTestWidgets('plugin scripts startup', (WidgetTester tester) async {
+    final withoutRun = await measureStartup(tester, withPluginScripts: false);
+    final withRun = await measureStartup(tester, withPluginScripts: true);
+
+    final Set<String> withoutPluginScripts = withoutRun["pluginScripts"];
+    final Set<String> withPluginScripts = withRun["pluginScripts"];
+    for (final pluginScript in optionalPluginScripts) {
+      expect(withoutPluginScripts, isNot(contains(pluginScript)));
+      expect(withPluginScripts, contains(pluginScript));
+    }
+    expect(withPluginScripts.containsAll(withoutPluginScripts), true);
+    expect(withoutRun["pluginScriptsSize"],
+        lessThan(withRun["pluginScriptsSize"]));
+
+    expect(withoutRun["firstPaint"], greaterThan(0));
+    expect(withRun["firstPaint"], greaterThan(0));
+  }, skip: shouldSkip);
+}
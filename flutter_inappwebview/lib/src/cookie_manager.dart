@@ -143,6 +143,41 @@ class CookieManager {
 
   ///{@macro flutter_inappwebview_platform_interface.PlatformCookieManager.removeSessionCookies}
   Future<bool> removeSessionCookies() => platform.removeSessionCookies();
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformCookieManager.setCookies}
+  Future<bool> setCookies(
+          {required WebUri url, required List<Cookie> cookies}) =>
+      platform.setCookies(url: url, cookies: cookies);
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformCookieManager.deleteCookiesByName}
+  Future<bool> deleteCookiesByName(
+          {required WebUri url,
+          required List<String> names,
+          String path = "/",
+          String? domain}) =>
+      platform.deleteCookiesByName(
+          url: url, names: names, path: path, domain: domain);
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformCookieManager.exportCookies}
+  Future<String?> exportCookies({required List<WebUri> urls}) =>
+      platform.exportCookies(urls: urls);
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformCookieManager.importCookies}
+  Future<bool> importCookies({required String jar}) =>
+      platform.importCookies(jar: jar);
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformCookieManager.setFlushSettings}
+  Future<void> setFlushSettings(
+          {Duration? flushDelay, Duration? maxFlushDelay}) =>
+      platform.setFlushSettings(
+          flushDelay: flushDelay, maxFlushDelay: maxFlushDelay);
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformCookieManager.flush}
+  Future<void> flush() => platform.flush();
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformCookieManager.getFlushStatistics}
+  Future<Map<String, dynamic>> getFlushStatistics() =>
+      platform.getFlushStatistics();
 }
 
 ///Class that contains only iOS-specific methods of [CookieManager].
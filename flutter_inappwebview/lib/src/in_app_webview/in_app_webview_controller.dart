@@ -185,6 +185,20 @@ class InAppWebViewController {
           {ScreenshotConfiguration? screenshotConfiguration}) =>
       platform.takeScreenshot(screenshotConfiguration: screenshotConfiguration);
 
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.takeRawScreenshot}
+  Future<RawScreenshot?> takeRawScreenshot(
+          {ScreenshotConfiguration? screenshotConfiguration}) =>
+      platform.takeRawScreenshot(
+          screenshotConfiguration: screenshotConfiguration);
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.takeFullPageScreenshot}
+  Stream<ScreenshotTile> takeFullPageScreenshot(
+          {ScreenshotConfiguration? screenshotConfiguration,
+          int? tileHeight}) =>
+      platform.takeFullPageScreenshot(
+          screenshotConfiguration: screenshotConfiguration,
+          tileHeight: tileHeight);
+
   ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.setOptions}
   @Deprecated('Use setSettings instead')
   Future<void> setOptions({required InAppWebViewGroupOptions options}) =>
@@ -461,6 +475,37 @@ class InAppWebViewController {
   ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.clearFormData}
   Future<void> clearFormData() => platform.clearFormData();
 
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getInterceptRequestRuleMatchCounts}
+  Future<List<int>> getInterceptRequestRuleMatchCounts() =>
+      platform.getInterceptRequestRuleMatchCounts();
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getConsoleMessages}
+  Future<List<ConsoleMessage>> getConsoleMessages({int? limit}) =>
+      platform.getConsoleMessages(limit: limit);
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.clearConsoleMessages}
+  Future<void> clearConsoleMessages() => platform.clearConsoleMessages();
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getResourceTimingSummary}
+  Future<Map<String, dynamic>?> getResourceTimingSummary() =>
+      platform.getResourceTimingSummary();
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getUserScriptsBundleMetrics}
+  Future<Map<String, dynamic>?> getUserScriptsBundleMetrics() =>
+      platform.getUserScriptsBundleMetrics();
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getContentBlockerStatistics}
+  Future<Map<String, dynamic>?> getContentBlockerStatistics() =>
+      platform.getContentBlockerStatistics();
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getShouldInterceptRequestStatistics}
+  Future<Map<String, dynamic>?> getShouldInterceptRequestStatistics() =>
+      platform.getShouldInterceptRequestStatistics();
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getJavaScriptBridgeStatistics}
+  Future<Map<String, dynamic>?> getJavaScriptBridgeStatistics() =>
+      platform.getJavaScriptBridgeStatistics();
+
   ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getCameraCaptureState}
   Future<MediaCaptureState?> getCameraCaptureState() =>
       platform.getCameraCaptureState();
@@ -565,6 +610,103 @@ class InAppWebViewController {
       PlatformInAppWebViewController.static()
           .clearAllCache(includeDiskFiles: includeDiskFiles);
 
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.setHttpClientSettings}
+  static Future<void> setHttpClientSettings(
+          {int? connectTimeout,
+          int? readTimeout,
+          int? maxConnectionsPerHost}) =>
+      PlatformInAppWebViewController.static().setHttpClientSettings(
+          connectTimeout: connectTimeout,
+          readTimeout: readTimeout,
+          maxConnectionsPerHost: maxConnectionsPerHost);
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getHttpClientStatistics}
+  static Future<Map<String, dynamic>> getHttpClientStatistics() =>
+      PlatformInAppWebViewController.static().getHttpClientStatistics();
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.setWebViewPoolSettings}
+  static Future<void> setWebViewPoolSettings(
+          {int? size, bool? preloadAboutBlank}) =>
+      PlatformInAppWebViewController.static().setWebViewPoolSettings(
+          size: size, preloadAboutBlank: preloadAboutBlank);
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getWebViewPoolStatistics}
+  static Future<Map<String, dynamic>> getWebViewPoolStatistics() =>
+      PlatformInAppWebViewController.static().getWebViewPoolStatistics();
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.runHeadlessJob}
+  static Future<Map<String, dynamic>> runHeadlessJob(
+          {WebUri? url,
+          String? data,
+          String mimeType = "text/html",
+          String encoding = "utf8",
+          WebUri? baseUrl,
+          String? script,
+          bool getHtml = false,
+          bool takeScreenshot = false,
+          ScreenshotConfiguration? screenshotConfiguration,
+          Size? size,
+          int priority = 0,
+          Duration? timeout,
+          bool clearStorage = true}) =>
+      PlatformInAppWebViewController.static().runHeadlessJob(
+          url: url,
+          data: data,
+          mimeType: mimeType,
+          encoding: encoding,
+          baseUrl: baseUrl,
+          script: script,
+          getHtml: getHtml,
+          takeScreenshot: takeScreenshot,
+          screenshotConfiguration: screenshotConfiguration,
+          size: size,
+          priority: priority,
+          timeout: timeout,
+          clearStorage: clearStorage);
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.setHeadlessFarmSettings}
+  static Future<void> setHeadlessFarmSettings(
+          {int? maxConcurrency, Duration? defaultJobTimeout}) =>
+      PlatformInAppWebViewController.static().setHeadlessFarmSettings(
+          maxConcurrency: maxConcurrency,
+          defaultJobTimeout: defaultJobTimeout);
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.cancelHeadlessJobs}
+  static Future<void> cancelHeadlessJobs() =>
+      PlatformInAppWebViewController.static().cancelHeadlessJobs();
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getHeadlessFarmStatistics}
+  static Future<Map<String, dynamic>> getHeadlessFarmStatistics() =>
+      PlatformInAppWebViewController.static().getHeadlessFarmStatistics();
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.setWebViewMemorySettings}
+  static Future<void> setWebViewMemorySettings(
+          {bool? freezeBackgroundWebViews, int? maxLiveBackgroundWebViews}) =>
+      PlatformInAppWebViewController.static().setWebViewMemorySettings(
+          freezeBackgroundWebViews: freezeBackgroundWebViews,
+          maxLiveBackgroundWebViews: maxLiveBackgroundWebViews);
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getWebViewMemoryStatistics}
+  static Future<Map<String, dynamic>> getWebViewMemoryStatistics() =>
+      PlatformInAppWebViewController.static().getWebViewMemoryStatistics();
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getKeepAliveThumbnail}
+  static Future<Uint8List?> getKeepAliveThumbnail(
+          InAppWebViewKeepAlive keepAlive) =>
+      PlatformInAppWebViewController.static().getKeepAliveThumbnail(keepAlive);
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getCachedFavicon}
+  static Future<Uint8List?> getCachedFavicon({required WebUri url}) =>
+      PlatformInAppWebViewController.static().getCachedFavicon(url: url);
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.clearFaviconCache}
+  static Future<void> clearFaviconCache() =>
+      PlatformInAppWebViewController.static().clearFaviconCache();
+
+  ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.enableSlowWholeDocumentDraw}
+  static Future<void> enableSlowWholeDocumentDraw() =>
+      PlatformInAppWebViewController.static().enableSlowWholeDocumentDraw();
+
   ///{@macro flutter_inappwebview_platform_interface.PlatformInAppWebViewController.tRexRunnerHtml}
   static Future<String> get tRexRunnerHtml =>
       PlatformInAppWebViewController.static().tRexRunnerHtml;
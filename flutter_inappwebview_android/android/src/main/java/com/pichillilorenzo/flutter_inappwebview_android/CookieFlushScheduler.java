@@ -0,0 +1,120 @@
+package com.pichillilorenzo.flutter_inappwebview_android;
+
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.webkit.CookieManager;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Coalesces the {@link CookieManager#flush} calls of {@link MyCookieManager}, that write the cookie store to disk.
+ * <p>
+ * A requested flush is performed {@link #flushDelay} milliseconds after the last request, so a burst of cookie
+ * changes is written once, but at most {@link #maxFlushDelay} milliseconds after the first pending request.
+ * {@link #flush} writes the pending changes immediately. Must be used on the main thread.
+ */
+public class CookieFlushScheduler {
+  public static final int DEFAULT_FLUSH_DELAY = 200;
+  public static final int DEFAULT_MAX_FLUSH_DELAY = 1000;
+
+  @NonNull
+  private final Handler handler = new Handler(Looper.getMainLooper());
+  private int flushDelay = DEFAULT_FLUSH_DELAY;
+  private int maxFlushDelay = DEFAULT_MAX_FLUSH_DELAY;
+
+  private boolean flushPending = false;
+  private long firstPendingRequestTime = 0;
+
+  private long requestedFlushes = 0;
+  private long performedFlushes = 0;
+  private long explicitFlushes = 0;
+
+  private final Runnable flushRunnable = new Runnable() {
+    @Override
+    public void run() {
+      performFlush();
+    }
+  };
+
+  /**
+   * @param flushDelay delay, in milliseconds, of a requested flush after the last request, {@code 0} to flush immediately.
+   * @param maxFlushDelay maximum delay, in milliseconds, of a requested flush after the first pending request.
+   */
+  public void setSettings(@Nullable Integer flushDelay, @Nullable Integer maxFlushDelay) {
+    if (flushDelay != null) {
+      this.flushDelay = Math.max(0, flushDelay);
+    }
+    if (maxFlushDelay != null) {
+      this.maxFlushDelay = Math.max(0, maxFlushDelay);
+    }
+    if (flushPending) {
+      schedule();
+    }
+  }
+
+  /**
+   * Requests a flush of the cookie store, performed later with the other requests of the same burst.
+   */
+  public void requestFlush() {
+    requestedFlushes++;
+    if (!flushPending) {
+      flushPending = true;
+      firstPendingRequestTime = SystemClock.uptimeMillis();
+    }
+    schedule();
+  }
+
+  private void schedule() {
+    long elapsedTime = SystemClock.uptimeMillis() - firstPendingRequestTime;
+    long delay = Math.min(flushDelay, Math.max(0, Math.max(flushDelay, maxFlushDelay) - elapsedTime));
+    handler.removeCallbacks(flushRunnable);
+    if (delay == 0) {
+      performFlush();
+    } else {
+      handler.postDelayed(flushRunnable, delay);
+    }
+  }
+
+  /**
+   * Writes the cookie store to disk now, for example before a durability critical step.
+   */
+  public void flush() {
+    explicitFlushes++;
+    performFlush();
+  }
+
+  private void performFlush() {
+    handler.removeCallbacks(flushRunnable);
+    flushPending = false;
+    CookieManager cookieManager = MyCookieManager.cookieManager;
+    if (cookieManager != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+      cookieManager.flush();
+      performedFlushes++;
+    }
+  }
+
+  @NonNull
+  public Map<String, Object> getStatistics() {
+    Map<String, Object> statistics = new HashMap<>();
+    statistics.put("flushDelay", flushDelay);
+    statistics.put("maxFlushDelay", maxFlushDelay);
+    statistics.put("flushPending", flushPending);
+    statistics.put("requestedFlushes", requestedFlushes);
+    statistics.put("explicitFlushes", explicitFlushes);
+    statistics.put("performedFlushes", performedFlushes);
+    return statistics;
+  }
+
+  public void dispose() {
+    if (flushPending) {
+      performFlush();
+    }
+    handler.removeCallbacks(flushRunnable);
+  }
+}
@@ -0,0 +1,258 @@
+package com.pichillilorenzo.flutter_inappwebview_android;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+
+/**
+ * Parses the cookies returned by {@link android.webkit.CookieManager} and builds the ones set with it.
+ * <p>
+ * The cookie strings are scanned once, without splitting them or using regular expressions,
+ * and the date formats are created once per thread. The last parsed {@code Expires} dates are cached,
+ * since the cookies of a site usually share a few expiration dates.
+ */
+public class CookieParser {
+  private static final String[] EXPIRES_DATE_PATTERNS = new String[]{
+          "EEE, dd MMM yyyy HH:mm:ss zzz",
+          "EEE, dd-MMM-yyyy HH:mm:ss zzz",
+          "EEE, dd-MMM-yy HH:mm:ss zzz",
+          "EEE MMM d HH:mm:ss yyyy"
+  };
+  private static final int EXPIRES_DATES_CACHE_MAX_SIZE = 64;
+
+  private static final ThreadLocal<SimpleDateFormat[]> parseDateFormats = new ThreadLocal<SimpleDateFormat[]>() {
+    @Override
+    protected SimpleDateFormat[] initialValue() {
+      SimpleDateFormat[] dateFormats = new SimpleDateFormat[EXPIRES_DATE_PATTERNS.length];
+      for (int i = 0; i < EXPIRES_DATE_PATTERNS.length; i++) {
+        dateFormats[i] = new SimpleDateFormat(EXPIRES_DATE_PATTERNS[i], Locale.US);
+        dateFormats[i].setTimeZone(TimeZone.getTimeZone("GMT"));
+      }
+      return dateFormats;
+    }
+  };
+
+  private static final ThreadLocal<SimpleDateFormat> formatDateFormat = new ThreadLocal<SimpleDateFormat>() {
+    @Override
+    protected SimpleDateFormat initialValue() {
+      SimpleDateFormat dateFormat = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US);
+      dateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
+      return dateFormat;
+    }
+  };
+
+  private static final Map<String, Long> expiresDates = new LinkedHashMap<String, Long>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+      return size() > EXPIRES_DATES_CACHE_MAX_SIZE;
+    }
+  };
+
+  /**
+   * Parses a cookie returned by {@link androidx.webkit.CookieManagerCompat#getCookieInfo}, that is
+   * a {@code Set-Cookie} header value, into a map with the {@code name}, {@code value} and attributes of the cookie.
+   *
+   * @param withAttributes {@code false} to parse only the name and the value.
+   * @return the cookie, or {@code null} if the string doesn't contain any cookie.
+   */
+  @Nullable
+  public static Map<String, Object> parse(@NonNull String cookie, boolean withAttributes) {
+    int length = cookie.length();
+    int end = indexOf(cookie, ';', 0, length);
+    int separator = indexOf(cookie, '=', 0, end);
+    String name = substringTrimmed(cookie, 0, separator);
+    if (name.isEmpty() && separator == end) {
+      return null;
+    }
+    Map<String, Object> cookieMap = new HashMap<>(withAttributes ? 16 : 4);
+    cookieMap.put("name", name);
+    cookieMap.put("value", separator < end ? substringTrimmed(cookie, separator + 1, end) : "");
+    if (!withAttributes) {
+      return cookieMap;
+    }
+    cookieMap.put("isSecure", false);
+    cookieMap.put("isHttpOnly", false);
+
+    int start = end + 1;
+    while (start < length) {
+      end = indexOf(cookie, ';', start, length);
+      separator = indexOf(cookie, '=', start, end);
+      int nameStart = skipWhitespaces(cookie, start, separator);
+      int nameLength = trimEnd(cookie, nameStart, separator) - nameStart;
+      if (matches(cookie, nameStart, nameLength, "Expires")) {
+        Long expiresDate = parseDate(substringTrimmed(cookie, separator + 1, end));
+        // Max-Age has precedence over Expires
+        if (expiresDate != null && !cookieMap.containsKey("maxAge")) {
+          cookieMap.put("expiresDate", expiresDate);
+        }
+      } else if (matches(cookie, nameStart, nameLength, "Max-Age")) {
+        try {
+          long maxAge = Long.parseLong(substringTrimmed(cookie, separator + 1, end));
+          cookieMap.put("maxAge", maxAge);
+          cookieMap.put("expiresDate", System.currentTimeMillis() + maxAge * 1000);
+        } catch (NumberFormatException ignored) {}
+      } else if (matches(cookie, nameStart, nameLength, "Domain")) {
+        cookieMap.put("domain", substringTrimmed(cookie, separator + 1, end));
+      } else if (matches(cookie, nameStart, nameLength, "Path")) {
+        cookieMap.put("path", substringTrimmed(cookie, separator + 1, end));
+      } else if (matches(cookie, nameStart, nameLength, "SameSite")) {
+        cookieMap.put("sameSite", substringTrimmed(cookie, separator + 1, end));
+      } else if (matches(cookie, nameStart, nameLength, "Secure")) {
+        cookieMap.put("isSecure", true);
+      } else if (matches(cookie, nameStart, nameLength, "HttpOnly")) {
+        cookieMap.put("isHttpOnly", true);
+      }
+      start = end + 1;
+    }
+    cookieMap.remove("maxAge");
+    return cookieMap;
+  }
+
+  /**
+   * Parses a {@code Cookie} header value, as returned by {@link android.webkit.CookieManager#getCookie},
+   * into maps with the {@code name} and {@code value} of each cookie.
+   */
+  @NonNull
+  public static List<Map<String, Object>> parseHeader(@Nullable String cookieHeader) {
+    List<Map<String, Object>> cookies = new ArrayList<>();
+    if (cookieHeader == null) {
+      return cookies;
+    }
+    int length = cookieHeader.length();
+    int start = 0;
+    while (start < length) {
+      int end = indexOf(cookieHeader, ';', start, length);
+      Map<String, Object> cookie = parse(cookieHeader.substring(start, end), false);
+      if (cookie != null) {
+        cookies.add(cookie);
+      }
+      start = end + 1;
+    }
+    return cookies;
+  }
+
+  /**
+   * @return the timestamp, in milliseconds, of an {@code Expires} attribute value,
+   * or {@code null} if it can't be parsed.
+   */
+  @Nullable
+  public static Long parseDate(@NonNull String date) {
+    synchronized (expiresDates) {
+      Long timestamp = expiresDates.get(date);
+      if (timestamp != null) {
+        return timestamp;
+      }
+    }
+    for (SimpleDateFormat dateFormat : parseDateFormats.get()) {
+      Date parsedDate = dateFormat.parse(date, new ParsePosition(0));
+      if (parsedDate != null) {
+        long timestamp = parsedDate.getTime();
+        synchronized (expiresDates) {
+          expiresDates.put(date, timestamp);
+        }
+        return timestamp;
+      }
+    }
+    return null;
+  }
+
+  @NonNull
+  public static String formatDate(long timestamp) {
+    return formatDateFormat.get().format(new Date(timestamp));
+  }
+
+  /**
+   * @return the {@code Set-Cookie} header value of a cookie, as expected by {@link android.webkit.CookieManager#setCookie}.
+   */
+  @NonNull
+  public static String build(@NonNull String name,
+                             @NonNull String value,
+                             @Nullable String domain,
+                             @Nullable String path,
+                             @Nullable Long expiresDate,
+                             @Nullable Integer maxAge,
+                             @Nullable Boolean isSecure,
+                             @Nullable Boolean isHttpOnly,
+                             @Nullable String sameSite) {
+    StringBuilder cookieValue = new StringBuilder(name.length() + value.length() + 64);
+    cookieValue.append(name).append('=').append(value).append("; Path=").append(path);
+    if (domain != null) {
+      cookieValue.append("; Domain=").append(domain);
+    }
+    if (expiresDate != null) {
+      cookieValue.append("; Expires=").append(formatDate(expiresDate));
+    }
+    if (maxAge != null) {
+      cookieValue.append("; Max-Age=").append(maxAge);
+    }
+    if (isSecure != null && isSecure) {
+      cookieValue.append("; Secure");
+    }
+    if (isHttpOnly != null && isHttpOnly) {
+      cookieValue.append("; HttpOnly");
+    }
+    if (sameSite != null) {
+      cookieValue.append("; SameSite=").append(sameSite);
+    }
+    return cookieValue.append(';').toString();
+  }
+
+  /**
+   * @return the {@code Set-Cookie} header value that deletes a cookie.
+   */
+  @NonNull
+  public static String buildDeletion(@NonNull String name, @Nullable String domain, @Nullable String path) {
+    StringBuilder cookieValue = new StringBuilder(name.length() + 64);
+    cookieValue.append(name).append("=; Path=").append(path).append("; Max-Age=-1");
+    if (domain != null) {
+      cookieValue.append("; Domain=").append(domain);
+    }
+    return cookieValue.append(';').toString();
+  }
+
+  private static int indexOf(@NonNull String string, char c, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (string.charAt(i) == c) {
+        return i;
+      }
+    }
+    return end;
+  }
+
+  private static int skipWhitespaces(@NonNull String string, int start, int end) {
+    while (start < end && string.charAt(start) <= ' ') {
+      start++;
+    }
+    return start;
+  }
+
+  private static int trimEnd(@NonNull String string, int start, int end) {
+    while (end > start && string.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    return end;
+  }
+
+  @NonNull
+  private static String substringTrimmed(@NonNull String string, int start, int end) {
+    if (start >= end) {
+      return "";
+    }
+    start = skipWhitespaces(string, start, end);
+    return string.substring(start, trimEnd(string, start, end));
+  }
+
+  private static boolean matches(@NonNull String string, int start, int length, @NonNull String attributeName) {
+    return length == attributeName.length() && string.regionMatches(true, start, attributeName, 0, length);
+  }
+}
@@ -1,5 +1,6 @@
 package com.pichillilorenzo.flutter_inappwebview_android;
 
+import android.net.Uri;
 import android.os.Build;
 import android.util.Log;
 import android.webkit.CookieManager;
@@ -13,16 +14,15 @@ import androidx.webkit.WebViewFeature;
 
 import com.pichillilorenzo.flutter_inappwebview_android.types.ChannelDelegateImpl;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Date;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
-import java.util.TimeZone;
+import java.util.Set;
 
 import io.flutter.plugin.common.MethodCall;
 import io.flutter.plugin.common.MethodChannel;
@@ -34,6 +34,8 @@ public class MyCookieManager extends ChannelDelegateImpl {
   public static CookieManager cookieManager;
   @Nullable
   public InAppWebViewFlutterPlugin plugin;
+  @NonNull
+  public final CookieFlushScheduler flushScheduler = new CookieFlushScheduler();
 
   public MyCookieManager(@NonNull final InAppWebViewFlutterPlugin plugin) {
     super(new MethodChannel(plugin.messenger, METHOD_CHANNEL_NAME));
@@ -97,12 +99,41 @@ public class MyCookieManager extends ChannelDelegateImpl {
           deleteCookies(url, domain, path, result);
         }
         break;
+      case "setCookies":
+        setCookies((String) call.argument("url"), (List<Map<String, Object>>) call.argument("cookies"), result);
+        break;
+      case "deleteCookiesByName":
+        {
+          String url = (String) call.argument("url");
+          List<String> names = (List<String>) call.argument("names");
+          String domain = (String) call.argument("domain");
+          String path = (String) call.argument("path");
+          deleteCookiesByName(url, names, domain, path, result);
+        }
+        break;
+      case "exportCookies":
+        result.success(exportCookies((List<String>) call.argument("urls")));
+        break;
+      case "importCookies":
+        importCookies((String) call.argument("jar"), result);
+        break;
       case "deleteAllCookies":
         deleteAllCookies(result);
         break;
       case "removeSessionCookies":
         removeSessionCookies(result);
         break;
+      case "flush":
+        flushScheduler.flush();
+        result.success(true);
+        break;
+      case "setFlushSettings":
+        flushScheduler.setSettings((Integer) call.argument("flushDelay"), (Integer) call.argument("maxFlushDelay"));
+        result.success(true);
+        break;
+      case "getFlushStatistics":
+        result.success(flushScheduler.getStatistics());
+        break;
       default:
         result.notImplemented();
     }
@@ -159,27 +190,7 @@ public class MyCookieManager extends ChannelDelegateImpl {
       return;
     }
 
-    String cookieValue = name + "=" + value + "; Path=" + path;
-
-    if (domain != null)
-      cookieValue += "; Domain=" + domain;
-
-    if (expiresDate != null)
-      cookieValue += "; Expires=" + getCookieExpirationDate(expiresDate);
-
-    if (maxAge != null)
-      cookieValue += "; Max-Age=" + maxAge.toString();
-
-    if (isSecure != null && isSecure)
-      cookieValue += "; Secure";
-
-    if (isHttpOnly != null && isHttpOnly)
-      cookieValue += "; HttpOnly";
-
-    if (sameSite != null)
-      cookieValue += "; SameSite=" + sameSite;
-
-    cookieValue += ";";
+    String cookieValue = CookieParser.build(name, value, domain, path, expiresDate, maxAge, isSecure, isHttpOnly, sameSite);
 
     if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
       cookieManager.setCookie(url, cookieValue, new ValueCallback<Boolean>() {
@@ -188,7 +199,7 @@ public class MyCookieManager extends ChannelDelegateImpl {
           result.success(successful);
         }
       });
-      cookieManager.flush();
+      flushScheduler.requestFlush();
     }
     else if (plugin != null) {
       CookieSyncManager cookieSyncMngr = CookieSyncManager.createInstance(plugin.applicationContext);
@@ -204,85 +215,94 @@ public class MyCookieManager extends ChannelDelegateImpl {
   }
 
   public List<Map<String, Object>> getCookies(final String url) {
-
-    final List<Map<String, Object>> cookieListMap = new ArrayList<>();
-
     cookieManager = getCookieManager();
-    if (cookieManager == null) return cookieListMap;
+    if (cookieManager == null) return new ArrayList<>();
 
-    List<String> cookies = new ArrayList<>();
     if (WebViewFeature.isFeatureSupported(WebViewFeature.GET_COOKIE_INFO)) {
-      cookies = CookieManagerCompat.getCookieInfo(cookieManager, url);
-    } else {
-      String cookiesString = cookieManager.getCookie(url);
-      if (cookiesString != null) {
-        cookies = Arrays.asList(cookiesString.split(";"));
+      List<String> cookies = CookieManagerCompat.getCookieInfo(cookieManager, url);
+      List<Map<String, Object>> cookieListMap = new ArrayList<>(cookies.size());
+      for (String cookie : cookies) {
+        Map<String, Object> cookieMap = CookieParser.parse(cookie, true);
+        if (cookieMap != null) {
+          cookieListMap.add(cookieMap);
+        }
       }
+      return cookieListMap;
     }
+    return CookieParser.parseHeader(cookieManager.getCookie(url));
+  }
 
-    for (String cookie : cookies) {
-      String[] cookieParams = cookie.split(";");
-      if (cookieParams.length == 0) continue;
-
-      String[] nameValue = cookieParams[0].split("=", 2);
-      String name = nameValue[0].trim();
-      String value = (nameValue.length > 1) ? nameValue[1].trim() : "";
-
-      Map<String, Object> cookieMap = new HashMap<>();
-      cookieMap.put("name", name);
-      cookieMap.put("value", value);
-      cookieMap.put("expiresDate", null);
-      cookieMap.put("isSessionOnly", null);
-      cookieMap.put("domain", null);
-      cookieMap.put("sameSite", null);
-      cookieMap.put("isSecure", null);
-      cookieMap.put("isHttpOnly", null);
-      cookieMap.put("path", null);
-
-      if (WebViewFeature.isFeatureSupported(WebViewFeature.GET_COOKIE_INFO)) {
-        cookieMap.put("isSecure", false);
-        cookieMap.put("isHttpOnly", false);
-
-        for (int i = 1; i < cookieParams.length; i++) {
-          String[] cookieParamNameValue = cookieParams[i].split("=", 2);
-          String cookieParamName = cookieParamNameValue[0].trim();
-          String cookieParamValue = (cookieParamNameValue.length > 1) ? cookieParamNameValue[1].trim() : "";
-
-          if (cookieParamName.equalsIgnoreCase("Expires")) {
-            try {
-              final SimpleDateFormat sdf = new SimpleDateFormat("EEE, dd MMM yyyy hh:mm:ss z", Locale.US);
-              Date expiryDate = sdf.parse(cookieParamValue);
-              if (expiryDate != null) {
-                cookieMap.put("expiresDate", expiryDate.getTime());
-              }
-            } catch (ParseException e) {
-              Log.e(LOG_TAG, "", e);
-            }
-          } else if (cookieParamName.equalsIgnoreCase("Max-Age")) {
-            try {
-              long maxAge = Long.parseLong(cookieParamValue);
-              cookieMap.put("expiresDate", System.currentTimeMillis() + maxAge);
-            } catch (NumberFormatException e) {
-              Log.e(LOG_TAG, "", e);
+  /**
+   * Sets the cookies of {@code url}, described as the arguments of {@link #setCookie}, with a single flush.
+   */
+  public void setCookies(String url, @Nullable List<Map<String, Object>> cookies, @NonNull final MethodChannel.Result result) {
+    cookieManager = getCookieManager();
+    if (cookieManager == null || cookies == null) {
+      result.success(false);
+      return;
+    }
+
+    List<String[]> urlCookieValues = new ArrayList<>(cookies.size());
+    for (Map<String, Object> cookie : cookies) {
+      String expiresDateString = (String) cookie.get("expiresDate");
+      urlCookieValues.add(new String[]{url, CookieParser.build((String) cookie.get("name"),
+              (String) cookie.get("value"),
+              (String) cookie.get("domain"),
+              (String) cookie.get("path"),
+              expiresDateString != null ? Long.valueOf(expiresDateString) : null,
+              (Integer) cookie.get("maxAge"),
+              (Boolean) cookie.get("isSecure"),
+              (Boolean) cookie.get("isHttpOnly"),
+              (String) cookie.get("sameSite"))});
+    }
+    setCookies(urlCookieValues, result);
+  }
+
+  /**
+   * Sets the {@code {url, cookieValue}} pairs, then flushes the cookie store once.
+   * The {@code result} receives {@code true} if all the cookies have been set.
+   */
+  private void setCookies(@NonNull List<String[]> urlCookieValues, @NonNull final MethodChannel.Result result) {
+    if (cookieManager == null) {
+      result.success(false);
+      return;
+    }
+    if (urlCookieValues.isEmpty()) {
+      result.success(true);
+      return;
+    }
+
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+      final int[] pendingCookies = new int[]{urlCookieValues.size()};
+      final boolean[] allSuccessful = new boolean[]{true};
+      for (String[] urlCookieValue : urlCookieValues) {
+        cookieManager.setCookie(urlCookieValue[0], urlCookieValue[1], new ValueCallback<Boolean>() {
+          @Override
+          public void onReceiveValue(Boolean successful) {
+            allSuccessful[0] &= Boolean.TRUE.equals(successful);
+            if (--pendingCookies[0] == 0) {
+              result.success(allSuccessful[0]);
             }
-          } else if (cookieParamName.equalsIgnoreCase("Domain")) {
-            cookieMap.put("domain", cookieParamValue);
-          } else if (cookieParamName.equalsIgnoreCase("SameSite")) {
-            cookieMap.put("sameSite", cookieParamValue);
-          } else if (cookieParamName.equalsIgnoreCase("Secure")) {
-            cookieMap.put("isSecure", true);
-          } else if (cookieParamName.equalsIgnoreCase("HttpOnly")) {
-            cookieMap.put("isHttpOnly", true);
-          } else if (cookieParamName.equalsIgnoreCase("Path")) {
-            cookieMap.put("path", cookieParamValue);
           }
-        }
+        });
       }
-
-      cookieListMap.add(cookieMap);
+      flushScheduler.requestFlush();
+    }
+    else if (plugin != null) {
+      CookieSyncManager cookieSyncMngr = CookieSyncManager.createInstance(plugin.applicationContext);
+      cookieSyncMngr.startSync();
+      for (String[] urlCookieValue : urlCookieValues) {
+        cookieManager.setCookie(urlCookieValue[0], urlCookieValue[1]);
+      }
+      cookieSyncMngr.stopSync();
+      cookieSyncMngr.sync();
+      result.success(true);
+    } else {
+      for (String[] urlCookieValue : urlCookieValues) {
+        cookieManager.setCookie(urlCookieValue[0], urlCookieValue[1]);
+      }
+      result.success(true);
     }
-    return cookieListMap;
-
   }
 
   public void deleteCookie(String url, String name, String domain, String path, final MethodChannel.Result result) {
@@ -292,12 +312,7 @@ public class MyCookieManager extends ChannelDelegateImpl {
       return;
     }
 
-    String cookieValue = name + "=; Path=" + path + "; Max-Age=-1";
-
-    if (domain != null)
-      cookieValue += "; Domain=" + domain;
-
-    cookieValue += ";";
+    String cookieValue = CookieParser.buildDeletion(name, domain, path);
 
     if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
       cookieManager.setCookie(url, cookieValue, new ValueCallback<Boolean>() {
@@ -306,7 +321,7 @@ public class MyCookieManager extends ChannelDelegateImpl {
           result.success(successful);
         }
       });
-      cookieManager.flush();
+      flushScheduler.requestFlush();
     }
     else if (plugin != null) {
       CookieSyncManager cookieSyncMngr = CookieSyncManager.createInstance(plugin.applicationContext);
@@ -328,41 +343,108 @@ public class MyCookieManager extends ChannelDelegateImpl {
       return;
     }
 
-    CookieSyncManager cookieSyncMngr = null;
-
-    String cookiesString = cookieManager.getCookie(url);
-    if (cookiesString != null) {
+    List<Map<String, Object>> cookies = CookieParser.parseHeader(cookieManager.getCookie(url));
+    List<String> names = new ArrayList<>(cookies.size());
+    for (Map<String, Object> cookie : cookies) {
+      names.add((String) cookie.get("name"));
+    }
+    deleteCookiesByName(url, names, domain, path, result);
+  }
 
-      if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP && plugin != null) {
-        cookieSyncMngr = CookieSyncManager.createInstance(plugin.applicationContext);
-        cookieSyncMngr.startSync();
-      }
+  /**
+   * Deletes the cookies of {@code url} named {@code names}, with a single flush.
+   */
+  public void deleteCookiesByName(String url, @Nullable List<String> names, String domain, String path,
+                                  @NonNull final MethodChannel.Result result) {
+    cookieManager = getCookieManager();
+    if (cookieManager == null || names == null) {
+      result.success(false);
+      return;
+    }
 
-      String[] cookies = cookiesString.split(";");
-      for (String cookie : cookies) {
-        String[] nameValue = cookie.split("=", 2);
-        String name = nameValue[0].trim();
+    List<String[]> urlCookieValues = new ArrayList<>(names.size());
+    for (String name : names) {
+      urlCookieValues.add(new String[]{url, CookieParser.buildDeletion(name, domain, path)});
+    }
+    setCookies(urlCookieValues, result);
+  }
 
-        String cookieValue = name + "=; Path=" + path + "; Max-Age=-1";
+  /**
+   * Exports the cookies of {@code urls} as a JSON cookie jar, that can be imported with {@link #importCookies}.
+   * The CookieManager can't list all its cookies, so only the cookies sent to {@code urls} are exported.
+   */
+  @Nullable
+  public String exportCookies(@Nullable List<String> urls) {
+    cookieManager = getCookieManager();
+    if (cookieManager == null || urls == null) {
+      return null;
+    }
 
-        if (domain != null)
-          cookieValue += "; Domain=" + domain;
+    JSONArray jsonCookies = new JSONArray();
+    Set<String> exportedCookies = new HashSet<>();
+    try {
+      for (String url : urls) {
+        for (Map<String, Object> cookie : getCookies(url)) {
+          // without the cookie info feature, the cookies have no domain and are only known by the host they are sent to
+          Object domain = cookie.get("domain") != null ? cookie.get("domain") : Uri.parse(url).getHost();
+          String key = cookie.get("name") + ";" + domain + ";" + cookie.get("path");
+          if (!exportedCookies.add(key)) {
+            continue;
+          }
+          JSONObject jsonCookie = new JSONObject();
+          jsonCookie.put("url", url);
+          for (Map.Entry<String, Object> attribute : cookie.entrySet()) {
+            jsonCookie.put(attribute.getKey(), attribute.getValue());
+          }
+          jsonCookies.put(jsonCookie);
+        }
+      }
+      JSONObject jar = new JSONObject();
+      jar.put("version", 1);
+      jar.put("cookies", jsonCookies);
+      return jar.toString();
+    } catch (JSONException e) {
+      Log.e(LOG_TAG, "", e);
+      return null;
+    }
+  }
 
-        cookieValue += ";";
+  /**
+   * Imports a cookie jar exported by {@link #exportCookies}, with a single flush. The expired cookies are skipped.
+   */
+  public void importCookies(@Nullable String jar, @NonNull final MethodChannel.Result result) {
+    cookieManager = getCookieManager();
+    if (cookieManager == null || jar == null) {
+      result.success(false);
+      return;
+    }
 
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP)
-          cookieManager.setCookie(url, cookieValue, null);
-        else
-          cookieManager.setCookie(url, cookieValue);
+    List<String[]> urlCookieValues = new ArrayList<>();
+    long now = System.currentTimeMillis();
+    try {
+      JSONArray jsonCookies = new JSONObject(jar).getJSONArray("cookies");
+      for (int i = 0; i < jsonCookies.length(); i++) {
+        JSONObject jsonCookie = jsonCookies.getJSONObject(i);
+        Long expiresDate = jsonCookie.has("expiresDate") ? jsonCookie.getLong("expiresDate") : null;
+        if (expiresDate != null && expiresDate <= now) {
+          continue;
+        }
+        urlCookieValues.add(new String[]{jsonCookie.getString("url"), CookieParser.build(jsonCookie.getString("name"),
+                jsonCookie.optString("value"),
+                jsonCookie.has("domain") ? jsonCookie.getString("domain") : null,
+                jsonCookie.optString("path", "/"),
+                expiresDate,
+                null,
+                jsonCookie.optBoolean("isSecure"),
+                jsonCookie.optBoolean("isHttpOnly"),
+                jsonCookie.has("sameSite") ? jsonCookie.getString("sameSite") : null)});
       }
-
-      if (cookieSyncMngr != null) {
-        cookieSyncMngr.stopSync();
-        cookieSyncMngr.sync();
-      } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP)
-        cookieManager.flush();
+    } catch (JSONException e) {
+      Log.e(LOG_TAG, "", e);
+      result.error(LOG_TAG, "Invalid cookie jar: " + e.getMessage(), null);
+      return;
     }
-    result.success(true);
+    setCookies(urlCookieValues, result);
   }
 
   public void deleteAllCookies(final MethodChannel.Result result) {
@@ -379,7 +461,7 @@ public class MyCookieManager extends ChannelDelegateImpl {
           result.success(successful);
         }
       });
-      cookieManager.flush();
+      flushScheduler.requestFlush();
     }
     else if (plugin != null) {
       CookieSyncManager cookieSyncMngr = CookieSyncManager.createInstance(plugin.applicationContext);
@@ -408,7 +490,7 @@ public class MyCookieManager extends ChannelDelegateImpl {
           result.success(successful);
         }
       });
-      cookieManager.flush();
+      flushScheduler.requestFlush();
     }
     else if (plugin != null) {
       CookieSyncManager cookieSyncMngr = CookieSyncManager.createInstance(plugin.applicationContext);
@@ -424,14 +506,13 @@ public class MyCookieManager extends ChannelDelegateImpl {
   }
 
   public static String getCookieExpirationDate(Long timestamp) {
-    final SimpleDateFormat sdf = new SimpleDateFormat("EEE, dd MMM yyyy hh:mm:ss z", Locale.US);
-    sdf.setTimeZone(TimeZone.getTimeZone("GMT"));
-    return sdf.format(new Date(timestamp));
+    return CookieParser.formatDate(timestamp);
   }
 
   @Override
   public void dispose() {
     super.dispose();
+    flushScheduler.dispose();
     plugin = null;
   }
 }
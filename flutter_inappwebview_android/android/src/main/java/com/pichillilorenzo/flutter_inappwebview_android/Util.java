@@ -36,10 +36,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.net.HttpURLConnection;
 import java.net.Inet6Address;
 import java.net.InetAddress;
-import java.net.URL;
 import java.net.UnknownHostException;
 import java.security.Key;
 import java.security.KeyStore;
@@ -54,8 +52,6 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.regex.Pattern;
 
-import javax.net.ssl.SSLHandshakeException;
-
 import io.flutter.plugin.common.MethodChannel;
 
 public class Util {
@@ -167,39 +163,6 @@ public class Util {
     }
   }
 
-  @Nullable
-  public static HttpURLConnection makeHttpRequest(String urlString, String method, @Nullable Map<String, String> headers) {
-    HttpURLConnection urlConnection = null;
-    try {
-      URL url = new URL(urlString);
-      urlConnection = (HttpURLConnection) url.openConnection();
-      urlConnection.setRequestMethod(method);
-      if (headers != null) {
-        for (Map.Entry<String, String> header : headers.entrySet()) {
-          urlConnection.setRequestProperty(header.getKey(), header.getValue());
-        }
-      }
-      urlConnection.setConnectTimeout(15000); // 15 seconds
-      urlConnection.setReadTimeout(15000); // 15 seconds
-      urlConnection.setDoInput(true);
-      urlConnection.setInstanceFollowRedirects(true);
-      if ("GET".equalsIgnoreCase(method)) {
-        urlConnection.setDoOutput(false);
-      }
-      urlConnection.connect();
-      return urlConnection;
-    }
-    catch (Exception e) {
-      if (!(e instanceof SSLHandshakeException)) {
-        Log.e(LOG_TAG, "", e);
-      }
-      if (urlConnection != null) {
-        urlConnection.disconnect();
-      }
-    }
-    return null;
-  }
-
   /**
    * SslCertificate class does not has a public getter for the underlying
    * X509Certificate, we can only do this by hack. This only works for Android 4.0+
@@ -0,0 +1,108 @@
+package com.pichillilorenzo.flutter_inappwebview_android.content_blocker;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reverse-label trie of the {@code if-domain}/{@code unless-domain} values of a trigger.
+ * <p>
+ * A domain such as {@code example.com} matches only that host, while a domain starting with {@code *}
+ * matches every host ending with the rest of the value, so {@code *example.com} matches
+ * {@code example.com}, {@code www.example.com} and also {@code myexample.com}.
+ */
+public class ContentBlockerDomainTrie {
+
+    private final Node root = new Node();
+
+    public ContentBlockerDomainTrie(@NonNull List<String> domains) {
+        for (String domain : domains) {
+            add(domain);
+        }
+    }
+
+    private void add(@NonNull String domain) {
+        boolean wildcard = domain.startsWith("*");
+        String value = wildcard ? domain.replace("*", "") : domain;
+
+        Node node = root;
+        int end = value.length();
+        while (true) {
+            int dot = value.lastIndexOf('.', end - 1);
+            String label = value.substring(dot + 1, end);
+            if (dot < 0 && wildcard) {
+                // the leftmost label of a wildcard domain can be the suffix of a longer host label
+                node.addLabelSuffix(label);
+                return;
+            }
+            node = node.getOrCreateChild(label);
+            if (dot < 0) {
+                node.exact = true;
+                return;
+            }
+            end = dot;
+        }
+    }
+
+    public boolean matches(@Nullable String host) {
+        if (host == null) {
+            host = "";
+        }
+        Node node = root;
+        int end = host.length();
+        while (node != null) {
+            int dot = host.lastIndexOf('.', end - 1);
+            int start = dot + 1;
+            if (node.labelSuffixes != null) {
+                for (String suffix : node.labelSuffixes) {
+                    int suffixStart = end - suffix.length();
+                    if (suffixStart >= start && host.regionMatches(suffixStart, suffix, 0, suffix.length())) {
+                        return true;
+                    }
+                }
+            }
+            if (node.children == null) {
+                return false;
+            }
+            node = node.children.get(host.substring(start, end));
+            if (node != null && dot < 0) {
+                return node.exact;
+            }
+            end = dot;
+        }
+        return false;
+    }
+
+    private static class Node {
+        @Nullable
+        Map<String, Node> children;
+        @Nullable
+        List<String> labelSuffixes;
+        boolean exact = false;
+
+        Node getOrCreateChild(String label) {
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            Node child = children.get(label);
+            if (child == null) {
+                child = new Node();
+                children.put(label, child);
+            }
+            return child;
+        }
+
+        void addLabelSuffix(String suffix) {
+            if (labelSuffixes == null) {
+                labelSuffixes = new ArrayList<>();
+            }
+            if (!labelSuffixes.contains(suffix)) {
+                labelSuffixes.add(suffix);
+            }
+        }
+    }
+}
@@ -1,59 +1,155 @@
 package com.pichillilorenzo.flutter_inappwebview_android.content_blocker;
 
+import android.net.Uri;
 import android.os.Build;
-import android.os.Handler;
-import android.text.TextUtils;
 import android.util.Log;
+import android.webkit.MimeTypeMap;
 import android.webkit.WebResourceResponse;
 
 import androidx.annotation.Nullable;
 
-import com.pichillilorenzo.flutter_inappwebview_android.Util;
-import com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js.JavaScriptBridgeJS;
+import com.pichillilorenzo.flutter_inappwebview_android.http_client.HttpClient;
+import com.pichillilorenzo.flutter_inappwebview_android.http_client.HttpClientResponse;
 import com.pichillilorenzo.flutter_inappwebview_android.types.WebResourceRequestExt;
 import com.pichillilorenzo.flutter_inappwebview_android.webview.in_app_webview.InAppWebView;
 
-import java.io.ByteArrayInputStream;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
 import java.io.InputStream;
-import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.CountDownLatch;
-import java.util.regex.Matcher;
-
-import javax.net.ssl.SSLHandshakeException;
 
 public class ContentBlockerHandler {
     protected static final String LOG_TAG = "ContentBlockerHandler";
 
-    protected List<ContentBlocker> ruleList = new ArrayList<>();
+    // immutable snapshot of the rules, replaced as a whole when the rules change
+    protected volatile ContentBlockerRuleEngine ruleEngine = new ContentBlockerRuleEngine(new ArrayList<ContentBlocker>());
+    protected final ContentBlockerStatistics statistics = new ContentBlockerStatistics();
+    // shared by all the WebViews, as the HTTPS support of a host doesn't depend on the WebView
+    protected static final HttpsUpgradeCache httpsUpgradeCache = new HttpsUpgradeCache();
+    // JSON of the css-display-none rules, applied to each page through a single stylesheet
+    @Nullable
+    protected volatile String cssDisplayNoneRules;
+
+    protected static final int RESOURCE_TYPE_CACHE_MAX_SIZE = 512;
+    // LRU cache of the resource types observed for each URL
+    protected final Map<String, ContentBlockerTriggerResourceType> resourceTypeCache =
+            new LinkedHashMap<String, ContentBlockerTriggerResourceType>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ContentBlockerTriggerResourceType> eldest) {
+                    return size() > RESOURCE_TYPE_CACHE_MAX_SIZE;
+                }
+            };
 
     public ContentBlockerHandler() {}
 
     public ContentBlockerHandler(List<ContentBlocker> ruleList) {
-        this.ruleList = ruleList;
+        setRuleList(ruleList);
     }
 
+    /**
+     * @return an unmodifiable view of the current rules.
+     */
     public List<ContentBlocker> getRuleList() {
-        return this.ruleList;
+        return this.ruleEngine.getRuleList();
     }
 
     public void setRuleList(List<ContentBlocker> newRuleList) {
-        this.ruleList = newRuleList;
+        // compile the rules once, instead of scanning the whole list for each request
+        this.ruleEngine = new ContentBlockerRuleEngine(newRuleList);
+        this.cssDisplayNoneRules = compileCssDisplayNoneRules(newRuleList);
+        statistics.publishedSnapshots.incrementAndGet();
+    }
+
+    /**
+     * @return the JSON array of the css-display-none rules,
+     * or {@code null} if there are no css-display-none rules.
+     */
+    @Nullable
+    public String getCssDisplayNoneRules() {
+        return cssDisplayNoneRules;
+    }
+
+    @Nullable
+    protected static String compileCssDisplayNoneRules(List<ContentBlocker> ruleList) {
+        // the selectors of the rules with the same conditions are grouped together
+        Map<String, JSONObject> groups = new LinkedHashMap<>();
+        for (ContentBlocker contentBlocker : ruleList) {
+            ContentBlockerAction action = contentBlocker.getAction();
+            if (action.getType() != ContentBlockerActionType.CSS_DISPLAY_NONE || action.getSelector() == null) {
+                continue;
+            }
+            ContentBlockerTrigger trigger = contentBlocker.getTrigger();
+            String urlFilter = trigger.getUrlFilter();
+            boolean urlFilterIsCaseSensitive = trigger.getUrlFilterIsCaseSensitive();
+            // not supported by JavaScript regular expressions
+            if (urlFilter.startsWith("(?i)")) {
+                urlFilter = urlFilter.substring(4);
+                urlFilterIsCaseSensitive = false;
+            }
+            String key = urlFilter + "\n" + urlFilterIsCaseSensitive + "\n" + trigger.getResourceType() + "\n" +
+                    trigger.getLoadType() + "\n" + trigger.getIfDomain() + "\n" + trigger.getUnlessDomain() + "\n" +
+                    trigger.getIfTopUrl() + "\n" + trigger.getUnlessTopUrl();
+            try {
+                JSONObject group = groups.get(key);
+                if (group == null) {
+                    group = new JSONObject();
+                    group.put("urlFilter", urlFilter);
+                    group.put("urlFilterIsCaseSensitive", urlFilterIsCaseSensitive);
+                    JSONArray resourceType = new JSONArray();
+                    for (ContentBlockerTriggerResourceType type : trigger.getResourceType()) {
+                        resourceType.put(type.toString());
+                    }
+                    group.put("resourceType", resourceType);
+                    group.put("loadType", new JSONArray(trigger.getLoadType()));
+                    group.put("ifDomain", new JSONArray(trigger.getIfDomain()));
+                    group.put("unlessDomain", new JSONArray(trigger.getUnlessDomain()));
+                    group.put("ifTopUrl", new JSONArray(trigger.getIfTopUrl()));
+                    group.put("unlessTopUrl", new JSONArray(trigger.getUnlessTopUrl()));
+                    group.put("selectors", new JSONArray());
+                    groups.put(key, group);
+                }
+                group.getJSONArray("selectors").put(action.getSelector());
+            } catch (JSONException e) {
+                Log.e(LOG_TAG, "", e);
+            }
+        }
+        if (groups.isEmpty()) {
+            return null;
+        }
+        return new JSONArray(groups.values()).toString();
+    }
+
+    public ContentBlockerStatistics getStatistics() {
+        return statistics;
     }
 
     @Nullable
     public WebResourceResponse checkUrl(final InAppWebView webView, WebResourceRequestExt request,
                                         ContentBlockerTriggerResourceType responseResourceType)
             throws URISyntaxException, InterruptedException, MalformedURLException {
-        if (webView.customSettings.contentBlockers == null)
+        return checkUrl(webView, request, responseResourceType, this.ruleEngine);
+    }
+
+    /**
+     * @param ruleEngine the snapshot of the rules read once by the caller,
+     *                   so that the whole request is checked against the same rules.
+     */
+    @Nullable
+    protected WebResourceResponse checkUrl(final InAppWebView webView, WebResourceRequestExt request,
+                                           ContentBlockerTriggerResourceType responseResourceType,
+                                           ContentBlockerRuleEngine ruleEngine)
+            throws URISyntaxException, InterruptedException, MalformedURLException {
+        if (webView.customSettings.contentBlockers == null || !ruleEngine.hasRequestRules())
             return null;
 
         String url = request.getUrl();
@@ -70,173 +166,129 @@ public class ContentBlockerHandler {
         String host = u.getHost();
         int port = u.getPort();
         String scheme = u.getScheme();
-        // thread safe copy list
-        List<ContentBlocker> ruleListCopy = new CopyOnWriteArrayList<ContentBlocker>(ruleList);
-
-        for (ContentBlocker contentBlocker : ruleListCopy) {
-            ContentBlockerTrigger trigger =  contentBlocker.getTrigger();
-            List<ContentBlockerTriggerResourceType> resourceTypes = trigger.getResourceType();
-            if (resourceTypes.contains(ContentBlockerTriggerResourceType.IMAGE) && !resourceTypes.contains(ContentBlockerTriggerResourceType.SVG_DOCUMENT)) {
-                resourceTypes.add(ContentBlockerTriggerResourceType.SVG_DOCUMENT);
-            }
+        // url-filter, resource-type, if-domain and unless-domain are already satisfied by the matching rules
+        List<ContentBlocker> matchingRules = ruleEngine.match(url, host, responseResourceType, statistics);
 
+        for (ContentBlocker contentBlocker : matchingRules) {
+            ContentBlockerTrigger trigger = contentBlocker.getTrigger();
             ContentBlockerAction action = contentBlocker.getAction();
 
-            Matcher m = trigger.getUrlFilterPatternCompiled().matcher(url);
-            if (m.matches()) {
-
-                if (!resourceTypes.isEmpty() && !resourceTypes.contains(responseResourceType)) {
-                    return null;
-                }
-                if (!trigger.getIfDomain().isEmpty()) {
-                    boolean matchFound = false;
-                    for (String domain : trigger.getIfDomain()) {
-                        if ((domain.startsWith("*") && host.endsWith(domain.replace("*", ""))) || domain.equals(host)) {
-                            matchFound = true;
-                            break;
-                        }
-                    }
-                    if (!matchFound)
-                        return null;
-                }
-                if (!trigger.getUnlessDomain().isEmpty()) {
-                    for (String domain : trigger.getUnlessDomain())
-                        if ((domain.startsWith("*") && host.endsWith(domain.replace("*", ""))) || domain.equals(host))
-                            return null;
-                }
-
-                final String[] webViewUrl = new String[1];
-                if (!trigger.getLoadType().isEmpty() || !trigger.getIfTopUrl().isEmpty() || !trigger.getUnlessTopUrl().isEmpty()) {
-                    final CountDownLatch latch = new CountDownLatch(1);
-                    Handler handler = new Handler(webView.getWebViewLooper());
-                    handler.post(new Runnable() {
-                        @Override
-                        public void run() {
-                            webViewUrl[0] = webView.getUrl();
-                            latch.countDown();
-                        }
-                    });
-                    latch.await();
-                }
-
-                if (webViewUrl[0] != null) {
+            if (!trigger.getLoadType().isEmpty() || !trigger.getIfTopUrl().isEmpty() || !trigger.getUnlessTopUrl().isEmpty()) {
+                // maintained by the WebView, so it can be read without waiting for the UI thread
+                String topLevelUrl = webView.getTopLevelUrl();
+                if (topLevelUrl != null) {
                     if (!trigger.getLoadType().isEmpty()) {
-                        URI cUrl = new URI(webViewUrl[0]);
-                        String cHost = cUrl.getHost();
-                        int cPort = cUrl.getPort();
-                        String cScheme = cUrl.getScheme();
+                        // parsed leniently, so that the conditions still apply to URLs that java.net.URI rejects
+                        Uri topLevelUri = Uri.parse(topLevelUrl);
+                        String cHost = topLevelUri.getHost();
+                        int cPort = topLevelUri.getPort();
+                        String cScheme = topLevelUri.getScheme();
 
-                        if ( (trigger.getLoadType().contains("first-party") && cHost != null && !(cScheme.equals(scheme) && cHost.equals(host) && cPort == port)) ||
+                        if ( (trigger.getLoadType().contains("first-party") && cHost != null && !(scheme.equals(cScheme) && cHost.equals(host) && cPort == port)) ||
                                 (trigger.getLoadType().contains("third-party") && cHost != null && cHost.equals(host)) )
-                            return null;
+                            continue;
                     }
                     if (!trigger.getIfTopUrl().isEmpty()) {
                         boolean matchFound = false;
                         for (String topUrl : trigger.getIfTopUrl()) {
-                            if (webViewUrl[0].startsWith(topUrl)) {
+                            if (topLevelUrl.startsWith(topUrl)) {
                                 matchFound = true;
                                 break;
                             }
                         }
                         if (!matchFound)
-                            return null;
+                            continue;
                     }
                     if (!trigger.getUnlessTopUrl().isEmpty()) {
-                        for (String topUrl : trigger.getUnlessTopUrl())
-                            if (webViewUrl[0].startsWith(topUrl))
-                                return null;
+                        boolean matchFound = false;
+                        for (String topUrl : trigger.getUnlessTopUrl()) {
+                            if (topLevelUrl.startsWith(topUrl)) {
+                                matchFound = true;
+                                break;
+                            }
+                        }
+                        if (matchFound)
+                            continue;
                     }
                 }
+            }
 
-                switch (action.getType()) {
-
-                    case BLOCK:
-                        return new WebResourceResponse("", "", null);
-
-                    case CSS_DISPLAY_NONE:
-                        final String cssSelector = action.getSelector();
-                        final String jsScript = "(function(d) { " +
-                                "   function hide () { " +
-                                "       if (d.body != null && !d.getElementById('" + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "-css-display-none-style')) { " +
-                                "           var c = d.createElement('style'); " +
-                                "           c.id = '" + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "-css-display-none-style'; " +
-                                "           c.innerHTML = '" + cssSelector + " { display: none !important; }'; " +
-                                "           d.body.appendChild(c); " +
-                                "       }" +
-                                "       d.querySelectorAll('" + cssSelector + "').forEach(function (item, index) { " +
-                                "           item.setAttribute('style', 'display: none !important;'); " +
-                                "       }); " +
-                                "   }; " +
-                                "   hide(); " +
-                                "   d.addEventListener('DOMContentLoaded', function(event) { hide(); }); " +
-                                "})(document);";
-
-                        final Handler handler = new Handler(webView.getWebViewLooper());
-                        handler.postDelayed(new Runnable() {
-                            @Override
-                            public void run() {
-                                if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
-                                    webView.evaluateJavascript(jsScript, null);
-                                } else {
-                                    webView.loadUrl("javascript:" + jsScript);
-                                }
+            switch (action.getType()) {
+
+                case BLOCK:
+                    return new WebResourceResponse("", "", null);
+
+                case MAKE_HTTPS:
+                    if (scheme.equals("http") && (port == -1 || port == 80)) {
+                        HttpsUpgradeCache.Status httpsStatus = host != null
+                                ? httpsUpgradeCache.getStatus(host)
+                                : HttpsUpgradeCache.Status.UNKNOWN;
+                        if (httpsStatus == HttpsUpgradeCache.Status.UNSUPPORTED) {
+                            // failed recently over HTTPS, load it over HTTP without trying again
+                            statistics.skippedHttpsUpgrades.incrementAndGet();
+                            return null;
+                        }
+                        String urlHttps = "https" + url.substring(url.indexOf(':'));
+
+                        HttpClientResponse response = HttpClient.getInstance().execute(urlHttps, request.getMethod(), request.getHeaders());
+                        if (response == null) {
+                            if (host != null) {
+                                httpsUpgradeCache.onUnsupported(host);
                             }
-                        }, 800);
-                        break;
-
-                    case MAKE_HTTPS:
-                        if (scheme.equals("http") && (port == -1 || port == 80)) {
-                            String urlHttps = url.replace("http://", "https://");
-
-                            HttpURLConnection urlConnection = Util.makeHttpRequest(urlHttps, request.getMethod(), request.getHeaders());
-                            if (urlConnection != null) {
-                                try {
-                                    byte[] dataBytes = Util.readAllBytes(urlConnection.getInputStream());
-                                    if (dataBytes == null) {
-                                        return null;
-                                    }
-                                    InputStream dataStream = new ByteArrayInputStream(dataBytes);
-
-                                    String encoding = urlConnection.getContentEncoding();
-                                    String contentType = urlConnection.getContentType();
-                                    if (contentType == null) {
-                                        contentType = "text/plain";
-                                    } else {
-                                        String[] contentTypeSplit = contentType.split(";");
-                                        contentType = contentTypeSplit[0].trim();
-                                        if (encoding == null) {
-                                            encoding = (contentTypeSplit.length > 1 && contentTypeSplit[1].contains("charset="))
-                                                    ? contentTypeSplit[1].replace("charset=", "").trim()
-                                                    : "utf-8";
-                                        }
-                                    }
-
-                                    String reasonPhrase = urlConnection.getResponseMessage();
-                                    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP && reasonPhrase != null) {
-                                        Map<String, String> responseHeaders = new HashMap<>();
-                                        for (Map.Entry<String, List<String>> responseHeader : urlConnection.getHeaderFields().entrySet()) {
-                                            responseHeaders.put(responseHeader.getKey(), TextUtils.join(",", responseHeader.getValue()));
-                                        }
-                                        return new WebResourceResponse(contentType,
-                                                encoding,
-                                                urlConnection.getResponseCode(),
-                                                reasonPhrase,
-                                                responseHeaders,
-                                                dataStream);
-                                    } else {
-                                        return new WebResourceResponse(contentType,
-                                                encoding,
-                                                dataStream);
-                                    }
-                                } catch (Exception e) {
-                                    if (!(e instanceof SSLHandshakeException)) {
-                                        Log.e(LOG_TAG, "", e);
-                                    }
-                                } finally {
-                                    urlConnection.disconnect();
+                            if (httpsStatus == HttpsUpgradeCache.Status.STRICT) {
+                                // like HSTS, the host is never loaded over HTTP
+                                return new WebResourceResponse("", "", null);
+                            }
+                            return null;
+                        }
+                        int statusCode = response.getStatusCode();
+                        // WebResourceResponse can't represent a redirect, so the WebView loads the original URL,
+                        // and before Android 5.0 it can't represent a status code other than 200
+                        if ((statusCode >= 300 && statusCode <= 399) ||
+                                (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP && statusCode != 200)) {
+                            response.close();
+                            return null;
+                        }
+                        if (host != null && statusCode < 400) {
+                            httpsUpgradeCache.onSupported(host, response.getHeaderValues("Strict-Transport-Security"));
+                        }
+                        statistics.httpsUpgrades.incrementAndGet();
+                        try {
+                            // the WebView reads the body from the connection, and closing it releases the connection
+                            InputStream dataStream = response.getInputStream();
+
+                            String encoding = response.getContentEncoding();
+                            String contentType = response.getContentType();
+                            if (contentType == null) {
+                                contentType = "text/plain";
+                            } else {
+                                putResourceType(url, getResourceTypeFromContentType(contentType));
+                                if (encoding == null) {
+                                    encoding = "utf-8";
                                 }
                             }
 
+                            if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+                                return new WebResourceResponse(contentType,
+                                        encoding,
+                                        dataStream);
+                            }
+                            String reasonPhrase = response.getReasonPhrase();
+                            // WebResourceResponse doesn't accept an empty reason phrase
+                            if (reasonPhrase == null || reasonPhrase.trim().isEmpty()) {
+                                reasonPhrase = statusCode < 400 ? "OK" : "Error";
+                            }
+                            return new WebResourceResponse(contentType,
+                                    encoding,
+                                    statusCode,
+                                    reasonPhrase,
+                                    response.getHeaders(),
+                                    dataStream);
+                        } catch (IOException e) {
+                            Log.e(LOG_TAG, "", e);
+                            response.close();
+                        }
+
 //                            Request mRequest = new Request.Builder().url(urlHttps).build();
 //                            Response response = null;
 //
@@ -266,9 +318,8 @@ public class ContentBlockerHandler {
 //                                    Log.e(LOG_TAG, "", e);
 //                                }
 //                            }
-                        }
-                        break;
-                }
+                    }
+                    break;
             }
         }
         return null;
@@ -276,41 +327,150 @@ public class ContentBlockerHandler {
     
     @Nullable
     public WebResourceResponse checkUrl(final InAppWebView webView, WebResourceRequestExt request) throws URISyntaxException, InterruptedException, MalformedURLException {
-        ContentBlockerTriggerResourceType responseResourceType = getResourceTypeFromUrl(request);
-        return checkUrl(webView, request, responseResourceType);
+        // read the snapshot once, so that the whole request is checked against the same rules
+        ContentBlockerRuleEngine ruleEngine = this.ruleEngine;
+        ContentBlockerTriggerResourceType responseResourceType = ContentBlockerTriggerResourceType.RAW;
+        // the resource type is needed only if some rule has a resource-type condition
+        if (ruleEngine.hasResourceTypeConditions()) {
+            boolean useHeadRequest = webView.customSettings.contentBlockerHeadRequestFallback != null &&
+                    webView.customSettings.contentBlockerHeadRequestFallback;
+            responseResourceType = getResourceTypeFromUrl(request, useHeadRequest);
+        }
+        return checkUrl(webView, request, responseResourceType, ruleEngine);
     }
 
     @Nullable
     public WebResourceResponse checkUrl(final InAppWebView webView, WebResourceRequestExt request, String contentType) throws URISyntaxException, InterruptedException, MalformedURLException {
         ContentBlockerTriggerResourceType responseResourceType = getResourceTypeFromContentType(contentType);
+        putResourceType(request.getUrl(), responseResourceType);
         return checkUrl(webView, request, responseResourceType);
     }
 
-    public ContentBlockerTriggerResourceType getResourceTypeFromUrl(WebResourceRequestExt request) {
-        ContentBlockerTriggerResourceType responseResourceType = ContentBlockerTriggerResourceType.RAW;
+    /**
+     * Infers the resource type of a request, without loading it, from:
+     * the request destination, the {@code Accept} header, the resource types already observed for the same URL
+     * and the URL extension. If none of them is conclusive and {@code useHeadRequest} is {@code true},
+     * an HTTP {@code HEAD} request is made to get the content type of the resource.
+     */
+    public ContentBlockerTriggerResourceType getResourceTypeFromUrl(WebResourceRequestExt request, boolean useHeadRequest) {
         String url = request.getUrl();
 
-        if (url.startsWith("http://") || url.startsWith("https://")) {
+        if (request.isForMainFrame()) {
+            return ContentBlockerTriggerResourceType.DOCUMENT;
+        }
+
+        Map<String, String> headers = request.getHeaders();
+        if (headers != null) {
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                if (header.getKey() == null || header.getValue() == null) {
+                    continue;
+                }
+                ContentBlockerTriggerResourceType resourceType = null;
+                if (header.getKey().equalsIgnoreCase("Sec-Fetch-Dest")) {
+                    resourceType = getResourceTypeFromFetchDestination(header.getValue().trim());
+                } else if (header.getKey().equalsIgnoreCase("Accept")) {
+                    resourceType = getResourceTypeFromAccept(header.getValue());
+                }
+                if (resourceType != null) {
+                    return resourceType;
+                }
+            }
+        }
+
+        ContentBlockerTriggerResourceType cachedResourceType = getCachedResourceType(url);
+        if (cachedResourceType != null) {
+            return cachedResourceType;
+        }
+
+        String extension = MimeTypeMap.getFileExtensionFromUrl(url);
+        if (extension != null && !extension.isEmpty()) {
+            String mimeType = MimeTypeMap.getSingleton().getMimeTypeFromExtension(extension.toLowerCase());
+            if (mimeType != null) {
+                ContentBlockerTriggerResourceType resourceType = getResourceTypeFromContentType(mimeType);
+                if (resourceType != ContentBlockerTriggerResourceType.RAW) {
+                    return resourceType;
+                }
+            }
+        }
+
+        ContentBlockerTriggerResourceType responseResourceType = ContentBlockerTriggerResourceType.RAW;
+        if (useHeadRequest && (url.startsWith("http://") || url.startsWith("https://"))) {
             // make an HTTP "HEAD" request to the server for that URL. This will not return the full content of the URL.
-            HttpURLConnection urlConnection = Util.makeHttpRequest(url, "HEAD", request.getHeaders());
-            if (urlConnection != null) {
+            HttpClientResponse response = HttpClient.getInstance().execute(url, "HEAD", headers);
+            if (response != null) {
                 try {
-                    String contentType = urlConnection.getContentType();
+                    String contentType = response.getContentType();
                     if (contentType != null) {
-                        String[] contentTypeSplit = contentType.split(";");
-                        contentType = contentTypeSplit[0].trim();
                         responseResourceType = getResourceTypeFromContentType(contentType);
+                        putResourceType(url, responseResourceType);
                     }
-                } catch (Exception e) {
-                    Log.e(LOG_TAG, "", e);
                 } finally {
-                    urlConnection.disconnect();
+                    response.close();
                 }
             }
         }
         return responseResourceType;
     }
 
+    @Nullable
+    private ContentBlockerTriggerResourceType getResourceTypeFromFetchDestination(String destination) {
+        // https://fetch.spec.whatwg.org/#concept-request-destination
+        switch (destination) {
+            case "document":
+            case "iframe":
+            case "frame":
+                return ContentBlockerTriggerResourceType.DOCUMENT;
+            case "image":
+                return ContentBlockerTriggerResourceType.IMAGE;
+            case "style":
+                return ContentBlockerTriggerResourceType.STYLE_SHEET;
+            case "script":
+            case "worker":
+            case "sharedworker":
+            case "serviceworker":
+                return ContentBlockerTriggerResourceType.SCRIPT;
+            case "font":
+                return ContentBlockerTriggerResourceType.FONT;
+            case "audio":
+            case "video":
+            case "track":
+                return ContentBlockerTriggerResourceType.MEDIA;
+            default:
+                // "empty" is used by fetch and XMLHttpRequest, so the destination doesn't tell anything
+                return null;
+        }
+    }
+
+    @Nullable
+    private ContentBlockerTriggerResourceType getResourceTypeFromAccept(String accept) {
+        // the first media range is the one preferred by the request initiator, such as "image/avif,image/webp,*/*;q=0.8"
+        String mediaRange = accept.split(",")[0].split(";")[0].trim();
+        if (mediaRange.isEmpty() || mediaRange.startsWith("*/")) {
+            return null;
+        }
+        if (mediaRange.equals("application/xhtml+xml")) {
+            return ContentBlockerTriggerResourceType.DOCUMENT;
+        }
+        ContentBlockerTriggerResourceType resourceType = getResourceTypeFromContentType(mediaRange);
+        return resourceType != ContentBlockerTriggerResourceType.RAW ? resourceType : null;
+    }
+
+    @Nullable
+    private ContentBlockerTriggerResourceType getCachedResourceType(String url) {
+        synchronized (resourceTypeCache) {
+            return resourceTypeCache.get(url);
+        }
+    }
+
+    private void putResourceType(String url, ContentBlockerTriggerResourceType resourceType) {
+        if (resourceType == ContentBlockerTriggerResourceType.RAW) {
+            return;
+        }
+        synchronized (resourceTypeCache) {
+            resourceTypeCache.put(url, resourceType);
+        }
+    }
+
     public ContentBlockerTriggerResourceType getResourceTypeFromContentType(String contentType) {
         ContentBlockerTriggerResourceType responseResourceType = ContentBlockerTriggerResourceType.RAW;
 
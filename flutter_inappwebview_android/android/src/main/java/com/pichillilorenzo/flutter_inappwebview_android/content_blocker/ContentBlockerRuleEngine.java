@@ -0,0 +1,373 @@
+package com.pichillilorenzo.flutter_inappwebview_android.content_blocker;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled, immutable snapshot of a content blocker rule list.
+ * <p>
+ * It is built once when the rule list changes and it is then safe to be read concurrently
+ * by the threads intercepting the requests, without any copy or lock.
+ * <p>
+ * Each rule is bucketed under the rarest keyword (a run of {@link #KEYWORD_LENGTH} characters)
+ * of the literals its {@code url-filter} requires (one keyword per branch, if the literals are alternatives),
+ * so that, for a given URL, only the rules whose keyword appears in the URL, plus the rules without
+ * any usable keyword, have their regex evaluated.
+ * Resource types are checked through a bitmask and {@code if-domain}/{@code unless-domain}
+ * through a {@link ContentBlockerDomainTrie} before running the regex.
+ */
+public class ContentBlockerRuleEngine {
+    // 4 chars of 16 bits each fit exactly in a long
+    static final int KEYWORD_LENGTH = 4;
+    static final int ALL_RESOURCE_TYPES = ~0;
+    static final int INITIAL_CANDIDATE_BUFFER_SIZE = 64;
+
+    // candidate buffer reused by the requests intercepted on the same thread
+    private static final ThreadLocal<int[]> candidateBuffer = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[INITIAL_CANDIDATE_BUFFER_SIZE];
+        }
+    };
+
+    @NonNull
+    private final ContentBlocker[] rules;
+    @NonNull
+    private final List<ContentBlocker> ruleList;
+    @NonNull
+    private final Pattern[] patterns;
+    @NonNull
+    private final int[] resourceTypeMasks;
+    @NonNull
+    private final ContentBlockerDomainTrie[] ifDomains;
+    @NonNull
+    private final ContentBlockerDomainTrie[] unlessDomains;
+    @NonNull
+    private final int[] unindexedRules;
+    private final boolean hasResourceTypeConditions;
+    private final int requestRuleCount;
+
+    // open addressing hash table: keyword -> indexes of the rules bucketed under it
+    @NonNull
+    private final long[] keywordTable;
+    @NonNull
+    private final int[][] keywordBuckets;
+    private final int keywordTableMask;
+
+    public ContentBlockerRuleEngine(@NonNull List<ContentBlocker> ruleList) {
+        int size = ruleList.size();
+        rules = ruleList.toArray(new ContentBlocker[size]);
+        this.ruleList = Collections.unmodifiableList(Arrays.asList(rules));
+        patterns = new Pattern[size];
+        resourceTypeMasks = new int[size];
+        ifDomains = new ContentBlockerDomainTrie[size];
+        unlessDomains = new ContentBlockerDomainTrie[size];
+
+        List<List<List<Set<Long>>>> ruleRequirements = new ArrayList<>(size);
+        Map<Long, Integer> keywordFrequency = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            ContentBlockerTrigger trigger = rules[i].getTrigger();
+            patterns[i] = trigger.getUrlFilterPatternCompiled();
+            resourceTypeMasks[i] = getResourceTypeMask(trigger.getResourceType());
+            ifDomains[i] = !trigger.getIfDomain().isEmpty() ? new ContentBlockerDomainTrie(trigger.getIfDomain()) : null;
+            unlessDomains[i] = !trigger.getUnlessDomain().isEmpty() ? new ContentBlockerDomainTrie(trigger.getUnlessDomain()) : null;
+
+            if (!isRequestRule(rules[i])) {
+                ruleRequirements.add(null);
+                continue;
+            }
+            List<List<Set<Long>>> requirements = getKeywords(trigger.getUrlFilter());
+            Set<Long> keywords = new HashSet<>();
+            for (List<Set<Long>> requirement : requirements) {
+                for (Set<Long> branch : requirement) {
+                    keywords.addAll(branch);
+                }
+            }
+            for (Long keyword : keywords) {
+                Integer frequency = keywordFrequency.get(keyword);
+                keywordFrequency.put(keyword, frequency != null ? frequency + 1 : 1);
+            }
+            ruleRequirements.add(requirements);
+        }
+
+        Map<Long, List<Integer>> buckets = new HashMap<>();
+        List<Integer> unindexed = new ArrayList<>();
+        int requestRuleCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (ruleRequirements.get(i) == null) {
+                // never matched against a request
+                continue;
+            }
+            requestRuleCount++;
+            // the rule is bucketed under one keyword for each branch of its cheapest requirement
+            Set<Long> bestKeywords = null;
+            long bestCost = Long.MAX_VALUE;
+            for (List<Set<Long>> requirement : ruleRequirements.get(i)) {
+                Set<Long> requirementKeywords = new HashSet<>();
+                long cost = 0;
+                for (Set<Long> branch : requirement) {
+                    Long rarestKeyword = null;
+                    int rarestFrequency = Integer.MAX_VALUE;
+                    for (Long keyword : branch) {
+                        int frequency = keywordFrequency.get(keyword);
+                        if (frequency < rarestFrequency) {
+                            rarestKeyword = keyword;
+                            rarestFrequency = frequency;
+                        }
+                    }
+                    if (rarestKeyword == null) {
+                        requirementKeywords = null;
+                        break;
+                    }
+                    if (requirementKeywords.add(rarestKeyword)) {
+                        cost += rarestFrequency;
+                    }
+                }
+                if (requirementKeywords != null && cost < bestCost) {
+                    bestKeywords = requirementKeywords;
+                    bestCost = cost;
+                }
+            }
+            if (bestKeywords == null) {
+                unindexed.add(i);
+                continue;
+            }
+            for (Long keyword : bestKeywords) {
+                List<Integer> bucket = buckets.get(keyword);
+                if (bucket == null) {
+                    bucket = new ArrayList<>();
+                    buckets.put(keyword, bucket);
+                }
+                bucket.add(i);
+            }
+        }
+
+        unindexedRules = toIntArray(unindexed);
+        this.requestRuleCount = requestRuleCount;
+
+        boolean hasResourceTypeConditions = false;
+        int allResourceTypes = (1 << ContentBlockerTriggerResourceType.values().length) - 1;
+        for (int i = 0; i < size; i++) {
+            if (ruleRequirements.get(i) != null && (resourceTypeMasks[i] & allResourceTypes) != allResourceTypes) {
+                hasResourceTypeConditions = true;
+                break;
+            }
+        }
+        this.hasResourceTypeConditions = hasResourceTypeConditions;
+
+        int capacity = Integer.highestOneBit(Math.max(buckets.size(), 1) * 2 - 1) << 1;
+        keywordTable = new long[capacity];
+        keywordBuckets = new int[capacity][];
+        keywordTableMask = capacity - 1;
+        for (Map.Entry<Long, List<Integer>> bucket : buckets.entrySet()) {
+            long keyword = bucket.getKey();
+            int slot = slotOf(keyword);
+            while (keywordBuckets[slot] != null) {
+                slot = (slot + 1) & keywordTableMask;
+            }
+            keywordTable[slot] = keyword;
+            keywordBuckets[slot] = toIntArray(bucket.getValue());
+        }
+    }
+
+    public boolean isEmpty() {
+        return rules.length == 0;
+    }
+
+    public int size() {
+        return rules.length;
+    }
+
+    /**
+     * @return {@code true} if at least one rule has to be matched against the requests.
+     */
+    public boolean hasRequestRules() {
+        return requestRuleCount > 0;
+    }
+
+    /**
+     * {@code css-display-none} rules are applied to the page through a stylesheet, instead of being matched
+     * against each request.
+     */
+    static boolean isRequestRule(@NonNull ContentBlocker rule) {
+        return rule.getAction().getType() != ContentBlockerActionType.CSS_DISPLAY_NONE;
+    }
+
+    /**
+     * @return {@code true} if at least one rule doesn't apply to all the resource types,
+     * so the resource type of a request is needed to match it.
+     */
+    public boolean hasResourceTypeConditions() {
+        return hasResourceTypeConditions;
+    }
+
+    @NonNull
+    public List<ContentBlocker> getRuleList() {
+        return ruleList;
+    }
+
+    /**
+     * Returns, in the original order, the rules whose {@code url-filter}, resource type,
+     * {@code if-domain} and {@code unless-domain} conditions are satisfied by the given request.
+     */
+    @NonNull
+    public List<ContentBlocker> match(@NonNull String url, @Nullable String host,
+                                      @NonNull ContentBlockerTriggerResourceType resourceType,
+                                      @NonNull ContentBlockerStatistics statistics) {
+        statistics.checkedRequests.incrementAndGet();
+        if (requestRuleCount == 0) {
+            return Collections.emptyList();
+        }
+
+        int[] candidates = candidateBuffer.get();
+        int count = 0;
+
+        long keyword = 0;
+        for (int i = 0; i < url.length(); i++) {
+            keyword = (keyword << 16) | toLowerCaseAscii(url.charAt(i));
+            if (i < KEYWORD_LENGTH - 1) {
+                continue;
+            }
+            int[] bucket = getBucket(keyword);
+            if (bucket != null) {
+                candidates = ensureCapacity(candidates, count + bucket.length, statistics);
+                System.arraycopy(bucket, 0, candidates, count, bucket.length);
+                count += bucket.length;
+            }
+        }
+        candidates = ensureCapacity(candidates, count + unindexedRules.length, statistics);
+        System.arraycopy(unindexedRules, 0, candidates, count, unindexedRules.length);
+        count += unindexedRules.length;
+
+        // a keyword can appear more than once in the URL
+        Arrays.sort(candidates, 0, count);
+
+        List<ContentBlocker> matches = null;
+        int evaluated = 0;
+        int typeBit = 1 << resourceType.ordinal();
+        int previous = -1;
+        for (int i = 0; i < count; i++) {
+            int rule = candidates[i];
+            if (rule == previous) {
+                continue;
+            }
+            previous = rule;
+            if ((resourceTypeMasks[rule] & typeBit) == 0) {
+                continue;
+            }
+            if (ifDomains[rule] != null && !ifDomains[rule].matches(host)) {
+                continue;
+            }
+            if (unlessDomains[rule] != null && unlessDomains[rule].matches(host)) {
+                continue;
+            }
+            evaluated++;
+            if (patterns[rule].matcher(url).matches()) {
+                if (matches == null) {
+                    matches = new ArrayList<>();
+                    statistics.matchListAllocations.incrementAndGet();
+                }
+                matches.add(rules[rule]);
+            }
+        }
+        statistics.evaluatedRules.addAndGet(evaluated);
+        if (matches == null) {
+            return Collections.emptyList();
+        }
+        statistics.matchedRules.addAndGet(matches.size());
+        return matches;
+    }
+
+    @NonNull
+    private static int[] ensureCapacity(@NonNull int[] candidates, int capacity,
+                                        @NonNull ContentBlockerStatistics statistics) {
+        if (capacity <= candidates.length) {
+            return candidates;
+        }
+        int[] grown = Arrays.copyOf(candidates, Math.max(candidates.length * 2, capacity));
+        candidateBuffer.set(grown);
+        statistics.candidateBufferAllocations.incrementAndGet();
+        return grown;
+    }
+
+    @Nullable
+    private int[] getBucket(long keyword) {
+        int slot = slotOf(keyword);
+        while (keywordBuckets[slot] != null) {
+            if (keywordTable[slot] == keyword) {
+                return keywordBuckets[slot];
+            }
+            slot = (slot + 1) & keywordTableMask;
+        }
+        return null;
+    }
+
+    private int slotOf(long keyword) {
+        long hash = keyword * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & keywordTableMask;
+    }
+
+    static int getResourceTypeMask(@NonNull List<ContentBlockerTriggerResourceType> resourceTypes) {
+        if (resourceTypes.isEmpty()) {
+            return ALL_RESOURCE_TYPES;
+        }
+        int mask = 0;
+        for (ContentBlockerTriggerResourceType resourceType : resourceTypes) {
+            mask |= 1 << resourceType.ordinal();
+        }
+        // images include svg documents
+        if ((mask & (1 << ContentBlockerTriggerResourceType.IMAGE.ordinal())) != 0) {
+            mask |= 1 << ContentBlockerTriggerResourceType.SVG_DOCUMENT.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * @return for each requirement of the {@code url-filter}, the keywords of each of its branches.
+     */
+    @NonNull
+    static List<List<Set<Long>>> getKeywords(@NonNull String urlFilter) {
+        List<List<Set<Long>>> requirements = new ArrayList<>();
+        for (ContentBlockerUrlFilterLiterals.Requirement requirement : ContentBlockerUrlFilterLiterals.extract(urlFilter)) {
+            List<Set<Long>> branches = new ArrayList<>();
+            for (List<String> literals : requirement.branches) {
+                Set<Long> keywords = new LinkedHashSet<>();
+                for (String literal : literals) {
+                    long keyword = 0;
+                    for (int i = 0; i < literal.length(); i++) {
+                        keyword = (keyword << 16) | toLowerCaseAscii(literal.charAt(i));
+                        if (i >= KEYWORD_LENGTH - 1) {
+                            keywords.add(keyword);
+                        }
+                    }
+                }
+                branches.add(keywords);
+            }
+            requirements.add(branches);
+        }
+        return requirements;
+    }
+
+    private static char toLowerCaseAscii(char c) {
+        return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static int[] toIntArray(@NonNull List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,58 @@
+package com.pichillilorenzo.flutter_inappwebview_android.content_blocker;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the work done by a {@link ContentBlockerHandler} on the request path.
+ * They are updated concurrently by the threads calling {@code shouldInterceptRequest}.
+ */
+public class ContentBlockerStatistics {
+    final AtomicLong checkedRequests = new AtomicLong();
+    final AtomicLong evaluatedRules = new AtomicLong();
+    final AtomicLong matchedRules = new AtomicLong();
+    final AtomicLong candidateBufferAllocations = new AtomicLong();
+    final AtomicLong matchListAllocations = new AtomicLong();
+    final AtomicLong publishedSnapshots = new AtomicLong();
+    final AtomicLong httpsUpgrades = new AtomicLong();
+    final AtomicLong skippedHttpsUpgrades = new AtomicLong();
+
+    public void reset() {
+        checkedRequests.set(0);
+        evaluatedRules.set(0);
+        matchedRules.set(0);
+        candidateBufferAllocations.set(0);
+        matchListAllocations.set(0);
+        publishedSnapshots.set(0);
+        httpsUpgrades.set(0);
+        skippedHttpsUpgrades.set(0);
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("checkedRequests", checkedRequests.get());
+        map.put("evaluatedRules", evaluatedRules.get());
+        map.put("matchedRules", matchedRules.get());
+        map.put("candidateBufferAllocations", candidateBufferAllocations.get());
+        map.put("matchListAllocations", matchListAllocations.get());
+        map.put("publishedSnapshots", publishedSnapshots.get());
+        map.put("httpsUpgrades", httpsUpgrades.get());
+        map.put("skippedHttpsUpgrades", skippedHttpsUpgrades.get());
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return "ContentBlockerStatistics{" +
+                "checkedRequests=" + checkedRequests +
+                ", evaluatedRules=" + evaluatedRules +
+                ", matchedRules=" + matchedRules +
+                ", candidateBufferAllocations=" + candidateBufferAllocations +
+                ", matchListAllocations=" + matchListAllocations +
+                ", publishedSnapshots=" + publishedSnapshots +
+                ", httpsUpgrades=" + httpsUpgrades +
+                ", skippedHttpsUpgrades=" + skippedHttpsUpgrades +
+                '}';
+    }
+}
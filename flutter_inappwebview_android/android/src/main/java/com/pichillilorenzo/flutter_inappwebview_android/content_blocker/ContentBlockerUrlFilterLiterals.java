@@ -0,0 +1,344 @@
+package com.pichillilorenzo.flutter_inappwebview_android.content_blocker;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Extracts the literal substrings that every URL matched by an {@code url-filter} regex must contain.
+ * The analysis is conservative: anything it doesn't fully understand is treated as "no literal required",
+ * so a rule is never excluded from the candidates of a URL it could match.
+ */
+public class ContentBlockerUrlFilterLiterals {
+
+    /**
+     * A URL satisfies a requirement if it contains all the literals of at least one of its branches.
+     */
+    public static class Requirement {
+        @NonNull
+        public final List<List<String>> branches;
+
+        Requirement(@NonNull List<List<String>> branches) {
+            this.branches = branches;
+        }
+
+        static Requirement of(@NonNull String literal) {
+            return new Requirement(Collections.singletonList(Collections.singletonList(literal)));
+        }
+    }
+
+    private final String regex;
+    private int pos = 0;
+
+    private ContentBlockerUrlFilterLiterals(String regex) {
+        this.regex = regex;
+    }
+
+    /**
+     * @return the requirements that must all be satisfied by a URL matching the {@code url-filter} regex.
+     */
+    @NonNull
+    public static List<Requirement> extract(@NonNull String regex) {
+        ContentBlockerUrlFilterLiterals parser = new ContentBlockerUrlFilterLiterals(regex);
+        try {
+            List<Requirement> requirements = parser.parseSequence();
+            if (parser.pos < regex.length()) {
+                // unbalanced ')'
+                return Collections.emptyList();
+            }
+            return requirements;
+        } catch (UnsupportedOperationException | IndexOutOfBoundsException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    private List<Requirement> parseSequence() {
+        List<List<Requirement>> alternatives = new ArrayList<>();
+        List<Requirement> requirements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+
+        while (pos < regex.length()) {
+            char c = regex.charAt(pos);
+            if (c == ')') {
+                break;
+            }
+            switch (c) {
+                case '|':
+                    pos++;
+                    flush(current, requirements);
+                    alternatives.add(requirements);
+                    requirements = new ArrayList<>();
+                    break;
+                case '(': {
+                    pos++;
+                    boolean lookaround = parseGroupPrefix();
+                    List<Requirement> groupRequirements = parseSequence();
+                    if (pos >= regex.length() || regex.charAt(pos) != ')') {
+                        throw new UnsupportedOperationException();
+                    }
+                    pos++;
+                    flush(current, requirements);
+                    int min = parseQuantifier();
+                    if (!lookaround && (min < 0 || min >= 1)) {
+                        requirements.addAll(groupRequirements);
+                    }
+                    break;
+                }
+                case '[':
+                    skipCharacterClass();
+                    flush(current, requirements);
+                    parseQuantifier();
+                    break;
+                case '.':
+                case '^':
+                case '$':
+                    pos++;
+                    flush(current, requirements);
+                    parseQuantifier();
+                    break;
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    // dangling quantifier
+                    throw new UnsupportedOperationException();
+                case '\\': {
+                    pos++;
+                    char d = regex.charAt(pos++);
+                    if (d == 'Q') {
+                        int end = regex.indexOf("\\E", pos);
+                        String quoted = end >= 0 ? regex.substring(pos, end) : regex.substring(pos);
+                        pos = end >= 0 ? end + 2 : regex.length();
+                        if (!quoted.isEmpty()) {
+                            current.append(quoted, 0, quoted.length() - 1);
+                            appendLiteral(quoted.charAt(quoted.length() - 1), current, requirements);
+                        }
+                    } else if (Character.isLetterOrDigit(d)) {
+                        skipEscapeArguments(d);
+                        flush(current, requirements);
+                        parseQuantifier();
+                    } else {
+                        appendLiteral(d, current, requirements);
+                    }
+                    break;
+                }
+                default:
+                    pos++;
+                    appendLiteral(c, current, requirements);
+                    break;
+            }
+        }
+        flush(current, requirements);
+
+        if (alternatives.isEmpty()) {
+            return requirements;
+        }
+        alternatives.add(requirements);
+
+        // every branch must require at least one literal, otherwise the whole sequence requires nothing
+        List<List<String>> branches = new ArrayList<>();
+        for (List<Requirement> alternative : alternatives) {
+            List<String> literals = new ArrayList<>();
+            for (Requirement requirement : alternative) {
+                if (requirement.branches.size() == 1) {
+                    literals.addAll(requirement.branches.get(0));
+                }
+            }
+            if (literals.isEmpty()) {
+                return new ArrayList<>();
+            }
+            branches.add(literals);
+        }
+        List<Requirement> alternation = new ArrayList<>();
+        alternation.add(new Requirement(branches));
+        return alternation;
+    }
+
+    private void appendLiteral(char c, StringBuilder current, List<Requirement> requirements) {
+        int min = parseQuantifier();
+        if (min == 0) {
+            flush(current, requirements);
+        } else if (min > 0) {
+            current.append(c);
+            flush(current, requirements);
+        } else {
+            current.append(c);
+        }
+    }
+
+    private static void flush(StringBuilder current, List<Requirement> requirements) {
+        if (current.length() > 0) {
+            requirements.add(Requirement.of(current.toString()));
+            current.setLength(0);
+        }
+    }
+
+    /**
+     * @return the minimum number of repetitions of the quantifier at the current position, or -1 if there is none.
+     */
+    private int parseQuantifier() {
+        if (pos >= regex.length()) {
+            return -1;
+        }
+        int min;
+        char c = regex.charAt(pos);
+        switch (c) {
+            case '?':
+            case '*':
+                pos++;
+                min = 0;
+                break;
+            case '+':
+                pos++;
+                min = 1;
+                break;
+            case '{': {
+                int end = regex.indexOf('}', pos);
+                if (end < 0) {
+                    throw new UnsupportedOperationException();
+                }
+                String bounds = regex.substring(pos + 1, end);
+                int comma = bounds.indexOf(',');
+                try {
+                    min = Integer.parseInt(comma >= 0 ? bounds.substring(0, comma).trim() : bounds.trim());
+                } catch (NumberFormatException e) {
+                    throw new UnsupportedOperationException();
+                }
+                pos = end + 1;
+                break;
+            }
+            default:
+                return -1;
+        }
+        // lazy or possessive modifiers
+        if (pos < regex.length() && (regex.charAt(pos) == '?' || regex.charAt(pos) == '+')) {
+            pos++;
+        }
+        return min;
+    }
+
+    /**
+     * @return {@code true} if the group is a lookaround, that doesn't consume any character of the URL.
+     */
+    private boolean parseGroupPrefix() {
+        if (regex.charAt(pos) != '?') {
+            return false;
+        }
+        pos++;
+        char c = regex.charAt(pos);
+        switch (c) {
+            case ':':
+            case '>':
+                pos++;
+                return false;
+            case '=':
+            case '!':
+                pos++;
+                return true;
+            case '<': {
+                char next = regex.charAt(pos + 1);
+                if (next == '=' || next == '!') {
+                    pos += 2;
+                    return true;
+                }
+                int end = regex.indexOf('>', pos);
+                if (end < 0) {
+                    throw new UnsupportedOperationException();
+                }
+                pos = end + 1;
+                return false;
+            }
+            default:
+                // inline flags, such as (?i) or (?i:...)
+                while (pos < regex.length() && (Character.isLetter(regex.charAt(pos)) || regex.charAt(pos) == '-')) {
+                    char flag = regex.charAt(pos);
+                    if (flag == 'x' || flag == 'u' || flag == 'U') {
+                        // comments mode and unicode case folding change how literals are matched
+                        throw new UnsupportedOperationException();
+                    }
+                    pos++;
+                }
+                if (regex.charAt(pos) == ':') {
+                    pos++;
+                }
+                return false;
+        }
+    }
+
+    private void skipCharacterClass() {
+        // skip '['
+        pos++;
+        if (regex.charAt(pos) == '^') {
+            pos++;
+        }
+        if (regex.charAt(pos) == ']') {
+            pos++;
+        }
+        while (true) {
+            char c = regex.charAt(pos);
+            if (c == '\\') {
+                pos += 2;
+            } else if (c == '[') {
+                skipCharacterClass();
+            } else if (c == ']') {
+                pos++;
+                return;
+            } else {
+                pos++;
+            }
+        }
+    }
+
+    private void skipEscapeArguments(char escape) {
+        switch (escape) {
+            case 'x':
+                if (regex.charAt(pos) == '{') {
+                    skipTo('}');
+                } else {
+                    pos += 2;
+                }
+                break;
+            case 'u':
+                pos += 4;
+                break;
+            case '0':
+                for (int i = 0; i < 3 && pos < regex.length() && regex.charAt(pos) >= '0' && regex.charAt(pos) <= '7'; i++) {
+                    pos++;
+                }
+                break;
+            case 'c':
+                pos++;
+                break;
+            case 'p':
+            case 'P':
+                if (regex.charAt(pos) == '{') {
+                    skipTo('}');
+                } else {
+                    pos++;
+                }
+                break;
+            case 'k':
+                skipTo('>');
+                break;
+            case 'N':
+                skipTo('}');
+                break;
+            default:
+                // back references
+                while (Character.isDigit(escape) && pos < regex.length() && Character.isDigit(regex.charAt(pos))) {
+                    pos++;
+                }
+                break;
+        }
+    }
+
+    private void skipTo(char c) {
+        int end = regex.indexOf(c, pos);
+        if (end < 0) {
+            throw new UnsupportedOperationException();
+        }
+        pos = end + 1;
+    }
+}
@@ -0,0 +1,135 @@
+package com.pichillilorenzo.flutter_inappwebview_android.content_blocker;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Remembers, for each host, whether the {@code make-https} action could load it over HTTPS,
+ * so that a host without HTTPS support isn't tried again for each of its requests.
+ * <p>
+ * Like HSTS, a host that sent a {@code Strict-Transport-Security} header is never downgraded to HTTP
+ * until its {@code max-age} expires, and its subdomains too with {@code includeSubDomains}.
+ */
+public class HttpsUpgradeCache {
+    protected static final int MAX_SIZE = 1024;
+    // how long a host that answered over HTTPS without HSTS is remembered
+    protected static final long SUPPORTED_TTL_MILLIS = 24 * 60 * 60 * 1000L;
+    // how long a host that failed over HTTPS is remembered, short because the failure can be temporary
+    protected static final long UNSUPPORTED_TTL_MILLIS = 5 * 60 * 1000L;
+
+    public enum Status {
+        UNKNOWN,
+        SUPPORTED,
+        UNSUPPORTED,
+        // supported and must not be downgraded to HTTP
+        STRICT
+    }
+
+    private static class Entry {
+        final boolean supported;
+        final boolean strict;
+        final boolean includeSubDomains;
+        final long expiresAt;
+
+        Entry(boolean supported, boolean strict, boolean includeSubDomains, long expiresAt) {
+            this.supported = supported;
+            this.strict = strict;
+            this.includeSubDomains = includeSubDomains;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_SIZE;
+        }
+    };
+
+    @NonNull
+    public synchronized Status getStatus(@NonNull String host) {
+        host = host.toLowerCase(Locale.ROOT);
+        long now = System.currentTimeMillis();
+        Entry entry = getEntry(host, now);
+        if ((entry != null && entry.strict) || isStrictParent(host, now)) {
+            return Status.STRICT;
+        }
+        if (entry != null) {
+            return entry.supported ? Status.SUPPORTED : Status.UNSUPPORTED;
+        }
+        return Status.UNKNOWN;
+    }
+
+    /**
+     * @return whether a parent domain of the host has an HSTS policy with {@code includeSubDomains}.
+     */
+    private boolean isStrictParent(@NonNull String host, long now) {
+        for (int index = host.indexOf('.'); index >= 0; index = host.indexOf('.', index + 1)) {
+            Entry parentEntry = getEntry(host.substring(index + 1), now);
+            if (parentEntry != null && parentEntry.strict && parentEntry.includeSubDomains) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private Entry getEntry(@NonNull String host, long now) {
+        Entry entry = entries.get(host);
+        if (entry != null && entry.expiresAt <= now) {
+            entries.remove(host);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * @param strictTransportSecurity the values of the {@code Strict-Transport-Security} header of the HTTPS response.
+     */
+    public synchronized void onSupported(@NonNull String host, @Nullable List<String> strictTransportSecurity) {
+        host = host.toLowerCase(Locale.ROOT);
+        long now = System.currentTimeMillis();
+        long maxAgeSeconds = -1;
+        boolean includeSubDomains = false;
+        if (strictTransportSecurity != null && !strictTransportSecurity.isEmpty()) {
+            // only the first header is processed, as required by RFC 6797
+            for (String directive : strictTransportSecurity.get(0).split(";")) {
+                directive = directive.trim();
+                String lowerCaseDirective = directive.toLowerCase(Locale.ROOT);
+                if (lowerCaseDirective.startsWith("max-age=")) {
+                    try {
+                        maxAgeSeconds = Long.parseLong(directive.substring("max-age=".length()).replace("\"", "").trim());
+                    } catch (NumberFormatException ignored) {}
+                } else if (lowerCaseDirective.equals("includesubdomains")) {
+                    includeSubDomains = true;
+                }
+            }
+        }
+        if (maxAgeSeconds > 0) {
+            entries.put(host, new Entry(true, true, includeSubDomains, now + maxAgeSeconds * 1000L));
+        } else {
+            // max-age=0 removes the HSTS policy of the host
+            entries.put(host, new Entry(true, false, false, now + SUPPORTED_TTL_MILLIS));
+        }
+    }
+
+    public synchronized void onUnsupported(@NonNull String host) {
+        host = host.toLowerCase(Locale.ROOT);
+        long now = System.currentTimeMillis();
+        Entry entry = getEntry(host, now);
+        if ((entry != null && entry.strict) || isStrictParent(host, now)) {
+            // a failure doesn't cancel an HSTS policy, of the host or of a parent domain
+            return;
+        }
+        entries.put(host, new Entry(false, false, false, now + UNSUPPORTED_TTL_MILLIS));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+}
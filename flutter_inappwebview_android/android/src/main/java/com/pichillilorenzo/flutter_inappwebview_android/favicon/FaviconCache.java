@@ -0,0 +1,351 @@
+package com.pichillilorenzo.flutter_inappwebview_android.favicon;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.util.LruCache;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Store of the favicons received by the WebViews, shared by all of them.
+ * <p>
+ * Each favicon is PNG encoded once and identified by a key, the hash of its pixels, so that the same icon
+ * received again, on another navigation or by another WebView, is neither encoded nor sent to Dart again:
+ * Dart gets the key and reads the PNG data with {@link #get} only when it needs it.
+ * The PNG data is kept in a memory LRU cache of {@link #MEMORY_CACHE_MAX_SIZE_BYTES} and in a disk LRU cache
+ * of {@link #DISK_CACHE_MAX_SIZE_BYTES}. The last key received for each origin is kept in memory.
+ */
+public class FaviconCache {
+  protected static final String LOG_TAG = "FaviconCache";
+  public static final int MEMORY_CACHE_MAX_SIZE_BYTES = 1024 * 1024;
+  public static final long DISK_CACHE_MAX_SIZE_BYTES = 10 * 1024 * 1024;
+  public static final String DISK_CACHE_DIRECTORY_NAME = "flutter_inappwebview_favicons";
+  private static final int ORIGIN_KEYS_MAX_SIZE = 512;
+
+  @Nullable
+  private static FaviconCache instance;
+
+  @NonNull
+  private final File directory;
+  @NonNull
+  private final ExecutorService executor = Executors.newSingleThreadExecutor();
+  @NonNull
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  @NonNull
+  private final LruCache<String, byte[]> memoryCache = new LruCache<String, byte[]>(MEMORY_CACHE_MAX_SIZE_BYTES) {
+    @Override
+    protected int sizeOf(@NonNull String key, @NonNull byte[] value) {
+      return value.length;
+    }
+  };
+  @NonNull
+  private final Map<String, String> originKeys = new LinkedHashMap<String, String>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+      return size() > ORIGIN_KEYS_MAX_SIZE;
+    }
+  };
+
+  private FaviconCache(@NonNull File directory) {
+    this.directory = directory;
+  }
+
+  @NonNull
+  public static synchronized FaviconCache getInstance(@NonNull Context context) {
+    if (instance == null) {
+      instance = new FaviconCache(new File(context.getApplicationContext().getCacheDir(), DISK_CACHE_DIRECTORY_NAME));
+    }
+    return instance;
+  }
+
+  public interface PutCallback {
+    /**
+     * Called on the main thread.
+     *
+     * @param key the key of the favicon, {@code null} if it couldn't be stored.
+     */
+    void onStored(@Nullable String key);
+  }
+
+  public interface GetCallback {
+    /**
+     * Called on the main thread.
+     */
+    void onResult(@Nullable byte[] data);
+  }
+
+  /**
+   * Stores the {@code icon} received for {@code url}, encoding it only if it isn't stored yet.
+   * Must be called on the main thread. The {@code icon} is recycled.
+   */
+  public void put(@Nullable String url, @NonNull final Bitmap icon, @NonNull final PutCallback callback) {
+    final String key = getKey(icon);
+    if (key == null) {
+      icon.recycle();
+      callback.onStored(null);
+      return;
+    }
+    final String origin = getOrigin(url);
+    if (origin != null) {
+      synchronized (originKeys) {
+        originKeys.put(origin, key);
+      }
+    }
+    if (memoryCache.get(key) != null) {
+      icon.recycle();
+      callback.onStored(key);
+      return;
+    }
+
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        File file = getFile(key);
+        boolean stored = file.exists() && file.setLastModified(System.currentTimeMillis());
+        if (!stored) {
+          ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+          if (icon.compress(Bitmap.CompressFormat.PNG, 100, byteArrayOutputStream)) {
+            byte[] data = byteArrayOutputStream.toByteArray();
+            memoryCache.put(key, data);
+            writeFile(file, data);
+            stored = true;
+          }
+        }
+        icon.recycle();
+        final boolean finalStored = stored;
+        mainHandler.post(new Runnable() {
+          @Override
+          public void run() {
+            callback.onStored(finalStored ? key : null);
+          }
+        });
+      }
+    });
+  }
+
+  /**
+   * Can be called on any thread, but it may read the disk.
+   *
+   * @return the PNG data of the favicon with the given key, {@code null} if it isn't stored.
+   */
+  @Nullable
+  public byte[] get(@NonNull String key) {
+    byte[] data = memoryCache.get(key);
+    if (data != null) {
+      return data;
+    }
+    // keys are hexadecimal hashes, they can't point outside the directory
+    if (!key.matches("[0-9a-f]+")) {
+      return null;
+    }
+    File file = getFile(key);
+    data = readFile(file);
+    if (data != null) {
+      file.setLastModified(System.currentTimeMillis());
+      memoryCache.put(key, data);
+    }
+    return data;
+  }
+
+  /**
+   * @return the key of the last favicon received for the origin of {@code url}, {@code null} if there isn't any.
+   */
+  @Nullable
+  public String getKeyForUrl(@Nullable String url) {
+    String origin = getOrigin(url);
+    if (origin == null) {
+      return null;
+    }
+    synchronized (originKeys) {
+      return originKeys.get(origin);
+    }
+  }
+
+  /**
+   * Reads the PNG data asynchronously, the {@code callback} is called on the main thread.
+   */
+  public void get(@NonNull final String key, @NonNull final GetCallback callback) {
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        final byte[] data = get(key);
+        mainHandler.post(new Runnable() {
+          @Override
+          public void run() {
+            callback.onResult(data);
+          }
+        });
+      }
+    });
+  }
+
+  /**
+   * Drops the memory cache, the favicons are still read from the disk cache.
+   */
+  public void trimMemory() {
+    memoryCache.evictAll();
+  }
+
+  public void clear() {
+    memoryCache.evictAll();
+    synchronized (originKeys) {
+      originKeys.clear();
+    }
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        File[] files = directory.listFiles();
+        if (files != null) {
+          for (File file : files) {
+            file.delete();
+          }
+        }
+      }
+    });
+  }
+
+  @Nullable
+  private static String getKey(@NonNull Bitmap icon) {
+    try {
+      ByteBuffer pixels = ByteBuffer.allocate(icon.getByteCount());
+      icon.copyPixelsToBuffer(pixels);
+      MessageDigest digest = MessageDigest.getInstance("SHA-1");
+      digest.update(ByteBuffer.allocate(8).putInt(icon.getWidth()).putInt(icon.getHeight()).array());
+      digest.update(pixels.array());
+      StringBuilder key = new StringBuilder();
+      for (byte b : digest.digest()) {
+        key.append(String.format("%02x", b));
+      }
+      return key.toString();
+    } catch (NoSuchAlgorithmException | RuntimeException e) {
+      Log.e(LOG_TAG, "", e);
+      return null;
+    }
+  }
+
+  @Nullable
+  private static String getOrigin(@Nullable String url) {
+    if (url == null) {
+      return null;
+    }
+    Uri uri = Uri.parse(url);
+    if (uri.getScheme() == null || uri.getAuthority() == null) {
+      return null;
+    }
+    return uri.getScheme() + "://" + uri.getAuthority();
+  }
+
+  @NonNull
+  private File getFile(@NonNull String key) {
+    return new File(directory, key + ".png");
+  }
+
+  @Nullable
+  private static byte[] readFile(@NonNull File file) {
+    if (!file.exists()) {
+      return null;
+    }
+    InputStream inputStream = null;
+    try {
+      inputStream = new FileInputStream(file);
+      ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream((int) file.length());
+      byte[] buffer = new byte[8192];
+      int read;
+      while ((read = inputStream.read(buffer)) != -1) {
+        byteArrayOutputStream.write(buffer, 0, read);
+      }
+      return byteArrayOutputStream.toByteArray();
+    } catch (IOException e) {
+      Log.e(LOG_TAG, "", e);
+      return null;
+    } finally {
+      closeQuietly(inputStream);
+    }
+  }
+
+  private void writeFile(@NonNull File file, @NonNull byte[] data) {
+    if (!directory.exists() && !directory.mkdirs()) {
+      return;
+    }
+    // written to a temporary file first, so that a partial file is never read
+    File tmpFile = new File(directory, file.getName() + ".tmp");
+    OutputStream outputStream = null;
+    try {
+      outputStream = new FileOutputStream(tmpFile);
+      outputStream.write(data);
+      outputStream.close();
+      outputStream = null;
+      if (!tmpFile.renameTo(file)) {
+        tmpFile.delete();
+      }
+    } catch (IOException e) {
+      Log.e(LOG_TAG, "", e);
+      tmpFile.delete();
+    } finally {
+      closeQuietly(outputStream);
+    }
+    trimDiskCache();
+  }
+
+  private void trimDiskCache() {
+    File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    long size = 0;
+    for (File file : files) {
+      size += file.length();
+    }
+    if (size <= DISK_CACHE_MAX_SIZE_BYTES) {
+      return;
+    }
+    Arrays.sort(files, new Comparator<File>() {
+      @Override
+      public int compare(File file1, File file2) {
+        long lastModified1 = file1.lastModified();
+        long lastModified2 = file2.lastModified();
+        return lastModified1 < lastModified2 ? -1 : (lastModified1 == lastModified2 ? 0 : 1);
+      }
+    });
+    for (int i = 0; i < files.length && size > DISK_CACHE_MAX_SIZE_BYTES; i++) {
+      long length = files[i].length();
+      if (files[i].delete()) {
+        size -= length;
+      }
+    }
+  }
+
+  private static void closeQuietly(@Nullable Closeable closeable) {
+    if (closeable == null) {
+      return;
+    }
+    try {
+      closeable.close();
+    } catch (IOException e) {
+      Log.e(LOG_TAG, "", e);
+    }
+  }
+}
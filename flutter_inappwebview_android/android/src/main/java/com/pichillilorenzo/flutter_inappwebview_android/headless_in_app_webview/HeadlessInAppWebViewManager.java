@@ -45,10 +45,13 @@ public class HeadlessInAppWebViewManager extends ChannelDelegateImpl {
   public final Map<String, HeadlessInAppWebView> webViews = new HashMap<>();
   @Nullable
   public InAppWebViewFlutterPlugin plugin;
+  @Nullable
+  public HeadlessWebViewFarm farm;
 
   public HeadlessInAppWebViewManager(final InAppWebViewFlutterPlugin plugin) {
     super(new MethodChannel(plugin.messenger, METHOD_CHANNEL_NAME));
     this.plugin = plugin;
+    this.farm = new HeadlessWebViewFarm(plugin);
   }
 
   @Override
@@ -63,6 +66,31 @@ public class HeadlessInAppWebViewManager extends ChannelDelegateImpl {
         }
         result.success(true);
         break;
+      case "runFarmJob":
+        if (farm != null) {
+          Map<String, Object> job = (Map<String, Object>) call.argument("job");
+          farm.submit(job, result);
+        } else {
+          result.error(LOG_TAG, "The headless WebView farm has been disposed", null);
+        }
+        break;
+      case "setFarmSettings":
+        if (farm != null) {
+          Integer maxConcurrency = (Integer) call.argument("maxConcurrency");
+          Integer defaultJobTimeout = (Integer) call.argument("defaultJobTimeout");
+          farm.setSettings(maxConcurrency, defaultJobTimeout);
+        }
+        result.success(true);
+        break;
+      case "cancelFarmJobs":
+        if (farm != null) {
+          farm.cancelQueuedJobs();
+        }
+        result.success(true);
+        break;
+      case "getFarmStatistics":
+        result.success(farm != null ? farm.getStatistics() : null);
+        break;
       default:
         result.notImplemented();
     }
@@ -93,6 +121,10 @@ public class HeadlessInAppWebViewManager extends ChannelDelegateImpl {
       }
     }
     webViews.clear();
+    if (farm != null) {
+      farm.dispose();
+      farm = null;
+    }
     plugin = null;
   }
 }
@@ -0,0 +1,531 @@
+package com.pichillilorenzo.flutter_inappwebview_android.headless_in_app_webview;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.view.View;
+import android.view.ViewGroup;
+import android.webkit.ValueCallback;
+import android.webkit.WebSettings;
+import android.webkit.WebView;
+import android.webkit.WebViewClient;
+import android.widget.FrameLayout;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pichillilorenzo.flutter_inappwebview_android.InAppWebViewFlutterPlugin;
+import com.pichillilorenzo.flutter_inappwebview_android.Util;
+import com.pichillilorenzo.flutter_inappwebview_android.screenshot.ScreenshotTaker;
+import com.pichillilorenzo.flutter_inappwebview_android.types.Disposable;
+import com.pichillilorenzo.flutter_inappwebview_android.types.Size2D;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Runs background jobs, that load a page and then evaluate a script, get its HTML and/or take a screenshot,
+ * on a bounded set of reusable headless WebViews.
+ * <p>
+ * At most {@link #maxConcurrency} WebViews exist at the same time, whatever the number of queued jobs.
+ * The jobs wait in a queue ordered by priority, then by submission order. A WebView is reset between two jobs:
+ * the storage of the previous page is cleared, if requested by the job, then {@code about:blank} is loaded
+ * and the WebView takes a new job only once it has finished loading, so that the late callbacks of the previous
+ * navigation can't be taken for the ones of the new job. The history is cleared when the next page is loaded.
+ * A WebView whose job, or reset, has timed out is destroyed instead of being reused,
+ * and an idle WebView is destroyed after {@link #IDLE_TIMEOUT_MS}. Must be used on the main thread.
+ * <p>
+ * The isolation between the jobs is partial: the local and session storage are cleared, the deletion
+ * of the IndexedDB databases and of the Cache Storage of the page is only started, and the cookies and the HTTP cache
+ * are shared with all the WebViews of the app, so they are not cleared.
+ */
+public class HeadlessWebViewFarm implements Disposable {
+  protected static final String LOG_TAG = "HeadlessWebViewFarm";
+  public static final int DEFAULT_MAX_CONCURRENCY = 2;
+  public static final int MAX_CONCURRENCY = 8;
+  public static final int DEFAULT_JOB_TIMEOUT_MS = 30000;
+  public static final long IDLE_TIMEOUT_MS = 30000;
+  public static final long RESET_TIMEOUT_MS = 5000;
+
+  private static final String CLEAR_STORAGE_JS_SOURCE = "(function() {" +
+          "  try { window.localStorage.clear(); } catch (e) {}" +
+          "  try { window.sessionStorage.clear(); } catch (e) {}" +
+          "  try {" +
+          "    window.indexedDB.databases().then(function(databases) {" +
+          "      databases.forEach(function(database) { window.indexedDB.deleteDatabase(database.name); });" +
+          "    }).catch(function() {});" +
+          "  } catch (e) {}" +
+          "  try {" +
+          "    window.caches.keys().then(function(keys) {" +
+          "      keys.forEach(function(key) { window.caches.delete(key); });" +
+          "    }).catch(function() {});" +
+          "  } catch (e) {}" +
+          "})();";
+
+  @Nullable
+  private InAppWebViewFlutterPlugin plugin;
+  @NonNull
+  private final Handler handler = new Handler(Looper.getMainLooper());
+
+  private int maxConcurrency = DEFAULT_MAX_CONCURRENCY;
+  private int defaultJobTimeout = DEFAULT_JOB_TIMEOUT_MS;
+
+  @NonNull
+  private final PriorityQueue<Job> queue = new PriorityQueue<>(11, new Comparator<Job>() {
+    @Override
+    public int compare(Job job1, Job job2) {
+      if (job1.priority != job2.priority) {
+        return job1.priority > job2.priority ? -1 : 1;
+      }
+      return job1.sequence < job2.sequence ? -1 : (job1.sequence == job2.sequence ? 0 : 1);
+    }
+  });
+  @NonNull
+  private final Deque<Worker> idleWorkers = new ArrayDeque<>();
+  @NonNull
+  private final List<Worker> workers = new ArrayList<>();
+  private long jobSequence = 0;
+
+  private long submittedJobs = 0;
+  private long completedJobs = 0;
+  private long failedJobs = 0;
+  private long timedOutJobs = 0;
+  private long cancelledJobs = 0;
+  private int maxQueueLength = 0;
+  private long totalQueueTimeNanos = 0;
+  private long totalRunTimeNanos = 0;
+  private long firstSubmissionTime = 0;
+
+  public HeadlessWebViewFarm(@NonNull InAppWebViewFlutterPlugin plugin) {
+    this.plugin = plugin;
+  }
+
+  /**
+   * @param maxConcurrency maximum number of WebViews, and so of jobs running at the same time, at most {@link #MAX_CONCURRENCY}.
+   * @param defaultJobTimeout timeout, in milliseconds, of the jobs that don't specify one.
+   */
+  public void setSettings(@Nullable Integer maxConcurrency, @Nullable Integer defaultJobTimeout) {
+    if (maxConcurrency != null) {
+      this.maxConcurrency = Math.max(1, Math.min(maxConcurrency, MAX_CONCURRENCY));
+      while (workers.size() > this.maxConcurrency && !idleWorkers.isEmpty()) {
+        destroy(idleWorkers.poll());
+      }
+    }
+    if (defaultJobTimeout != null && defaultJobTimeout > 0) {
+      this.defaultJobTimeout = defaultJobTimeout;
+    }
+    schedule();
+  }
+
+  /**
+   * Queues a job, the {@code result} receives the job result or an error.
+   */
+  public void submit(@NonNull Map<String, Object> jobMap, @NonNull MethodChannel.Result result) {
+    long now = SystemClock.elapsedRealtimeNanos();
+    if (firstSubmissionTime == 0) {
+      firstSubmissionTime = now;
+    }
+    submittedJobs++;
+    queue.add(new Job(jobMap, result, jobSequence++, now));
+    maxQueueLength = Math.max(maxQueueLength, queue.size());
+    schedule();
+  }
+
+  /**
+   * Fails all the queued jobs, the running ones are completed.
+   */
+  public void cancelQueuedJobs() {
+    Job job;
+    while ((job = queue.poll()) != null) {
+      cancelledJobs++;
+      job.result.error(LOG_TAG, "The job has been cancelled", null);
+    }
+  }
+
+  private void schedule() {
+    while (!queue.isEmpty()) {
+      Worker worker = idleWorkers.poll();
+      if (worker == null) {
+        if (workers.size() >= maxConcurrency) {
+          return;
+        }
+        worker = create();
+        if (worker == null) {
+          return;
+        }
+      }
+      run(worker, queue.poll());
+    }
+  }
+
+  @Nullable
+  private Worker create() {
+    if (plugin == null || (plugin.activity == null && plugin.applicationContext == null)) {
+      return null;
+    }
+    Context context = plugin.activity != null ? plugin.activity : plugin.applicationContext;
+    Worker worker = new Worker(context);
+    workers.add(worker);
+    if (plugin.activity != null) {
+      // as for the headless WebViews, the view must be in the view hierarchy to draw screenshots
+      ViewGroup contentView = plugin.activity.findViewById(android.R.id.content);
+      ViewGroup mainView = contentView != null ? (ViewGroup) contentView.getChildAt(0) : null;
+      if (mainView != null) {
+        mainView.addView(worker.webView, 0);
+      }
+    }
+    return worker;
+  }
+
+  private void run(@NonNull final Worker worker, @NonNull Job job) {
+    handler.removeCallbacks(worker.idleTimeoutRunnable);
+    long now = SystemClock.elapsedRealtimeNanos();
+    totalQueueTimeNanos += now - job.submissionTime;
+    job.startTime = now;
+    worker.job = job;
+    worker.loaded = false;
+
+    worker.setSize(job.size);
+    int timeout = job.timeout != null && job.timeout > 0 ? job.timeout : defaultJobTimeout;
+    handler.postDelayed(worker.timeoutRunnable, timeout);
+
+    if (job.url != null) {
+      worker.webView.loadUrl(job.url);
+    } else {
+      worker.webView.loadDataWithBaseURL(job.baseUrl, job.data != null ? job.data : "",
+              job.mimeType, job.encoding, null);
+    }
+  }
+
+  private void onLoaded(@NonNull final Worker worker) {
+    final Job job = worker.job;
+    if (job == null || worker.loaded) {
+      return;
+    }
+    worker.loaded = true;
+    // the entries of the previous jobs must not be reachable
+    worker.webView.clearHistory();
+    job.output.put("loadTime", (SystemClock.elapsedRealtimeNanos() - job.startTime) / 1000000.0);
+    evaluateScript(worker, job);
+  }
+
+  private void evaluateScript(@NonNull final Worker worker, @NonNull final Job job) {
+    if (job.script == null) {
+      getHtml(worker, job);
+      return;
+    }
+    worker.webView.evaluateJavascript(job.script, new ValueCallback<String>() {
+      @Override
+      public void onReceiveValue(String value) {
+        if (worker.job != job) {
+          return;
+        }
+        job.output.put("scriptResult", value);
+        getHtml(worker, job);
+      }
+    });
+  }
+
+  private void getHtml(@NonNull final Worker worker, @NonNull final Job job) {
+    if (!job.getHtml) {
+      takeScreenshot(worker, job);
+      return;
+    }
+    worker.webView.evaluateJavascript("document.documentElement.outerHTML", new ValueCallback<String>() {
+      @Override
+      public void onReceiveValue(String value) {
+        if (worker.job != job) {
+          return;
+        }
+        job.output.put("html", value);
+        takeScreenshot(worker, job);
+      }
+    });
+  }
+
+  private void takeScreenshot(@NonNull final Worker worker, @NonNull final Job job) {
+    if (!job.takeScreenshot) {
+      complete(worker, job);
+      return;
+    }
+    float pixelDensity = Util.getPixelDensity(worker.webView.getContext());
+    ScreenshotTaker.takeScreenshot(worker.webView, job.screenshotConfiguration, pixelDensity, new MethodChannel.Result() {
+      @Override
+      public void success(@Nullable Object result) {
+        if (worker.job != job) {
+          return;
+        }
+        job.output.put("screenshot", result);
+        complete(worker, job);
+      }
+
+      @Override
+      public void error(@NonNull String errorCode, @Nullable String errorMessage, @Nullable Object errorDetails) {
+        if (worker.job != job) {
+          return;
+        }
+        fail(worker, job, errorMessage);
+      }
+
+      @Override
+      public void notImplemented() {}
+    });
+  }
+
+  private void complete(@NonNull Worker worker, @NonNull Job job) {
+    completedJobs++;
+    long runTime = SystemClock.elapsedRealtimeNanos() - job.startTime;
+    totalRunTimeNanos += runTime;
+    job.output.put("runTime", runTime / 1000000.0);
+    release(worker, job.clearStorage);
+    job.result.success(job.output);
+    schedule();
+  }
+
+  private void fail(@NonNull Worker worker, @NonNull Job job, @Nullable String message) {
+    failedJobs++;
+    totalRunTimeNanos += SystemClock.elapsedRealtimeNanos() - job.startTime;
+    release(worker, job.clearStorage);
+    job.result.error(LOG_TAG, message != null ? message : "The job has failed", null);
+    schedule();
+  }
+
+  private void onTimeout(@NonNull Worker worker) {
+    Job job = worker.job;
+    if (job == null) {
+      return;
+    }
+    timedOutJobs++;
+    failedJobs++;
+    totalRunTimeNanos += SystemClock.elapsedRealtimeNanos() - job.startTime;
+    worker.job = null;
+    // the page may still be busy, the WebView is not reused
+    destroy(worker);
+    job.result.error(LOG_TAG, "The job has timed out", null);
+    schedule();
+  }
+
+  private void release(@NonNull Worker worker, boolean clearStorage) {
+    handler.removeCallbacks(worker.timeoutRunnable);
+    worker.job = null;
+    worker.resetting = true;
+    if (clearStorage) {
+      worker.webView.evaluateJavascript(CLEAR_STORAGE_JS_SOURCE, null);
+    }
+    worker.webView.stopLoading();
+    worker.webView.loadUrl("about:blank");
+    handler.postDelayed(worker.resetTimeoutRunnable, RESET_TIMEOUT_MS);
+  }
+
+  private void onReset(@NonNull Worker worker) {
+    handler.removeCallbacks(worker.resetTimeoutRunnable);
+    worker.resetting = false;
+    idleWorkers.add(worker);
+    handler.postDelayed(worker.idleTimeoutRunnable, IDLE_TIMEOUT_MS);
+    schedule();
+  }
+
+  private void destroy(@NonNull Worker worker) {
+    handler.removeCallbacks(worker.timeoutRunnable);
+    handler.removeCallbacks(worker.idleTimeoutRunnable);
+    handler.removeCallbacks(worker.resetTimeoutRunnable);
+    idleWorkers.remove(worker);
+    workers.remove(worker);
+    ViewGroup parent = (ViewGroup) worker.webView.getParent();
+    if (parent != null) {
+      parent.removeView(worker.webView);
+    }
+    worker.webView.destroy();
+  }
+
+  /**
+   * Destroys the idle WebViews, new ones are created for the next jobs.
+   */
+  public void trimMemory() {
+    while (!idleWorkers.isEmpty()) {
+      destroy(idleWorkers.peek());
+    }
+  }
+
+  @NonNull
+  public Map<String, Object> getStatistics() {
+    long finishedJobs = completedJobs + failedJobs;
+    long elapsedTime = firstSubmissionTime > 0 ? SystemClock.elapsedRealtimeNanos() - firstSubmissionTime : 0;
+    int runningJobs = 0;
+    for (Worker worker : workers) {
+      runningJobs += worker.job != null ? 1 : 0;
+    }
+    long startedJobs = finishedJobs + runningJobs;
+    Map<String, Object> statistics = new HashMap<>();
+    statistics.put("maxConcurrency", maxConcurrency);
+    statistics.put("webViews", workers.size());
+    statistics.put("runningJobs", runningJobs);
+    statistics.put("queuedJobs", queue.size());
+    statistics.put("maxQueueLength", maxQueueLength);
+    statistics.put("submittedJobs", submittedJobs);
+    statistics.put("completedJobs", completedJobs);
+    statistics.put("failedJobs", failedJobs);
+    statistics.put("timedOutJobs", timedOutJobs);
+    statistics.put("cancelledJobs", cancelledJobs);
+    statistics.put("averageQueueTime", startedJobs > 0 ? totalQueueTimeNanos / 1000000.0 / startedJobs : 0.0);
+    statistics.put("averageRunTime", finishedJobs > 0 ? totalRunTimeNanos / 1000000.0 / finishedJobs : 0.0);
+    statistics.put("throughput", elapsedTime > 0 ? completedJobs / (elapsedTime / 1000000000.0) : 0.0);
+    return statistics;
+  }
+
+  @Override
+  public void dispose() {
+    cancelQueuedJobs();
+    for (Worker worker : new ArrayList<>(workers)) {
+      Job job = worker.job;
+      worker.job = null;
+      destroy(worker);
+      if (job != null) {
+        job.result.error(LOG_TAG, "The job has been cancelled", null);
+      }
+    }
+    plugin = null;
+  }
+
+  private static class Job {
+    @NonNull
+    final MethodChannel.Result result;
+    final long sequence;
+    final long submissionTime;
+    long startTime;
+    final int priority;
+    @Nullable
+    final Integer timeout;
+    @Nullable
+    final String url;
+    @Nullable
+    final String data;
+    @Nullable
+    final String mimeType;
+    @Nullable
+    final String encoding;
+    @Nullable
+    final String baseUrl;
+    @Nullable
+    final String script;
+    final boolean getHtml;
+    final boolean takeScreenshot;
+    @Nullable
+    final Map<String, Object> screenshotConfiguration;
+    @Nullable
+    final Size2D size;
+    final boolean clearStorage;
+    @NonNull
+    final Map<String, Object> output = new HashMap<>();
+
+    Job(@NonNull Map<String, Object> map, @NonNull MethodChannel.Result result, long sequence, long submissionTime) {
+      this.result = result;
+      this.sequence = sequence;
+      this.submissionTime = submissionTime;
+      Integer priority = (Integer) map.get("priority");
+      this.priority = priority != null ? priority : 0;
+      this.timeout = (Integer) map.get("timeout");
+      this.url = (String) map.get("url");
+      this.data = (String) map.get("data");
+      this.mimeType = (String) map.get("mimeType");
+      this.encoding = (String) map.get("encoding");
+      this.baseUrl = (String) map.get("baseUrl");
+      this.script = (String) map.get("script");
+      this.getHtml = Boolean.TRUE.equals(map.get("getHtml"));
+      this.takeScreenshot = Boolean.TRUE.equals(map.get("takeScreenshot"));
+      this.screenshotConfiguration = (Map<String, Object>) map.get("screenshotConfiguration");
+      this.size = Size2D.fromMap((Map<String, Object>) map.get("size"));
+      this.clearStorage = !Boolean.FALSE.equals(map.get("clearStorage"));
+    }
+  }
+
+  private class Worker {
+    @NonNull
+    final WebView webView;
+    @Nullable
+    Job job;
+    boolean loaded = false;
+    boolean resetting = false;
+
+    final Runnable timeoutRunnable = new Runnable() {
+      @Override
+      public void run() {
+        onTimeout(Worker.this);
+      }
+    };
+
+    final Runnable resetTimeoutRunnable = new Runnable() {
+      @Override
+      public void run() {
+        // the WebView doesn't respond anymore, it is not reused
+        destroy(Worker.this);
+        schedule();
+      }
+    };
+
+    final Runnable idleTimeoutRunnable = new Runnable() {
+      @Override
+      public void run() {
+        if (job == null) {
+          destroy(Worker.this);
+        }
+      }
+    };
+
+    @SuppressLint("SetJavaScriptEnabled")
+    Worker(@NonNull Context context) {
+      webView = new WebView(context);
+      webView.setVisibility(View.INVISIBLE);
+      WebSettings settings = webView.getSettings();
+      settings.setJavaScriptEnabled(true);
+      settings.setDomStorageEnabled(true);
+      webView.setWebViewClient(new WebViewClient() {
+        @Override
+        public void onPageFinished(WebView view, String url) {
+          super.onPageFinished(view, url);
+          if (resetting) {
+            // the callbacks of the navigation aborted by the reset are ignored
+            if ("about:blank".equals(url)) {
+              onReset(Worker.this);
+            }
+          } else if (job != null) {
+            onLoaded(Worker.this);
+          }
+        }
+
+        @Override
+        public void onReceivedError(WebView view, int errorCode, String description, String failingUrl) {
+          super.onReceivedError(view, errorCode, description, failingUrl);
+          Job currentJob = job;
+          if (currentJob != null && !loaded) {
+            fail(Worker.this, currentJob, description);
+          }
+        }
+      });
+    }
+
+    void setSize(@Nullable Size2D size) {
+      Size2D fullscreenSize = Util.getFullscreenSize(webView.getContext());
+      float scale = Util.getPixelDensity(webView.getContext());
+      int width = (int) (size == null || size.getWidth() == -1 ? fullscreenSize.getWidth() : (size.getWidth() * scale));
+      int height = (int) (size == null || size.getHeight() == -1 ? fullscreenSize.getHeight() : (size.getHeight() * scale));
+      webView.setLayoutParams(new FrameLayout.LayoutParams(width, height));
+      if (webView.getParent() == null) {
+        // not in the view hierarchy, so it must be laid out manually
+        webView.measure(View.MeasureSpec.makeMeasureSpec(width, View.MeasureSpec.EXACTLY),
+                View.MeasureSpec.makeMeasureSpec(height, View.MeasureSpec.EXACTLY));
+        webView.layout(0, 0, width, height);
+      }
+    }
+  }
+}
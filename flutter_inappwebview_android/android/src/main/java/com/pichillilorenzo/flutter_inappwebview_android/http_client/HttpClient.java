@@ -0,0 +1,186 @@
+package com.pichillilorenzo.flutter_inappwebview_android.http_client;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLHandshakeException;
+
+/**
+ * HTTP client shared by the requests that the plugin makes natively, such as the content blocker
+ * {@code make-https} action or the {@code rewrite-headers} intercept request rule.
+ * <p>
+ * Connections are reused through the keep-alive pool of {@link HttpURLConnection}: a connection goes back
+ * to the pool when its {@link HttpClientResponse} has been read to the end and closed, so callers must
+ * close the response instead of disconnecting it. The number of requests to the same host waiting for their
+ * response headers at the same time is limited by {@link #setSettings}: a request takes a slot of its host until its
+ * response headers are received, so a response being read doesn't hold one, and a request that can't get a free slot
+ * within the connect timeout is made anyway.
+ */
+public class HttpClient {
+  protected static final String LOG_TAG = "HttpClient";
+  public static final int DEFAULT_CONNECT_TIMEOUT = 15000;
+  public static final int DEFAULT_READ_TIMEOUT = 15000;
+  public static final int DEFAULT_MAX_CONNECTIONS_PER_HOST = 6;
+
+  private static final int HOST_SLOTS_MAX_SIZE = 256;
+
+  @Nullable
+  private static HttpClient instance;
+
+  private volatile int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+  private volatile int readTimeout = DEFAULT_READ_TIMEOUT;
+  private int maxConnectionsPerHost = DEFAULT_MAX_CONNECTIONS_PER_HOST;
+  // LRU map of the request slots of each host; requests release their slot
+  // on the semaphore they acquired, even if it has been replaced since
+  @NonNull
+  private final Map<String, Semaphore> hostSlots = new LinkedHashMap<String, Semaphore>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Semaphore> eldest) {
+      return size() > HOST_SLOTS_MAX_SIZE;
+    }
+  };
+  @NonNull
+  final HttpClientStatistics statistics = new HttpClientStatistics();
+
+  @NonNull
+  public static synchronized HttpClient getInstance() {
+    if (instance == null) {
+      instance = new HttpClient();
+    }
+    return instance;
+  }
+
+  /**
+   * @param connectTimeout connect timeout, in milliseconds, {@code null} to keep the current value.
+   * @param readTimeout read timeout, in milliseconds, {@code null} to keep the current value.
+   * @param maxConnectionsPerHost maximum number of requests to the same host waiting for their response headers
+   *                              at the same time, {@code 0} for no limit, {@code null} to keep the current value.
+   */
+  public synchronized void setSettings(@Nullable Integer connectTimeout, @Nullable Integer readTimeout,
+                                       @Nullable Integer maxConnectionsPerHost) {
+    if (connectTimeout != null && connectTimeout >= 0) {
+      this.connectTimeout = connectTimeout;
+    }
+    if (readTimeout != null && readTimeout >= 0) {
+      this.readTimeout = readTimeout;
+    }
+    if (maxConnectionsPerHost != null && maxConnectionsPerHost >= 0 &&
+            maxConnectionsPerHost != this.maxConnectionsPerHost) {
+      this.maxConnectionsPerHost = maxConnectionsPerHost;
+      hostSlots.clear();
+    }
+  }
+
+  /**
+   * Sends the request and waits for the response headers. Redirects are followed.
+   *
+   * @return the response, that must be closed, or {@code null} if the request failed.
+   */
+  @Nullable
+  public HttpClientResponse execute(@NonNull String urlString, @NonNull String method,
+                                    @Nullable Map<String, String> headers) {
+    return execute(urlString, method, headers, true);
+  }
+
+  /**
+   * Sends the request and waits for the response headers.
+   *
+   * @param followRedirects {@code false} to return the redirect responses instead of following them.
+   * @return the response, that must be closed, or {@code null} if the request failed.
+   */
+  @Nullable
+  public HttpClientResponse execute(@NonNull String urlString, @NonNull String method,
+                                    @Nullable Map<String, String> headers, boolean followRedirects) {
+    statistics.requests.incrementAndGet();
+    long startTime = System.nanoTime();
+    HttpURLConnection urlConnection = null;
+    Semaphore slot = null;
+    try {
+      URL url = new URL(urlString);
+      slot = acquireSlot(url);
+      long connectTime = System.nanoTime();
+      statistics.addSlotWaitTime(connectTime - startTime);
+
+      urlConnection = (HttpURLConnection) url.openConnection();
+      urlConnection.setRequestMethod(method);
+      if (headers != null) {
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+          urlConnection.setRequestProperty(header.getKey(), header.getValue());
+        }
+      }
+      urlConnection.setConnectTimeout(connectTimeout);
+      urlConnection.setReadTimeout(readTimeout);
+      urlConnection.setDoInput(true);
+      urlConnection.setInstanceFollowRedirects(followRedirects);
+      if ("GET".equalsIgnoreCase(method)) {
+        urlConnection.setDoOutput(false);
+      }
+      // sends the request and reads the response headers
+      urlConnection.getResponseCode();
+      statistics.addTimeToHeaders(System.nanoTime() - connectTime);
+      HttpClientResponse response = new HttpClientResponse(this, urlConnection);
+      statistics.activeConnections.incrementAndGet();
+      return response;
+    } catch (Exception e) {
+      if (!(e instanceof SSLHandshakeException)) {
+        Log.e(LOG_TAG, "", e);
+      }
+      statistics.failedRequests.incrementAndGet();
+      if (urlConnection != null) {
+        urlConnection.disconnect();
+      }
+    } finally {
+      // the body is read by the caller without holding the slot
+      if (slot != null) {
+        slot.release();
+      }
+    }
+    return null;
+  }
+
+  @Nullable
+  private Semaphore acquireSlot(@NonNull URL url) {
+    Semaphore semaphore = getHostSlots(url);
+    if (semaphore == null) {
+      return null;
+    }
+    try {
+      if (semaphore.tryAcquire(connectTimeout, TimeUnit.MILLISECONDS)) {
+        return semaphore;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    statistics.slotWaitTimeouts.incrementAndGet();
+    return null;
+  }
+
+  @Nullable
+  private synchronized Semaphore getHostSlots(@NonNull URL url) {
+    if (maxConnectionsPerHost <= 0) {
+      return null;
+    }
+    int port = url.getPort() != -1 ? url.getPort() : url.getDefaultPort();
+    String key = url.getProtocol() + "://" + url.getHost() + ":" + port;
+    Semaphore semaphore = hostSlots.get(key);
+    if (semaphore == null) {
+      semaphore = new Semaphore(maxConnectionsPerHost, true);
+      hostSlots.put(key, semaphore);
+    }
+    return semaphore;
+  }
+
+  @NonNull
+  public HttpClientStatistics getStatistics() {
+    return statistics;
+  }
+}
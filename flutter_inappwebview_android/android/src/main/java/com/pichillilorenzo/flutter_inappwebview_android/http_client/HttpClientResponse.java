@@ -0,0 +1,234 @@
+package com.pichillilorenzo.flutter_inappwebview_android.http_client;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response of an {@link HttpClient} request. Its body is read from the connection as it is consumed.
+ * <p>
+ * Closing the response, or its body stream, gives the connection back to the keep-alive pool
+ * if the body has been read to the end; a short unread remainder is skipped first,
+ * otherwise the connection is closed.
+ */
+public class HttpClientResponse implements Closeable {
+  // largest unread remainder skipped to keep the connection
+  private static final int DRAIN_MAX_BYTES = 64 * 1024;
+
+  @NonNull
+  private final HttpClient client;
+  @NonNull
+  private final HttpURLConnection connection;
+  private final int statusCode;
+  @Nullable
+  private final String reasonPhrase;
+  @Nullable
+  private Map<String, String> headers;
+  @Nullable
+  private BodyInputStream body;
+  private boolean released = false;
+
+  HttpClientResponse(@NonNull HttpClient client, @NonNull HttpURLConnection connection) throws IOException {
+    this.client = client;
+    this.connection = connection;
+    this.statusCode = connection.getResponseCode();
+    this.reasonPhrase = connection.getResponseMessage();
+  }
+
+  public int getStatusCode() {
+    return statusCode;
+  }
+
+  @Nullable
+  public String getReasonPhrase() {
+    return reasonPhrase;
+  }
+
+  /**
+   * @return the MIME type of the {@code Content-Type} header, without its parameters.
+   */
+  @Nullable
+  public String getContentType() {
+    String contentType = connection.getContentType();
+    if (contentType == null) {
+      return null;
+    }
+    int index = contentType.indexOf(';');
+    return (index >= 0 ? contentType.substring(0, index) : contentType).trim();
+  }
+
+  /**
+   * @return the {@code Content-Encoding} header, or else the charset of the {@code Content-Type} header.
+   */
+  @Nullable
+  public String getContentEncoding() {
+    String contentEncoding = connection.getContentEncoding();
+    if (contentEncoding != null) {
+      return contentEncoding;
+    }
+    String contentType = connection.getContentType();
+    if (contentType == null) {
+      return null;
+    }
+    int index = contentType.indexOf("charset=");
+    if (index < 0) {
+      return null;
+    }
+    String charset = contentType.substring(index + "charset=".length());
+    int end = charset.indexOf(';');
+    return (end >= 0 ? charset.substring(0, end) : charset).trim();
+  }
+
+  /**
+   * @return the response headers, the values of a repeated header being joined with a comma.
+   */
+  @NonNull
+  public synchronized Map<String, String> getHeaders() {
+    if (headers == null) {
+      Map<String, List<String>> headerFields = connection.getHeaderFields();
+      headers = new HashMap<>(headerFields.size());
+      for (Map.Entry<String, List<String>> headerField : headerFields.entrySet()) {
+        // the status line has a null key
+        if (headerField.getKey() != null) {
+          headers.put(headerField.getKey(), joinValues(headerField.getValue()));
+        }
+      }
+    }
+    return headers;
+  }
+
+  /**
+   * @return all the values of the header with the given case-insensitive name, or {@code null}.
+   */
+  @Nullable
+  public List<String> getHeaderValues(@NonNull String name) {
+    for (Map.Entry<String, List<String>> headerField : connection.getHeaderFields().entrySet()) {
+      if (name.equalsIgnoreCase(headerField.getKey())) {
+        return headerField.getValue();
+      }
+    }
+    return null;
+  }
+
+  @NonNull
+  private static String joinValues(@NonNull List<String> values) {
+    if (values.size() == 1) {
+      return values.get(0);
+    }
+    StringBuilder joined = new StringBuilder();
+    for (String value : values) {
+      if (joined.length() > 0) {
+        joined.append(',');
+      }
+      joined.append(value);
+    }
+    return joined.toString();
+  }
+
+  /**
+   * @return the body, or the error body for a 4xx or 5xx status code. Closing it closes the response.
+   */
+  @NonNull
+  public synchronized InputStream getInputStream() throws IOException {
+    if (body == null) {
+      InputStream inputStream = statusCode >= 400 ? connection.getErrorStream() : connection.getInputStream();
+      body = new BodyInputStream(inputStream != null ? inputStream : new ByteArrayInputStream(new byte[0]));
+    }
+    return body;
+  }
+
+  @Override
+  public void close() {
+    try {
+      getInputStream().close();
+    } catch (IOException e) {
+      release(false);
+    }
+  }
+
+  private synchronized void release(boolean reusable) {
+    if (released) {
+      return;
+    }
+    released = true;
+    if (reusable) {
+      client.statistics.releasedConnections.incrementAndGet();
+    } else {
+      connection.disconnect();
+      client.statistics.discardedConnections.incrementAndGet();
+    }
+    client.statistics.activeConnections.decrementAndGet();
+  }
+
+  private class BodyInputStream extends FilterInputStream {
+    private long bytesRead = 0;
+    private boolean ended = false;
+    private boolean closed = false;
+
+    BodyInputStream(@NonNull InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      onRead(b < 0 ? -1 : 1);
+      return b;
+    }
+
+    @Override
+    public int read(@NonNull byte[] b, int off, int len) throws IOException {
+      int n = super.read(b, off, len);
+      onRead(n);
+      return n;
+    }
+
+    private void onRead(int n) {
+      if (n < 0) {
+        ended = true;
+      } else {
+        bytesRead += n;
+        client.statistics.bytesRead.addAndGet(n);
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      synchronized (this) {
+        if (closed) {
+          return;
+        }
+        closed = true;
+      }
+      boolean reusable = ended;
+      try {
+        if (!ended) {
+          long contentLength = connection.getContentLength();
+          if (contentLength >= 0 && contentLength - bytesRead <= DRAIN_MAX_BYTES) {
+            byte[] buffer = new byte[8192];
+            while (read(buffer, 0, buffer.length) >= 0) {
+              // skip the remainder
+            }
+            reusable = true;
+          }
+        }
+        if (reusable) {
+          in.close();
+        }
+      } catch (IOException e) {
+        reusable = false;
+      } finally {
+        release(reusable);
+      }
+    }
+  }
+}
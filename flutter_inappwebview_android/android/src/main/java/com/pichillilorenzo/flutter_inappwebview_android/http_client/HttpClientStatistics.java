@@ -0,0 +1,92 @@
+package com.pichillilorenzo.flutter_inappwebview_android.http_client;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the requests made through the {@link HttpClient}.
+ * A response read to the end and closed gives its connection back to the platform keep-alive pool
+ * ({@code releasedConnections}); a response closed before its end has its connection closed
+ * ({@code discardedConnections}). The slot wait time is the time spent waiting for a free request slot
+ * of the host, the time to headers goes from there to the response headers being received.
+ */
+public class HttpClientStatistics {
+  final AtomicLong requests = new AtomicLong();
+  final AtomicLong failedRequests = new AtomicLong();
+  final AtomicLong activeConnections = new AtomicLong();
+  final AtomicLong releasedConnections = new AtomicLong();
+  final AtomicLong discardedConnections = new AtomicLong();
+  final AtomicLong slotWaitTimeouts = new AtomicLong();
+  final AtomicLong bytesRead = new AtomicLong();
+  final AtomicLong totalSlotWaitTimeNanos = new AtomicLong();
+  final AtomicLong maxSlotWaitTimeNanos = new AtomicLong();
+  final AtomicLong totalTimeToHeadersNanos = new AtomicLong();
+  final AtomicLong maxTimeToHeadersNanos = new AtomicLong();
+
+  void addSlotWaitTime(long nanos) {
+    totalSlotWaitTimeNanos.addAndGet(nanos);
+    updateMax(maxSlotWaitTimeNanos, nanos);
+  }
+
+  void addTimeToHeaders(long nanos) {
+    totalTimeToHeadersNanos.addAndGet(nanos);
+    updateMax(maxTimeToHeadersNanos, nanos);
+  }
+
+  private static void updateMax(AtomicLong max, long value) {
+    long current = max.get();
+    while (value > current && !max.compareAndSet(current, value)) {
+      current = max.get();
+    }
+  }
+
+  /**
+   * Resets the counters, except {@code activeConnections} that reflects the current state.
+   */
+  public void reset() {
+    requests.set(0);
+    failedRequests.set(0);
+    releasedConnections.set(0);
+    discardedConnections.set(0);
+    slotWaitTimeouts.set(0);
+    bytesRead.set(0);
+    totalSlotWaitTimeNanos.set(0);
+    maxSlotWaitTimeNanos.set(0);
+    totalTimeToHeadersNanos.set(0);
+    maxTimeToHeadersNanos.set(0);
+  }
+
+  public Map<String, Object> toMap() {
+    Map<String, Object> map = new HashMap<>();
+    map.put("requests", requests.get());
+    map.put("failedRequests", failedRequests.get());
+    map.put("activeConnections", activeConnections.get());
+    map.put("releasedConnections", releasedConnections.get());
+    map.put("discardedConnections", discardedConnections.get());
+    map.put("slotWaitTimeouts", slotWaitTimeouts.get());
+    map.put("bytesRead", bytesRead.get());
+    map.put("totalSlotWaitTimeNanos", totalSlotWaitTimeNanos.get());
+    map.put("maxSlotWaitTimeNanos", maxSlotWaitTimeNanos.get());
+    map.put("totalTimeToHeadersNanos", totalTimeToHeadersNanos.get());
+    map.put("maxTimeToHeadersNanos", maxTimeToHeadersNanos.get());
+    return map;
+  }
+
+  @Override
+  public String toString() {
+    return "HttpClientStatistics{" +
+            "requests=" + requests +
+            ", failedRequests=" + failedRequests +
+            ", activeConnections=" + activeConnections +
+            ", releasedConnections=" + releasedConnections +
+            ", discardedConnections=" + discardedConnections +
+            ", slotWaitTimeouts=" + slotWaitTimeouts +
+            ", bytesRead=" + bytesRead +
+            ", totalSlotWaitTimeNanos=" + totalSlotWaitTimeNanos +
+            ", maxSlotWaitTimeNanos=" + maxSlotWaitTimeNanos +
+            ", totalTimeToHeadersNanos=" + totalTimeToHeadersNanos +
+            ", maxTimeToHeadersNanos=" + maxTimeToHeadersNanos +
+            '}';
+  }
+}
@@ -36,6 +36,8 @@ import com.pichillilorenzo.flutter_inappwebview_android.types.Disposable;
 import com.pichillilorenzo.flutter_inappwebview_android.types.InAppBrowserMenuItem;
 import com.pichillilorenzo.flutter_inappwebview_android.types.URLRequest;
 import com.pichillilorenzo.flutter_inappwebview_android.types.UserScript;
+import com.pichillilorenzo.flutter_inappwebview_android.webview.ResponseStreamChannel;
+import com.pichillilorenzo.flutter_inappwebview_android.webview.ShouldInterceptRequestChannel;
 import com.pichillilorenzo.flutter_inappwebview_android.webview.WebViewChannelDelegate;
 import com.pichillilorenzo.flutter_inappwebview_android.webview.in_app_webview.InAppWebView;
 import com.pichillilorenzo.flutter_inappwebview_android.webview.in_app_webview.InAppWebViewSettings;
@@ -120,6 +122,9 @@ public class InAppBrowserActivity extends AppCompatActivity implements InAppBrow
     final MethodChannel channel = new MethodChannel(manager.plugin.messenger, METHOD_CHANNEL_NAME_PREFIX + id);
     channelDelegate = new InAppBrowserChannelDelegate(channel);
     webView.channelDelegate = new WebViewChannelDelegate(webView, channel);
+    webView.responseStreamChannel = new ResponseStreamChannel(manager.plugin.messenger, METHOD_CHANNEL_NAME_PREFIX + id);
+    webView.shouldInterceptRequestChannel = new ShouldInterceptRequestChannel(manager.plugin.messenger, METHOD_CHANNEL_NAME_PREFIX + id,
+            webView.responseStreamChannel);
 
     fromActivity = b.getString("fromActivity");
 
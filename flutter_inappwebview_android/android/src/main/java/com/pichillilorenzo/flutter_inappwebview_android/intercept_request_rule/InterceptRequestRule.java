@@ -0,0 +1,134 @@
+package com.pichillilorenzo.flutter_inappwebview_android.intercept_request_rule;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pichillilorenzo.flutter_inappwebview_android.content_blocker.ContentBlockerTriggerResourceType;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * A rule of the {@code interceptRequestRules} setting, compiled once when the setting changes.
+ */
+public class InterceptRequestRule {
+  @NonNull
+  private final Pattern urlFilter;
+  // upper case, empty for any method
+  @NonNull
+  private final Set<String> methods = new HashSet<>();
+  // empty for any resource type
+  @NonNull
+  private final Set<ContentBlockerTriggerResourceType> resourceTypes = new HashSet<>();
+  // lower case header name -> value pattern
+  @NonNull
+  private final Map<String, Pattern> headerFilters = new HashMap<>();
+  @NonNull
+  private final InterceptRequestRuleAction action;
+  @NonNull
+  private final AtomicLong matchCount = new AtomicLong();
+
+  public InterceptRequestRule(@NonNull String urlFilter, @Nullable List<String> methods,
+                              @Nullable List<String> resourceTypes, @Nullable Map<String, String> headerFilters,
+                              @NonNull InterceptRequestRuleAction action) {
+    this.urlFilter = Pattern.compile(urlFilter);
+    if (methods != null) {
+      for (String method : methods) {
+        this.methods.add(method.toUpperCase(Locale.ROOT));
+      }
+    }
+    if (resourceTypes != null) {
+      for (String resourceType : resourceTypes) {
+        this.resourceTypes.add(ContentBlockerTriggerResourceType.fromValue(resourceType));
+      }
+    }
+    if (headerFilters != null) {
+      for (Map.Entry<String, String> headerFilter : headerFilters.entrySet()) {
+        this.headerFilters.put(headerFilter.getKey().toLowerCase(Locale.ROOT), Pattern.compile(headerFilter.getValue()));
+      }
+    }
+    this.action = action;
+  }
+
+  @SuppressWarnings("unchecked")
+  public static InterceptRequestRule fromMap(@NonNull Map<String, Object> map) {
+    String urlFilter = (String) map.get("urlFilter");
+    if (urlFilter == null) {
+      throw new IllegalArgumentException("urlFilter is required");
+    }
+    List<String> methods = (List<String>) map.get("methods");
+    List<String> resourceTypes = (List<String>) map.get("resourceTypes");
+    Map<String, String> headerFilters = (Map<String, String>) map.get("headerFilters");
+    InterceptRequestRuleAction action = InterceptRequestRuleAction.fromMap((Map<String, Object>) map.get("action"));
+    return new InterceptRequestRule(urlFilter, methods, resourceTypes, headerFilters, action);
+  }
+
+  /**
+   * Checks the filters that only need the request itself; {@link #matchesResourceType} is checked separately
+   * because inferring the resource type is more expensive.
+   */
+  public boolean matches(@NonNull String url, @Nullable String method, @Nullable Map<String, String> headers) {
+    if (!methods.isEmpty() && (method == null || !methods.contains(method.toUpperCase(Locale.ROOT)))) {
+      return false;
+    }
+    if (!urlFilter.matcher(url).find()) {
+      return false;
+    }
+    for (Map.Entry<String, Pattern> headerFilter : headerFilters.entrySet()) {
+      String value = getHeader(headers, headerFilter.getKey());
+      if (value == null || !headerFilter.getValue().matcher(value).find()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public boolean hasResourceTypeFilter() {
+    return !resourceTypes.isEmpty();
+  }
+
+  public boolean matchesResourceType(@Nullable ContentBlockerTriggerResourceType resourceType) {
+    return resourceTypes.isEmpty() || resourceTypes.contains(resourceType);
+  }
+
+  @Nullable
+  private static String getHeader(@Nullable Map<String, String> headers, @NonNull String lowerCaseName) {
+    if (headers == null) {
+      return null;
+    }
+    for (Map.Entry<String, String> header : headers.entrySet()) {
+      if (header.getKey() != null && header.getKey().toLowerCase(Locale.ROOT).equals(lowerCaseName)) {
+        return header.getValue();
+      }
+    }
+    return null;
+  }
+
+  @NonNull
+  public InterceptRequestRuleAction getAction() {
+    return action;
+  }
+
+  @NonNull
+  public AtomicLong getMatchCount() {
+    return matchCount;
+  }
+
+  @Override
+  public String toString() {
+    return "InterceptRequestRule{" +
+            "urlFilter=" + urlFilter +
+            ", methods=" + methods +
+            ", resourceTypes=" + resourceTypes +
+            ", headerFilters=" + headerFilters +
+            ", action=" + action +
+            ", matchCount=" + matchCount +
+            '}';
+  }
+}
@@ -0,0 +1,90 @@
+package com.pichillilorenzo.flutter_inappwebview_android.intercept_request_rule;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class InterceptRequestRuleAction {
+  @NonNull
+  private final InterceptRequestRuleActionType type;
+  @Nullable
+  private final String filePath;
+  @Nullable
+  private final String contentType;
+  @Nullable
+  private final String contentEncoding;
+  @Nullable
+  private final Map<String, String> headers;
+  @NonNull
+  private final List<String> removeHeaders;
+
+  public InterceptRequestRuleAction(@NonNull InterceptRequestRuleActionType type, @Nullable String filePath,
+                                    @Nullable String contentType, @Nullable String contentEncoding,
+                                    @Nullable Map<String, String> headers, @Nullable List<String> removeHeaders) {
+    this.type = type;
+    if (type == InterceptRequestRuleActionType.SERVE_FILE && filePath == null) {
+      throw new IllegalArgumentException("filePath is required by the " + type + " action");
+    }
+    this.filePath = filePath;
+    this.contentType = contentType;
+    this.contentEncoding = contentEncoding;
+    this.headers = headers;
+    this.removeHeaders = removeHeaders != null ? removeHeaders : new ArrayList<String>();
+  }
+
+  @SuppressWarnings("unchecked")
+  public static InterceptRequestRuleAction fromMap(@NonNull Map<String, Object> map) {
+    InterceptRequestRuleActionType type = InterceptRequestRuleActionType.fromValue((String) map.get("type"));
+    String filePath = (String) map.get("filePath");
+    String contentType = (String) map.get("contentType");
+    String contentEncoding = (String) map.get("contentEncoding");
+    Map<String, String> headers = (Map<String, String>) map.get("headers");
+    List<String> removeHeaders = (List<String>) map.get("removeHeaders");
+    return new InterceptRequestRuleAction(type, filePath, contentType, contentEncoding, headers, removeHeaders);
+  }
+
+  @NonNull
+  public InterceptRequestRuleActionType getType() {
+    return type;
+  }
+
+  @Nullable
+  public String getFilePath() {
+    return filePath;
+  }
+
+  @Nullable
+  public String getContentType() {
+    return contentType;
+  }
+
+  @Nullable
+  public String getContentEncoding() {
+    return contentEncoding;
+  }
+
+  @Nullable
+  public Map<String, String> getHeaders() {
+    return headers;
+  }
+
+  @NonNull
+  public List<String> getRemoveHeaders() {
+    return removeHeaders;
+  }
+
+  @Override
+  public String toString() {
+    return "InterceptRequestRuleAction{" +
+            "type=" + type +
+            ", filePath='" + filePath + '\'' +
+            ", contentType='" + contentType + '\'' +
+            ", contentEncoding='" + contentEncoding + '\'' +
+            ", headers=" + headers +
+            ", removeHeaders=" + removeHeaders +
+            '}';
+  }
+}
@@ -0,0 +1,31 @@
+package com.pichillilorenzo.flutter_inappwebview_android.intercept_request_rule;
+
+public enum InterceptRequestRuleActionType {
+  FORWARD_TO_DART ("forward-to-dart"),
+  SERVE_FILE ("serve-file"),
+  REWRITE_HEADERS ("rewrite-headers"),
+  PASS_THROUGH ("pass-through");
+
+  private final String value;
+
+  private InterceptRequestRuleActionType(String value) {
+    this.value = value;
+  }
+
+  public boolean equalsValue(String otherValue) {
+    return value.equals(otherValue);
+  }
+
+  public static InterceptRequestRuleActionType fromValue(String value) {
+    for (InterceptRequestRuleActionType type : InterceptRequestRuleActionType.values()) {
+      if (value.equals(type.value))
+        return type;
+    }
+    throw new IllegalArgumentException("No enum constant: " + value);
+  }
+
+  @Override
+  public String toString() {
+    return this.value;
+  }
+}
@@ -0,0 +1,244 @@
+package com.pichillilorenzo.flutter_inappwebview_android.intercept_request_rule;
+
+import android.os.Build;
+import android.util.Log;
+import android.webkit.CookieManager;
+import android.webkit.MimeTypeMap;
+import android.webkit.WebResourceResponse;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pichillilorenzo.flutter_inappwebview_android.Util;
+import com.pichillilorenzo.flutter_inappwebview_android.content_blocker.ContentBlockerTriggerResourceType;
+import com.pichillilorenzo.flutter_inappwebview_android.http_client.HttpClient;
+import com.pichillilorenzo.flutter_inappwebview_android.http_client.HttpClientResponse;
+import com.pichillilorenzo.flutter_inappwebview_android.types.WebResourceRequestExt;
+import com.pichillilorenzo.flutter_inappwebview_android.webview.in_app_webview.InAppWebView;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates the {@code interceptRequestRules} setting in {@code shouldInterceptRequest},
+ * so the requests handled by a rule don't need a round trip to Dart.
+ */
+public class InterceptRequestRuleHandler {
+  protected static final String LOG_TAG = "InterceptRequestRuleHandler";
+
+  // immutable snapshot of the rules, replaced as a whole when the setting changes;
+  // an invalid rule is kept as null so that the match counts stay aligned with the setting
+  @NonNull
+  private volatile List<InterceptRequestRule> rules = Collections.emptyList();
+
+  public void setRules(@Nullable List<Map<String, Object>> ruleMaps) {
+    List<InterceptRequestRule> rules = new ArrayList<>();
+    if (ruleMaps != null) {
+      for (Map<String, Object> ruleMap : ruleMaps) {
+        InterceptRequestRule rule = null;
+        try {
+          rule = InterceptRequestRule.fromMap(ruleMap);
+        } catch (RuntimeException e) {
+          Log.e(LOG_TAG, "Invalid intercept request rule: " + ruleMap, e);
+        }
+        rules.add(rule);
+      }
+    }
+    this.rules = Collections.unmodifiableList(rules);
+  }
+
+  public boolean isEmpty() {
+    return rules.isEmpty();
+  }
+
+  /**
+   * @return the first rule matching the request, or {@code null}. The match is counted.
+   */
+  @Nullable
+  public InterceptRequestRule findRule(@NonNull InAppWebView webView, @NonNull WebResourceRequestExt request) {
+    String url = request.getUrl();
+    String method = request.getMethod();
+    Map<String, String> headers = request.getHeaders();
+    ContentBlockerTriggerResourceType resourceType = null;
+    boolean resourceTypeResolved = false;
+    for (InterceptRequestRule rule : rules) {
+      if (rule == null || !rule.matches(url, method, headers)) {
+        continue;
+      }
+      if (rule.hasResourceTypeFilter()) {
+        if (!resourceTypeResolved) {
+          resourceType = webView.contentBlockerHandler.getResourceTypeFromUrl(request, false);
+          resourceTypeResolved = true;
+        }
+        if (!rule.matchesResourceType(resourceType)) {
+          continue;
+        }
+      }
+      rule.getMatchCount().incrementAndGet();
+      return rule;
+    }
+    return null;
+  }
+
+  /**
+   * Runs the {@link InterceptRequestRuleActionType#SERVE_FILE} and {@link InterceptRequestRuleActionType#REWRITE_HEADERS} actions.
+   *
+   * @return the response, or {@code null} to let the WebView load the resource normally.
+   */
+  @Nullable
+  public WebResourceResponse getResponse(@NonNull InAppWebView webView, @NonNull WebResourceRequestExt request,
+                                         @NonNull InterceptRequestRuleAction action) {
+    switch (action.getType()) {
+      case SERVE_FILE:
+        return serveFile(webView, action);
+      case REWRITE_HEADERS:
+        return rewriteHeaders(request, action);
+      default:
+        return null;
+    }
+  }
+
+  @Nullable
+  private WebResourceResponse serveFile(@NonNull InAppWebView webView, @NonNull InterceptRequestRuleAction action) {
+    String filePath = action.getFilePath();
+    if (filePath == null) {
+      return null;
+    }
+    InputStream inputStream;
+    try {
+      if (filePath.startsWith("/")) {
+        inputStream = new FileInputStream(new File(filePath));
+      } else if (webView.plugin != null) {
+        inputStream = Util.getFileAsset(webView.plugin, filePath);
+      } else {
+        return null;
+      }
+    } catch (IOException e) {
+      Log.e(LOG_TAG, "", e);
+      return null;
+    }
+
+    String contentType = action.getContentType();
+    if (contentType == null) {
+      String extension = MimeTypeMap.getFileExtensionFromUrl(filePath);
+      contentType = extension != null ? MimeTypeMap.getSingleton().getMimeTypeFromExtension(extension) : null;
+      if (contentType == null) {
+        contentType = "application/octet-stream";
+      }
+    }
+    String contentEncoding = action.getContentEncoding() != null ? action.getContentEncoding() : "utf-8";
+    Map<String, String> headers = action.getHeaders();
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP && headers != null) {
+      return new WebResourceResponse(contentType, contentEncoding, 200, "OK", headers, inputStream);
+    }
+    return new WebResourceResponse(contentType, contentEncoding, inputStream);
+  }
+
+  @Nullable
+  private WebResourceResponse rewriteHeaders(@NonNull WebResourceRequestExt request,
+                                             @NonNull InterceptRequestRuleAction action) {
+    String method = request.getMethod() != null ? request.getMethod() : "GET";
+    // the request body is not available in shouldInterceptRequest
+    if (!"GET".equalsIgnoreCase(method) && !"HEAD".equalsIgnoreCase(method)) {
+      return null;
+    }
+    String url = request.getUrl();
+
+    Map<String, String> headers = new HashMap<>();
+    if (request.getHeaders() != null) {
+      headers.putAll(request.getHeaders());
+    }
+    boolean removeCookie = false;
+    for (String name : action.getRemoveHeaders()) {
+      removeHeader(headers, name);
+      removeCookie |= "cookie".equalsIgnoreCase(name);
+    }
+    if (action.getHeaders() != null) {
+      for (Map.Entry<String, String> header : action.getHeaders().entrySet()) {
+        removeHeader(headers, header.getKey());
+        headers.put(header.getKey(), header.getValue());
+      }
+    }
+    // requests made by the WebView carry its cookies, but they are not part of the intercepted headers
+    if (!removeCookie && !containsHeader(headers, "cookie")) {
+      String cookie = CookieManager.getInstance().getCookie(url);
+      if (cookie != null) {
+        headers.put("Cookie", cookie);
+      }
+    }
+
+    // a followed redirect would be served under the original URL, breaking relative URLs and the origin
+    // of the document, and WebResourceResponse can't carry a redirect status code
+    HttpClientResponse response = HttpClient.getInstance().execute(url, method.toUpperCase(), headers, false);
+    if (response == null) {
+      return null;
+    }
+    try {
+      int statusCode = response.getStatusCode();
+      if (statusCode >= 300 && statusCode <= 399) {
+        // let the WebView load the resource and follow the redirect itself
+        response.close();
+        return null;
+      }
+      List<String> setCookies = response.getHeaderValues("Set-Cookie");
+      if (setCookies != null) {
+        // the WebView doesn't store the cookies of an intercepted response
+        for (String cookie : setCookies) {
+          CookieManager.getInstance().setCookie(url, cookie);
+        }
+      }
+
+      // the WebView closes the stream when it is done with it, which releases the connection
+      InputStream inputStream = response.getInputStream();
+      String reasonPhrase = response.getReasonPhrase();
+      // WebResourceResponse doesn't accept an empty reason phrase
+      if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP && reasonPhrase != null && !reasonPhrase.isEmpty()) {
+        return new WebResourceResponse(response.getContentType(), response.getContentEncoding(),
+                statusCode, reasonPhrase, response.getHeaders(), inputStream);
+      }
+      return new WebResourceResponse(response.getContentType(), response.getContentEncoding(), inputStream);
+    } catch (IOException e) {
+      Log.e(LOG_TAG, "", e);
+      response.close();
+    }
+    return null;
+  }
+
+  private static void removeHeader(@NonNull Map<String, String> headers, @NonNull String name) {
+    Iterator<String> iterator = headers.keySet().iterator();
+    while (iterator.hasNext()) {
+      if (name.equalsIgnoreCase(iterator.next())) {
+        iterator.remove();
+      }
+    }
+  }
+
+  private static boolean containsHeader(@NonNull Map<String, String> headers, @NonNull String name) {
+    for (String key : headers.keySet()) {
+      if (name.equalsIgnoreCase(key)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return the number of requests matched by each rule, in the order of the setting.
+   */
+  @NonNull
+  public List<Long> getMatchCounts() {
+    List<Long> matchCounts = new ArrayList<>();
+    for (InterceptRequestRule rule : rules) {
+      matchCounts.add(rule != null ? rule.getMatchCount().get() : 0L);
+    }
+    return matchCounts;
+  }
+}
@@ -5,6 +5,7 @@ import com.pichillilorenzo.flutter_inappwebview_android.types.UserScriptInjectio
 
 public class ConsoleLogJS {
   public static final String CONSOLE_LOG_JS_PLUGIN_SCRIPT_GROUP_NAME = "IN_APP_WEBVIEW_CONSOLE_LOG_JS_PLUGIN_SCRIPT";
+  public static final String FLAG_VARIABLE_FOR_CONSOLE_LOG_JS_SOURCE = JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "._useOnConsoleMessage";
   public static final PluginScript CONSOLE_LOG_JS_PLUGIN_SCRIPT = new PluginScript(
           ConsoleLogJS.CONSOLE_LOG_JS_PLUGIN_SCRIPT_GROUP_NAME,
           ConsoleLogJS.CONSOLE_LOG_JS_SOURCE,
@@ -14,7 +15,8 @@ public class ConsoleLogJS {
           null
   );
 
-  public static final String CONSOLE_LOG_JS_SOURCE = "(function(console) {" +
+  public static final String CONSOLE_LOG_JS_SOURCE = "window." + FLAG_VARIABLE_FOR_CONSOLE_LOG_JS_SOURCE + " = true;" +
+          "(function(console) {" +
           "   function _buildMessage(args) {" +
           "     var message = '';" +
           "     for (var i in args) {" +
@@ -34,7 +36,11 @@ public class ConsoleLogJS {
           "   for (var k in oldLogs) {" +
           "       (function(oldLog) {" +
           "           console[oldLog] = function() {" +
-          "               oldLogs[oldLog].call(console, _buildMessage(arguments));" +
+          "               if (" + FLAG_VARIABLE_FOR_CONSOLE_LOG_JS_SOURCE + " == null || " + FLAG_VARIABLE_FOR_CONSOLE_LOG_JS_SOURCE + " == true) {" +
+          "                   oldLogs[oldLog].call(console, _buildMessage(arguments));" +
+          "               } else {" +
+          "                   oldLogs[oldLog].apply(console, arguments);" +
+          "               }" +
           "           }" +
           "       })(k);" +
           "   }" +
@@ -0,0 +1,125 @@
+package com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js;
+
+import com.pichillilorenzo.flutter_inappwebview_android.types.PluginScript;
+import com.pichillilorenzo.flutter_inappwebview_android.types.UserScriptInjectionTime;
+
+public class ContentBlockerJS {
+  public static final String CSS_DISPLAY_NONE_JS_PLUGIN_SCRIPT_GROUP_NAME = "IN_APP_WEBVIEW_CONTENT_BLOCKER_CSS_DISPLAY_NONE_JS_PLUGIN_SCRIPT";
+  public static final String CSS_DISPLAY_NONE_STYLE_ID = JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "-css-display-none-style";
+
+  /**
+   * @param cssDisplayNoneRules JSON array of the css-display-none rules,
+   *                            as generated by {@link com.pichillilorenzo.flutter_inappwebview_android.content_blocker.ContentBlockerHandler}.
+   */
+  public static PluginScript createCssDisplayNonePluginScript(String cssDisplayNoneRules) {
+    return new PluginScript(
+            ContentBlockerJS.CSS_DISPLAY_NONE_JS_PLUGIN_SCRIPT_GROUP_NAME,
+            CSS_DISPLAY_NONE_JS_SOURCE.replace(PluginScriptsUtil.VAR_PLACEHOLDER_VALUE, cssDisplayNoneRules),
+            UserScriptInjectionTime.AT_DOCUMENT_START,
+            null,
+            false,
+            null
+    );
+  }
+
+  // builds a single stylesheet with the selectors of the rules matching the current page.
+  // The trigger conditions are checked as for the request of the page document: its resource type is "document",
+  // and it is first-party if it has the same origin as the top document.
+  // Running it again replaces the stylesheet, so it is also used to update a page already loaded.
+  public static final String CSS_DISPLAY_NONE_JS_SOURCE = "(function(rules) {" +
+          "  function matchesDomain(domains, host) {" +
+          "    for (var i = 0; i < domains.length; i++) {" +
+          "      var domain = domains[i];" +
+          "      if (domain === host) {" +
+          "        return true;" +
+          "      }" +
+          "      if (domain.indexOf('*') === 0) {" +
+          "        var suffix = domain.replace(/\\*/g, '');" +
+          "        if (host.length >= suffix.length && host.lastIndexOf(suffix) === host.length - suffix.length) {" +
+          "          return true;" +
+          "        }" +
+          "      }" +
+          "    }" +
+          "    return false;" +
+          "  }" +
+          "  function startsWithAny(prefixes, url) {" +
+          "    for (var i = 0; i < prefixes.length; i++) {" +
+          "      if (url.indexOf(prefixes[i]) === 0) {" +
+          "        return true;" +
+          "      }" +
+          "    }" +
+          "    return false;" +
+          "  }" +
+          "  function getTopOrigin() {" +
+          "    try {" +
+          "      return window.top.location.origin;" +
+          "    } catch (e) {}" +
+          // the top document of a cross-origin iframe is not accessible, but its origin is listed last
+          "    var ancestorOrigins = window.location.ancestorOrigins;" +
+          "    return ancestorOrigins != null && ancestorOrigins.length > 0 ? ancestorOrigins[ancestorOrigins.length - 1] : null;" +
+          "  }" +
+          "  function getCss() {" +
+          "    var host = window.location.hostname;" +
+          "    var url = window.location.href;" +
+          "    var topUrl = url;" +
+          "    try {" +
+          "      topUrl = window.top.location.href;" +
+          "    } catch (e) {}" +
+          "    var topOrigin = getTopOrigin();" +
+          "    var topHost = null;" +
+          "    try {" +
+          "      topHost = topOrigin != null ? new URL(topOrigin).hostname : null;" +
+          "    } catch (e) {}" +
+          "    var css = '';" +
+          "    for (var i = 0; i < rules.length; i++) {" +
+          "      var rule = rules[i];" +
+          "      if (rule.resourceType.length > 0 && rule.resourceType.indexOf('document') < 0) continue;" +
+          "      if (rule.loadType.indexOf('first-party') >= 0 && topHost && topOrigin !== window.location.origin) continue;" +
+          "      if (rule.loadType.indexOf('third-party') >= 0 && topHost && topHost === host) continue;" +
+          "      if (rule.ifDomain.length > 0 && !matchesDomain(rule.ifDomain, host)) continue;" +
+          "      if (rule.unlessDomain.length > 0 && matchesDomain(rule.unlessDomain, host)) continue;" +
+          "      if (rule.ifTopUrl.length > 0 && !startsWithAny(rule.ifTopUrl, topUrl)) continue;" +
+          "      if (rule.unlessTopUrl.length > 0 && startsWithAny(rule.unlessTopUrl, topUrl)) continue;" +
+          "      if (rule.urlFilter !== '.*') {" +
+          "        try {" +
+          "          if (!new RegExp('^(?:' + rule.urlFilter + ')$', rule.urlFilterIsCaseSensitive ? '' : 'i').test(url)) continue;" +
+          "        } catch (e) {" +
+          "          continue;" +
+          "        }" +
+          "      }" +
+          // one CSS rule for each selector, so that an invalid selector doesn't invalidate the others
+          "      for (var j = 0; j < rule.selectors.length; j++) {" +
+          "        css += rule.selectors[j] + ' { display: none !important; }\\n';" +
+          "      }" +
+          "    }" +
+          "    return css;" +
+          "  }" +
+          "  function inject() {" +
+          "    var css = getCss();" +
+          "    var style = document.getElementById('" + CSS_DISPLAY_NONE_STYLE_ID + "');" +
+          "    if (css.length === 0) {" +
+          "      if (style != null && style.parentNode != null) {" +
+          "        style.parentNode.removeChild(style);" +
+          "      }" +
+          "      return;" +
+          "    }" +
+          "    if (style == null) {" +
+          "      style = document.createElement('style');" +
+          "      style.id = '" + CSS_DISPLAY_NONE_STYLE_ID + "';" +
+          "      (document.head || document.documentElement).appendChild(style);" +
+          "    }" +
+          "    style.textContent = css;" +
+          "  }" +
+          "  if (document.documentElement != null) {" +
+          "    inject();" +
+          "  } else {" +
+          "    var observer = new MutationObserver(function() {" +
+          "      if (document.documentElement != null) {" +
+          "        observer.disconnect();" +
+          "        inject();" +
+          "      }" +
+          "    });" +
+          "    observer.observe(document, {childList: true});" +
+          "  }" +
+          "})(" + PluginScriptsUtil.VAR_PLACEHOLDER_VALUE + ");";
+}
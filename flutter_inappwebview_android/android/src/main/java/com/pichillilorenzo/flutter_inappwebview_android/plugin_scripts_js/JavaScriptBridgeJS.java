@@ -214,6 +214,87 @@ public class JavaScriptBridgeJS {
           "    }" +
           "};";
 
+  public static final String JAVASCRIPT_BINARY_BRIDGE_VAR_NAME = "window." + JAVASCRIPT_BRIDGE_NAME + "_binary";
+
+  // Keep it in sync with JavaScriptBinaryBridge.java
+  public static final String JAVASCRIPT_BINARY_BRIDGE_JS_SOURCE =
+          "window." + JAVASCRIPT_BRIDGE_NAME + ".callBinaryHandler = function(handlerName, data) {" +
+          "  var bridge = window." + JAVASCRIPT_BRIDGE_NAME + ";" +
+          "  var bytes = null;" +
+          "  if (data instanceof ArrayBuffer) {" +
+          "    bytes = new Uint8Array(data);" +
+          "  } else if (ArrayBuffer.isView(data)) {" +
+          "    bytes = new Uint8Array(data.buffer, data.byteOffset, data.byteLength);" +
+          "  }" +
+          "  if (bytes == null) {" +
+          "    return Promise.reject(new TypeError('data must be an ArrayBuffer or an ArrayBufferView'));" +
+          "  }" +
+          "  var _callHandlerID = setTimeout(function(){});" +
+          "  var promise = new Promise(function(resolve, reject) {" +
+          "    bridge[_callHandlerID] = {resolve: resolve, reject: reject};" +
+          "  });" +
+          "  var binaryBridge = " + JAVASCRIPT_BINARY_BRIDGE_VAR_NAME + ";" +
+          "  if (binaryBridge != null && window.TextEncoder != null) {" +
+          "    if (binaryBridge.onmessage == null) {" +
+          "      binaryBridge.onmessage = function(event) {" +
+          "        if (!(event.data instanceof ArrayBuffer) || event.data.byteLength < 5) {" +
+          "          return;" +
+          "        }" +
+          "        var view = new DataView(event.data);" +
+          "        bridge._settleBinaryHandler(view.getInt32(0), view.getUint8(4), event.data.slice(5));" +
+          "      };" +
+          "    }" +
+          "    var name = new TextEncoder().encode(handlerName);" +
+          "    var message = new Uint8Array(8 + name.length + bytes.length);" +
+          "    var header = new DataView(message.buffer);" +
+          "    header.setInt32(0, _callHandlerID);" +
+          "    header.setInt32(4, name.length);" +
+          "    message.set(name, 8);" +
+          "    message.set(bytes, 8 + name.length);" +
+          "    binaryBridge.postMessage(message.buffer);" +
+          "  } else {" +
+          "    var binary = '';" +
+          "    for (var i = 0; i < bytes.length; i += 0x8000) {" +
+          "      binary += String.fromCharCode.apply(null, bytes.subarray(i, i + 0x8000));" +
+          "    }" +
+          "    bridge._callBinaryHandler(handlerName, _callHandlerID, btoa(binary));" +
+          "  }" +
+          "  return promise;" +
+          "};" +
+          // status: 0 binary, 1 JSON, 2 error; the payload is an ArrayBuffer,
+          // or a string (base64 encoded if binary) when the web message listener isn't available
+          "window." + JAVASCRIPT_BRIDGE_NAME + "._settleBinaryHandler = function(_callHandlerID, status, payload) {" +
+          "  var bridge = window." + JAVASCRIPT_BRIDGE_NAME + ";" +
+          "  var callback = bridge[_callHandlerID];" +
+          "  if (callback == null) {" +
+          "    return;" +
+          "  }" +
+          "  delete bridge[_callHandlerID];" +
+          "  if (typeof payload === 'string') {" +
+          "    if (status === 0) {" +
+          "      var binary = atob(payload);" +
+          "      var bytes = new Uint8Array(binary.length);" +
+          "      for (var i = 0; i < binary.length; i++) {" +
+          "        bytes[i] = binary.charCodeAt(i);" +
+          "      }" +
+          "      payload = bytes.buffer;" +
+          "    }" +
+          "  } else if (status !== 0) {" +
+          "    payload = new TextDecoder().decode(payload);" +
+          "  }" +
+          "  try {" +
+          "    if (status === 0) {" +
+          "      callback.resolve(payload);" +
+          "    } else if (status === 1) {" +
+          "      callback.resolve(JSON.parse(payload));" +
+          "    } else {" +
+          "      callback.reject(new Error(payload));" +
+          "    }" +
+          "  } catch (error) {" +
+          "    callback.reject(error);" +
+          "  }" +
+          "};";
+
   public static final String JAVASCRIPT_BRIDGE_JS_SOURCE = "if (window." + JAVASCRIPT_BRIDGE_NAME + " != null) {" +
           "  window." + JAVASCRIPT_BRIDGE_NAME + ".callHandler = function() {" +
           "    var _callHandlerID = setTimeout(function(){});" +
@@ -222,6 +303,7 @@ public class JavaScriptBridgeJS {
           "      window." + JAVASCRIPT_BRIDGE_NAME + "[_callHandlerID] = {resolve: resolve, reject: reject};" +
           "    });" +
           "  };" +
+          "  " + JAVASCRIPT_BINARY_BRIDGE_JS_SOURCE +
           "}"+
           "if (window.top != null && window.top !== window && window." + JAVASCRIPT_BRIDGE_NAME + " == null) {" +
           "  window." + JAVASCRIPT_BRIDGE_NAME + " = {};" +
@@ -0,0 +1,71 @@
+package com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js;
+
+import com.pichillilorenzo.flutter_inappwebview_android.types.PluginScript;
+import com.pichillilorenzo.flutter_inappwebview_android.types.UserScriptInjectionTime;
+
+public class JavaScriptHandlerBatchingJS {
+  public static final String JAVASCRIPT_HANDLER_BATCHING_JS_PLUGIN_SCRIPT_GROUP_NAME = "IN_APP_WEBVIEW_JAVASCRIPT_HANDLER_BATCHING_JS_PLUGIN_SCRIPT";
+  public static final String FLAG_VARIABLE_FOR_JAVASCRIPT_HANDLER_BATCHING_JS_SOURCE = JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "._batchJavaScriptHandlerCalls";
+  public static final PluginScript JAVASCRIPT_HANDLER_BATCHING_JS_PLUGIN_SCRIPT = new PluginScript(
+          JavaScriptHandlerBatchingJS.JAVASCRIPT_HANDLER_BATCHING_JS_PLUGIN_SCRIPT_GROUP_NAME,
+          JavaScriptHandlerBatchingJS.JAVASCRIPT_HANDLER_BATCHING_JS_SOURCE,
+          UserScriptInjectionTime.AT_DOCUMENT_START,
+          null,
+          true,
+          null
+  );
+
+  // Queues the callHandler calls and sends them with a single _callHandlers call per animation frame.
+  // The arguments are serialized when the call is made, so that errors are still thrown synchronously.
+  // Handlers used internally by the plugin, that are waited for by native code, are never queued.
+  public static final String JAVASCRIPT_HANDLER_BATCHING_JS_SOURCE = "window." + FLAG_VARIABLE_FOR_JAVASCRIPT_HANDLER_BATCHING_JS_SOURCE + " = true;" +
+          "(function(bridge) {" +
+          "  if (bridge == null || bridge._callHandlers == null || bridge._batchedCallHandler != null) {" +
+          "    return;" +
+          "  }" +
+          "  var callHandler = bridge.callHandler;" +
+          "  var unbatchedHandlers = {'callAsyncJavaScript': true, 'evaluateJavaScriptWithContentWorld': true, 'onPrintRequest': true};" +
+          "  var queue = [];" +
+          "  var scheduled = false;" +
+          "  function flush() {" +
+          "    scheduled = false;" +
+          "    if (queue.length === 0) {" +
+          "      return;" +
+          "    }" +
+          "    var calls = queue;" +
+          "    queue = [];" +
+          "    bridge._callHandlers('[' + calls.join(',') + ']', calls.length);" +
+          "  }" +
+          "  function schedule() {" +
+          "    if (scheduled) {" +
+          "      return;" +
+          "    }" +
+          "    scheduled = true;" +
+          "    if (document.hidden || window.requestAnimationFrame == null) {" +
+          "      setTimeout(flush, 0);" +
+          "    } else {" +
+          "      window.requestAnimationFrame(flush);" +
+          "    }" +
+          "  }" +
+          "  document.addEventListener('visibilitychange', function() {" +
+          "    if (document.hidden) {" +
+          // animation frames are not fired while the page is hidden
+          "      flush();" +
+          "    }" +
+          "  });" +
+          "  bridge._batchedCallHandler = function() {" +
+          "    var handlerName = arguments[0];" +
+          "    if (bridge._batchJavaScriptHandlerCalls === false || unbatchedHandlers[handlerName] === true) {" +
+          "      return callHandler.apply(bridge, arguments);" +
+          "    }" +
+          "    var args = JSON.stringify(Array.prototype.slice.call(arguments, 1));" +
+          "    var _callHandlerID = setTimeout(function(){});" +
+          "    queue.push('[' + JSON.stringify(handlerName) + ',' + _callHandlerID + ',' + args + ']');" +
+          "    schedule();" +
+          "    return new Promise(function(resolve, reject) {" +
+          "      bridge[_callHandlerID] = {resolve: resolve, reject: reject};" +
+          "    });" +
+          "  };" +
+          "  bridge.callHandler = bridge._batchedCallHandler;" +
+          "})(window." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + ");";
+}
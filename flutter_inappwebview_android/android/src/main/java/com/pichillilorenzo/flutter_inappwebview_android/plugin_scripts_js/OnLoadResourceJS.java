@@ -15,21 +15,77 @@ public class OnLoadResourceJS {
           null
   );
 
+  public static final int MAX_BATCH_SIZE = 50;
+  public static final int BATCH_INTERVAL_MS = 1000;
+
+  // Buffers the PerformanceResourceTiming entries and sends them with a single _onLoadResources call
+  // when MAX_BATCH_SIZE entries are buffered, BATCH_INTERVAL_MS after the first buffered entry,
+  // when the page has been loaded or when it's hidden.
+  // The pageId identifies the document, so that native code can tell the entries of a new page apart,
+  // and the timeOrigin, that the startTime of the entries is relative to, lets it align the entries of the frames.
   public static final String ON_LOAD_RESOURCE_JS_SOURCE = "window." + FLAG_VARIABLE_FOR_ON_LOAD_RESOURCE_JS_SOURCE + " = true;" +
           "(function() {" +
-          "   var observer = new PerformanceObserver(function(list) {" +
-          "       list.getEntries().forEach(function(entry) {" +
-          "         if (" + FLAG_VARIABLE_FOR_ON_LOAD_RESOURCE_JS_SOURCE + " == null || " + FLAG_VARIABLE_FOR_ON_LOAD_RESOURCE_JS_SOURCE + " == true) {" +
-          "           var resource = {" +
-          "             'url': entry.name," +
-          "             'initiatorType': entry.initiatorType," +
-          "             'startTime': entry.startTime," +
-          "             'duration': entry.duration" +
-          "           };" +
-          "           window." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + ".callHandler('onLoadResource', resource);" +
-          "         }" +
+          "   var bridge = window." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + ";" +
+          "   if (window.PerformanceObserver == null || bridge == null || bridge._onLoadResources == null) {" +
+          "       return;" +
+          "   }" +
+          "   var pageId = Date.now().toString(36) + Math.random().toString(36).slice(2);" +
+          "   var isMainFrame = window.top === window;" +
+          "   var timeOrigin = performance.timeOrigin || (performance.timing != null ? performance.timing.navigationStart : 0);" +
+          "   var fields = ['initiatorType', 'startTime', 'duration', 'nextHopProtocol', 'workerStart', 'redirectStart', 'redirectEnd'," +
+          "       'fetchStart', 'domainLookupStart', 'domainLookupEnd', 'connectStart', 'connectEnd', 'secureConnectionStart'," +
+          "       'requestStart', 'responseStart', 'responseEnd', 'transferSize', 'encodedBodySize', 'decodedBodySize'];" +
+          "   var entries = [];" +
+          "   var timeout = null;" +
+          "   function flush() {" +
+          "       if (timeout != null) {" +
+          "           clearTimeout(timeout);" +
+          "           timeout = null;" +
+          "       }" +
+          "       if (entries.length === 0) {" +
+          "           return;" +
+          "       }" +
+          "       var batch = {'pageId': pageId, 'isMainFrame': isMainFrame, 'timeOrigin': timeOrigin, 'entries': entries};" +
+          "       entries = [];" +
+          "       bridge._onLoadResources(JSON.stringify(batch));" +
+          "   }" +
+          "   function collect(performanceEntries) {" +
+          "       if (" + FLAG_VARIABLE_FOR_ON_LOAD_RESOURCE_JS_SOURCE + " === false) {" +
+          "           return;" +
+          "       }" +
+          "       performanceEntries.forEach(function(entry) {" +
+          "           var resource = {'url': entry.name};" +
+          "           for (var i = 0; i < fields.length; i++) {" +
+          "               if (entry[fields[i]] != null) {" +
+          "                   resource[fields[i]] = entry[fields[i]];" +
+          "               }" +
+          "           }" +
+          "           entries.push(resource);" +
           "       });" +
+          "       if (entries.length >= " + MAX_BATCH_SIZE + ") {" +
+          "           flush();" +
+          "       } else if (timeout == null && entries.length > 0) {" +
+          "           timeout = setTimeout(flush, " + BATCH_INTERVAL_MS + ");" +
+          "       }" +
+          "   }" +
+          "   var observer = new PerformanceObserver(function(list) {" +
+          "       collect(list.getEntries());" +
           "   });" +
           "   observer.observe({entryTypes: ['resource']});" +
+          "   window.addEventListener('load', function() {" +
+          "       setTimeout(function() {" +
+          // the entries not delivered to the observer yet
+          "           if (observer.takeRecords != null) {" +
+          "               collect(observer.takeRecords());" +
+          "           }" +
+          "           flush();" +
+          "       }, 0);" +
+          "   });" +
+          "   window.addEventListener('pagehide', flush);" +
+          "   document.addEventListener('visibilitychange', function() {" +
+          "       if (document.hidden) {" +
+          "           flush();" +
+          "       }" +
+          "   });" +
           "})();";
 }
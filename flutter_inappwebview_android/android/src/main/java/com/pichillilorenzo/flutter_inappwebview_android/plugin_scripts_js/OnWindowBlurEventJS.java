@@ -5,6 +5,7 @@ import com.pichillilorenzo.flutter_inappwebview_android.types.UserScriptInjectio
 
 public class OnWindowBlurEventJS {
   public static final String ON_WINDOW_BLUR_EVENT_JS_PLUGIN_SCRIPT_GROUP_NAME = "IN_APP_WEBVIEW_ON_WINDOW_BLUR_EVENT_JS_PLUGIN_SCRIPT";
+  public static final String FLAG_VARIABLE_FOR_ON_WINDOW_BLUR_EVENT_JS_SOURCE = JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "._useOnWindowBlur";
   public static final PluginScript ON_WINDOW_BLUR_EVENT_JS_PLUGIN_SCRIPT = new PluginScript(
           OnWindowBlurEventJS.ON_WINDOW_BLUR_EVENT_JS_PLUGIN_SCRIPT_GROUP_NAME,
           OnWindowBlurEventJS.ON_WINDOW_BLUR_EVENT_JS_SOURCE,
@@ -14,9 +15,12 @@ public class OnWindowBlurEventJS {
           null
   );
 
-  public static final String ON_WINDOW_BLUR_EVENT_JS_SOURCE = "(function(){" +
+  public static final String ON_WINDOW_BLUR_EVENT_JS_SOURCE = "window." + FLAG_VARIABLE_FOR_ON_WINDOW_BLUR_EVENT_JS_SOURCE + " = true;" +
+          "(function(){" +
           "  window.addEventListener('blur', function(e) {" +
-          "    window." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + ".callHandler('onWindowBlur');" +
+          "    if (" + FLAG_VARIABLE_FOR_ON_WINDOW_BLUR_EVENT_JS_SOURCE + " == null || " + FLAG_VARIABLE_FOR_ON_WINDOW_BLUR_EVENT_JS_SOURCE + " == true) {" +
+          "      window." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + ".callHandler('onWindowBlur');" +
+          "    }" +
           "  });" +
           "})();";
 }
@@ -0,0 +1,114 @@
+package com.pichillilorenzo.flutter_inappwebview_android.screenshot;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Pool of {@link Bitmap.Config#ARGB_8888} bitmaps, keyed by size, so that periodic screenshots
+ * of the same size don't allocate a new bitmap each time.
+ * When the pool holds more than its maximum size, the bitmaps of the least recently used size are recycled.
+ */
+public class BitmapPool {
+  public static final long DEFAULT_MAX_SIZE_BYTES = 32 * 1024 * 1024;
+
+  private static BitmapPool instance;
+
+  private final long maxSizeBytes;
+  private long sizeBytes = 0;
+  private final LinkedHashMap<Long, ArrayDeque<Bitmap>> bitmaps = new LinkedHashMap<>(16, 0.75f, true);
+
+  public BitmapPool(long maxSizeBytes) {
+    this.maxSizeBytes = maxSizeBytes;
+  }
+
+  @NonNull
+  public static synchronized BitmapPool getInstance() {
+    if (instance == null) {
+      instance = new BitmapPool(DEFAULT_MAX_SIZE_BYTES);
+    }
+    return instance;
+  }
+
+  private static long getKey(int width, int height) {
+    return ((long) width << 32) | (height & 0xffffffffL);
+  }
+
+  /**
+   * @return a transparent bitmap of the given size, reused from the pool if available.
+   */
+  @NonNull
+  public Bitmap acquire(int width, int height) {
+    Bitmap bitmap = null;
+    synchronized (this) {
+      ArrayDeque<Bitmap> sameSizeBitmaps = bitmaps.get(getKey(width, height));
+      if (sameSizeBitmaps != null) {
+        bitmap = sameSizeBitmaps.poll();
+        if (sameSizeBitmaps.isEmpty()) {
+          bitmaps.remove(getKey(width, height));
+        }
+      }
+      if (bitmap != null) {
+        sizeBytes -= bitmap.getByteCount();
+      }
+    }
+    if (bitmap == null) {
+      return Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+    }
+    bitmap.eraseColor(Color.TRANSPARENT);
+    return bitmap;
+  }
+
+  /**
+   * Gives back a bitmap returned by {@link #acquire}. It must not be used anymore by the caller.
+   */
+  public void release(@NonNull Bitmap bitmap) {
+    if (bitmap.isRecycled()) {
+      return;
+    }
+    long byteCount = bitmap.getByteCount();
+    if (!bitmap.isMutable() || bitmap.getConfig() != Bitmap.Config.ARGB_8888 || byteCount > maxSizeBytes) {
+      bitmap.recycle();
+      return;
+    }
+    synchronized (this) {
+      long key = getKey(bitmap.getWidth(), bitmap.getHeight());
+      ArrayDeque<Bitmap> sameSizeBitmaps = bitmaps.get(key);
+      if (sameSizeBitmaps == null) {
+        sameSizeBitmaps = new ArrayDeque<>();
+        bitmaps.put(key, sameSizeBitmaps);
+      }
+      sameSizeBitmaps.push(bitmap);
+      sizeBytes += byteCount;
+      trimToSize(maxSizeBytes);
+    }
+  }
+
+  private synchronized void trimToSize(long size) {
+    Iterator<Map.Entry<Long, ArrayDeque<Bitmap>>> iterator = bitmaps.entrySet().iterator();
+    while (sizeBytes > size && iterator.hasNext()) {
+      ArrayDeque<Bitmap> sameSizeBitmaps = iterator.next().getValue();
+      while (sizeBytes > size && !sameSizeBitmaps.isEmpty()) {
+        Bitmap bitmap = sameSizeBitmaps.pollLast();
+        sizeBytes -= bitmap.getByteCount();
+        bitmap.recycle();
+      }
+      if (sameSizeBitmaps.isEmpty()) {
+        iterator.remove();
+      }
+    }
+  }
+
+  /**
+   * Recycles all the pooled bitmaps.
+   */
+  public synchronized void clear() {
+    trimToSize(0);
+  }
+}
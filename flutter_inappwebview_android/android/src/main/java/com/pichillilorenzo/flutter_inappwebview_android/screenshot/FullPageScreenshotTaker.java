@@ -0,0 +1,199 @@
+package com.pichillilorenzo.flutter_inappwebview_android.screenshot;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pichillilorenzo.flutter_inappwebview_android.webview.WebViewChannelDelegate;
+import com.pichillilorenzo.flutter_inappwebview_android.webview.in_app_webview.InAppWebView;
+
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Takes a screenshot of the whole document of a WebView, not only of its visible viewport.
+ * <p>
+ * The document is drawn in horizontal tiles, each one encoded as a separate image and sent to Dart as soon as it's ready,
+ * so that the memory used doesn't depend on the length of the page: at most {@link #MAX_PENDING_TILES} tiles
+ * are being drawn, encoded or waiting for Dart to consume them at the same time.
+ * The parts of the document outside the viewport are drawn only if {@link android.webkit.WebView#enableSlowWholeDocumentDraw()}
+ * has been called before creating the WebView.
+ */
+public class FullPageScreenshotTaker {
+  protected static final String LOG_TAG = "FullPageScreenshotTaker";
+  public static final int DEFAULT_TILE_HEIGHT = 1024;
+  public static final int MAX_PENDING_TILES = 2;
+
+  @Nullable
+  private volatile InAppWebView webView;
+  private final int id;
+  private final float scale;
+  private final int imageWidth;
+  private final int imageHeight;
+  private final int tileHeight;
+  @NonNull
+  private final Bitmap.CompressFormat compressFormat;
+  private final int quality;
+
+  private int nextTileIndex = 0;
+  private int nextTileY = 0;
+  private int pendingTiles = 0;
+  private boolean finished = false;
+
+  /**
+   * Must be called on the WebView thread.
+   *
+   * @param tileHeight height of the tiles in the final image, in pixels, {@code null} for {@link #DEFAULT_TILE_HEIGHT}.
+   */
+  public FullPageScreenshotTaker(@NonNull InAppWebView webView, int id, @Nullable Map<String, Object> screenshotConfiguration,
+                                 @Nullable Integer tileHeight, float pixelDensity) {
+    this.webView = webView;
+    this.id = id;
+    int documentWidth = webView.getDocumentWidth();
+    int documentHeight = webView.getDocumentHeight();
+
+    Bitmap.CompressFormat compressFormat = Bitmap.CompressFormat.PNG;
+    int quality = 100;
+    Double snapshotWidth = null;
+    if (screenshotConfiguration != null) {
+      try {
+        compressFormat = Bitmap.CompressFormat.valueOf((String) screenshotConfiguration.get("compressFormat"));
+      } catch (IllegalArgumentException e) {
+        Log.e(LOG_TAG, "", e);
+      }
+      quality = (Integer) screenshotConfiguration.get("quality");
+      snapshotWidth = (Double) screenshotConfiguration.get("snapshotWidth");
+    }
+    this.compressFormat = compressFormat;
+    this.quality = quality;
+
+    this.imageWidth = snapshotWidth != null ? (int) Math.floor(snapshotWidth * pixelDensity + 0.5) : documentWidth;
+    this.scale = documentWidth > 0 ? (float) imageWidth / documentWidth : 1;
+    this.imageHeight = (int) Math.floor(documentHeight * scale + 0.5);
+    this.tileHeight = tileHeight != null && tileHeight > 0 ? tileHeight : DEFAULT_TILE_HEIGHT;
+  }
+
+  /**
+   * Must be called on the WebView thread.
+   *
+   * @return {@code false} if the document is empty.
+   */
+  public boolean start() {
+    if (imageWidth <= 0 || imageHeight <= 0) {
+      return false;
+    }
+    drawNextTiles();
+    return true;
+  }
+
+  private void drawNextTiles() {
+    while (webView != null && !finished && pendingTiles < MAX_PENDING_TILES && nextTileY < imageHeight) {
+      final int index = nextTileIndex++;
+      final int y = nextTileY;
+      final int height = Math.min(tileHeight, imageHeight - y);
+      nextTileY += height;
+      pendingTiles++;
+
+      final Bitmap bitmap = BitmapPool.getInstance().acquire(imageWidth, height);
+      try {
+        Canvas canvas = new Canvas(bitmap);
+        canvas.scale(scale, scale);
+        canvas.translate(0, -y / scale);
+        webView.draw(canvas);
+      } catch (RuntimeException e) {
+        Log.e(LOG_TAG, "", e);
+        BitmapPool.getInstance().release(bitmap);
+        end(e.getMessage() != null ? e.getMessage() : e.toString());
+        return;
+      }
+
+      ScreenshotTaker.executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          byte[] data = null;
+          try {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            bitmap.compress(compressFormat, quality, byteArrayOutputStream);
+            data = byteArrayOutputStream.toByteArray();
+          } catch (RuntimeException e) {
+            Log.e(LOG_TAG, "", e);
+          } finally {
+            BitmapPool.getInstance().release(bitmap);
+          }
+          final byte[] finalData = data;
+          InAppWebView webView = FullPageScreenshotTaker.this.webView;
+          if (webView == null) {
+            return;
+          }
+          webView.mainLooperHandler.post(new Runnable() {
+            @Override
+            public void run() {
+              onTileEncoded(index, y, height, finalData);
+            }
+          });
+        }
+      });
+    }
+  }
+
+  private void onTileEncoded(int index, int y, int height, @Nullable byte[] data) {
+    if (finished) {
+      return;
+    }
+    if (data == null) {
+      end("Unable to encode the tile " + index);
+      return;
+    }
+    if (webView == null || webView.channelDelegate == null) {
+      finished = true;
+      webView = null;
+      return;
+    }
+    Map<String, Object> tile = new HashMap<>();
+    tile.put("index", index);
+    tile.put("y", y);
+    tile.put("width", imageWidth);
+    tile.put("height", height);
+    tile.put("imageWidth", imageWidth);
+    tile.put("imageHeight", imageHeight);
+    tile.put("data", data);
+    webView.channelDelegate.onFullPageScreenshotTile(id, tile, new WebViewChannelDelegate.FullPageScreenshotTileCallback() {
+      @Override
+      public void defaultBehaviour(@Nullable Boolean accepted) {
+        pendingTiles--;
+        if (accepted == null || !accepted) {
+          // the stream has been canceled by Dart
+          finished = true;
+          webView = null;
+          return;
+        }
+        if (nextTileY >= imageHeight && pendingTiles == 0) {
+          end(null);
+        } else {
+          drawNextTiles();
+        }
+      }
+
+      @Override
+      public void error(String errorCode, @Nullable String errorMessage, @Nullable Object errorDetails) {
+        Log.e(LOG_TAG, errorCode + ", " + ((errorMessage != null) ? errorMessage : ""));
+        defaultBehaviour(null);
+      }
+    });
+  }
+
+  private void end(@Nullable String error) {
+    if (finished) {
+      return;
+    }
+    finished = true;
+    if (webView != null && webView.channelDelegate != null) {
+      webView.channelDelegate.onFullPageScreenshotEnd(id, error);
+    }
+    webView = null;
+  }
+}
@@ -0,0 +1,184 @@
+package com.pichillilorenzo.flutter_inappwebview_android.screenshot;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Takes the screenshots of a WebView.
+ * <p>
+ * Only the requested rect is drawn, already scaled to the requested width, into a bitmap taken from the {@link BitmapPool},
+ * so drawing is the only step done on the WebView thread. Encoding the bitmap and sending it to Dart happen on a background thread.
+ */
+public class ScreenshotTaker {
+  protected static final String LOG_TAG = "ScreenshotTaker";
+
+  static final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+    @Override
+    public Thread newThread(@NonNull Runnable runnable) {
+      Thread thread = new Thread(runnable, LOG_TAG);
+      thread.setPriority(Thread.MIN_PRIORITY);
+      return thread;
+    }
+  });
+  private static final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+  /**
+   * Takes a screenshot encoded as described by {@code screenshotConfiguration}.
+   * Must be called on the WebView thread.
+   */
+  public static void takeScreenshot(@NonNull View view, @Nullable Map<String, Object> screenshotConfiguration,
+                                    float pixelDensity, @NonNull final MethodChannel.Result result) {
+    final Bitmap bitmap = drawOrNull(view, screenshotConfiguration, pixelDensity);
+    if (bitmap == null) {
+      result.success(null);
+      return;
+    }
+
+    Bitmap.CompressFormat compressFormat = Bitmap.CompressFormat.PNG;
+    int quality = 100;
+    if (screenshotConfiguration != null) {
+      try {
+        compressFormat = Bitmap.CompressFormat.valueOf((String) screenshotConfiguration.get("compressFormat"));
+      } catch (IllegalArgumentException e) {
+        Log.e(LOG_TAG, "", e);
+      }
+      quality = (Integer) screenshotConfiguration.get("quality");
+    }
+
+    final Bitmap.CompressFormat finalCompressFormat = compressFormat;
+    final int finalQuality = quality;
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        byte[] data = null;
+        try {
+          ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+          bitmap.compress(finalCompressFormat, finalQuality, byteArrayOutputStream);
+          data = byteArrayOutputStream.toByteArray();
+        } catch (RuntimeException e) {
+          Log.e(LOG_TAG, "", e);
+        } finally {
+          BitmapPool.getInstance().release(bitmap);
+        }
+        success(result, data);
+      }
+    });
+  }
+
+  /**
+   * Takes a screenshot as raw RGBA pixels, with premultiplied alpha.
+   * Must be called on the WebView thread.
+   */
+  public static void takeRawScreenshot(@NonNull View view, @Nullable Map<String, Object> screenshotConfiguration,
+                                       float pixelDensity, @NonNull final MethodChannel.Result result) {
+    final Bitmap bitmap = drawOrNull(view, screenshotConfiguration, pixelDensity);
+    if (bitmap == null) {
+      result.success(null);
+      return;
+    }
+
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        Map<String, Object> rawScreenshot = null;
+        try {
+          ByteBuffer pixels = ByteBuffer.allocate(bitmap.getByteCount());
+          bitmap.copyPixelsToBuffer(pixels);
+          rawScreenshot = new HashMap<>();
+          rawScreenshot.put("width", bitmap.getWidth());
+          rawScreenshot.put("height", bitmap.getHeight());
+          rawScreenshot.put("data", pixels.array());
+        } catch (RuntimeException e) {
+          Log.e(LOG_TAG, "", e);
+        } finally {
+          BitmapPool.getInstance().release(bitmap);
+        }
+        success(result, rawScreenshot);
+      }
+    });
+  }
+
+  /**
+   * Draws the {@code rect} of {@code screenshotConfiguration}, or the whole view, scaled to its {@code snapshotWidth}.
+   *
+   * @return a bitmap of the {@link BitmapPool}, or {@code null} if the rect is empty.
+   */
+  @Nullable
+  public static Bitmap draw(@NonNull View view, @Nullable Map<String, Object> screenshotConfiguration, float pixelDensity) {
+    int viewWidth = view.getMeasuredWidth();
+    int viewHeight = view.getMeasuredHeight();
+    int rectX = 0;
+    int rectY = 0;
+    int rectWidth = viewWidth;
+    int rectHeight = viewHeight;
+    Double snapshotWidth = null;
+
+    if (screenshotConfiguration != null) {
+      Map<String, Double> rect = (Map<String, Double>) screenshotConfiguration.get("rect");
+      if (rect != null) {
+        rectX = Math.max(0, Math.min(viewWidth, (int) Math.floor(rect.get("x") * pixelDensity + 0.5)));
+        rectY = Math.max(0, Math.min(viewHeight, (int) Math.floor(rect.get("y") * pixelDensity + 0.5)));
+        rectWidth = Math.min(viewWidth - rectX, (int) Math.floor(rect.get("width") * pixelDensity + 0.5));
+        rectHeight = Math.min(viewHeight - rectY, (int) Math.floor(rect.get("height") * pixelDensity + 0.5));
+      }
+      snapshotWidth = (Double) screenshotConfiguration.get("snapshotWidth");
+    }
+    if (rectWidth <= 0 || rectHeight <= 0) {
+      return null;
+    }
+
+    int dstWidth = rectWidth;
+    int dstHeight = rectHeight;
+    if (snapshotWidth != null) {
+      dstWidth = (int) Math.floor(snapshotWidth * pixelDensity + 0.5);
+      float ratioBitmap = (float) rectWidth / (float) rectHeight;
+      dstHeight = (int) ((float) dstWidth / ratioBitmap);
+      if (dstWidth <= 0 || dstHeight <= 0) {
+        return null;
+      }
+    }
+
+    Bitmap bitmap = BitmapPool.getInstance().acquire(dstWidth, dstHeight);
+    Canvas canvas = new Canvas(bitmap);
+    canvas.scale((float) dstWidth / rectWidth, (float) dstHeight / rectHeight);
+    canvas.translate(-view.getScrollX() - rectX, -view.getScrollY() - rectY);
+    view.draw(canvas);
+    return bitmap;
+  }
+
+  @Nullable
+  private static Bitmap drawOrNull(@NonNull View view, @Nullable Map<String, Object> screenshotConfiguration, float pixelDensity) {
+    try {
+      return draw(view, screenshotConfiguration, pixelDensity);
+    } catch (IllegalArgumentException e) {
+      Log.e(LOG_TAG, "", e);
+      return null;
+    }
+  }
+
+  private static void success(@NonNull final MethodChannel.Result result, @Nullable final Object value) {
+    mainHandler.post(new Runnable() {
+      @Override
+      public void run() {
+        result.success(value);
+      }
+    });
+  }
+}
@@ -13,6 +13,8 @@ public class CustomSchemeResponse {
   private String contentType;
   @NonNull
   private String contentEncoding;
+  @Nullable
+  private Integer dataStreamId;
 
   public CustomSchemeResponse(@NonNull byte[] data, @NonNull String contentType, @NonNull String contentEncoding) {
     this.data = data;
@@ -28,7 +30,9 @@ public class CustomSchemeResponse {
     byte[] data = (byte[]) map.get("data");
     String contentType = (String) map.get("contentType");
     String contentEncoding = (String) map.get("contentEncoding");
-    return new CustomSchemeResponse(data, contentType, contentEncoding);
+    CustomSchemeResponse response = new CustomSchemeResponse(data, contentType, contentEncoding);
+    response.setDataStreamId((Integer) map.get("dataStreamId"));
+    return response;
   }
 
   @NonNull
@@ -58,6 +62,19 @@ public class CustomSchemeResponse {
     this.contentEncoding = contentEncoding;
   }
 
+  /**
+   * @return the id of the {@link com.pichillilorenzo.flutter_inappwebview_android.webview.ResponseStreamChannel} stream
+   * that provides the data, instead of {@link #getData()}.
+   */
+  @Nullable
+  public Integer getDataStreamId() {
+    return dataStreamId;
+  }
+
+  public void setDataStreamId(@Nullable Integer dataStreamId) {
+    this.dataStreamId = dataStreamId;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -67,6 +84,8 @@ public class CustomSchemeResponse {
 
     if (!Arrays.equals(data, that.data)) return false;
     if (!contentType.equals(that.contentType)) return false;
+    if (dataStreamId != null ? !dataStreamId.equals(that.dataStreamId) : that.dataStreamId != null)
+      return false;
     return contentEncoding.equals(that.contentEncoding);
   }
 
@@ -75,6 +94,7 @@ public class CustomSchemeResponse {
     int result = Arrays.hashCode(data);
     result = 31 * result + contentType.hashCode();
     result = 31 * result + contentEncoding.hashCode();
+    result = 31 * result + (dataStreamId != null ? dataStreamId.hashCode() : 0);
     return result;
   }
 
@@ -84,6 +104,7 @@ public class CustomSchemeResponse {
             "data=" + Arrays.toString(data) +
             ", contentType='" + contentType + '\'' +
             ", contentEncoding='" + contentEncoding + '\'' +
+            ", dataStreamId=" + dataStreamId +
             '}';
   }
 }
@@ -1,6 +1,7 @@
 package com.pichillilorenzo.flutter_inappwebview_android.types;
 
 import android.annotation.SuppressLint;
+import android.os.SystemClock;
 import android.text.TextUtils;
 import android.webkit.WebView;
 
@@ -25,10 +26,24 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * Keeps the user scripts and the plugin scripts of a WebView.
+ * <p>
+ * The JavaScript code injected on each page, built from the scripts of each injection time and content world,
+ * is assembled once and memoized: it is assembled again only after a script or a content world
+ * has been added or removed, that is when {@link #getVersion} changes.
+ */
 @SuppressLint("RestrictedApi")
 public class UserContentController implements Disposable {
   protected static final String LOG_TAG = "UserContentController";
 
+  private static final String BUNDLE_PLUGIN_SCRIPTS_PREFIX = "pluginScripts_";
+  private static final String BUNDLE_USER_ONLY_SCRIPTS_PREFIX = "userOnlyScripts_";
+  private static final String BUNDLE_CONTENT_WORLDS_CREATOR = "contentWorldsCreator";
+  private static final String BUNDLE_DOCUMENT_START = "documentStart";
+  private static final String BUNDLE_WRAPPED_DOCUMENT_START = "wrappedDocumentStart";
+  private static final String BUNDLE_WRAPPED_DOCUMENT_END = "wrappedDocumentEnd";
+
   @NonNull
   private final Set<ContentWorld> contentWorlds = new HashSet<ContentWorld>() {{
     add(ContentWorld.PAGE);
@@ -38,6 +53,8 @@ public class UserContentController implements Disposable {
 
   @Nullable
   private ScriptHandler contentWorldsCreatorScript;
+  @Nullable
+  private String contentWorldsCreatorScriptSource;
 
   @NonNull
   private final Map<UserScriptInjectionTime, LinkedHashSet<UserScript>> userOnlyScripts = new HashMap<UserScriptInjectionTime, LinkedHashSet<UserScript>>() {{
@@ -50,6 +67,17 @@ public class UserContentController implements Disposable {
     put(UserScriptInjectionTime.AT_DOCUMENT_END, new LinkedHashSet<PluginScript>());
   }};
 
+  // memoized code, by bundle name, valid for the current version
+  @NonNull
+  private final Map<String, String> bundles = new HashMap<>();
+  // assembly time, in nanoseconds, of the memoized code, by bundle name
+  @NonNull
+  private final Map<String, Long> bundleAssemblyTimes = new HashMap<>();
+  private long version = 0;
+  private long bundleHits = 0;
+  private long bundleAssemblies = 0;
+  private long totalBundleAssemblyTime = 0;
+
   @Nullable
   public WebView webView;
 
@@ -57,14 +85,90 @@ public class UserContentController implements Disposable {
     this.webView = webView;
   }
 
+  /**
+   * Invalidates the memoized code, must be called after any change to the scripts or the content worlds.
+   */
+  private void invalidateBundles() {
+    version++;
+    bundles.clear();
+    bundleAssemblyTimes.clear();
+  }
+
+  /**
+   * @return the version of the scripts, incremented each time a script or a content world is added or removed.
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  @Nullable
+  private String getBundle(@NonNull String name) {
+    String bundle = bundles.get(name);
+    if (bundle != null) {
+      bundleHits++;
+    }
+    return bundle;
+  }
+
+  @NonNull
+  private String putBundle(@NonNull String name, @NonNull String bundle, long assemblyStartTime) {
+    long assemblyTime = SystemClock.elapsedRealtimeNanos() - assemblyStartTime;
+    bundles.put(name, bundle);
+    bundleAssemblyTimes.put(name, assemblyTime);
+    bundleAssemblies++;
+    totalBundleAssemblyTime += assemblyTime;
+    return bundle;
+  }
+
+  /**
+   * @return the version, the size, in characters, and the assembly time, in milliseconds, of each memoized bundle,
+   * how many times the bundles have been reused and assembled,
+   * and the size, in characters, of the registered plugin scripts of each group.
+   */
+  @NonNull
+  public Map<String, Object> getBundleMetrics() {
+    Map<String, Object> bundleSizesMap = new HashMap<>();
+    Map<String, Object> bundleAssemblyTimesMap = new HashMap<>();
+    for (Map.Entry<String, String> bundle : bundles.entrySet()) {
+      bundleSizesMap.put(bundle.getKey(), bundle.getValue().length());
+      Long assemblyTime = bundleAssemblyTimes.get(bundle.getKey());
+      bundleAssemblyTimesMap.put(bundle.getKey(), assemblyTime != null ? assemblyTime / 1000000.0 : 0.0);
+    }
+    Map<String, Integer> pluginScriptSizesMap = new HashMap<>();
+    for (PluginScript pluginScript : getPluginScriptAsList()) {
+      String groupName = pluginScript.getGroupName();
+      Integer size = pluginScriptSizesMap.get(groupName);
+      pluginScriptSizesMap.put(groupName, (size != null ? size : 0) + pluginScript.getSource().length());
+    }
+    Map<String, Object> metrics = new HashMap<>();
+    metrics.put("version", version);
+    metrics.put("bundleSizes", bundleSizesMap);
+    metrics.put("bundleAssemblyTimes", bundleAssemblyTimesMap);
+    metrics.put("pluginScriptSizes", pluginScriptSizesMap);
+    metrics.put("hits", bundleHits);
+    metrics.put("assemblies", bundleAssemblies);
+    metrics.put("totalAssemblyTime", totalBundleAssemblyTime / 1000000.0);
+    return metrics;
+  }
+
   public String generateWrappedCodeForDocumentStart() {
-    return Util.replaceAll(
+    String bundle = getBundle(BUNDLE_WRAPPED_DOCUMENT_START);
+    if (bundle != null) {
+      return bundle;
+    }
+    long assemblyStartTime = SystemClock.elapsedRealtimeNanos();
+    return putBundle(BUNDLE_WRAPPED_DOCUMENT_START, Util.replaceAll(
             DOCUMENT_READY_WRAPPER_JS_SOURCE,
             PluginScriptsUtil.VAR_PLACEHOLDER_VALUE,
-            generateCodeForDocumentStart());
+            generateCodeForDocumentStart()), assemblyStartTime);
   }
 
   public String generateWrappedCodeForDocumentEnd() {
+    String bundle = getBundle(BUNDLE_WRAPPED_DOCUMENT_END);
+    if (bundle != null) {
+      return bundle;
+    }
+    long assemblyStartTime = SystemClock.elapsedRealtimeNanos();
     UserScriptInjectionTime injectionTime = UserScriptInjectionTime.AT_DOCUMENT_END;
     String js = "";
     if (!WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
@@ -74,23 +178,33 @@ public class UserContentController implements Disposable {
     js += generatePluginScriptsCodeAt(injectionTime);
     js += generateUserOnlyScriptsCodeAt(injectionTime);
     js = USER_SCRIPTS_AT_DOCUMENT_END_WRAPPER_JS_SOURCE.replace(PluginScriptsUtil.VAR_PLACEHOLDER_VALUE, js);
-    return js;
+    return putBundle(BUNDLE_WRAPPED_DOCUMENT_END, js, assemblyStartTime);
   }
 
   public String generateCodeForDocumentStart() {
+    String bundle = getBundle(BUNDLE_DOCUMENT_START);
+    if (bundle != null) {
+      return bundle;
+    }
+    long assemblyStartTime = SystemClock.elapsedRealtimeNanos();
     UserScriptInjectionTime injectionTime = UserScriptInjectionTime.AT_DOCUMENT_START;
     String js = "";
     js += generatePluginScriptsCodeAt(injectionTime);
     js += generateContentWorldsCreatorCode();
     js += generateUserOnlyScriptsCodeAt(injectionTime);
     js = USER_SCRIPTS_AT_DOCUMENT_START_WRAPPER_JS_SOURCE.replace(PluginScriptsUtil.VAR_PLACEHOLDER_VALUE, js);
-    return js;
+    return putBundle(BUNDLE_DOCUMENT_START, js, assemblyStartTime);
   }
 
   public String generateContentWorldsCreatorCode() {
     if (this.contentWorlds.size() == 1) {
       return "";
     }
+    String bundle = getBundle(BUNDLE_CONTENT_WORLDS_CREATOR);
+    if (bundle != null) {
+      return bundle;
+    }
+    long assemblyStartTime = SystemClock.elapsedRealtimeNanos();
 
     StringBuilder source = new StringBuilder();
     LinkedHashSet<PluginScript> pluginScriptsRequired = this.getPluginScriptsRequiredInAllContentWorlds();
@@ -105,13 +219,18 @@ public class UserContentController implements Disposable {
       contentWorldsNames.add("'" + escapeContentWorldName(contentWorld.getName()) + "'");
     }
 
-    return CONTENT_WORLDS_GENERATOR_JS_SOURCE
+    return putBundle(BUNDLE_CONTENT_WORLDS_CREATOR, CONTENT_WORLDS_GENERATOR_JS_SOURCE
             .replace(PluginScriptsUtil.VAR_CONTENT_WORLD_NAME_ARRAY, TextUtils.join(", ", contentWorldsNames))
-            .replace(PluginScriptsUtil.VAR_JSON_SOURCE_ENCODED, escapeCode(source.toString()));
-
+            .replace(PluginScriptsUtil.VAR_JSON_SOURCE_ENCODED, escapeCode(source.toString())), assemblyStartTime);
   }
 
   public String generatePluginScriptsCodeAt(UserScriptInjectionTime injectionTime) {
+    String bundleName = BUNDLE_PLUGIN_SCRIPTS_PREFIX + injectionTime.name();
+    String bundle = getBundle(bundleName);
+    if (bundle != null) {
+      return bundle;
+    }
+    long assemblyStartTime = SystemClock.elapsedRealtimeNanos();
     StringBuilder js = new StringBuilder();
     LinkedHashSet<PluginScript> scripts = this.getPluginScriptsAt(injectionTime);
     for (PluginScript script : scripts) {
@@ -119,10 +238,16 @@ public class UserContentController implements Disposable {
       source = wrapSourceCodeInContentWorld(script.getContentWorld(), source);
       js.append(source);
     }
-    return js.toString();
+    return putBundle(bundleName, js.toString(), assemblyStartTime);
   }
 
   public String generateUserOnlyScriptsCodeAt(UserScriptInjectionTime injectionTime) {
+    String bundleName = BUNDLE_USER_ONLY_SCRIPTS_PREFIX + injectionTime.name();
+    String bundle = getBundle(bundleName);
+    if (bundle != null) {
+      return bundle;
+    }
+    long assemblyStartTime = SystemClock.elapsedRealtimeNanos();
     StringBuilder js = new StringBuilder();
     LinkedHashSet<UserScript> scripts = this.getUserOnlyScriptsAt(injectionTime);
     for (UserScript script : scripts) {
@@ -130,7 +255,7 @@ public class UserContentController implements Disposable {
       source = wrapSourceCodeInContentWorld(script.getContentWorld(), source);
       js.append(source);
     }
-    return js.toString();
+    return putBundle(bundleName, js.toString(), assemblyStartTime);
   }
 
   public String generateCodeForScriptEvaluation(String source, @Nullable ContentWorld contentWorld) {
@@ -138,6 +263,7 @@ public class UserContentController implements Disposable {
       StringBuilder sourceWrapped = new StringBuilder();
       if (!contentWorlds.contains(contentWorld)) {
         contentWorlds.add(contentWorld);
+        invalidateBundles();
 
         StringBuilder pluginScriptsSource = new StringBuilder();
         LinkedHashSet<PluginScript> pluginScriptsRequired = this.getPluginScriptsRequiredInAllContentWorlds();
@@ -180,9 +306,14 @@ public class UserContentController implements Disposable {
   private void updateContentWorldsCreatorScript() {
     String source = generateContentWorldsCreatorCode();
     if (WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
+      if (contentWorldsCreatorScript != null && source.equals(contentWorldsCreatorScriptSource)) {
+        return;
+      }
       if (contentWorldsCreatorScript != null) {
         contentWorldsCreatorScript.remove();
+        contentWorldsCreatorScript = null;
       }
+      contentWorldsCreatorScriptSource = source;
       if (!source.isEmpty() && webView != null) {
         contentWorldsCreatorScript = WebViewCompat.addDocumentStartJavaScript(
                 webView,
@@ -200,6 +331,7 @@ public class UserContentController implements Disposable {
     if (contentWorld != null) {
       contentWorlds.add(contentWorld);
     }
+    invalidateBundles();
     this.updateContentWorldsCreatorScript();
     if (webView != null && userOnlyScript.getInjectionTime() == UserScriptInjectionTime.AT_DOCUMENT_START
             && WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
@@ -220,6 +352,7 @@ public class UserContentController implements Disposable {
   }
 
   public boolean removeUserOnlyScript(UserScript userOnlyScript) {
+    invalidateBundles();
     if (WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
       ScriptHandler scriptHandler = this.scriptHandlerMap.get(userOnlyScript);
       if (scriptHandler != null) {
@@ -237,6 +370,7 @@ public class UserContentController implements Disposable {
   }
 
   public void removeAllUserOnlyScripts() {
+    invalidateBundles();
     if (WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
       for (UserScript userOnlyScript : this.userOnlyScripts.get(UserScriptInjectionTime.AT_DOCUMENT_START)) {
         ScriptHandler scriptHandler = this.scriptHandlerMap.get(userOnlyScript);
@@ -270,6 +404,7 @@ public class UserContentController implements Disposable {
     if (contentWorld != null) {
       contentWorlds.add(contentWorld);
     }
+    invalidateBundles();
     this.updateContentWorldsCreatorScript();
     if (webView != null && pluginScript.getInjectionTime() == UserScriptInjectionTime.AT_DOCUMENT_START
             && WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
@@ -290,6 +425,7 @@ public class UserContentController implements Disposable {
   }
 
   public boolean removePluginScript(PluginScript pluginScript) {
+    invalidateBundles();
     if (WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
       ScriptHandler scriptHandler = this.scriptHandlerMap.get(pluginScript);
       if (scriptHandler != null) {
@@ -302,6 +438,7 @@ public class UserContentController implements Disposable {
   }
 
   public void removeAllPluginScripts() {
+    invalidateBundles();
     if (WebViewFeature.isFeatureSupported(WebViewFeature.DOCUMENT_START_SCRIPT)) {
       for (PluginScript pluginScript : this.pluginScripts.get(UserScriptInjectionTime.AT_DOCUMENT_START)) {
         ScriptHandler scriptHandler = this.scriptHandlerMap.get(pluginScript);
@@ -334,19 +471,26 @@ public class UserContentController implements Disposable {
   }
 
   public void resetContentWorlds() {
-    this.contentWorlds.clear();
-    this.contentWorlds.add(ContentWorld.PAGE);
+    Set<ContentWorld> contentWorlds = new HashSet<>();
+    contentWorlds.add(ContentWorld.PAGE);
 
     LinkedHashSet<PluginScript> pluginScripts = this.getPluginScriptAsList();
     for (PluginScript pluginScript : pluginScripts) {
       ContentWorld contentWorld = pluginScript.getContentWorld();
-      this.contentWorlds.add(contentWorld);
+      contentWorlds.add(contentWorld);
     }
 
     LinkedHashSet<UserScript> userOnlyScripts = this.getUserOnlyScriptAsList();
     for (UserScript userOnlyScript : userOnlyScripts) {
       ContentWorld contentWorld = userOnlyScript.getContentWorld();
-      this.contentWorlds.add(contentWorld);
+      contentWorlds.add(contentWorld);
+    }
+
+    // called on each page start, the memoized code is kept if no content world has been removed
+    if (!contentWorlds.equals(this.contentWorlds)) {
+      this.contentWorlds.clear();
+      this.contentWorlds.addAll(contentWorlds);
+      invalidateBundles();
     }
   }
 
@@ -25,6 +25,8 @@ public class WebResourceResponseExt {
   private Map<String, String> headers;
   @Nullable
   private byte[] data;
+  @Nullable
+  private Integer dataStreamId;
 
   public WebResourceResponseExt(@Nullable String contentType, @Nullable String contentEncoding, @Nullable Integer statusCode,
                                 @Nullable String reasonPhrase, @Nullable Map<String, String> headers, @Nullable byte[] data) {
@@ -65,7 +67,9 @@ public class WebResourceResponseExt {
     String reasonPhrase = (String) map.get("reasonPhrase");
     Map<String, String> headers = (Map<String, String>) map.get("headers");
     byte[] data = (byte[]) map.get("data");
-    return new WebResourceResponseExt(contentType, contentEncoding, statusCode, reasonPhrase, headers, data);
+    WebResourceResponseExt response = new WebResourceResponseExt(contentType, contentEncoding, statusCode, reasonPhrase, headers, data);
+    response.setDataStreamId((Integer) map.get("dataStreamId"));
+    return response;
   }
 
   public Map<String, Object> toMap() {
@@ -76,6 +80,7 @@ public class WebResourceResponseExt {
     webResourceResponseMap.put("reasonPhrase", reasonPhrase);
     webResourceResponseMap.put("headers", headers);
     webResourceResponseMap.put("data", data);
+    webResourceResponseMap.put("dataStreamId", dataStreamId);
     return webResourceResponseMap;
   }
 
@@ -133,6 +138,19 @@ public class WebResourceResponseExt {
     this.data = data;
   }
 
+  /**
+   * @return the id of the {@link com.pichillilorenzo.flutter_inappwebview_android.webview.ResponseStreamChannel} stream
+   * that provides the data, instead of {@link #getData()}.
+   */
+  @Nullable
+  public Integer getDataStreamId() {
+    return dataStreamId;
+  }
+
+  public void setDataStreamId(@Nullable Integer dataStreamId) {
+    this.dataStreamId = dataStreamId;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) return true;
@@ -149,6 +167,8 @@ public class WebResourceResponseExt {
     if (reasonPhrase != null ? !reasonPhrase.equals(that.reasonPhrase) : that.reasonPhrase != null)
       return false;
     if (headers != null ? !headers.equals(that.headers) : that.headers != null) return false;
+    if (dataStreamId != null ? !dataStreamId.equals(that.dataStreamId) : that.dataStreamId != null)
+      return false;
     return Arrays.equals(data, that.data);
   }
 
@@ -160,6 +180,7 @@ public class WebResourceResponseExt {
     result = 31 * result + (reasonPhrase != null ? reasonPhrase.hashCode() : 0);
     result = 31 * result + (headers != null ? headers.hashCode() : 0);
     result = 31 * result + Arrays.hashCode(data);
+    result = 31 * result + (dataStreamId != null ? dataStreamId.hashCode() : 0);
     return result;
   }
 
@@ -172,6 +193,7 @@ public class WebResourceResponseExt {
             ", reasonPhrase='" + reasonPhrase + '\'' +
             ", headers=" + headers +
             ", data=" + Arrays.toString(data) +
+            ", dataStreamId=" + dataStreamId +
             '}';
   }
 }
@@ -59,6 +59,12 @@ public class FlutterWebViewFactory extends PlatformViewFactory {
       }
     }
 
+    WebViewMemoryManager webViewMemoryManager = inAppWebViewManager != null ? inAppWebViewManager.webViewMemoryManager : null;
+    if (keepAliveId != null && flutterWebView == null && webViewMemoryManager != null) {
+      // the WebView has been frozen under memory pressure
+      flutterWebView = webViewMemoryManager.restore(keepAliveId, context);
+    }
+
     boolean shouldMakeInitialLoad = flutterWebView == null;
     if (flutterWebView == null) {
       if (keepAliveId != null) {
@@ -69,6 +75,9 @@ public class FlutterWebViewFactory extends PlatformViewFactory {
 
     if (keepAliveId != null && inAppWebViewManager != null) {
       inAppWebViewManager.keepAliveWebViews.put(keepAliveId, flutterWebView);
+      if (webViewMemoryManager != null) {
+        webViewMemoryManager.track(keepAliveId, flutterWebView);
+      }
     }
 
     if (shouldMakeInitialLoad) {
@@ -51,6 +51,8 @@ public interface InAppWebViewInterface {
   void stopLoading();
   boolean isLoading();
   void takeScreenshot(Map<String, Object> screenshotConfiguration, MethodChannel.Result result);
+  void takeRawScreenshot(Map<String, Object> screenshotConfiguration, MethodChannel.Result result);
+  void takeFullPageScreenshot(int id, Map<String, Object> screenshotConfiguration, Integer tileHeight, MethodChannel.Result result);
   void setSettings(InAppWebViewSettings newSettings, HashMap<String, Object> newSettingsMap);
   Map<String, Object> getCustomSettings();
   HashMap<String, Object> getCopyBackForwardList();
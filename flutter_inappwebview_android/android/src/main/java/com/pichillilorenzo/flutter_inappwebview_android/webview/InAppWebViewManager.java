@@ -16,8 +16,11 @@ import androidx.webkit.WebViewCompat;
 import androidx.webkit.WebViewFeature;
 
 import com.pichillilorenzo.flutter_inappwebview_android.InAppWebViewFlutterPlugin;
+import com.pichillilorenzo.flutter_inappwebview_android.favicon.FaviconCache;
+import com.pichillilorenzo.flutter_inappwebview_android.http_client.HttpClient;
 import com.pichillilorenzo.flutter_inappwebview_android.types.ChannelDelegateImpl;
 import com.pichillilorenzo.flutter_inappwebview_android.webview.in_app_webview.FlutterWebView;
+import com.pichillilorenzo.flutter_inappwebview_android.webview.in_app_webview.InAppWebViewPool;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -41,9 +44,18 @@ public class InAppWebViewManager extends ChannelDelegateImpl {
   public final Map<Integer, Message> windowWebViewMessages = new HashMap<>();
   public int windowAutoincrementId = 0;
 
+  @Nullable
+  public InAppWebViewPool webViewPool;
+  @Nullable
+  public WebViewMemoryManager webViewMemoryManager;
+
   public InAppWebViewManager(final InAppWebViewFlutterPlugin plugin) {
     super(new MethodChannel(plugin.messenger, METHOD_CHANNEL_NAME));
     this.plugin = plugin;
+    if (plugin.applicationContext != null) {
+      this.webViewPool = new InAppWebViewPool(plugin.applicationContext);
+      this.webViewMemoryManager = new WebViewMemoryManager(this, plugin.applicationContext);
+    }
   }
 
   @Override
@@ -117,6 +129,12 @@ public class InAppWebViewManager extends ChannelDelegateImpl {
         }
         result.success(true);
         break;
+      case "enableSlowWholeDocumentDraw":
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+          WebView.enableSlowWholeDocumentDraw();
+        }
+        result.success(true);
+        break;
       case "getVariationsHeader":
         if (WebViewFeature.isFeatureSupported(WebViewFeature.GET_VARIATIONS_HEADER)) {
           result.success(WebViewCompat.getVariationsHeader());
@@ -162,6 +180,66 @@ public class InAppWebViewManager extends ChannelDelegateImpl {
         }
         result.success(true);
         break;
+      case "setHttpClientSettings":
+        HttpClient.getInstance().setSettings((Integer) call.argument("connectTimeout"),
+                (Integer) call.argument("readTimeout"),
+                (Integer) call.argument("maxConnectionsPerHost"));
+        result.success(true);
+        break;
+      case "getHttpClientStatistics":
+        result.success(HttpClient.getInstance().getStatistics().toMap());
+        break;
+      case "getCachedFavicon":
+        if (plugin != null && plugin.applicationContext != null) {
+          FaviconCache faviconCache = FaviconCache.getInstance(plugin.applicationContext);
+          String key = (String) call.argument("key");
+          if (key == null) {
+            key = faviconCache.getKeyForUrl((String) call.argument("url"));
+          }
+          if (key != null) {
+            faviconCache.get(key, new FaviconCache.GetCallback() {
+              @Override
+              public void onResult(@Nullable byte[] data) {
+                result.success(data);
+              }
+            });
+            break;
+          }
+        }
+        result.success(null);
+        break;
+      case "clearFaviconCache":
+        if (plugin != null && plugin.applicationContext != null) {
+          FaviconCache.getInstance(plugin.applicationContext).clear();
+        }
+        result.success(true);
+        break;
+      case "setWebViewPoolSettings":
+        if (webViewPool != null) {
+          webViewPool.setSettings((Integer) call.argument("size"), (Boolean) call.argument("preloadAboutBlank"));
+        }
+        result.success(true);
+        break;
+      case "getWebViewPoolStatistics":
+        result.success(webViewPool != null ? webViewPool.getStatistics() : new HashMap<String, Object>());
+        break;
+      case "setWebViewMemorySettings":
+        if (webViewMemoryManager != null) {
+          webViewMemoryManager.setSettings((Boolean) call.argument("freezeBackgroundWebViews"),
+                  (Integer) call.argument("maxLiveBackgroundWebViews"));
+        }
+        result.success(true);
+        break;
+      case "getWebViewMemoryStatistics":
+        result.success(webViewMemoryManager != null ? webViewMemoryManager.getStatistics() : new HashMap<String, Object>());
+        break;
+      case "getKeepAliveThumbnail":
+        {
+          String thumbnailKeepAliveId = (String) call.argument("keepAliveId");
+          result.success(webViewMemoryManager != null && thumbnailKeepAliveId != null ?
+                  webViewMemoryManager.getThumbnail(thumbnailKeepAliveId) : null);
+        }
+        break;
       default:
         result.notImplemented();
     }
@@ -178,6 +256,9 @@ public class InAppWebViewManager extends ChannelDelegateImpl {
   }
 
   public void disposeKeepAlive(@NonNull String keepAliveId) {
+    if (webViewMemoryManager != null) {
+      webViewMemoryManager.forget(keepAliveId);
+    }
     FlutterWebView flutterWebView = keepAliveWebViews.get(keepAliveId);
     if (flutterWebView != null) {
       flutterWebView.keepAliveId = null;
@@ -207,6 +288,9 @@ public class InAppWebViewManager extends ChannelDelegateImpl {
     super.dispose();
     Collection<FlutterWebView> flutterWebViews = keepAliveWebViews.values();
     for (FlutterWebView flutterWebView : flutterWebViews) {
+      if (flutterWebView == null) {
+        continue;
+      }
       String keepAliveId = flutterWebView.keepAliveId;
       if (keepAliveId != null) {
         disposeKeepAlive(flutterWebView.keepAliveId);
@@ -214,6 +298,14 @@ public class InAppWebViewManager extends ChannelDelegateImpl {
     }
     keepAliveWebViews.clear();
     windowWebViewMessages.clear();
+    if (webViewMemoryManager != null) {
+      webViewMemoryManager.dispose();
+      webViewMemoryManager = null;
+    }
+    if (webViewPool != null) {
+      webViewPool.dispose();
+      webViewPool = null;
+    }
     plugin = null;
   }
 }
@@ -0,0 +1,186 @@
+package com.pichillilorenzo.flutter_inappwebview_android.webview;
+
+import android.net.Uri;
+import android.os.Build;
+import android.util.Base64;
+import android.util.Log;
+import android.webkit.ValueCallback;
+import android.webkit.WebView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.webkit.JavaScriptReplyProxy;
+import androidx.webkit.WebMessageCompat;
+import androidx.webkit.WebViewCompat;
+import androidx.webkit.WebViewFeature;
+
+import com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js.JavaScriptBridgeJS;
+import com.pichillilorenzo.flutter_inappwebview_android.webview.in_app_webview.InAppWebView;
+
+import org.json.JSONObject;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Handles the {@code window.flutter_inappwebview.callBinaryHandler} calls, whose argument and result are binary data.
+ * <p>
+ * When the WebView supports {@link WebViewFeature#WEB_MESSAGE_LISTENER} and {@link WebViewFeature#WEB_MESSAGE_ARRAY_BUFFER},
+ * the calls are posted as an {@code ArrayBuffer} to a {@link WebViewCompat.WebMessageListener} named {@link #JS_OBJECT_NAME}
+ * and the results are posted back to it, so that the data is never converted to a string. Values are big-endian:
+ *
+ * <pre>
+ * call:   int32 _callHandlerID, int32 handlerName length, handlerName UTF-8 bytes, data
+ * result: int32 _callHandlerID, int8 status, payload (the data, the JSON encoded result or the error message)
+ * </pre>
+ *
+ * Otherwise, the data is sent base64 encoded through {@link JavaScriptBridgeInterface#_callBinaryHandler}.
+ */
+public class JavaScriptBinaryBridge {
+  protected static final String LOG_TAG = "JavaScriptBinaryBridge";
+  public static final String JS_OBJECT_NAME = JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "_binary";
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  public static final int STATUS_BINARY = 0;
+  public static final int STATUS_JSON = 1;
+  public static final int STATUS_ERROR = 2;
+
+  private static final int CALL_HEADER_SIZE = 8;
+  private static final int RESULT_HEADER_SIZE = 5;
+
+  @Nullable
+  private InAppWebView inAppWebView;
+
+  public JavaScriptBinaryBridge(@NonNull InAppWebView inAppWebView) {
+    this.inAppWebView = inAppWebView;
+  }
+
+  public static boolean isSupported() {
+    return WebViewFeature.isFeatureSupported(WebViewFeature.WEB_MESSAGE_LISTENER) &&
+            WebViewFeature.isFeatureSupported(WebViewFeature.WEB_MESSAGE_ARRAY_BUFFER);
+  }
+
+  /**
+   * Adds the {@link WebViewCompat.WebMessageListener} used by {@code callBinaryHandler}, if supported.
+   * As the {@link JavaScriptBridgeInterface}, it is available to any origin.
+   */
+  public void addWebMessageListener() {
+    if (inAppWebView == null || !isSupported()) {
+      return;
+    }
+    WebViewCompat.addWebMessageListener(inAppWebView, JS_OBJECT_NAME, Collections.singleton("*"),
+            new WebViewCompat.WebMessageListener() {
+              @Override
+              public void onPostMessage(@NonNull WebView view, @NonNull WebMessageCompat message, @NonNull Uri sourceOrigin,
+                                        boolean isMainFrame, @NonNull JavaScriptReplyProxy replyProxy) {
+                onCall(message, replyProxy);
+              }
+            });
+  }
+
+  private void onCall(@NonNull WebMessageCompat message, @NonNull final JavaScriptReplyProxy replyProxy) {
+    if (message.getType() != WebMessageCompat.TYPE_ARRAY_BUFFER) {
+      return;
+    }
+    byte[] bytes = message.getArrayBuffer();
+    if (bytes.length < CALL_HEADER_SIZE) {
+      return;
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    final int callHandlerId = buffer.getInt();
+    int handlerNameLength = buffer.getInt();
+    if (handlerNameLength < 0 || handlerNameLength > bytes.length - CALL_HEADER_SIZE) {
+      return;
+    }
+    String handlerName = new String(bytes, CALL_HEADER_SIZE, handlerNameLength, UTF_8);
+    byte[] data = Arrays.copyOfRange(bytes, CALL_HEADER_SIZE + handlerNameLength, bytes.length);
+    call(handlerName, data, new ResultCallback() {
+      @Override
+      public void onResult(int status, @NonNull byte[] payload) {
+        byte[] result = new byte[RESULT_HEADER_SIZE + payload.length];
+        ByteBuffer.wrap(result).putInt(callHandlerId).put((byte) status).put(payload);
+        replyProxy.postMessage(result);
+      }
+    });
+  }
+
+  /**
+   * Used when the {@link WebViewCompat.WebMessageListener} is not supported.
+   * Must be called on the WebView thread.
+   */
+  public void onCall(@NonNull String handlerName, @NonNull final String callHandlerId, @NonNull String base64Data) {
+    byte[] data;
+    try {
+      data = Base64.decode(base64Data, Base64.DEFAULT);
+    } catch (IllegalArgumentException e) {
+      Log.e(LOG_TAG, "", e);
+      return;
+    }
+    call(handlerName, data, new ResultCallback() {
+      @Override
+      public void onResult(int status, @NonNull byte[] payload) {
+        String value = status == STATUS_BINARY ?
+                Base64.encodeToString(payload, Base64.NO_WRAP) :
+                new String(payload, UTF_8);
+        evaluateJavascript("window." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "._settleBinaryHandler(" +
+                callHandlerId + ", " + status + ", " + JSONObject.quote(value) + ");");
+      }
+    });
+  }
+
+  private void call(@NonNull String handlerName, @NonNull byte[] data, @NonNull final ResultCallback callback) {
+    if (inAppWebView == null || inAppWebView.channelDelegate == null) {
+      return;
+    }
+    inAppWebView.channelDelegate.onCallJsBinaryHandler(handlerName, data, new WebViewChannelDelegate.CallJsBinaryHandlerCallback() {
+      @Override
+      public void defaultBehaviour(@Nullable Object result) {
+        if (inAppWebView == null) {
+          // The webview has already been disposed, ignore.
+          return;
+        }
+        if (result instanceof byte[]) {
+          callback.onResult(STATUS_BINARY, (byte[]) result);
+        } else {
+          callback.onResult(STATUS_JSON, (result != null ? result.toString() : "null").getBytes(UTF_8));
+        }
+      }
+
+      @Override
+      public void error(String errorCode, @Nullable String errorMessage, @Nullable Object errorDetails) {
+        String message = errorCode + ((errorMessage != null) ? ", " + errorMessage : "");
+        Log.e(LOG_TAG, message);
+
+        if (inAppWebView == null) {
+          // The webview has already been disposed, ignore.
+          return;
+        }
+        callback.onResult(STATUS_ERROR, message.getBytes(UTF_8));
+      }
+    });
+  }
+
+  private void evaluateJavascript(@NonNull String sourceCode) {
+    if (inAppWebView == null) {
+      return;
+    }
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+      inAppWebView.evaluateJavascript(sourceCode, (ValueCallback<String>) null);
+    } else {
+      inAppWebView.loadUrl("javascript:" + sourceCode);
+    }
+  }
+
+  private interface ResultCallback {
+    void onResult(int status, @NonNull byte[] payload);
+  }
+
+  public void dispose() {
+    if (inAppWebView != null && isSupported()) {
+      WebViewCompat.removeWebMessageListener(inAppWebView, JS_OBJECT_NAME);
+    }
+    inAppWebView = null;
+  }
+}
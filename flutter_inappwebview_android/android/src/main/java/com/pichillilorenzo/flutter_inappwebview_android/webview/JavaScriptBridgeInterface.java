@@ -18,12 +18,21 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 public class JavaScriptBridgeInterface {
   private static final String LOG_TAG = "JSBridgeInterface";
   private InAppWebView inAppWebView;
+  @NonNull
+  private final Handler handler;
+  @NonNull
+  private final JavaScriptBridgeStatistics statistics = new JavaScriptBridgeStatistics();
   
   public JavaScriptBridgeInterface(InAppWebView inAppWebView) {
     this.inAppWebView = inAppWebView;
+    this.handler = inAppWebView.mainLooperHandler;
   }
 
   @JavascriptInterface
@@ -32,7 +41,6 @@ public class JavaScriptBridgeInterface {
       return;
     }
 
-    final Handler handler = new Handler(inAppWebView.getWebViewLooper());
     handler.post(new Runnable() {
       @Override
       public void run() {
@@ -49,9 +57,9 @@ public class JavaScriptBridgeInterface {
       return;
     }
 
+    statistics.calls.incrementAndGet();
     // java.lang.RuntimeException: Methods marked with @UiThread must be executed on the main thread.
     // https://github.com/pichillilorenzo/flutter_inappwebview/issues/98
-    final Handler handler = new Handler(inAppWebView.getWebViewLooper());
     handler.post(new Runnable() {
       @Override
       public void run() {
@@ -132,12 +140,7 @@ public class JavaScriptBridgeInterface {
                 "window." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "[" + _callHandlerID + "].resolve(" + json + "); " +
                 "delete window." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "[" + _callHandlerID + "]; " +
               "}";
-              if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
-                inAppWebView.evaluateJavascript(sourceCode, (ValueCallback<String>) null);
-              }
-              else {
-                inAppWebView.loadUrl("javascript:" + sourceCode);
-              }
+              evaluateJavascript(inAppWebView, sourceCode);
             }
 
             @Override
@@ -154,12 +157,7 @@ public class JavaScriptBridgeInterface {
                       "window." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "[" + _callHandlerID + "].reject(new Error(" + JSONObject.quote(message) + ")); " +
                       "delete window." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + "[" + _callHandlerID + "]; " +
                       "}";
-              if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
-                inAppWebView.evaluateJavascript(sourceCode, (ValueCallback<String>) null);
-              }
-              else {
-                inAppWebView.loadUrl("javascript:" + sourceCode);
-              }
+              evaluateJavascript(inAppWebView, sourceCode);
             }
           });
         }
@@ -167,6 +165,179 @@ public class JavaScriptBridgeInterface {
     });
   }
 
+  /**
+   * Receives the {@code callBinaryHandler} calls when the {@link JavaScriptBinaryBridge} can't use a web message listener.
+   *
+   * @param data the base64 encoded data.
+   */
+  @JavascriptInterface
+  public void _callBinaryHandler(final String handlerName, final String _callHandlerID, final String data) {
+    if (inAppWebView == null) {
+      return;
+    }
+
+    statistics.calls.incrementAndGet();
+    handler.post(new Runnable() {
+      @Override
+      public void run() {
+        if (inAppWebView == null || inAppWebView.javaScriptBinaryBridge == null) {
+          // The webview has already been disposed, ignore.
+          return;
+        }
+        inAppWebView.javaScriptBinaryBridge.onCall(handlerName, _callHandlerID, data);
+      }
+    });
+  }
+
+  /**
+   * Receives the resource timing entries buffered by {@link com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js.OnLoadResourceJS}.
+   *
+   * @param batch JSON object with the {@code pageId}, {@code isMainFrame} and {@code entries} properties.
+   */
+  @JavascriptInterface
+  public void _onLoadResources(final String batch) {
+    if (inAppWebView == null) {
+      return;
+    }
+
+    handler.post(new Runnable() {
+      @Override
+      public void run() {
+        if (inAppWebView == null || inAppWebView.resourceTimingCollector == null) {
+          // The webview has already been disposed, ignore.
+          return;
+        }
+        inAppWebView.resourceTimingCollector.add(batch);
+      }
+    });
+  }
+
+  /**
+   * Receives the calls queued by {@link com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js.JavaScriptHandlerBatchingJS}
+   * during an animation frame. They are sent to Dart with a single channel message and all of them
+   * are resolved with a single JavaScript evaluation.
+   *
+   * @param calls JSON array of {@code [handlerName, _callHandlerID, args]} arrays.
+   * @param size number of calls, used for the statistics.
+   */
+  @JavascriptInterface
+  public void _callHandlers(final String calls, final int size) {
+    if (inAppWebView == null) {
+      return;
+    }
+
+    final long startTime = System.nanoTime();
+    statistics.addBatch(size);
+    handler.post(new Runnable() {
+      @Override
+      public void run() {
+        if (inAppWebView == null || inAppWebView.channelDelegate == null) {
+          // The webview has already been disposed, ignore.
+          return;
+        }
+
+        inAppWebView.channelDelegate.onCallJsHandlers(calls, new WebViewChannelDelegate.CallJsHandlersCallback() {
+          @Override
+          public void defaultBehaviour(@Nullable List<Object> results) {
+            if (inAppWebView == null) {
+              // The webview has already been disposed, ignore.
+              return;
+            }
+            evaluateJavascript(inAppWebView, results != null ?
+                    getSettleCallHandlersSource(results) :
+                    getSettleCallHandlersSource(calls, null));
+            statistics.addBatchTime(System.nanoTime() - startTime);
+          }
+
+          @Override
+          public void error(String errorCode, @Nullable String errorMessage, @Nullable Object errorDetails) {
+            String message = errorCode + ((errorMessage != null) ? ", " + errorMessage : "");
+            Log.e(LOG_TAG, message);
+            statistics.failedBatches.incrementAndGet();
+
+            if (inAppWebView == null) {
+              // The webview has already been disposed, ignore.
+              return;
+            }
+            evaluateJavascript(inAppWebView, getSettleCallHandlersSource(calls, message));
+            statistics.addBatchTime(System.nanoTime() - startTime);
+          }
+        });
+      }
+    });
+  }
+
+  /**
+   * @param results list of {@code [_callHandlerID, isError, value]} lists, where value is the JSON encoded
+   *                result, or the error message.
+   */
+  @NonNull
+  private static String getSettleCallHandlersSource(@NonNull List<Object> results) {
+    StringBuilder source = new StringBuilder("(function(bridge) { var results = [");
+    boolean first = true;
+    for (Object result : results) {
+      if (!(result instanceof List) || ((List<?>) result).size() < 3) {
+        continue;
+      }
+      List<?> values = (List<?>) result;
+      boolean isError = Boolean.TRUE.equals(values.get(1));
+      Object value = values.get(2);
+      if (!first) {
+        source.append(',');
+      }
+      first = false;
+      source.append('[').append(values.get(0)).append(',').append(isError ? 1 : 0).append(',');
+      if (isError) {
+        source.append(JSONObject.quote(value != null ? value.toString() : ""));
+      } else {
+        source.append(value);
+      }
+      source.append(']');
+    }
+    source.append("]; " +
+            "for (var i = 0; i < results.length; i++) { " +
+            "var callback = bridge[results[i][0]]; " +
+            "if (callback != null) { " +
+            "if (results[i][1] === 1) { callback.reject(new Error(results[i][2])); } else { callback.resolve(results[i][2]); } " +
+            "delete bridge[results[i][0]]; " +
+            "} " +
+            "} " +
+            "})(window." + JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME + ");");
+    return source.toString();
+  }
+
+  /**
+   * Resolves with {@code null}, or rejects with the error message, all the calls of a batch.
+   */
+  @NonNull
+  private static String getSettleCallHandlersSource(@NonNull String calls, @Nullable String errorMessage) {
+    List<Object> results = new ArrayList<>();
+    try {
+      JSONArray jsonArray = new JSONArray(calls);
+      for (int i = 0; i < jsonArray.length(); i++) {
+        JSONArray call = jsonArray.getJSONArray(i);
+        results.add(Arrays.asList(call.getLong(1), errorMessage != null, errorMessage));
+      }
+    } catch (JSONException e) {
+      Log.e(LOG_TAG, "", e);
+    }
+    return getSettleCallHandlersSource(results);
+  }
+
+  private static void evaluateJavascript(@NonNull InAppWebView inAppWebView, @NonNull String sourceCode) {
+    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+      inAppWebView.evaluateJavascript(sourceCode, (ValueCallback<String>) null);
+    }
+    else {
+      inAppWebView.loadUrl("javascript:" + sourceCode);
+    }
+  }
+
+  @NonNull
+  public JavaScriptBridgeStatistics getStatistics() {
+    return statistics;
+  }
+
   public void dispose() {
     inAppWebView = null;
   }
@@ -0,0 +1,72 @@
+package com.pichillilorenzo.flutter_inappwebview_android.webview;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the JavaScript handler calls received by a {@link JavaScriptBridgeInterface}.
+ * The batch time goes from the batch being received from JavaScript to its results being sent back.
+ */
+public class JavaScriptBridgeStatistics {
+  final AtomicLong calls = new AtomicLong();
+  final AtomicLong batches = new AtomicLong();
+  final AtomicLong batchedCalls = new AtomicLong();
+  final AtomicLong maxBatchSize = new AtomicLong();
+  final AtomicLong failedBatches = new AtomicLong();
+  final AtomicLong totalBatchTimeNanos = new AtomicLong();
+  final AtomicLong maxBatchTimeNanos = new AtomicLong();
+
+  void addBatch(int size) {
+    batches.incrementAndGet();
+    batchedCalls.addAndGet(size);
+    updateMax(maxBatchSize, size);
+  }
+
+  void addBatchTime(long nanos) {
+    totalBatchTimeNanos.addAndGet(nanos);
+    updateMax(maxBatchTimeNanos, nanos);
+  }
+
+  private static void updateMax(AtomicLong max, long value) {
+    long current = max.get();
+    while (value > current && !max.compareAndSet(current, value)) {
+      current = max.get();
+    }
+  }
+
+  public void reset() {
+    calls.set(0);
+    batches.set(0);
+    batchedCalls.set(0);
+    maxBatchSize.set(0);
+    failedBatches.set(0);
+    totalBatchTimeNanos.set(0);
+    maxBatchTimeNanos.set(0);
+  }
+
+  public Map<String, Object> toMap() {
+    Map<String, Object> map = new HashMap<>();
+    map.put("calls", calls.get());
+    map.put("batches", batches.get());
+    map.put("batchedCalls", batchedCalls.get());
+    map.put("maxBatchSize", maxBatchSize.get());
+    map.put("failedBatches", failedBatches.get());
+    map.put("totalBatchTimeNanos", totalBatchTimeNanos.get());
+    map.put("maxBatchTimeNanos", maxBatchTimeNanos.get());
+    return map;
+  }
+
+  @Override
+  public String toString() {
+    return "JavaScriptBridgeStatistics{" +
+            "calls=" + calls +
+            ", batches=" + batches +
+            ", batchedCalls=" + batchedCalls +
+            ", maxBatchSize=" + maxBatchSize +
+            ", failedBatches=" + failedBatches +
+            ", totalBatchTimeNanos=" + totalBatchTimeNanos +
+            ", maxBatchTimeNanos=" + maxBatchTimeNanos +
+            '}';
+  }
+}
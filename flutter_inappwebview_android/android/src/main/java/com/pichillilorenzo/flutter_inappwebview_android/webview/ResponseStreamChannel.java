@@ -0,0 +1,286 @@
+package com.pichillilorenzo.flutter_inappwebview_android.webview;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.flutter.plugin.common.BinaryMessenger;
+
+/**
+ * Receives the body of the responses that Dart returns as a stream, such as a {@code WebResourceResponse}
+ * with a {@code dataStream}, and exposes each of them as an {@link InputStream} for the WebView.
+ * <p>
+ * The response itself only carries the id of its stream. Dart sends the chunks on a channel whose handler
+ * runs on a background task queue, and waits for the reply to a chunk before sending the next one:
+ * the reply is held while the stream buffers more than {@link #BUFFER_CAPACITY} bytes, so the memory
+ * used by a response doesn't depend on its size.
+ *
+ * <pre>
+ * message: int32 streamId, int8 type (0 data, 1 end, 2 error), [bytes data | UTF-8 error message]
+ * reply to a data message: int8 1 to continue, 0 if the WebView doesn't read the stream anymore
+ * </pre>
+ *
+ * Keep it in sync with {@code _response_stream_channel.dart}.
+ */
+public class ResponseStreamChannel {
+  protected static final String LOG_TAG = "ResponseStreamChannel";
+  public static final String CHANNEL_NAME_SUFFIX = "/responseStream";
+  public static final int BUFFER_CAPACITY = 256 * 1024;
+
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  private static final byte MESSAGE_TYPE_DATA = 0;
+  private static final byte MESSAGE_TYPE_END = 1;
+  private static final byte MESSAGE_TYPE_ERROR = 2;
+
+  @Nullable
+  private BinaryMessenger messenger;
+  @NonNull
+  private final String channelName;
+  // streams can receive their first chunk before their response is decoded
+  @NonNull
+  private final Map<Integer, ResponseInputStream> streams = new HashMap<>();
+
+  /**
+   * @param channelName the name of the {@link io.flutter.plugin.common.MethodChannel} of the WebView.
+   */
+  public ResponseStreamChannel(@NonNull BinaryMessenger messenger, @NonNull String channelName) {
+    this.messenger = messenger;
+    this.channelName = channelName + CHANNEL_NAME_SUFFIX;
+
+    BinaryMessenger.BinaryMessageHandler handler = new BinaryMessenger.BinaryMessageHandler() {
+      @Override
+      public void onMessage(@Nullable ByteBuffer message, @NonNull BinaryMessenger.BinaryReply reply) {
+        if (message == null) {
+          reply.reply(null);
+          return;
+        }
+        try {
+          onStreamMessage(message, reply);
+        } catch (RuntimeException e) {
+          Log.e(LOG_TAG, "", e);
+          reply.reply(null);
+        }
+      }
+    };
+    BinaryMessenger.TaskQueue taskQueue = null;
+    try {
+      taskQueue = messenger.makeBackgroundTaskQueue();
+    } catch (UnsupportedOperationException e) {
+      // the messenger doesn't support task queues, the chunks are handled on the platform thread
+    }
+    messenger.setMessageHandler(this.channelName, handler, taskQueue);
+  }
+
+  /**
+   * @return the stream with the given id, to be read by the WebView.
+   */
+  @NonNull
+  public InputStream openInputStream(int streamId) {
+    ResponseInputStream stream = getOrCreate(streamId);
+    synchronized (stream) {
+      stream.claimed = true;
+      if (stream.ended) {
+        remove(streamId);
+      }
+    }
+    return stream;
+  }
+
+  /**
+   * Discards a stream that won't be read by the WebView, for example because its response timed out.
+   */
+  public void cancel(int streamId) {
+    getOrCreate(streamId).close();
+  }
+
+  private synchronized ResponseInputStream getOrCreate(int streamId) {
+    ResponseInputStream stream = streams.get(streamId);
+    if (stream == null) {
+      stream = new ResponseInputStream(this, streamId);
+      streams.put(streamId, stream);
+    }
+    return stream;
+  }
+
+  private synchronized void remove(int streamId) {
+    streams.remove(streamId);
+  }
+
+  private void onStreamMessage(@NonNull ByteBuffer message, @NonNull BinaryMessenger.BinaryReply reply) {
+    message.order(ByteOrder.BIG_ENDIAN);
+    int streamId = message.getInt();
+    byte type = message.get();
+    byte[] bytes = new byte[message.remaining()];
+    message.get(bytes);
+
+    ResponseInputStream stream = getOrCreate(streamId);
+    switch (type) {
+      case MESSAGE_TYPE_DATA:
+        stream.onData(bytes, reply);
+        break;
+      case MESSAGE_TYPE_ERROR:
+        stream.onEnd(new String(bytes, UTF_8));
+        reply.reply(null);
+        break;
+      case MESSAGE_TYPE_END:
+      default:
+        stream.onEnd(null);
+        reply.reply(null);
+        break;
+    }
+  }
+
+  public void dispose() {
+    if (messenger != null) {
+      messenger.setMessageHandler(channelName, null);
+      messenger = null;
+    }
+    ResponseInputStream[] streams;
+    synchronized (this) {
+      streams = this.streams.values().toArray(new ResponseInputStream[0]);
+    }
+    for (ResponseInputStream stream : streams) {
+      stream.close();
+    }
+  }
+
+  private static ByteBuffer createReply(boolean resume) {
+    ByteBuffer reply = ByteBuffer.allocateDirect(1);
+    reply.put((byte) (resume ? 1 : 0));
+    reply.flip();
+    return reply;
+  }
+
+  private static class ResponseInputStream extends InputStream {
+    @NonNull
+    private final ResponseStreamChannel channel;
+    private final int streamId;
+    @NonNull
+    private final ArrayDeque<byte[]> chunks = new ArrayDeque<>();
+    private int chunkOffset = 0;
+    private long bufferedBytes = 0;
+    @Nullable
+    private BinaryMessenger.BinaryReply pendingReply;
+    @Nullable
+    private String error;
+    private boolean claimed = false;
+    private boolean ended = false;
+    private boolean closed = false;
+
+    ResponseInputStream(@NonNull ResponseStreamChannel channel, int streamId) {
+      this.channel = channel;
+      this.streamId = streamId;
+    }
+
+    synchronized void onData(@NonNull byte[] bytes, @NonNull BinaryMessenger.BinaryReply reply) {
+      if (closed) {
+        // Dart stops sending after this reply
+        channel.remove(streamId);
+        reply.reply(createReply(false));
+        return;
+      }
+      if (bytes.length > 0) {
+        chunks.add(bytes);
+        bufferedBytes += bytes.length;
+        notifyAll();
+      }
+      if (bufferedBytes < BUFFER_CAPACITY) {
+        reply.reply(createReply(true));
+      } else {
+        pendingReply = reply;
+      }
+    }
+
+    synchronized void onEnd(@Nullable String error) {
+      this.ended = true;
+      this.error = error;
+      if (claimed || closed) {
+        channel.remove(streamId);
+      }
+      notifyAll();
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] b = new byte[1];
+      int n = read(b, 0, 1);
+      return n < 0 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public synchronized int read(@NonNull byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      while (chunks.isEmpty()) {
+        if (closed) {
+          throw new IOException("Stream closed");
+        }
+        if (ended) {
+          if (error != null) {
+            throw new IOException(error);
+          }
+          return -1;
+        }
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IOException(e);
+        }
+      }
+
+      int read = 0;
+      while (read < len && !chunks.isEmpty()) {
+        byte[] chunk = chunks.peek();
+        int n = Math.min(len - read, chunk.length - chunkOffset);
+        System.arraycopy(chunk, chunkOffset, b, off + read, n);
+        read += n;
+        chunkOffset += n;
+        if (chunkOffset == chunk.length) {
+          chunks.poll();
+          chunkOffset = 0;
+        }
+      }
+      bufferedBytes -= read;
+      if (pendingReply != null && bufferedBytes < BUFFER_CAPACITY) {
+        pendingReply.reply(createReply(true));
+        pendingReply = null;
+      }
+      return read;
+    }
+
+    @Override
+    public synchronized int available() {
+      return (int) Math.min(bufferedBytes, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public synchronized void close() {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      chunks.clear();
+      bufferedBytes = 0;
+      if (pendingReply != null) {
+        channel.remove(streamId);
+        pendingReply.reply(createReply(false));
+        pendingReply = null;
+      } else if (ended) {
+        channel.remove(streamId);
+      }
+      notifyAll();
+    }
+  }
+}
@@ -0,0 +1,236 @@
+package com.pichillilorenzo.flutter_inappwebview_android.webview;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pichillilorenzo.flutter_inappwebview_android.types.WebResourceRequestExt;
+import com.pichillilorenzo.flutter_inappwebview_android.types.WebResourceResponseExt;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.flutter.plugin.common.BinaryMessenger;
+
+/**
+ * Sends the {@code shouldInterceptRequest} events to Dart without going through the {@link io.flutter.plugin.common.MethodChannel}
+ * of the WebView.
+ * <p>
+ * Messages to Dart can only be sent from the platform thread, so the request is still posted there,
+ * but it is encoded with {@link ShouldInterceptRequestCodec} on the calling thread. Dart sends the response
+ * on a separate channel whose handler runs on a background task queue, so the thread waiting for it is
+ * released without another round trip through the platform thread.
+ * <p>
+ * The Dart handler replies to the request with an acknowledgement if a response will follow;
+ * an empty reply (no handler or no listener) means that the WebView loads the resource normally.
+ */
+public class ShouldInterceptRequestChannel {
+  protected static final String LOG_TAG = "ShouldInterceptRequestChannel";
+  public static final String REQUEST_CHANNEL_NAME_SUFFIX = "/shouldInterceptRequest";
+  public static final String RESPONSE_CHANNEL_NAME_SUFFIX = "/shouldInterceptRequest/response";
+
+  @Nullable
+  private BinaryMessenger messenger;
+  @Nullable
+  private final ResponseStreamChannel responseStreamChannel;
+  @NonNull
+  private final String requestChannelName;
+  @NonNull
+  private final String responseChannelName;
+  @NonNull
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+  @NonNull
+  private final AtomicInteger nextRequestId = new AtomicInteger();
+  @NonNull
+  private final Map<Integer, PendingRequest> pendingRequests = new ConcurrentHashMap<>();
+  @NonNull
+  private final ShouldInterceptRequestStatistics statistics = new ShouldInterceptRequestStatistics();
+  @Nullable
+  private Semaphore semaphore;
+  private int maxConcurrency = 0;
+
+  private static class PendingRequest {
+    final CountDownLatch latch = new CountDownLatch(1);
+    volatile long dispatchTime;
+    volatile boolean handled;
+    @Nullable
+    volatile WebResourceResponseExt response;
+  }
+
+  /**
+   * @param channelName the name of the {@link io.flutter.plugin.common.MethodChannel} of the WebView.
+   * @param responseStreamChannel used to discard the data stream of the responses that arrive too late.
+   */
+  public ShouldInterceptRequestChannel(@NonNull BinaryMessenger messenger, @NonNull String channelName,
+                                       @Nullable ResponseStreamChannel responseStreamChannel) {
+    this.messenger = messenger;
+    this.responseStreamChannel = responseStreamChannel;
+    this.requestChannelName = channelName + REQUEST_CHANNEL_NAME_SUFFIX;
+    this.responseChannelName = channelName + RESPONSE_CHANNEL_NAME_SUFFIX;
+
+    BinaryMessenger.BinaryMessageHandler responseHandler = new BinaryMessenger.BinaryMessageHandler() {
+      @Override
+      public void onMessage(@Nullable ByteBuffer message, @NonNull BinaryMessenger.BinaryReply reply) {
+        if (message != null) {
+          onResponse(message);
+        }
+        reply.reply(null);
+      }
+    };
+    BinaryMessenger.TaskQueue taskQueue = null;
+    try {
+      taskQueue = messenger.makeBackgroundTaskQueue();
+    } catch (UnsupportedOperationException e) {
+      // the messenger doesn't support task queues, the responses are handled on the platform thread
+    }
+    messenger.setMessageHandler(responseChannelName, responseHandler, taskQueue);
+  }
+
+  /**
+   * Sends the request to Dart and waits for its response.
+   *
+   * @param maxConcurrency maximum number of requests sent to Dart at the same time, {@code null} or {@code 0} for no limit.
+   *                       The other requests wait for a free slot.
+   * @param timeout maximum time, in milliseconds, to wait for a slot and for the response, {@code null} for no timeout.
+   *                On timeout, the WebView loads the resource normally.
+   * @return the response, or {@code null} to let the WebView load the resource normally.
+   */
+  @Nullable
+  public WebResourceResponseExt shouldInterceptRequest(@NonNull WebResourceRequestExt request,
+                                                       @Nullable Integer maxConcurrency,
+                                                       @Nullable Integer timeout) throws InterruptedException {
+    final BinaryMessenger messenger = this.messenger;
+    if (messenger == null) {
+      return null;
+    }
+    long startTime = System.nanoTime();
+    long timeoutNanos = timeout != null && timeout >= 0 ? TimeUnit.MILLISECONDS.toNanos(timeout) : -1;
+    statistics.requests.incrementAndGet();
+
+    Semaphore semaphore = getSemaphore(maxConcurrency);
+    if (semaphore != null) {
+      if (timeoutNanos < 0) {
+        semaphore.acquire();
+      } else if (!semaphore.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+        statistics.timeouts.incrementAndGet();
+        statistics.addQueueTime(System.nanoTime() - startTime);
+        return null;
+      }
+    }
+
+    final int requestId = nextRequestId.incrementAndGet();
+    final PendingRequest pendingRequest = new PendingRequest();
+    pendingRequests.put(requestId, pendingRequest);
+    try {
+      final ByteBuffer message = ShouldInterceptRequestCodec.encodeRequest(requestId, request);
+      mainHandler.post(new Runnable() {
+        @Override
+        public void run() {
+          pendingRequest.dispatchTime = System.nanoTime();
+          if (!pendingRequests.containsKey(requestId)) {
+            // timed out while waiting for the platform thread
+            return;
+          }
+          messenger.send(requestChannelName, message, new BinaryMessenger.BinaryReply() {
+            @Override
+            public void reply(@Nullable ByteBuffer reply) {
+              if (reply == null) {
+                // nothing will be sent on the response channel
+                complete(requestId, null, false);
+              }
+            }
+          });
+        }
+      });
+
+      boolean completed;
+      if (timeoutNanos < 0) {
+        pendingRequest.latch.await();
+        completed = true;
+      } else {
+        long remainingNanos = timeoutNanos - (System.nanoTime() - startTime);
+        completed = pendingRequest.latch.await(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS);
+      }
+
+      long endTime = System.nanoTime();
+      long dispatchTime = pendingRequest.dispatchTime;
+      if (dispatchTime != 0) {
+        statistics.addQueueTime(dispatchTime - startTime);
+        statistics.addHandlerTime(endTime - dispatchTime);
+      } else {
+        statistics.addQueueTime(endTime - startTime);
+      }
+      if (!completed) {
+        statistics.timeouts.incrementAndGet();
+        return null;
+      }
+      (pendingRequest.handled ? statistics.handledRequests : statistics.unhandledRequests).incrementAndGet();
+      return pendingRequest.response;
+    } finally {
+      pendingRequests.remove(requestId);
+      if (semaphore != null) {
+        semaphore.release();
+      }
+    }
+  }
+
+  private void onResponse(@NonNull ByteBuffer message) {
+    try {
+      int requestId = ShouldInterceptRequestCodec.decodeRequestId(message);
+      WebResourceResponseExt response = ShouldInterceptRequestCodec.decodeResponse(message);
+      if (!complete(requestId, response, true)) {
+        statistics.lateResponses.incrementAndGet();
+        if (response != null && response.getDataStreamId() != null && responseStreamChannel != null) {
+          responseStreamChannel.cancel(response.getDataStreamId());
+        }
+      }
+    } catch (RuntimeException e) {
+      Log.e(LOG_TAG, "", e);
+    }
+  }
+
+  private boolean complete(int requestId, @Nullable WebResourceResponseExt response, boolean handled) {
+    PendingRequest pendingRequest = pendingRequests.remove(requestId);
+    if (pendingRequest == null) {
+      return false;
+    }
+    pendingRequest.response = response;
+    pendingRequest.handled = handled;
+    pendingRequest.latch.countDown();
+    return true;
+  }
+
+  @Nullable
+  private synchronized Semaphore getSemaphore(@Nullable Integer maxConcurrency) {
+    int value = maxConcurrency != null && maxConcurrency > 0 ? maxConcurrency : 0;
+    if (value != this.maxConcurrency) {
+      // requests holding a slot of the previous semaphore release it there
+      this.maxConcurrency = value;
+      this.semaphore = value > 0 ? new Semaphore(value, true) : null;
+    }
+    return semaphore;
+  }
+
+  @NonNull
+  public ShouldInterceptRequestStatistics getStatistics() {
+    return statistics;
+  }
+
+  public void dispose() {
+    if (messenger != null) {
+      messenger.setMessageHandler(responseChannelName, null);
+      messenger = null;
+    }
+    for (Integer requestId : pendingRequests.keySet()) {
+      complete(requestId, null, false);
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package com.pichillilorenzo.flutter_inappwebview_android.webview;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pichillilorenzo.flutter_inappwebview_android.types.WebResourceRequestExt;
+import com.pichillilorenzo.flutter_inappwebview_android.types.WebResourceResponseExt;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Binary encoding of the {@code shouldInterceptRequest} messages exchanged with the Dart side.
+ * Values are big-endian. A string is an int32 byte length followed by its UTF-8 bytes, a map
+ * is an int32 entry count followed by its keys and values; a length of -1 means {@code null}.
+ *
+ * <pre>
+ * request:  int32 requestId, int8 flags (isRedirect, hasGesture, isForMainFrame), string url,
+ *           string method, map headers
+ * response: int32 requestId, int8 hasResponse, [string contentType, string contentEncoding,
+ *           int32 statusCode (-1 if null), string reasonPhrase, map headers, bytes data,
+ *           int32 dataStreamId (-1 if null)]
+ * </pre>
+ *
+ * Keep it in sync with {@code _should_intercept_request_codec.dart}.
+ */
+public class ShouldInterceptRequestCodec {
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  static final int FLAG_IS_REDIRECT = 1;
+  static final int FLAG_HAS_GESTURE = 1 << 1;
+  static final int FLAG_IS_FOR_MAIN_FRAME = 1 << 2;
+
+  /**
+   * @return a direct buffer, as required by {@link io.flutter.plugin.common.BinaryMessenger#send}.
+   */
+  @NonNull
+  public static ByteBuffer encodeRequest(int requestId, @NonNull WebResourceRequestExt request) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+    DataOutputStream out = new DataOutputStream(bytes);
+    try {
+      out.writeInt(requestId);
+      int flags = 0;
+      if (request.isRedirect()) flags |= FLAG_IS_REDIRECT;
+      if (request.isHasGesture()) flags |= FLAG_HAS_GESTURE;
+      if (request.isForMainFrame()) flags |= FLAG_IS_FOR_MAIN_FRAME;
+      out.writeByte(flags);
+      writeString(out, request.getUrl());
+      writeString(out, request.getMethod());
+      writeMap(out, request.getHeaders());
+      out.flush();
+    } catch (IOException e) {
+      // ByteArrayOutputStream doesn't throw
+      throw new IllegalStateException(e);
+    }
+    ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.size());
+    buffer.put(bytes.toByteArray());
+    buffer.flip();
+    return buffer;
+  }
+
+  /**
+   * @return the request id of the response.
+   */
+  public static int decodeRequestId(@NonNull ByteBuffer message) {
+    return message.order(ByteOrder.BIG_ENDIAN).getInt(0);
+  }
+
+  @Nullable
+  public static WebResourceResponseExt decodeResponse(@NonNull ByteBuffer message) {
+    message.order(ByteOrder.BIG_ENDIAN);
+    message.position(4);
+    if (message.get() == 0) {
+      return null;
+    }
+    String contentType = readString(message);
+    String contentEncoding = readString(message);
+    int statusCode = message.getInt();
+    String reasonPhrase = readString(message);
+    Map<String, String> headers = readMap(message);
+    byte[] data = readBytes(message);
+    int dataStreamId = message.getInt();
+    WebResourceResponseExt response = new WebResourceResponseExt(contentType, contentEncoding,
+            statusCode >= 0 ? statusCode : null, reasonPhrase, headers, data);
+    response.setDataStreamId(dataStreamId >= 0 ? dataStreamId : null);
+    return response;
+  }
+
+  private static void writeString(@NonNull DataOutputStream out, @Nullable String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] bytes = value.getBytes(UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static void writeMap(@NonNull DataOutputStream out, @Nullable Map<String, String> map) throws IOException {
+    if (map == null) {
+      out.writeInt(-1);
+      return;
+    }
+    out.writeInt(map.size());
+    for (Map.Entry<String, String> entry : map.entrySet()) {
+      writeString(out, entry.getKey());
+      writeString(out, entry.getValue());
+    }
+  }
+
+  @Nullable
+  private static byte[] readBytes(@NonNull ByteBuffer message) {
+    int length = message.getInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    message.get(bytes);
+    return bytes;
+  }
+
+  @Nullable
+  private static String readString(@NonNull ByteBuffer message) {
+    byte[] bytes = readBytes(message);
+    return bytes != null ? new String(bytes, UTF_8) : null;
+  }
+
+  @Nullable
+  private static Map<String, String> readMap(@NonNull ByteBuffer message) {
+    int size = message.getInt();
+    if (size < 0) {
+      return null;
+    }
+    Map<String, String> map = new HashMap<>();
+    for (int i = 0; i < size; i++) {
+      String key = readString(message);
+      String value = readString(message);
+      if (key != null) {
+        map.put(key, value);
+      }
+    }
+    return map;
+  }
+}
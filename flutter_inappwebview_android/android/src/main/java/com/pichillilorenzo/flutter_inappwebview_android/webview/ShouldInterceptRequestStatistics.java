@@ -0,0 +1,81 @@
+package com.pichillilorenzo.flutter_inappwebview_android.webview;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the {@code shouldInterceptRequest} calls made through a {@link ShouldInterceptRequestChannel}.
+ * The queue time goes from the WebView asking for the request to the message being sent to Dart,
+ * that is waiting for a concurrency slot and for the platform thread; the handler time goes from there
+ * to the response being received.
+ */
+public class ShouldInterceptRequestStatistics {
+  final AtomicLong requests = new AtomicLong();
+  final AtomicLong handledRequests = new AtomicLong();
+  final AtomicLong unhandledRequests = new AtomicLong();
+  final AtomicLong timeouts = new AtomicLong();
+  final AtomicLong lateResponses = new AtomicLong();
+  final AtomicLong totalQueueTimeNanos = new AtomicLong();
+  final AtomicLong maxQueueTimeNanos = new AtomicLong();
+  final AtomicLong totalHandlerTimeNanos = new AtomicLong();
+  final AtomicLong maxHandlerTimeNanos = new AtomicLong();
+
+  void addQueueTime(long nanos) {
+    totalQueueTimeNanos.addAndGet(nanos);
+    updateMax(maxQueueTimeNanos, nanos);
+  }
+
+  void addHandlerTime(long nanos) {
+    totalHandlerTimeNanos.addAndGet(nanos);
+    updateMax(maxHandlerTimeNanos, nanos);
+  }
+
+  private static void updateMax(AtomicLong max, long value) {
+    long current = max.get();
+    while (value > current && !max.compareAndSet(current, value)) {
+      current = max.get();
+    }
+  }
+
+  public void reset() {
+    requests.set(0);
+    handledRequests.set(0);
+    unhandledRequests.set(0);
+    timeouts.set(0);
+    lateResponses.set(0);
+    totalQueueTimeNanos.set(0);
+    maxQueueTimeNanos.set(0);
+    totalHandlerTimeNanos.set(0);
+    maxHandlerTimeNanos.set(0);
+  }
+
+  public Map<String, Object> toMap() {
+    Map<String, Object> map = new HashMap<>();
+    map.put("requests", requests.get());
+    map.put("handledRequests", handledRequests.get());
+    map.put("unhandledRequests", unhandledRequests.get());
+    map.put("timeouts", timeouts.get());
+    map.put("lateResponses", lateResponses.get());
+    map.put("totalQueueTimeNanos", totalQueueTimeNanos.get());
+    map.put("maxQueueTimeNanos", maxQueueTimeNanos.get());
+    map.put("totalHandlerTimeNanos", totalHandlerTimeNanos.get());
+    map.put("maxHandlerTimeNanos", maxHandlerTimeNanos.get());
+    return map;
+  }
+
+  @Override
+  public String toString() {
+    return "ShouldInterceptRequestStatistics{" +
+            "requests=" + requests +
+            ", handledRequests=" + handledRequests +
+            ", unhandledRequests=" + unhandledRequests +
+            ", timeouts=" + timeouts +
+            ", lateResponses=" + lateResponses +
+            ", totalQueueTimeNanos=" + totalQueueTimeNanos +
+            ", maxQueueTimeNanos=" + maxQueueTimeNanos +
+            ", totalHandlerTimeNanos=" + totalHandlerTimeNanos +
+            ", maxHandlerTimeNanos=" + maxHandlerTimeNanos +
+            '}';
+  }
+}
@@ -213,6 +213,22 @@ public class WebViewChannelDelegate extends ChannelDelegateImpl {
         } else
           result.success(null);
         break;
+      case takeRawScreenshot:
+        if (webView != null) {
+          Map<String, Object> screenshotConfiguration = (Map<String, Object>) call.argument("screenshotConfiguration");
+          webView.takeRawScreenshot(screenshotConfiguration, result);
+        } else
+          result.success(null);
+        break;
+      case takeFullPageScreenshot:
+        if (webView != null) {
+          Integer id = (Integer) call.argument("id");
+          Map<String, Object> screenshotConfiguration = (Map<String, Object>) call.argument("screenshotConfiguration");
+          Integer tileHeight = (Integer) call.argument("tileHeight");
+          webView.takeFullPageScreenshot(id, screenshotConfiguration, tileHeight, result);
+        } else
+          result.success(false);
+        break;
       case setSettings:
         if (webView != null && webView.getInAppBrowserDelegate() instanceof InAppBrowserActivity) {
           InAppBrowserActivity inAppBrowserActivity = (InAppBrowserActivity) webView.getInAppBrowserDelegate();
@@ -554,6 +570,13 @@ public class WebViewChannelDelegate extends ChannelDelegateImpl {
         }
         result.success(true);
         break;
+      case getUserScriptsBundleMetrics:
+        if (webView != null && webView.getUserContentController() != null) {
+          result.success(webView.getUserContentController().getBundleMetrics());
+        } else {
+          result.success(null);
+        }
+        break;
       case callAsyncJavaScript:
         if (webView != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
           String functionBody = (String) call.argument("functionBody");
@@ -675,6 +698,56 @@ public class WebViewChannelDelegate extends ChannelDelegateImpl {
           webView.clearFormData();
         }
         result.success(true);
+        break;
+      case getInterceptRequestRuleMatchCounts:
+        if (webView instanceof InAppWebView) {
+          result.success(((InAppWebView) webView).interceptRequestRuleHandler.getMatchCounts());
+        } else {
+          result.success(new ArrayList<Long>());
+        }
+        break;
+      case getConsoleMessages:
+        if (webView instanceof InAppWebView && ((InAppWebView) webView).consoleMessageBuffer != null) {
+          Integer limit = (Integer) call.argument("limit");
+          result.success(((InAppWebView) webView).consoleMessageBuffer.getLast(limit));
+        } else {
+          result.success(new ArrayList<Map<String, Object>>());
+        }
+        break;
+      case clearConsoleMessages:
+        if (webView instanceof InAppWebView && ((InAppWebView) webView).consoleMessageBuffer != null) {
+          ((InAppWebView) webView).consoleMessageBuffer.clear();
+        }
+        result.success(true);
+        break;
+      case getResourceTimingSummary:
+        if (webView instanceof InAppWebView && ((InAppWebView) webView).resourceTimingCollector != null) {
+          result.success(((InAppWebView) webView).resourceTimingCollector.getSummary());
+        } else {
+          result.success(null);
+        }
+        break;
+      case getContentBlockerStatistics:
+        if (webView instanceof InAppWebView) {
+          result.success(((InAppWebView) webView).contentBlockerHandler.getStatistics().toMap());
+        } else {
+          result.success(null);
+        }
+        break;
+      case getShouldInterceptRequestStatistics:
+        if (webView instanceof InAppWebView && ((InAppWebView) webView).shouldInterceptRequestChannel != null) {
+          result.success(((InAppWebView) webView).shouldInterceptRequestChannel.getStatistics().toMap());
+        } else {
+          result.success(null);
+        }
+        break;
+      case getJavaScriptBridgeStatistics:
+        if (webView instanceof InAppWebView && ((InAppWebView) webView).javaScriptBridgeInterface != null) {
+          result.success(((InAppWebView) webView).javaScriptBridgeInterface.getStatistics().toMap());
+        } else {
+          result.success(null);
+        }
+        break;
     }
   }
 
@@ -905,6 +978,25 @@ public class WebViewChannelDelegate extends ChannelDelegateImpl {
     channel.invokeMethod("onConsoleMessage", obj);
   }
 
+  public void onConsoleMessages(List<Map<String, Object>> consoleMessages) {
+    MethodChannel channel = getChannel();
+    if (channel == null) return;
+    Map<String, Object> obj = new HashMap<>();
+    obj.put("consoleMessages", consoleMessages);
+    channel.invokeMethod("onConsoleMessages", obj);
+  }
+
+  /**
+   * @param entries JSON array of the resource timing entries, decoded by Dart.
+   */
+  public void onLoadResources(String entries) {
+    MethodChannel channel = getChannel();
+    if (channel == null) return;
+    Map<String, Object> obj = new HashMap<>();
+    obj.put("entries", entries);
+    channel.invokeMethod("onLoadResources", obj);
+  }
+
   public void onProgressChanged(int progress) {
     MethodChannel channel = getChannel();
     if (channel == null) return;
@@ -921,11 +1013,14 @@ public class WebViewChannelDelegate extends ChannelDelegateImpl {
     channel.invokeMethod("onTitleChanged", obj);
   }
 
-  public void onReceivedIcon(byte[] icon) {
+  /**
+   * @param key the key of the icon in the {@link com.pichillilorenzo.flutter_inappwebview_android.favicon.FaviconCache}.
+   */
+  public void onReceivedIcon(@NonNull String key) {
     MethodChannel channel = getChannel();
     if (channel == null) return;
     Map<String, Object> obj = new HashMap<>();
-    obj.put("icon", icon);
+    obj.put("key", key);
     channel.invokeMethod("onReceivedIcon", obj);
   }
 
@@ -1283,6 +1378,74 @@ public class WebViewChannelDelegate extends ChannelDelegateImpl {
     channel.invokeMethod("onCallJsHandler", obj, callback);
   }
 
+  public static class CallJsBinaryHandlerCallback extends BaseCallbackResultImpl<Object> {
+    @Nullable
+    @Override
+    public Object decodeResult(@Nullable Object obj) {
+      return obj;
+    }
+  }
+
+  public void onCallJsBinaryHandler(String handlerName, byte[] data, @NonNull CallJsBinaryHandlerCallback callback) {
+    MethodChannel channel = getChannel();
+    if (channel == null) {
+      callback.defaultBehaviour(null);
+      return;
+    }
+    Map<String, Object> obj = new HashMap<>();
+    obj.put("handlerName", handlerName);
+    obj.put("data", data);
+    channel.invokeMethod("onCallJsBinaryHandler", obj, callback);
+  }
+
+  public static class CallJsHandlersCallback extends BaseCallbackResultImpl<List<Object>> {
+    @Nullable
+    @Override
+    public List<Object> decodeResult(@Nullable Object obj) {
+      return obj instanceof List ? (List<Object>) obj : null;
+    }
+  }
+
+  public void onCallJsHandlers(String calls, @NonNull CallJsHandlersCallback callback) {
+    MethodChannel channel = getChannel();
+    if (channel == null) {
+      callback.defaultBehaviour(null);
+      return;
+    }
+    Map<String, Object> obj = new HashMap<>();
+    obj.put("calls", calls);
+    channel.invokeMethod("onCallJsHandlers", obj, callback);
+  }
+
+  public static class FullPageScreenshotTileCallback extends BaseCallbackResultImpl<Boolean> {
+    @Nullable
+    @Override
+    public Boolean decodeResult(@Nullable Object obj) {
+      return (obj instanceof Boolean) && (boolean) obj;
+    }
+  }
+
+  public void onFullPageScreenshotTile(int id, Map<String, Object> tile, @NonNull FullPageScreenshotTileCallback callback) {
+    MethodChannel channel = getChannel();
+    if (channel == null) {
+      callback.defaultBehaviour(null);
+      return;
+    }
+    Map<String, Object> obj = new HashMap<>();
+    obj.put("id", id);
+    obj.put("tile", tile);
+    channel.invokeMethod("onFullPageScreenshotTile", obj, callback);
+  }
+
+  public void onFullPageScreenshotEnd(int id, @Nullable String error) {
+    MethodChannel channel = getChannel();
+    if (channel == null) return;
+    Map<String, Object> obj = new HashMap<>();
+    obj.put("id", id);
+    obj.put("error", error);
+    channel.invokeMethod("onFullPageScreenshotEnd", obj);
+  }
+
   public static class PrintRequestCallback extends BaseCallbackResultImpl<Boolean> {
     @Nullable
     @Override
@@ -22,6 +22,8 @@ public enum WebViewChannelDelegateMethods {
   stopLoading,
   isLoading,
   takeScreenshot,
+  takeRawScreenshot,
+  takeFullPageScreenshot,
   setSettings,
   getSettings,
   close,
@@ -82,5 +84,13 @@ public enum WebViewChannelDelegateMethods {
   canScrollVertically,
   canScrollHorizontally,
   isInFullscreen,
-  clearFormData
+  clearFormData,
+  getInterceptRequestRuleMatchCounts,
+  getConsoleMessages,
+  clearConsoleMessages,
+  getResourceTimingSummary,
+  getUserScriptsBundleMetrics,
+  getContentBlockerStatistics,
+  getShouldInterceptRequestStatistics,
+  getJavaScriptBridgeStatistics
 }
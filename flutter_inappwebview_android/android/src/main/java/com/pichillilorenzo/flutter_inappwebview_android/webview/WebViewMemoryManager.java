@@ -0,0 +1,470 @@
+package com.pichillilorenzo.flutter_inappwebview_android.webview;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.Log;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pichillilorenzo.flutter_inappwebview_android.InAppWebViewFlutterPlugin;
+import com.pichillilorenzo.flutter_inappwebview_android.favicon.FaviconCache;
+import com.pichillilorenzo.flutter_inappwebview_android.screenshot.BitmapPool;
+import com.pichillilorenzo.flutter_inappwebview_android.types.UserScript;
+import com.pichillilorenzo.flutter_inappwebview_android.webview.in_app_webview.FlutterWebView;
+import com.pichillilorenzo.flutter_inappwebview_android.webview.in_app_webview.InAppWebView;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.flutter.plugin.common.MethodCall;
+import io.flutter.plugin.common.MethodChannel;
+
+/**
+ * Reacts to the memory pressure signals of the system for the kept alive WebViews of {@link InAppWebViewManager}.
+ * <p>
+ * A kept alive WebView is in background when its view is not attached to a window, that is when its widget
+ * is not in the widget tree. On {@link #onTrimMemory}, the background WebViews are paused. From
+ * {@link ComponentCallbacks2#TRIM_MEMORY_RUNNING_LOW}, except for {@link ComponentCallbacks2#TRIM_MEMORY_UI_HIDDEN},
+ * the shared caches are cleared and the least recently used half of the background WebViews are frozen,
+ * and all of them from {@link ComponentCallbacks2#TRIM_MEMORY_RUNNING_CRITICAL}.
+ * <p>
+ * Freezing a WebView saves its back/forward list with {@link android.webkit.WebView#saveState}, its current settings
+ * and user scripts, and a thumbnail, then destroys it. The WebView is restored from the saved state when its widget
+ * is attached again, see {@link #restore}: the JavaScript state of the page is lost, the page is loaded again.
+ * While a WebView is frozen, the method calls of its Dart controller fail with an error telling that it is frozen.
+ * Must be used on the main thread.
+ */
+public class WebViewMemoryManager implements ComponentCallbacks2 {
+  protected static final String LOG_TAG = "WebViewMemoryManager";
+  public static final int THUMBNAIL_MAX_WIDTH = 256;
+  public static final int THUMBNAIL_QUALITY = 80;
+
+  @Nullable
+  private InAppWebViewManager inAppWebViewManager;
+  @Nullable
+  private Context applicationContext;
+  @NonNull
+  private final Handler handler = new Handler(Looper.getMainLooper());
+
+  private boolean freezeBackgroundWebViews = true;
+  private int maxLiveBackgroundWebViews = -1;
+
+  @NonNull
+  private final Map<String, TrackedWebView> trackedWebViews = new HashMap<>();
+  @NonNull
+  private final Map<String, FrozenWebView> frozenWebViews = new HashMap<>();
+
+  private long trimCount = 0;
+  private int lastTrimLevel = 0;
+  private long pauseCount = 0;
+  private long freezeCount = 0;
+  private long restoreCount = 0;
+
+  private final Runnable enforceMaxLiveBackgroundWebViewsRunnable = new Runnable() {
+    @Override
+    public void run() {
+      if (maxLiveBackgroundWebViews >= 0) {
+        List<TrackedWebView> backgroundWebViews = getBackgroundWebViews();
+        freeze(backgroundWebViews, backgroundWebViews.size() - maxLiveBackgroundWebViews);
+      }
+    }
+  };
+
+  public WebViewMemoryManager(@NonNull InAppWebViewManager inAppWebViewManager, @NonNull Context applicationContext) {
+    this.inAppWebViewManager = inAppWebViewManager;
+    this.applicationContext = applicationContext.getApplicationContext();
+    this.applicationContext.registerComponentCallbacks(this);
+  }
+
+  /**
+   * @param freezeBackgroundWebViews {@code true} to freeze the background WebViews under memory pressure.
+   * @param maxLiveBackgroundWebViews maximum number of background WebViews not frozen, a negative value for no limit.
+   */
+  public void setSettings(@Nullable Boolean freezeBackgroundWebViews, @Nullable Integer maxLiveBackgroundWebViews) {
+    if (freezeBackgroundWebViews != null) {
+      this.freezeBackgroundWebViews = freezeBackgroundWebViews;
+    }
+    if (maxLiveBackgroundWebViews != null) {
+      this.maxLiveBackgroundWebViews = maxLiveBackgroundWebViews;
+    }
+    handler.post(enforceMaxLiveBackgroundWebViewsRunnable);
+  }
+
+  /**
+   * Starts tracking the use of a kept alive WebView, when its view is created or taken again.
+   */
+  public void track(@NonNull String keepAliveId, @NonNull FlutterWebView flutterWebView) {
+    TrackedWebView trackedWebView = trackedWebViews.get(keepAliveId);
+    if (trackedWebView != null && trackedWebView.flutterWebView == flutterWebView) {
+      trackedWebView.lastUseTime = SystemClock.uptimeMillis();
+      return;
+    }
+    forget(keepAliveId);
+    View view = flutterWebView.getView();
+    if (view != null) {
+      trackedWebViews.put(keepAliveId, new TrackedWebView(keepAliveId, flutterWebView, view));
+    }
+  }
+
+  /**
+   * Stops tracking a kept alive WebView and drops its frozen state, if any.
+   */
+  public void forget(@NonNull String keepAliveId) {
+    TrackedWebView trackedWebView = trackedWebViews.remove(keepAliveId);
+    if (trackedWebView != null) {
+      trackedWebView.view.removeOnAttachStateChangeListener(trackedWebView);
+    }
+    FrozenWebView frozenWebView = frozenWebViews.remove(keepAliveId);
+    if (frozenWebView != null) {
+      frozenWebView.dispose();
+    }
+  }
+
+  /**
+   * @return the WebView restored from the state saved when {@code keepAliveId} was frozen,
+   * or {@code null} if it isn't frozen.
+   */
+  @Nullable
+  public FlutterWebView restore(@NonNull String keepAliveId, @NonNull Context context) {
+    FrozenWebView frozenWebView = frozenWebViews.remove(keepAliveId);
+    InAppWebViewFlutterPlugin plugin = inAppWebViewManager != null ? inAppWebViewManager.plugin : null;
+    if (frozenWebView == null || plugin == null) {
+      return null;
+    }
+    // before the restored WebView sets its own handler on the same channel
+    frozenWebView.dispose();
+    FlutterWebView flutterWebView = new FlutterWebView(plugin, context, keepAliveId, frozenWebView.params);
+    InAppWebView webView = flutterWebView.webView;
+    if (webView != null) {
+      webView.userContentController.addUserOnlyScripts(frozenWebView.userScripts);
+      if (webView.restoreState(frozenWebView.state) == null && frozenWebView.url != null) {
+        webView.loadUrl(frozenWebView.url);
+      }
+    }
+    restoreCount++;
+    return flutterWebView;
+  }
+
+  /**
+   * @return the JPEG thumbnail of the page of a frozen WebView, taken when it was frozen.
+   */
+  @Nullable
+  public byte[] getThumbnail(@NonNull String keepAliveId) {
+    FrozenWebView frozenWebView = frozenWebViews.get(keepAliveId);
+    return frozenWebView != null ? frozenWebView.thumbnail : null;
+  }
+
+  @Override
+  public void onTrimMemory(int level) {
+    trimCount++;
+    lastTrimLevel = level;
+
+    // TRIM_MEMORY_UI_HIDDEN only means that the app went to background, the caches are still worth keeping
+    boolean memoryLow = level == TRIM_MEMORY_RUNNING_LOW || level == TRIM_MEMORY_RUNNING_CRITICAL ||
+            level >= TRIM_MEMORY_BACKGROUND;
+    if (memoryLow) {
+      trimCaches();
+    }
+
+    List<TrackedWebView> backgroundWebViews = getBackgroundWebViews();
+    for (TrackedWebView trackedWebView : backgroundWebViews) {
+      trackedWebView.pause();
+    }
+    if (level == TRIM_MEMORY_RUNNING_LOW || level == TRIM_MEMORY_BACKGROUND) {
+      freeze(backgroundWebViews, (backgroundWebViews.size() + 1) / 2);
+    } else if (level == TRIM_MEMORY_RUNNING_CRITICAL || level >= TRIM_MEMORY_MODERATE) {
+      freeze(backgroundWebViews, backgroundWebViews.size());
+    }
+  }
+
+  private void trimCaches() {
+    BitmapPool.getInstance().clear();
+    if (applicationContext != null) {
+      FaviconCache.getInstance(applicationContext).trimMemory();
+    }
+    if (inAppWebViewManager != null && inAppWebViewManager.webViewPool != null) {
+      inAppWebViewManager.webViewPool.trimMemory();
+    }
+    InAppWebViewFlutterPlugin plugin = inAppWebViewManager != null ? inAppWebViewManager.plugin : null;
+    if (plugin != null && plugin.headlessInAppWebViewManager != null && plugin.headlessInAppWebViewManager.farm != null) {
+      plugin.headlessInAppWebViewManager.farm.trimMemory();
+    }
+  }
+
+  @Override
+  public void onLowMemory() {
+    onTrimMemory(TRIM_MEMORY_COMPLETE);
+  }
+
+  @Override
+  public void onConfigurationChanged(@NonNull Configuration newConfig) {}
+
+  /**
+   * @return the background WebViews, from the least recently used.
+   */
+  @NonNull
+  private List<TrackedWebView> getBackgroundWebViews() {
+    List<TrackedWebView> backgroundWebViews = new ArrayList<>();
+    for (TrackedWebView trackedWebView : trackedWebViews.values()) {
+      if (!trackedWebView.isAttached()) {
+        backgroundWebViews.add(trackedWebView);
+      }
+    }
+    Collections.sort(backgroundWebViews, new Comparator<TrackedWebView>() {
+      @Override
+      public int compare(TrackedWebView trackedWebView1, TrackedWebView trackedWebView2) {
+        return Long.compare(trackedWebView1.lastUseTime, trackedWebView2.lastUseTime);
+      }
+    });
+    return backgroundWebViews;
+  }
+
+  private void freeze(@NonNull List<TrackedWebView> backgroundWebViews, int count) {
+    if (!freezeBackgroundWebViews) {
+      return;
+    }
+    for (int i = 0; i < count && i < backgroundWebViews.size(); i++) {
+      freeze(backgroundWebViews.get(i));
+    }
+  }
+
+  private void freeze(@NonNull TrackedWebView trackedWebView) {
+    InAppWebView webView = trackedWebView.flutterWebView.webView;
+    if (webView == null || inAppWebViewManager == null) {
+      return;
+    }
+    Bundle state = new Bundle();
+    if (webView.saveState(state) == null) {
+      // nothing to restore, for example if the WebView has not loaded anything yet
+      return;
+    }
+    HashMap<String, Object> params = new HashMap<>(trackedWebView.flutterWebView.params);
+    params.put("initialSettings", webView.customSettings.toMap());
+    params.put("keepAliveId", trackedWebView.keepAliveId);
+    params.remove("initialUserScripts");
+    params.remove("windowId");
+    FrozenWebView frozenWebView = new FrozenWebView(params, state,
+            new ArrayList<>(webView.userContentController.getUserOnlyScriptAsList()), webView.getUrl(),
+            takeThumbnail(webView));
+
+    String keepAliveId = trackedWebView.keepAliveId;
+    InAppWebViewFlutterPlugin plugin = inAppWebViewManager.plugin;
+    inAppWebViewManager.disposeKeepAlive(keepAliveId);
+    if (plugin != null && plugin.messenger != null) {
+      // the Dart controller is still in use, so its calls are answered until the WebView is restored
+      frozenWebView.channel = new MethodChannel(plugin.messenger, InAppWebView.METHOD_CHANNEL_NAME_PREFIX + keepAliveId);
+      frozenWebView.channel.setMethodCallHandler(new FrozenMethodCallHandler(keepAliveId));
+    }
+    frozenWebViews.put(keepAliveId, frozenWebView);
+    freezeCount++;
+  }
+
+  @Nullable
+  private static byte[] takeThumbnail(@NonNull View view) {
+    int width = view.getWidth();
+    int height = view.getHeight();
+    if (width <= 0 || height <= 0) {
+      return null;
+    }
+    float scale = Math.min(1f, (float) THUMBNAIL_MAX_WIDTH / width);
+    Bitmap bitmap = null;
+    try {
+      bitmap = Bitmap.createBitmap(Math.max(1, (int) (width * scale)), Math.max(1, (int) (height * scale)),
+              Bitmap.Config.RGB_565);
+      Canvas canvas = new Canvas(bitmap);
+      canvas.scale(scale, scale);
+      canvas.translate(-view.getScrollX(), -view.getScrollY());
+      view.draw(canvas);
+      ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+      bitmap.compress(Bitmap.CompressFormat.JPEG, THUMBNAIL_QUALITY, byteArrayOutputStream);
+      return byteArrayOutputStream.toByteArray();
+    } catch (RuntimeException | OutOfMemoryError e) {
+      Log.e(LOG_TAG, "", e);
+      return null;
+    } finally {
+      if (bitmap != null) {
+        bitmap.recycle();
+      }
+    }
+  }
+
+  /**
+   * @return the trim counters and, for each kept alive WebView, its state, last use time and estimated memory:
+   * the size of its rendered surface for the live WebViews, of its thumbnail for the frozen ones.
+   */
+  @NonNull
+  public Map<String, Object> getStatistics() {
+    long now = SystemClock.uptimeMillis();
+    long estimatedMemoryBytes = 0;
+    int backgroundWebViewCount = 0;
+    int pausedWebViewCount = 0;
+    List<Map<String, Object>> webViews = new ArrayList<>();
+    for (TrackedWebView trackedWebView : trackedWebViews.values()) {
+      boolean background = !trackedWebView.isAttached();
+      long webViewMemoryBytes = 4L * trackedWebView.view.getWidth() * trackedWebView.view.getHeight();
+      estimatedMemoryBytes += webViewMemoryBytes;
+      backgroundWebViewCount += background ? 1 : 0;
+      pausedWebViewCount += trackedWebView.paused ? 1 : 0;
+      Map<String, Object> webView = new HashMap<>();
+      webView.put("keepAliveId", trackedWebView.keepAliveId);
+      webView.put("state", trackedWebView.paused ? "paused" : (background ? "background" : "attached"));
+      webView.put("idleTime", background ? now - trackedWebView.lastUseTime : 0);
+      webView.put("estimatedMemoryBytes", webViewMemoryBytes);
+      webViews.add(webView);
+    }
+    for (Map.Entry<String, FrozenWebView> frozenWebView : frozenWebViews.entrySet()) {
+      byte[] thumbnail = frozenWebView.getValue().thumbnail;
+      long webViewMemoryBytes = thumbnail != null ? thumbnail.length : 0;
+      estimatedMemoryBytes += webViewMemoryBytes;
+      Map<String, Object> webView = new HashMap<>();
+      webView.put("keepAliveId", frozenWebView.getKey());
+      webView.put("state", "frozen");
+      webView.put("idleTime", now - frozenWebView.getValue().frozenTime);
+      webView.put("estimatedMemoryBytes", webViewMemoryBytes);
+      webViews.add(webView);
+    }
+
+    Map<String, Object> statistics = new HashMap<>();
+    statistics.put("trimCount", trimCount);
+    statistics.put("lastTrimLevel", lastTrimLevel);
+    statistics.put("pauseCount", pauseCount);
+    statistics.put("freezeCount", freezeCount);
+    statistics.put("restoreCount", restoreCount);
+    statistics.put("liveWebViews", trackedWebViews.size());
+    statistics.put("backgroundWebViews", backgroundWebViewCount);
+    statistics.put("pausedWebViews", pausedWebViewCount);
+    statistics.put("frozenWebViews", frozenWebViews.size());
+    statistics.put("estimatedMemoryBytes", estimatedMemoryBytes);
+    statistics.put("webViews", webViews);
+    return statistics;
+  }
+
+  public void dispose() {
+    handler.removeCallbacks(enforceMaxLiveBackgroundWebViewsRunnable);
+    for (String keepAliveId : new ArrayList<>(trackedWebViews.keySet())) {
+      forget(keepAliveId);
+    }
+    for (FrozenWebView frozenWebView : frozenWebViews.values()) {
+      frozenWebView.dispose();
+    }
+    frozenWebViews.clear();
+    if (applicationContext != null) {
+      applicationContext.unregisterComponentCallbacks(this);
+      applicationContext = null;
+    }
+    inAppWebViewManager = null;
+  }
+
+  private class TrackedWebView implements View.OnAttachStateChangeListener {
+    @NonNull
+    final String keepAliveId;
+    @NonNull
+    final FlutterWebView flutterWebView;
+    @NonNull
+    final View view;
+    long lastUseTime = SystemClock.uptimeMillis();
+    boolean paused = false;
+
+    TrackedWebView(@NonNull String keepAliveId, @NonNull FlutterWebView flutterWebView, @NonNull View view) {
+      this.keepAliveId = keepAliveId;
+      this.flutterWebView = flutterWebView;
+      this.view = view;
+      view.addOnAttachStateChangeListener(this);
+    }
+
+    boolean isAttached() {
+      return view.isAttachedToWindow();
+    }
+
+    void pause() {
+      InAppWebView webView = flutterWebView.webView;
+      if (!paused && webView != null) {
+        paused = true;
+        pauseCount++;
+        // WebView.freeMemory is a no-op since KitKat, the renderer drops its caches on its own
+        webView.onPause();
+      }
+    }
+
+    @Override
+    public void onViewAttachedToWindow(@NonNull View view) {
+      lastUseTime = SystemClock.uptimeMillis();
+      InAppWebView webView = flutterWebView.webView;
+      if (paused && webView != null) {
+        webView.onResume();
+      }
+      paused = false;
+    }
+
+    @Override
+    public void onViewDetachedFromWindow(@NonNull View view) {
+      lastUseTime = SystemClock.uptimeMillis();
+      if (maxLiveBackgroundWebViews >= 0) {
+        // the view hierarchy must not be changed while the view is being detached
+        handler.removeCallbacks(enforceMaxLiveBackgroundWebViewsRunnable);
+        handler.post(enforceMaxLiveBackgroundWebViewsRunnable);
+      }
+    }
+  }
+
+  private static class FrozenWebView {
+    @NonNull
+    final HashMap<String, Object> params;
+    @NonNull
+    final Bundle state;
+    @NonNull
+    final List<UserScript> userScripts;
+    @Nullable
+    final String url;
+    @Nullable
+    final byte[] thumbnail;
+    final long frozenTime = SystemClock.uptimeMillis();
+    @Nullable
+    MethodChannel channel;
+
+    FrozenWebView(@NonNull HashMap<String, Object> params, @NonNull Bundle state, @NonNull List<UserScript> userScripts,
+                  @Nullable String url, @Nullable byte[] thumbnail) {
+      this.params = params;
+      this.state = state;
+      this.userScripts = userScripts;
+      this.url = url;
+      this.thumbnail = thumbnail;
+    }
+
+    void dispose() {
+      if (channel != null) {
+        channel.setMethodCallHandler(null);
+        channel = null;
+      }
+    }
+  }
+
+  private static class FrozenMethodCallHandler implements MethodChannel.MethodCallHandler {
+    @NonNull
+    private final String keepAliveId;
+
+    FrozenMethodCallHandler(@NonNull String keepAliveId) {
+      this.keepAliveId = keepAliveId;
+    }
+
+    @Override
+    public void onMethodCall(@NonNull MethodCall call, @NonNull MethodChannel.Result result) {
+      result.error(LOG_TAG, "The WebView with keepAliveId " + keepAliveId + " has been frozen under memory pressure. " +
+              "It is restored when its widget is used again.", null);
+    }
+  }
+}
@@ -0,0 +1,189 @@
+package com.pichillilorenzo.flutter_inappwebview_android.webview.in_app_webview;
+
+import android.os.SystemClock;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pichillilorenzo.flutter_inappwebview_android.webview.WebViewChannelDelegate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the console messages of an {@link InAppWebView}.
+ * <p>
+ * The last {@link InAppWebViewSettings#consoleMessageBufferSize} messages, of any level, are kept in a ring buffer
+ * that can be read with {@link #getLast}. The messages of the {@link InAppWebViewSettings#consoleMessageLevels}
+ * are sent to Dart in batches of up to {@link InAppWebViewSettings#consoleMessageBatchSize} messages, at most
+ * {@link InAppWebViewSettings#consoleMessageBatchInterval} milliseconds after the first one of the batch,
+ * and at most {@link InAppWebViewSettings#consoleMessageMaxRate} per second. Must be used on the WebView thread.
+ */
+public class ConsoleMessageBuffer {
+  @Nullable
+  private InAppWebView webView;
+
+  // ring buffer of the last messages
+  @NonNull
+  private String[] messages = new String[0];
+  @NonNull
+  private int[] messageLevels = new int[0];
+  private int start = 0;
+  private int size = 0;
+
+  @NonNull
+  private List<Map<String, Object>> pendingMessages = new ArrayList<>();
+  private boolean flushScheduled = false;
+
+  private long rateWindowStart = 0;
+  private int rateWindowCount = 0;
+
+  private final Runnable flushRunnable = new Runnable() {
+    @Override
+    public void run() {
+      flushScheduled = false;
+      flush();
+    }
+  };
+
+  public ConsoleMessageBuffer(@NonNull InAppWebView webView) {
+    this.webView = webView;
+  }
+
+  public void add(@NonNull String message, int messageLevel) {
+    if (webView == null) {
+      return;
+    }
+    InAppWebViewSettings settings = webView.customSettings;
+    store(message, messageLevel, settings.consoleMessageBufferSize != null ? settings.consoleMessageBufferSize : 0);
+
+    if (settings.consoleMessageLevels != null && !settings.consoleMessageLevels.contains(messageLevel)) {
+      return;
+    }
+    if (settings.consoleMessageMaxRate != null && settings.consoleMessageMaxRate > 0 && !acquireRate(settings.consoleMessageMaxRate)) {
+      return;
+    }
+
+    pendingMessages.add(toMap(message, messageLevel));
+    int batchSize = settings.consoleMessageBatchSize != null ? settings.consoleMessageBatchSize : 1;
+    if (pendingMessages.size() >= batchSize) {
+      flush();
+    } else if (!flushScheduled) {
+      flushScheduled = true;
+      int batchInterval = settings.consoleMessageBatchInterval != null ? settings.consoleMessageBatchInterval : 0;
+      webView.mainLooperHandler.postDelayed(flushRunnable, Math.max(0, batchInterval));
+    }
+  }
+
+  private void store(@NonNull String message, int messageLevel, int capacity) {
+    capacity = Math.max(0, capacity);
+    if (capacity != messages.length) {
+      resize(capacity);
+    }
+    if (capacity == 0) {
+      return;
+    }
+    int index = (start + size) % capacity;
+    messages[index] = message;
+    messageLevels[index] = messageLevel;
+    if (size < capacity) {
+      size++;
+    } else {
+      start = (start + 1) % capacity;
+    }
+  }
+
+  private void resize(int capacity) {
+    String[] newMessages = new String[capacity];
+    int[] newMessageLevels = new int[capacity];
+    // keep the most recent messages
+    int newSize = Math.min(size, capacity);
+    for (int i = 0; i < newSize; i++) {
+      int index = (start + size - newSize + i) % messages.length;
+      newMessages[i] = messages[index];
+      newMessageLevels[i] = messageLevels[index];
+    }
+    messages = newMessages;
+    messageLevels = newMessageLevels;
+    start = 0;
+    size = newSize;
+  }
+
+  private boolean acquireRate(int maxRate) {
+    long now = SystemClock.uptimeMillis();
+    if (now - rateWindowStart >= 1000) {
+      rateWindowStart = now;
+      rateWindowCount = 0;
+    }
+    if (rateWindowCount >= maxRate) {
+      return false;
+    }
+    rateWindowCount++;
+    return true;
+  }
+
+  /**
+   * Sends the pending messages to Dart.
+   */
+  public void flush() {
+    if (flushScheduled && webView != null) {
+      flushScheduled = false;
+      webView.mainLooperHandler.removeCallbacks(flushRunnable);
+    }
+    if (pendingMessages.isEmpty()) {
+      return;
+    }
+    List<Map<String, Object>> batch = pendingMessages;
+    pendingMessages = new ArrayList<>();
+    WebViewChannelDelegate channelDelegate = webView != null ? webView.channelDelegate : null;
+    if (channelDelegate == null) {
+      return;
+    }
+    if (batch.size() == 1) {
+      Map<String, Object> consoleMessage = batch.get(0);
+      channelDelegate.onConsoleMessage((String) consoleMessage.get("message"), (int) consoleMessage.get("messageLevel"));
+    } else {
+      channelDelegate.onConsoleMessages(batch);
+    }
+  }
+
+  /**
+   * @param limit maximum number of messages to return, {@code null} for all the kept messages.
+   * @return the last messages, from the oldest to the most recent.
+   */
+  @NonNull
+  public List<Map<String, Object>> getLast(@Nullable Integer limit) {
+    int count = limit != null ? Math.max(0, Math.min(limit, size)) : size;
+    List<Map<String, Object>> consoleMessages = new ArrayList<>(count);
+    for (int i = size - count; i < size; i++) {
+      int index = (start + i) % messages.length;
+      consoleMessages.add(toMap(messages[index], messageLevels[index]));
+    }
+    return consoleMessages;
+  }
+
+  public void clear() {
+    start = 0;
+    size = 0;
+    messages = new String[messages.length];
+  }
+
+  @NonNull
+  private static Map<String, Object> toMap(@NonNull String message, int messageLevel) {
+    Map<String, Object> consoleMessage = new HashMap<>();
+    consoleMessage.put("message", message);
+    consoleMessage.put("messageLevel", messageLevel);
+    return consoleMessage;
+  }
+
+  public void dispose() {
+    if (webView != null) {
+      webView.mainLooperHandler.removeCallbacks(flushRunnable);
+    }
+    flushScheduled = false;
+    pendingMessages.clear();
+    webView = null;
+  }
+}
@@ -38,6 +38,8 @@ public class FlutterWebView implements PlatformWebView {
   public PullToRefreshLayout pullToRefreshLayout;
   @Nullable
   public String keepAliveId;
+  @NonNull
+  public final HashMap<String, Object> params;
 
   public FlutterWebView(final InAppWebViewFlutterPlugin plugin, final Context context, Object id,
                         HashMap<String, Object> params) {
@@ -45,6 +47,7 @@ public class FlutterWebView implements PlatformWebView {
     DisplayManager displayManager = (DisplayManager) context.getSystemService(Context.DISPLAY_SERVICE);
     displayListenerProxy.onPreWebViewInitialization(displayManager);
 
+    this.params = params;
     keepAliveId = (String) params.get("keepAliveId");
     
     Map<String, Object> initialSettings = (Map<String, Object>) params.get("initialSettings");
@@ -63,8 +66,17 @@ public class FlutterWebView implements PlatformWebView {
       }
     }
 
-    webView = new InAppWebView(context, plugin, id, windowId, customSettings, contextMenu, 
-            customSettings.useHybridComposition ? null : plugin.flutterView, userScripts);
+    View containerView = customSettings.useHybridComposition ? null : plugin.flutterView;
+    // a window WebView must not have loaded anything, so it can't come from the pool
+    InAppWebViewPool webViewPool = windowId == null && plugin.inAppWebViewManager != null ?
+            plugin.inAppWebViewManager.webViewPool : null;
+    webView = webViewPool != null ? webViewPool.acquire(context) : null;
+    if (webView != null) {
+      webView.init(plugin, id, windowId, customSettings, contextMenu, containerView, userScripts);
+    } else {
+      webView = new InAppWebView(context, plugin, id, windowId, customSettings, contextMenu,
+              containerView, userScripts);
+    }
     displayListenerProxy.onPostWebViewInitialization(displayManager);
 
     // set MATCH_PARENT layout params to the WebView, otherwise it won't take all the available space!
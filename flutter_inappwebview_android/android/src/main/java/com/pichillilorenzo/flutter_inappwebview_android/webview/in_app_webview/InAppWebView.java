@@ -9,8 +9,6 @@ import android.annotation.SuppressLint;
 import android.annotation.TargetApi;
 import android.content.Context;
 import android.content.pm.PackageInfo;
-import android.graphics.Bitmap;
-import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Point;
 import android.graphics.drawable.ColorDrawable;
@@ -71,10 +69,13 @@ import com.pichillilorenzo.flutter_inappwebview_android.content_blocker.ContentB
 import com.pichillilorenzo.flutter_inappwebview_android.content_blocker.ContentBlockerTrigger;
 import com.pichillilorenzo.flutter_inappwebview_android.find_interaction.FindInteractionController;
 import com.pichillilorenzo.flutter_inappwebview_android.in_app_browser.InAppBrowserDelegate;
+import com.pichillilorenzo.flutter_inappwebview_android.intercept_request_rule.InterceptRequestRuleHandler;
 import com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js.ConsoleLogJS;
+import com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js.ContentBlockerJS;
 import com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js.InterceptAjaxRequestJS;
 import com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js.InterceptFetchRequestJS;
 import com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js.JavaScriptBridgeJS;
+import com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js.JavaScriptHandlerBatchingJS;
 import com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js.OnLoadResourceJS;
 import com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js.OnWindowBlurEventJS;
 import com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js.OnWindowFocusEventJS;
@@ -83,6 +84,8 @@ import com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js.PrintJ
 import com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js.PromisePolyfillJS;
 import com.pichillilorenzo.flutter_inappwebview_android.print_job.PrintJobController;
 import com.pichillilorenzo.flutter_inappwebview_android.print_job.PrintJobSettings;
+import com.pichillilorenzo.flutter_inappwebview_android.screenshot.FullPageScreenshotTaker;
+import com.pichillilorenzo.flutter_inappwebview_android.screenshot.ScreenshotTaker;
 import com.pichillilorenzo.flutter_inappwebview_android.pull_to_refresh.PullToRefreshLayout;
 import com.pichillilorenzo.flutter_inappwebview_android.types.ContentWorld;
 import com.pichillilorenzo.flutter_inappwebview_android.types.DownloadStartRequest;
@@ -94,15 +97,19 @@ import com.pichillilorenzo.flutter_inappwebview_android.types.UserScript;
 import com.pichillilorenzo.flutter_inappwebview_android.types.WebViewAssetLoaderExt;
 import com.pichillilorenzo.flutter_inappwebview_android.webview.ContextMenuSettings;
 import com.pichillilorenzo.flutter_inappwebview_android.webview.InAppWebViewInterface;
+import com.pichillilorenzo.flutter_inappwebview_android.webview.JavaScriptBinaryBridge;
 import com.pichillilorenzo.flutter_inappwebview_android.webview.JavaScriptBridgeInterface;
+import com.pichillilorenzo.flutter_inappwebview_android.webview.ResponseStreamChannel;
+import com.pichillilorenzo.flutter_inappwebview_android.webview.ShouldInterceptRequestChannel;
 import com.pichillilorenzo.flutter_inappwebview_android.webview.WebViewChannelDelegate;
 import com.pichillilorenzo.flutter_inappwebview_android.webview.web_message.WebMessageChannel;
 import com.pichillilorenzo.flutter_inappwebview_android.webview.web_message.WebMessageListener;
 
 import org.json.JSONObject;
 
-import java.io.ByteArrayOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -135,12 +142,30 @@ final public class InAppWebView extends InputAwareWebView implements InAppWebVie
   @Nullable
   public WebViewChannelDelegate channelDelegate;
   @Nullable
+  public ShouldInterceptRequestChannel shouldInterceptRequestChannel;
+  @Nullable
+  public ResponseStreamChannel responseStreamChannel;
+  @Nullable
   public JavaScriptBridgeInterface javaScriptBridgeInterface;
+  @Nullable
+  public JavaScriptBinaryBridge javaScriptBinaryBridge;
+  @Nullable
+  public ScrollEventCoalescer scrollEventCoalescer;
+  @Nullable
+  public ConsoleMessageBuffer consoleMessageBuffer;
+  @Nullable
+  public ResourceTimingCollector resourceTimingCollector;
   public InAppWebViewSettings customSettings = new InAppWebViewSettings();
   public boolean isLoading = false;
+  // set for a pooled WebView that has loaded about:blank before being used
+  public boolean clearHistoryOnPageFinished = false;
+  // top-level URL of the current page, readable from any thread
+  @Nullable
+  private volatile String topLevelUrl;
   private boolean inFullscreen = false;
   public float zoomScale = 1.0f;
   public ContentBlockerHandler contentBlockerHandler = new ContentBlockerHandler();
+  public InterceptRequestRuleHandler interceptRequestRuleHandler = new InterceptRequestRuleHandler();
   public Pattern regexToCancelSubFramesLoadingCompiled;
   @Nullable
   public GestureDetector gestureDetector = null;
@@ -174,8 +199,14 @@ final public class InAppWebView extends InputAwareWebView implements InAppWebVie
   @Nullable
   public WebViewAssetLoaderExt webViewAssetLoaderExt;
 
+  // key in the FaviconCache of the last icon sent to Dart
+  @Nullable
+  public String faviconKey;
+
   @Nullable
   private PluginScript interceptOnlyAsyncAjaxRequestsPluginScript;
+  @Nullable
+  private PluginScript contentBlockerCssDisplayNonePluginScript;
 
   public InAppWebView(Context context) {
     super(context);
@@ -194,10 +225,25 @@ final public class InAppWebView extends InputAwareWebView implements InAppWebVie
                       @Nullable Map<String, Object> contextMenu, View containerView,
                       List<UserScript> userScripts) {
     super(context, containerView, customSettings.useHybridComposition);
+    init(plugin, id, windowId, customSettings, contextMenu, containerView, userScripts);
+  }
+
+  /**
+   * Initializes a WebView created with {@link #InAppWebView(Context)}, such as the ones of {@link InAppWebViewPool},
+   * like the other constructor does. {@link #prepare} must be called next.
+   */
+  public void init(@NonNull InAppWebViewFlutterPlugin plugin,
+                   @NonNull Object id, @Nullable Integer windowId, InAppWebViewSettings customSettings,
+                   @Nullable Map<String, Object> contextMenu, View containerView,
+                   List<UserScript> userScripts) {
+    setContainerView(containerView);
+    setUseHybridComposition(customSettings.useHybridComposition);
     this.plugin = plugin;
     this.id = id;
     final MethodChannel channel = new MethodChannel(plugin.messenger, METHOD_CHANNEL_NAME_PREFIX + id);
     this.channelDelegate = new WebViewChannelDelegate(this, channel);
+    this.responseStreamChannel = new ResponseStreamChannel(plugin.messenger, METHOD_CHANNEL_NAME_PREFIX + id);
+    this.shouldInterceptRequestChannel = new ShouldInterceptRequestChannel(plugin.messenger, METHOD_CHANNEL_NAME_PREFIX + id, responseStreamChannel);
     this.windowId = windowId;
     this.customSettings = customSettings;
     this.contextMenu = contextMenu;
@@ -245,6 +291,11 @@ final public class InAppWebView extends InputAwareWebView implements InAppWebVie
 
     javaScriptBridgeInterface = new JavaScriptBridgeInterface(this);
     addJavascriptInterface(javaScriptBridgeInterface, JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_NAME);
+    javaScriptBinaryBridge = new JavaScriptBinaryBridge(this);
+    javaScriptBinaryBridge.addWebMessageListener();
+    scrollEventCoalescer = new ScrollEventCoalescer(this);
+    consoleMessageBuffer = new ConsoleMessageBuffer(this);
+    resourceTimingCollector = new ResourceTimingCollector(this);
 
     inAppWebViewChromeClient = new InAppWebViewChromeClient(plugin, this, inAppBrowserDelegate);
     setWebChromeClient(inAppWebViewChromeClient);
@@ -447,13 +498,17 @@ final public class InAppWebView extends InputAwareWebView implements InAppWebVie
       WebSettingsCompat.setRequestedWithHeaderOriginAllowList(settings, customSettings.requestedWithHeaderOriginAllowList);
     }
 
-    contentBlockerHandler.getRuleList().clear();
+    List<ContentBlocker> contentBlockers = new ArrayList<>();
     for (Map<String, Map<String, Object>> contentBlocker : customSettings.contentBlockers) {
       // compile ContentBlockerTrigger urlFilter
       ContentBlockerTrigger trigger = ContentBlockerTrigger.fromMap(contentBlocker.get("trigger"));
       ContentBlockerAction action = ContentBlockerAction.fromMap(contentBlocker.get("action"));
-      contentBlockerHandler.getRuleList().add(new ContentBlocker(trigger, action));
+      contentBlockers.add(new ContentBlocker(trigger, action));
     }
+    contentBlockerHandler.setRuleList(contentBlockers);
+    updateContentBlockerCssDisplayNonePluginScript();
+
+    interceptRequestRuleHandler.setRules(customSettings.interceptRequestRules);
 
     setFindListener(new FindListener() {
       @Override
@@ -563,13 +618,26 @@ final public class InAppWebView extends InputAwareWebView implements InAppWebVie
     });
   }
 
+  /**
+   * Adds only the plugin scripts needed by the enabled settings,
+   * the other ones are added by {@link #setSettings} if the settings are enabled later.
+   */
   public void prepareAndAddUserScripts() {
-    userContentController.addPluginScript(PromisePolyfillJS.PROMISE_POLYFILL_JS_PLUGIN_SCRIPT);
+    // the WebView of Android 5.0+ supports Promise natively
+    if (Build.VERSION.SDK_INT < Build.VERSION_CODES.LOLLIPOP) {
+      userContentController.addPluginScript(PromisePolyfillJS.PROMISE_POLYFILL_JS_PLUGIN_SCRIPT);
+    }
     userContentController.addPluginScript(JavaScriptBridgeJS.JAVASCRIPT_BRIDGE_JS_PLUGIN_SCRIPT);
-    userContentController.addPluginScript(ConsoleLogJS.CONSOLE_LOG_JS_PLUGIN_SCRIPT);
+    if (customSettings.useOnConsoleMessage) {
+      userContentController.addPluginScript(ConsoleLogJS.CONSOLE_LOG_JS_PLUGIN_SCRIPT);
+    }
     userContentController.addPluginScript(PrintJS.PRINT_JS_PLUGIN_SCRIPT);
-    userContentController.addPluginScript(OnWindowBlurEventJS.ON_WINDOW_BLUR_EVENT_JS_PLUGIN_SCRIPT);
-    userContentController.addPluginScript(OnWindowFocusEventJS.ON_WINDOW_FOCUS_EVENT_JS_PLUGIN_SCRIPT);
+    if (customSettings.useOnWindowBlur) {
+      userContentController.addPluginScript(OnWindowBlurEventJS.ON_WINDOW_BLUR_EVENT_JS_PLUGIN_SCRIPT);
+    }
+    if (customSettings.useOnWindowFocus) {
+      userContentController.addPluginScript(OnWindowFocusEventJS.ON_WINDOW_FOCUS_EVENT_JS_PLUGIN_SCRIPT);
+    }
     interceptOnlyAsyncAjaxRequestsPluginScript = InterceptAjaxRequestJS.createInterceptOnlyAsyncAjaxRequestsPluginScript(customSettings.interceptOnlyAsyncAjaxRequests);
     if (customSettings.useShouldInterceptAjaxRequest) {
       userContentController.addPluginScript(interceptOnlyAsyncAjaxRequestsPluginScript);
@@ -581,6 +649,9 @@ final public class InAppWebView extends InputAwareWebView implements InAppWebVie
     if (customSettings.useOnLoadResource) {
       userContentController.addPluginScript(OnLoadResourceJS.ON_LOAD_RESOURCE_JS_PLUGIN_SCRIPT);
     }
+    if (customSettings.batchJavaScriptHandlerCalls) {
+      userContentController.addPluginScript(JavaScriptHandlerBatchingJS.JAVASCRIPT_HANDLER_BATCHING_JS_PLUGIN_SCRIPT);
+    }
     if (!customSettings.useHybridComposition) {
       userContentController.addPluginScript(PluginScriptsUtil.CHECK_GLOBAL_KEY_DOWN_EVENT_TO_HIDE_CONTEXT_MENU_JS_PLUGIN_SCRIPT);
     }
@@ -674,6 +745,30 @@ final public class InAppWebView extends InputAwareWebView implements InAppWebVie
     return isLoading;
   }
 
+  public void setTopLevelUrl(@Nullable String url) {
+    topLevelUrl = url;
+  }
+
+  /**
+   * @return the top-level URL of the current page, as last seen by onPageStarted, doUpdateVisitedHistory
+   * or the main frame request of shouldInterceptRequest. Unlike {@link #getUrl()}, it can be called from any thread.
+   */
+  @Nullable
+  public String getTopLevelUrl() {
+    return topLevelUrl;
+  }
+
+  /**
+   * @return the body of a response returned by Dart: its data stream if it has one, otherwise its data.
+   */
+  @Nullable
+  public InputStream getResponseInputStream(@Nullable byte[] data, @Nullable Integer dataStreamId) {
+    if (dataStreamId != null && responseStreamChannel != null) {
+      return responseStreamChannel.openInputStream(dataStreamId);
+    }
+    return data != null ? new ByteArrayInputStream(data) : null;
+  }
+
   /**
    * @deprecated
    */
@@ -708,65 +803,32 @@ final public class InAppWebView extends InputAwareWebView implements InAppWebVie
     mainLooperHandler.post(new Runnable() {
       @Override
       public void run() {
-        try {
-          Bitmap screenshotBitmap = Bitmap.createBitmap(getMeasuredWidth(), getMeasuredHeight(), Bitmap.Config.ARGB_8888);
-          Canvas c = new Canvas(screenshotBitmap);
-          c.translate(-getScrollX(), -getScrollY());
-          draw(c);
-
-          ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-          Bitmap.CompressFormat compressFormat = Bitmap.CompressFormat.PNG;
-          int quality = 100;
-
-          if (screenshotConfiguration != null) {
-            Map<String, Double> rect = (Map<String, Double>) screenshotConfiguration.get("rect");
-            if (rect != null) {
-              int rectX = (int) Math.floor(rect.get("x") * pixelDensity + 0.5);
-              int rectY = (int) Math.floor(rect.get("y") * pixelDensity + 0.5);
-              int rectWidth = Math.min(screenshotBitmap.getWidth(), (int) Math.floor(rect.get("width") * pixelDensity + 0.5));
-              int rectHeight = Math.min(screenshotBitmap.getHeight(), (int) Math.floor(rect.get("height") * pixelDensity + 0.5));
-              screenshotBitmap = Bitmap.createBitmap(
-                      screenshotBitmap,
-                      rectX,
-                      rectY,
-                      rectWidth,
-                      rectHeight);
-            }
-
-            Double snapshotWidth = (Double) screenshotConfiguration.get("snapshotWidth");
-            if (snapshotWidth != null) {
-              int dstWidth = (int) Math.floor(snapshotWidth * pixelDensity + 0.5);
-              float ratioBitmap = (float) screenshotBitmap.getWidth() / (float) screenshotBitmap.getHeight();
-              int dstHeight = (int) ((float) dstWidth / ratioBitmap);
-              screenshotBitmap = Bitmap.createScaledBitmap(screenshotBitmap, dstWidth, dstHeight, true);
-            }
-
-            try {
-              compressFormat = Bitmap.CompressFormat.valueOf((String) screenshotConfiguration.get("compressFormat"));
-            } catch (IllegalArgumentException e) {
-              Log.e(LOG_TAG, "", e);
-            }
+        ScreenshotTaker.takeScreenshot(InAppWebView.this, screenshotConfiguration, pixelDensity, result);
+      }
+    });
+  }
 
-            quality = (Integer) screenshotConfiguration.get("quality");
-          }
+  public void takeRawScreenshot(final @Nullable Map<String, Object> screenshotConfiguration, final MethodChannel.Result result) {
+    final float pixelDensity = Util.getPixelDensity(getContext());
 
-          screenshotBitmap.compress(
-                  compressFormat,
-                  quality,
-                  byteArrayOutputStream);
+    mainLooperHandler.post(new Runnable() {
+      @Override
+      public void run() {
+        ScreenshotTaker.takeRawScreenshot(InAppWebView.this, screenshotConfiguration, pixelDensity, result);
+      }
+    });
+  }
 
-          try {
-            byteArrayOutputStream.close();
-          } catch (IOException e) {
-            Log.e(LOG_TAG, "", e);
-          }
-          screenshotBitmap.recycle();
-          result.success(byteArrayOutputStream.toByteArray());
+  public void takeFullPageScreenshot(final int id, final @Nullable Map<String, Object> screenshotConfiguration,
+                                     final @Nullable Integer tileHeight, final MethodChannel.Result result) {
+    final float pixelDensity = Util.getPixelDensity(getContext());
 
-        } catch (IllegalArgumentException e) {
-          Log.e(LOG_TAG, "", e);
-          result.success(null);
-        }
+    mainLooperHandler.post(new Runnable() {
+      @Override
+      public void run() {
+        FullPageScreenshotTaker fullPageScreenshotTaker = new FullPageScreenshotTaker(InAppWebView.this, id,
+                screenshotConfiguration, tileHeight, pixelDensity);
+        result.success(fullPageScreenshotTaker.start());
       }
     });
   }
@@ -811,6 +873,50 @@ final public class InAppWebView extends InputAwareWebView implements InAppWebVie
       );
     }
 
+    if (newSettingsMap.get("useOnWindowFocus") != null && customSettings.useOnWindowFocus != newCustomSettings.useOnWindowFocus) {
+      enablePluginScriptAtRuntime(
+              OnWindowFocusEventJS.FLAG_VARIABLE_FOR_ON_WINDOW_FOCUS_EVENT_JS_SOURCE,
+              newCustomSettings.useOnWindowFocus,
+              OnWindowFocusEventJS.ON_WINDOW_FOCUS_EVENT_JS_PLUGIN_SCRIPT
+      );
+    }
+
+    if (newSettingsMap.get("useOnWindowBlur") != null && customSettings.useOnWindowBlur != newCustomSettings.useOnWindowBlur) {
+      enablePluginScriptAtRuntime(
+              OnWindowBlurEventJS.FLAG_VARIABLE_FOR_ON_WINDOW_BLUR_EVENT_JS_SOURCE,
+              newCustomSettings.useOnWindowBlur,
+              OnWindowBlurEventJS.ON_WINDOW_BLUR_EVENT_JS_PLUGIN_SCRIPT
+      );
+    }
+
+    if (newSettingsMap.get("useOnConsoleMessage") != null && customSettings.useOnConsoleMessage != newCustomSettings.useOnConsoleMessage) {
+      enablePluginScriptAtRuntime(
+              ConsoleLogJS.FLAG_VARIABLE_FOR_CONSOLE_LOG_JS_SOURCE,
+              newCustomSettings.useOnConsoleMessage,
+              ConsoleLogJS.CONSOLE_LOG_JS_PLUGIN_SCRIPT
+      );
+    }
+
+    if (newSettingsMap.get("coalesceScrollEvents") != null && customSettings.coalesceScrollEvents &&
+            !newCustomSettings.coalesceScrollEvents && scrollEventCoalescer != null) {
+      // send the changes still pending, the next ones will be sent immediately
+      scrollEventCoalescer.flush();
+    }
+
+    if ((newSettingsMap.get("consoleMessageLevels") != null || newSettingsMap.get("consoleMessageBatchSize") != null ||
+            newSettingsMap.get("consoleMessageBatchInterval") != null) && consoleMessageBuffer != null) {
+      // send the pending messages with the previous settings
+      consoleMessageBuffer.flush();
+    }
+
+    if (newSettingsMap.get("batchJavaScriptHandlerCalls") != null && customSettings.batchJavaScriptHandlerCalls != newCustomSettings.batchJavaScriptHandlerCalls) {
+      enablePluginScriptAtRuntime(
+              JavaScriptHandlerBatchingJS.FLAG_VARIABLE_FOR_JAVASCRIPT_HANDLER_BATCHING_JS_SOURCE,
+              newCustomSettings.batchJavaScriptHandlerCalls,
+              JavaScriptHandlerBatchingJS.JAVASCRIPT_HANDLER_BATCHING_JS_PLUGIN_SCRIPT
+      );
+    }
+
     if (newSettingsMap.get("javaScriptCanOpenWindowsAutomatically") != null && customSettings.javaScriptCanOpenWindowsAutomatically != newCustomSettings.javaScriptCanOpenWindowsAutomatically)
       settings.setJavaScriptCanOpenWindowsAutomatically(newCustomSettings.javaScriptCanOpenWindowsAutomatically);
 
@@ -1044,13 +1150,19 @@ final public class InAppWebView extends InputAwareWebView implements InAppWebVie
     }
 
     if (newCustomSettings.contentBlockers != null) {
-      contentBlockerHandler.getRuleList().clear();
+      List<ContentBlocker> contentBlockers = new ArrayList<>();
       for (Map<String, Map<String, Object>> contentBlocker : newCustomSettings.contentBlockers) {
         // compile ContentBlockerTrigger urlFilter
         ContentBlockerTrigger trigger = ContentBlockerTrigger.fromMap(contentBlocker.get("trigger"));
         ContentBlockerAction action = ContentBlockerAction.fromMap(contentBlocker.get("action"));
-        contentBlockerHandler.getRuleList().add(new ContentBlocker(trigger, action));
+        contentBlockers.add(new ContentBlocker(trigger, action));
       }
+      contentBlockerHandler.setRuleList(contentBlockers);
+      updateContentBlockerCssDisplayNonePluginScript();
+    }
+
+    if (newCustomSettings.interceptRequestRules != null) {
+      interceptRequestRuleHandler.setRules(newCustomSettings.interceptRequestRules);
     }
 
     if (newSettingsMap.get("scrollBarStyle") != null && !customSettings.scrollBarStyle.equals(newCustomSettings.scrollBarStyle))
@@ -1161,6 +1273,31 @@ final public class InAppWebView extends InputAwareWebView implements InAppWebVie
     });
   }
 
+  public void updateContentBlockerCssDisplayNonePluginScript() {
+    String cssDisplayNoneRules = contentBlockerHandler.getCssDisplayNoneRules();
+    PluginScript pluginScript = cssDisplayNoneRules != null ?
+            ContentBlockerJS.createCssDisplayNonePluginScript(cssDisplayNoneRules) : null;
+    String oldSource = contentBlockerCssDisplayNonePluginScript != null ? contentBlockerCssDisplayNonePluginScript.getSource() : null;
+    String newSource = pluginScript != null ? pluginScript.getSource() : null;
+    if (oldSource == null ? newSource == null : oldSource.equals(newSource)) {
+      return;
+    }
+
+    if (contentBlockerCssDisplayNonePluginScript != null) {
+      userContentController.removePluginScript(contentBlockerCssDisplayNonePluginScript);
+    }
+    if (pluginScript != null) {
+      userContentController.addPluginScript(pluginScript);
+    }
+    contentBlockerCssDisplayNonePluginScript = pluginScript;
+
+    if (getUrl() != null) {
+      // replace the stylesheet of the current page
+      String source = newSource != null ? newSource : ContentBlockerJS.createCssDisplayNonePluginScript("[]").getSource();
+      evaluateJavascript(source, null, null);
+    }
+  }
+
   public void injectDeferredObject(String source, @Nullable final ContentWorld contentWorld, String jsWrapper, @Nullable final ValueCallback<String> resultCallback) {
     final String resultUuid = contentWorld != null && !contentWorld.equals(ContentWorld.PAGE) ? UUID.randomUUID().toString() : null;
     String scriptToInject = source;
@@ -1349,7 +1486,19 @@ final public class InAppWebView extends InputAwareWebView implements InAppWebVie
       floatingContextMenu.setVisibility(View.GONE);
     }
 
-    if (channelDelegate != null) channelDelegate.onScrollChanged(x, y);
+    if (customSettings.coalesceScrollEvents && scrollEventCoalescer != null) {
+      scrollEventCoalescer.onScrollChanged(x, y);
+    } else if (channelDelegate != null) {
+      channelDelegate.onScrollChanged(x, y);
+    }
+  }
+
+  public void onZoomScaleChanged(float oldScale, float newScale) {
+    if (customSettings.coalesceScrollEvents && scrollEventCoalescer != null) {
+      scrollEventCoalescer.onZoomScaleChanged(oldScale, newScale);
+    } else if (channelDelegate != null) {
+      channelDelegate.onZoomScaleChanged(oldScale, newScale);
+    }
   }
 
   public void scrollTo(Integer x, Integer y, Boolean animated) {
@@ -1526,7 +1675,11 @@ final public class InAppWebView extends InputAwareWebView implements InAppWebVie
     }
 
     if (overScrolledHorizontally || overScrolledVertically) {
-      if (channelDelegate != null) channelDelegate.onOverScrolled(scrollX, scrollY, overScrolledHorizontally, overScrolledVertically);
+      if (customSettings.coalesceScrollEvents && scrollEventCoalescer != null) {
+        scrollEventCoalescer.onOverScrolled(scrollX, scrollY, overScrolledHorizontally, overScrolledVertically);
+      } else if (channelDelegate != null) {
+        channelDelegate.onOverScrolled(scrollX, scrollY, overScrolledHorizontally, overScrolledVertically);
+      }
     }
   }
 
@@ -1881,6 +2034,20 @@ final public class InAppWebView extends InputAwareWebView implements InAppWebVie
     return computeHorizontalScrollRange() > computeHorizontalScrollExtent();
   }
 
+  /**
+   * @return the width of the whole document, in pixels.
+   */
+  public int getDocumentWidth() {
+    return Math.max(getMeasuredWidth(), computeHorizontalScrollRange());
+  }
+
+  /**
+   * @return the height of the whole document, in pixels.
+   */
+  public int getDocumentHeight() {
+    return Math.max(getMeasuredHeight(), computeVerticalScrollRange());
+  }
+
   public WebMessageChannel createCompatWebMessageChannel() {
     String id = UUID.randomUUID().toString();
     WebMessageChannel webMessageChannel = new WebMessageChannel(id, this);
@@ -2042,6 +2209,14 @@ final public class InAppWebView extends InputAwareWebView implements InAppWebVie
       channelDelegate.dispose();
       channelDelegate = null;
     }
+    if (shouldInterceptRequestChannel != null) {
+      shouldInterceptRequestChannel.dispose();
+      shouldInterceptRequestChannel = null;
+    }
+    if (responseStreamChannel != null) {
+      responseStreamChannel.dispose();
+      responseStreamChannel = null;
+    }
     super.dispose();
     WebSettings settings = getSettings();
     settings.setJavaScriptEnabled(false);
@@ -2056,6 +2231,7 @@ final public class InAppWebView extends InputAwareWebView implements InAppWebVie
       }
     });
     interceptOnlyAsyncAjaxRequestsPluginScript = null;
+    contentBlockerCssDisplayNonePluginScript = null;
     userContentController.dispose();
     if (findInteractionController != null) {
       findInteractionController.dispose();
@@ -2100,6 +2276,22 @@ final public class InAppWebView extends InputAwareWebView implements InAppWebVie
       javaScriptBridgeInterface.dispose();
       javaScriptBridgeInterface = null;
     }
+    if (javaScriptBinaryBridge != null) {
+      javaScriptBinaryBridge.dispose();
+      javaScriptBinaryBridge = null;
+    }
+    if (scrollEventCoalescer != null) {
+      scrollEventCoalescer.dispose();
+      scrollEventCoalescer = null;
+    }
+    if (consoleMessageBuffer != null) {
+      consoleMessageBuffer.dispose();
+      consoleMessageBuffer = null;
+    }
+    if (resourceTimingCollector != null) {
+      resourceTimingCollector.dispose();
+      resourceTimingCollector = null;
+    }
     plugin = null;
     loadUrl("about:blank");
   }
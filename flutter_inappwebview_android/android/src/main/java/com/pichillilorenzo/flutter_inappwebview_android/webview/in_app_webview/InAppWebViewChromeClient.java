@@ -43,6 +43,7 @@ import androidx.core.content.ContextCompat;
 import androidx.core.content.FileProvider;
 
 import com.pichillilorenzo.flutter_inappwebview_android.InAppWebViewFileProvider;
+import com.pichillilorenzo.flutter_inappwebview_android.favicon.FaviconCache;
 import com.pichillilorenzo.flutter_inappwebview_android.types.CreateWindowAction;
 import com.pichillilorenzo.flutter_inappwebview_android.in_app_browser.ActivityResultListener;
 import com.pichillilorenzo.flutter_inappwebview_android.in_app_browser.InAppBrowserDelegate;
@@ -56,7 +57,6 @@ import com.pichillilorenzo.flutter_inappwebview_android.types.PermissionResponse
 import com.pichillilorenzo.flutter_inappwebview_android.types.URLRequest;
 import com.pichillilorenzo.flutter_inappwebview_android.webview.WebViewChannelDelegate;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -736,8 +736,8 @@ public class InAppWebViewChromeClient extends WebChromeClient implements PluginR
 
   @Override
   public boolean onConsoleMessage(ConsoleMessage consoleMessage) {
-    if (inAppWebView != null && inAppWebView.channelDelegate != null) {
-      inAppWebView.channelDelegate.onConsoleMessage(
+    if (inAppWebView != null && inAppWebView.consoleMessageBuffer != null) {
+      inAppWebView.consoleMessageBuffer.add(
               consoleMessage.message(),
               consoleMessage.messageLevel().ordinal());
     }
@@ -785,19 +785,20 @@ public class InAppWebViewChromeClient extends WebChromeClient implements PluginR
   public void onReceivedIcon(WebView view, Bitmap icon) {
     super.onReceivedIcon(view, icon);
 
-    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-    icon.compress(Bitmap.CompressFormat.PNG, 100, byteArrayOutputStream);
-    try {
-      byteArrayOutputStream.close();
-    } catch (IOException e) {
-      Log.e(LOG_TAG, "", e);
-    }
-    icon.recycle();
-
-    InAppWebView webView = (InAppWebView) view;
-    if (webView.channelDelegate != null) {
-      webView.channelDelegate.onReceivedIcon(byteArrayOutputStream.toByteArray());
-    }
+    final InAppWebView webView = (InAppWebView) view;
+    FaviconCache.getInstance(webView.getContext()).put(webView.getUrl(), icon, new FaviconCache.PutCallback() {
+      @Override
+      public void onStored(@Nullable String key) {
+        // the same icon is sent only once, Dart reads its data from the cache when needed
+        if (key == null || key.equals(webView.faviconKey)) {
+          return;
+        }
+        webView.faviconKey = key;
+        if (webView.channelDelegate != null) {
+          webView.channelDelegate.onReceivedIcon(key);
+        }
+      }
+    });
   }
 
   @Override
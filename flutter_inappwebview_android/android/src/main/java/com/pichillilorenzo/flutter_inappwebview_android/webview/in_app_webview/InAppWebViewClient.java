@@ -32,6 +32,7 @@ import androidx.webkit.WebViewFeature;
 import com.pichillilorenzo.flutter_inappwebview_android.Util;
 import com.pichillilorenzo.flutter_inappwebview_android.credential_database.CredentialDatabase;
 import com.pichillilorenzo.flutter_inappwebview_android.in_app_browser.InAppBrowserDelegate;
+import com.pichillilorenzo.flutter_inappwebview_android.intercept_request_rule.InterceptRequestRule;
 import com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js.JavaScriptBridgeJS;
 import com.pichillilorenzo.flutter_inappwebview_android.types.ClientCertChallenge;
 import com.pichillilorenzo.flutter_inappwebview_android.types.ClientCertResponse;
@@ -50,7 +51,7 @@ import com.pichillilorenzo.flutter_inappwebview_android.types.WebResourceRequest
 import com.pichillilorenzo.flutter_inappwebview_android.types.WebResourceResponseExt;
 import com.pichillilorenzo.flutter_inappwebview_android.webview.WebViewChannelDelegate;
 
-import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
@@ -202,6 +203,10 @@ public class InAppWebViewClient extends WebViewClient {
   public void onPageStarted(WebView view, String url, Bitmap favicon) {
     final InAppWebView webView = (InAppWebView) view;
     webView.isLoading = true;
+    webView.setTopLevelUrl(url);
+    if (webView.resourceTimingCollector != null) {
+      webView.resourceTimingCollector.reset();
+    }
     webView.disposeWebMessageChannels();
     webView.userContentController.resetContentWorlds();
     loadCustomJavaScriptOnPageStarted(webView);
@@ -221,6 +226,10 @@ public class InAppWebViewClient extends WebViewClient {
     final InAppWebView webView = (InAppWebView) view;
     webView.isLoading = false;
     loadCustomJavaScriptOnPageFinished(webView);
+    if (webView.clearHistoryOnPageFinished) {
+      webView.clearHistoryOnPageFinished = false;
+      webView.clearHistory();
+    }
     previousAuthRequestFailureCount = 0;
     credentialsProposed = null;
 
@@ -262,6 +271,7 @@ public class InAppWebViewClient extends WebViewClient {
     }
     
     final InAppWebView webView = (InAppWebView) view;
+    webView.setTopLevelUrl(url);
     if (webView.channelDelegate != null) {
       webView.channelDelegate.onUpdateVisitedHistory(url, isReload);
     }
@@ -577,9 +587,7 @@ public class InAppWebViewClient extends WebViewClient {
     final InAppWebView webView = (InAppWebView) view;
     webView.zoomScale = newScale / Util.getPixelDensity(webView.getContext());
 
-    if (webView.channelDelegate != null) {
-      webView.channelDelegate.onZoomScaleChanged(oldScale, newScale);
-    }
+    webView.onZoomScaleChanged(oldScale, newScale);
   }
 
   @RequiresApi(api = Build.VERSION_CODES.O_MR1)
@@ -644,11 +652,48 @@ public class InAppWebViewClient extends WebViewClient {
       }
     }
 
-    if (webView.customSettings.useShouldInterceptRequest) {
+    boolean forwardToDart = webView.customSettings.useShouldInterceptRequest;
+    boolean contentBlockersChecked = false;
+    InterceptRequestRule rule = !webView.interceptRequestRuleHandler.isEmpty() ?
+            webView.interceptRequestRuleHandler.findRule(webView, request) : null;
+    if (rule != null) {
+      switch (rule.getAction().getType()) {
+        case FORWARD_TO_DART:
+          forwardToDart = true;
+          break;
+        case PASS_THROUGH:
+          forwardToDart = false;
+          break;
+        case SERVE_FILE:
+        case REWRITE_HEADERS:
+          // content blockers have precedence over the rules that respond natively
+          if (webView.contentBlockerHandler.getRuleList().size() > 0) {
+            contentBlockersChecked = true;
+            try {
+              WebResourceResponse contentBlockerResponse = webView.contentBlockerHandler.checkUrl(webView, request);
+              if (contentBlockerResponse != null) {
+                return contentBlockerResponse;
+              }
+            } catch (Exception e) {
+              Log.e(LOG_TAG, "", e);
+            }
+          }
+          WebResourceResponse ruleResponse = webView.interceptRequestRuleHandler.getResponse(webView, request, rule.getAction());
+          if (ruleResponse != null) {
+            return ruleResponse;
+          }
+          forwardToDart = false;
+          break;
+      }
+    }
+
+    if (forwardToDart) {
       WebResourceResponseExt response = null;
-      if (webView.channelDelegate != null) {
+      if (webView.shouldInterceptRequestChannel != null) {
         try {
-          response = webView.channelDelegate.shouldInterceptRequest(request);
+          response = webView.shouldInterceptRequestChannel.shouldInterceptRequest(request,
+                  webView.customSettings.shouldInterceptRequestMaxConcurrency,
+                  webView.customSettings.shouldInterceptRequestTimeout);
         } catch (InterruptedException e) {
           Log.e(LOG_TAG, "", e);
           return null;
@@ -658,12 +703,11 @@ public class InAppWebViewClient extends WebViewClient {
       if (response != null) {
         String contentType = response.getContentType();
         String contentEncoding = response.getContentEncoding();
-        byte[] data = response.getData();
         Map<String, String> responseHeaders = response.getHeaders();
         Integer statusCode = response.getStatusCode();
         String reasonPhrase = response.getReasonPhrase();
 
-        ByteArrayInputStream inputStream = (data != null) ? new ByteArrayInputStream(data) : null;
+        InputStream inputStream = webView.getResponseInputStream(response.getData(), response.getDataStreamId());
 
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP && statusCode != null && reasonPhrase != null) {
           return new WebResourceResponse(contentType, contentEncoding, statusCode, reasonPhrase, responseHeaders, inputStream);
@@ -699,16 +743,20 @@ public class InAppWebViewClient extends WebViewClient {
         } catch (Exception e) {
           Log.e(LOG_TAG, "", e);
         }
-        if (response != null)
+        if (response != null) {
+          if (customSchemeResponse.getDataStreamId() != null && webView.responseStreamChannel != null) {
+            webView.responseStreamChannel.cancel(customSchemeResponse.getDataStreamId());
+          }
           return response;
+        }
         return new WebResourceResponse(customSchemeResponse.getContentType(),
                 customSchemeResponse.getContentType(),
-                new ByteArrayInputStream(customSchemeResponse.getData()));
+                webView.getResponseInputStream(customSchemeResponse.getData(), customSchemeResponse.getDataStreamId()));
       }
     }
 
     WebResourceResponse response = null;
-    if (webView.contentBlockerHandler.getRuleList().size() > 0) {
+    if (!contentBlockersChecked && webView.contentBlockerHandler.getRuleList().size() > 0) {
       try {
         response = webView.contentBlockerHandler.checkUrl(webView, request);
       } catch (Exception e) {
@@ -731,6 +779,10 @@ public class InAppWebViewClient extends WebViewClient {
   @Override
   public WebResourceResponse shouldInterceptRequest(WebView view, WebResourceRequest request) {
     WebResourceRequestExt requestExt = WebResourceRequestExt.fromWebResourceRequest(request);
+    if (requestExt.isForMainFrame()) {
+      // the subresources of the new page may be requested before onPageStarted
+      ((InAppWebView) view).setTopLevelUrl(requestExt.getUrl());
+    }
     return shouldInterceptRequest(view, requestExt);
   }
 
@@ -0,0 +1,172 @@
+package com.pichillilorenzo.flutter_inappwebview_android.webview.in_app_webview;
+
+import android.content.Context;
+import android.content.MutableContextWrapper;
+import android.hardware.display.DisplayManager;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pool of idle {@link InAppWebView}s, created in advance so that a new WebView doesn't pay
+ * the construction of the Android WebView, and the initialization of its provider, when it is created.
+ * <p>
+ * The pooled WebViews are created with a {@link MutableContextWrapper} of the application context,
+ * replaced by the context of the WebView when it is taken with {@link #acquire}.
+ * They are only constructed, and optionally have {@code about:blank} loaded to start the renderer process:
+ * the settings, the clients and the scripts are set by {@link InAppWebView#prepare} once the WebView is taken,
+ * because they depend on its initial settings. The pool is refilled, one WebView at a time,
+ * when the main thread is idle. Must be used on the main thread.
+ */
+public class InAppWebViewPool implements MessageQueue.IdleHandler {
+  protected static final String LOG_TAG = "InAppWebViewPool";
+  public static final int MAX_SIZE = 8;
+
+  @Nullable
+  private Context applicationContext;
+  private int size = 0;
+  private boolean preloadAboutBlank = false;
+  @NonNull
+  private final Deque<InAppWebView> idleWebViews = new ArrayDeque<>();
+  private boolean idleHandlerAdded = false;
+
+  private long requests = 0;
+  private long hits = 0;
+  private long creations = 0;
+  private long totalCreationTimeNanos = 0;
+
+  public InAppWebViewPool(@NonNull Context applicationContext) {
+    this.applicationContext = applicationContext.getApplicationContext();
+  }
+
+  /**
+   * @param size number of idle WebViews to keep, {@code 0} to disable the pool, at most {@link #MAX_SIZE}.
+   * @param preloadAboutBlank {@code true} to load {@code about:blank} in the idle WebViews.
+   */
+  public void setSettings(@Nullable Integer size, @Nullable Boolean preloadAboutBlank) {
+    if (size != null) {
+      this.size = Math.max(0, Math.min(size, MAX_SIZE));
+    }
+    if (preloadAboutBlank != null && this.preloadAboutBlank != preloadAboutBlank) {
+      this.preloadAboutBlank = preloadAboutBlank;
+      // the idle WebViews don't match the new setting anymore
+      trim(0);
+    }
+    trim(this.size);
+    scheduleRefill();
+  }
+
+  /**
+   * @return an idle WebView, whose context is now {@code context}, or {@code null} if the pool is empty.
+   */
+  @Nullable
+  public InAppWebView acquire(@NonNull Context context) {
+    if (size == 0) {
+      return null;
+    }
+    requests++;
+    InAppWebView webView = idleWebViews.poll();
+    scheduleRefill();
+    if (webView == null) {
+      return null;
+    }
+    hits++;
+    ((MutableContextWrapper) webView.getContext()).setBaseContext(context);
+    // the initial about:blank page must not be part of the history
+    webView.clearHistoryOnPageFinished = preloadAboutBlank;
+    return webView;
+  }
+
+  private void scheduleRefill() {
+    if (!idleHandlerAdded && idleWebViews.size() < size && applicationContext != null) {
+      idleHandlerAdded = true;
+      Looper.myQueue().addIdleHandler(this);
+    }
+  }
+
+  @Override
+  public boolean queueIdle() {
+    if (idleWebViews.size() < size && applicationContext != null) {
+      try {
+        idleWebViews.add(create(applicationContext));
+      } catch (RuntimeException e) {
+        // for example, if the WebView provider is being updated
+        Log.e(LOG_TAG, "", e);
+        idleHandlerAdded = false;
+        return false;
+      }
+    }
+    idleHandlerAdded = idleWebViews.size() < size && applicationContext != null;
+    return idleHandlerAdded;
+  }
+
+  @NonNull
+  private InAppWebView create(@NonNull Context applicationContext) {
+    long creationStartTime = SystemClock.elapsedRealtimeNanos();
+    DisplayListenerProxy displayListenerProxy = new DisplayListenerProxy();
+    DisplayManager displayManager = (DisplayManager) applicationContext.getSystemService(Context.DISPLAY_SERVICE);
+    displayListenerProxy.onPreWebViewInitialization(displayManager);
+    InAppWebView webView = new InAppWebView(new MutableContextWrapper(applicationContext));
+    displayListenerProxy.onPostWebViewInitialization(displayManager);
+    if (preloadAboutBlank) {
+      webView.loadUrl("about:blank");
+    }
+    creations++;
+    totalCreationTimeNanos += SystemClock.elapsedRealtimeNanos() - creationStartTime;
+    return webView;
+  }
+
+  /**
+   * Destroys the idle WebViews, the pool is refilled at the next {@link #acquire}.
+   */
+  public void trimMemory() {
+    trim(0);
+  }
+
+  private void trim(int size) {
+    while (idleWebViews.size() > size) {
+      InAppWebView webView = idleWebViews.poll();
+      if (webView != null) {
+        webView.destroy();
+      }
+    }
+  }
+
+  /**
+   * @return the number of WebViews requested and taken from the pool, and the WebView creation time saved,
+   * estimated from the average creation time of the pooled WebViews.
+   */
+  @NonNull
+  public Map<String, Object> getStatistics() {
+    long averageCreationTimeNanos = creations > 0 ? totalCreationTimeNanos / creations : 0;
+    Map<String, Object> statistics = new HashMap<>();
+    statistics.put("size", size);
+    statistics.put("idle", idleWebViews.size());
+    statistics.put("requests", requests);
+    statistics.put("hits", hits);
+    statistics.put("misses", requests - hits);
+    statistics.put("hitRate", requests > 0 ? (double) hits / requests : 0.0);
+    statistics.put("creations", creations);
+    statistics.put("averageCreationTimeNanos", averageCreationTimeNanos);
+    statistics.put("savedCreationTimeNanos", hits * averageCreationTimeNanos);
+    return statistics;
+  }
+
+  public void dispose() {
+    if (idleHandlerAdded) {
+      idleHandlerAdded = false;
+      Looper.myQueue().removeIdleHandler(this);
+    }
+    trim(0);
+    applicationContext = null;
+  }
+}
@@ -133,6 +133,24 @@ public class InAppWebViewSettings implements ISettings<InAppWebViewInterface> {
   public byte[] defaultVideoPoster;
   @Nullable
   public Set<String> requestedWithHeaderOriginAllowList;
+  public Boolean contentBlockerHeadRequestFallback = false;
+  @Nullable
+  public Integer shouldInterceptRequestMaxConcurrency;
+  @Nullable
+  public Integer shouldInterceptRequestTimeout;
+  public List<Map<String, Object>> interceptRequestRules = new ArrayList<>();
+  public Boolean batchJavaScriptHandlerCalls = false;
+  public Boolean coalesceScrollEvents = false;
+  public Integer scrollEventsMinDelta = 0;
+  @Nullable
+  public List<Integer> consoleMessageLevels;
+  public Integer consoleMessageBufferSize = 100;
+  public Integer consoleMessageBatchSize = 1;
+  public Integer consoleMessageBatchInterval = 0;
+  public Integer consoleMessageMaxRate = 0;
+  public Boolean useOnWindowFocus = true;
+  public Boolean useOnWindowBlur = true;
+  public Boolean useOnConsoleMessage = true;
 
   @NonNull
   @Override
@@ -412,6 +430,51 @@ public class InAppWebViewSettings implements ISettings<InAppWebViewInterface> {
         case "requestedWithHeaderOriginAllowList":
           requestedWithHeaderOriginAllowList = new HashSet<>((List<String>) value);
           break;
+        case "contentBlockerHeadRequestFallback":
+          contentBlockerHeadRequestFallback = (Boolean) value;
+          break;
+        case "shouldInterceptRequestMaxConcurrency":
+          shouldInterceptRequestMaxConcurrency = (Integer) value;
+          break;
+        case "shouldInterceptRequestTimeout":
+          shouldInterceptRequestTimeout = (Integer) value;
+          break;
+        case "interceptRequestRules":
+          interceptRequestRules = (List<Map<String, Object>>) value;
+          break;
+        case "batchJavaScriptHandlerCalls":
+          batchJavaScriptHandlerCalls = (Boolean) value;
+          break;
+        case "coalesceScrollEvents":
+          coalesceScrollEvents = (Boolean) value;
+          break;
+        case "scrollEventsMinDelta":
+          scrollEventsMinDelta = (Integer) value;
+          break;
+        case "consoleMessageLevels":
+          consoleMessageLevels = (List<Integer>) value;
+          break;
+        case "consoleMessageBufferSize":
+          consoleMessageBufferSize = (Integer) value;
+          break;
+        case "consoleMessageBatchSize":
+          consoleMessageBatchSize = (Integer) value;
+          break;
+        case "consoleMessageBatchInterval":
+          consoleMessageBatchInterval = (Integer) value;
+          break;
+        case "consoleMessageMaxRate":
+          consoleMessageMaxRate = (Integer) value;
+          break;
+        case "useOnWindowFocus":
+          useOnWindowFocus = (Boolean) value;
+          break;
+        case "useOnWindowBlur":
+          useOnWindowBlur = (Boolean) value;
+          break;
+        case "useOnConsoleMessage":
+          useOnConsoleMessage = (Boolean) value;
+          break;
       }
     }
 
@@ -511,6 +574,21 @@ public class InAppWebViewSettings implements ISettings<InAppWebViewInterface> {
     settings.put("defaultVideoPoster", defaultVideoPoster);
     settings.put("requestedWithHeaderOriginAllowList",
             requestedWithHeaderOriginAllowList != null ? new ArrayList<>(requestedWithHeaderOriginAllowList) : null);
+    settings.put("contentBlockerHeadRequestFallback", contentBlockerHeadRequestFallback);
+    settings.put("shouldInterceptRequestMaxConcurrency", shouldInterceptRequestMaxConcurrency);
+    settings.put("shouldInterceptRequestTimeout", shouldInterceptRequestTimeout);
+    settings.put("interceptRequestRules", interceptRequestRules);
+    settings.put("batchJavaScriptHandlerCalls", batchJavaScriptHandlerCalls);
+    settings.put("coalesceScrollEvents", coalesceScrollEvents);
+    settings.put("scrollEventsMinDelta", scrollEventsMinDelta);
+    settings.put("consoleMessageLevels", consoleMessageLevels);
+    settings.put("consoleMessageBufferSize", consoleMessageBufferSize);
+    settings.put("consoleMessageBatchSize", consoleMessageBatchSize);
+    settings.put("consoleMessageBatchInterval", consoleMessageBatchInterval);
+    settings.put("consoleMessageMaxRate", consoleMessageMaxRate);
+    settings.put("useOnWindowFocus", useOnWindowFocus);
+    settings.put("useOnWindowBlur", useOnWindowBlur);
+    settings.put("useOnConsoleMessage", useOnConsoleMessage);
     return settings;
   }
 
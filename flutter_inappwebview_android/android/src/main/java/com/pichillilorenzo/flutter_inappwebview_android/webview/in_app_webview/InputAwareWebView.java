@@ -51,6 +51,10 @@ public class InputAwareWebView extends WebView {
     this.containerView = null;
   }
 
+  public void setUseHybridComposition(@Nullable Boolean useHybridComposition) {
+    this.useHybridComposition = useHybridComposition == null ? false : useHybridComposition;
+  }
+
   public void setContainerView(View containerView) {
     this.containerView = containerView;
 
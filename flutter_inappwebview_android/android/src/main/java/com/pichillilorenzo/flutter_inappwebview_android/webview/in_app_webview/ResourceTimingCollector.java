@@ -0,0 +1,237 @@
+package com.pichillilorenzo.flutter_inappwebview_android.webview.in_app_webview;
+
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Collects the resource timing entries sent in batches by the
+ * {@link com.pichillilorenzo.flutter_inappwebview_android.plugin_scripts_js.OnLoadResourceJS} plugin script
+ * and computes a waterfall summary of the current page, returned by {@link #getSummary}.
+ * <p>
+ * The summary restarts when a main frame navigation starts, see {@link #reset()}. The times of the entries
+ * of the other frames are shifted by the difference between the time origin of their document and the one
+ * of the main frame document, so that the waterfall uses a single time base; they are kept out of the waterfall
+ * times while the time origin of the main frame document is unknown. The phases of the cross-origin
+ * resources served without a {@code Timing-Allow-Origin} header are reported as {@code 0} by the browser,
+ * so they are not counted. Must be used on the WebView thread.
+ */
+public class ResourceTimingCollector {
+  protected static final String LOG_TAG = "ResourceTimingCollector";
+
+  @Nullable
+  private InAppWebView webView;
+
+  @Nullable
+  private String pageId;
+  @Nullable
+  private String pageUrl;
+  // time origin of the main frame document, 0 if unknown
+  private double timeOrigin = 0;
+  // latest time origin of a main frame document, to ignore the entries sent late by a previous page
+  private double lastTimeOrigin = 0;
+  private int resourceCount = 0;
+  private int cachedResourceCount = 0;
+  private long transferSize = 0;
+  private long encodedBodySize = 0;
+  private long decodedBodySize = 0;
+  private double startTime = Double.MAX_VALUE;
+  private double endTime = 0;
+  private double maxDuration = 0;
+  @Nullable
+  private String slowestResourceUrl;
+  private double redirectTime = 0;
+  private double dnsTime = 0;
+  private double connectTime = 0;
+  private double tlsTime = 0;
+  private double timeToFirstByte = 0;
+  private double downloadTime = 0;
+  @NonNull
+  private final Map<String, InitiatorTypeSummary> initiatorTypes = new HashMap<>();
+
+  public ResourceTimingCollector(@NonNull InAppWebView webView) {
+    this.webView = webView;
+  }
+
+  /**
+   * Adds a batch of entries to the summary and sends them to Dart.
+   *
+   * @param batch JSON object with the {@code pageId}, {@code isMainFrame}, {@code timeOrigin} and {@code entries} properties.
+   */
+  public void add(@NonNull String batch) {
+    if (webView == null) {
+      return;
+    }
+    JSONArray entries;
+    try {
+      JSONObject jsonBatch = new JSONObject(batch);
+      entries = jsonBatch.getJSONArray("entries");
+      String batchPageId = jsonBatch.optString("pageId");
+      boolean isMainFrame = jsonBatch.optBoolean("isMainFrame", true);
+      double batchTimeOrigin = jsonBatch.optDouble("timeOrigin", 0);
+      boolean addToSummary = true;
+      if (isMainFrame && !batchPageId.equals(pageId)) {
+        if (batchTimeOrigin > 0 && batchTimeOrigin <= lastTimeOrigin) {
+          // sent by a previous page after the navigation started
+          addToSummary = false;
+        } else {
+          if (pageId != null) {
+            // a new document without a navigation, for example document.open()
+            reset();
+          }
+          pageId = batchPageId;
+          timeOrigin = batchTimeOrigin;
+          lastTimeOrigin = Math.max(lastTimeOrigin, batchTimeOrigin);
+        }
+      }
+      if (addToSummary) {
+        // the entries of the other frames are relative to the time origin of their own document
+        boolean sameTimeBase = isMainFrame || (timeOrigin > 0 && batchTimeOrigin > 0);
+        double timeOffset = !isMainFrame && sameTimeBase ? batchTimeOrigin - timeOrigin : 0;
+        for (int i = 0; i < entries.length(); i++) {
+          add(entries.getJSONObject(i), sameTimeBase, timeOffset);
+        }
+      }
+    } catch (JSONException e) {
+      Log.e(LOG_TAG, "", e);
+      return;
+    }
+
+    if (webView.channelDelegate != null) {
+      webView.channelDelegate.onLoadResources(entries.toString());
+    }
+  }
+
+  private void add(@NonNull JSONObject entry, boolean sameTimeBase, double timeOffset) {
+    String url = entry.optString("url");
+    double entryStartTime = entry.optDouble("startTime", 0);
+    double duration = entry.optDouble("duration", 0);
+    long entryTransferSize = entry.optLong("transferSize", 0);
+    long entryDecodedBodySize = entry.optLong("decodedBodySize", 0);
+
+    resourceCount++;
+    if (entryTransferSize == 0 && entryDecodedBodySize > 0) {
+      cachedResourceCount++;
+    }
+    transferSize += entryTransferSize;
+    encodedBodySize += entry.optLong("encodedBodySize", 0);
+    decodedBodySize += entryDecodedBodySize;
+    if (sameTimeBase) {
+      double entryEndTime = Math.max(entry.optDouble("responseEnd", 0), entryStartTime + duration);
+      startTime = Math.min(startTime, entryStartTime + timeOffset);
+      endTime = Math.max(endTime, entryEndTime + timeOffset);
+    }
+    if (duration > maxDuration) {
+      maxDuration = duration;
+      slowestResourceUrl = url;
+    }
+
+    redirectTime += getPhase(entry, "redirectStart", "redirectEnd");
+    dnsTime += getPhase(entry, "domainLookupStart", "domainLookupEnd");
+    connectTime += getPhase(entry, "connectStart", "connectEnd");
+    tlsTime += getPhase(entry, "secureConnectionStart", "connectEnd");
+    timeToFirstByte += getPhase(entry, "requestStart", "responseStart");
+    downloadTime += getPhase(entry, "responseStart", "responseEnd");
+
+    String initiatorType = entry.optString("initiatorType", "other");
+    InitiatorTypeSummary initiatorTypeSummary = initiatorTypes.get(initiatorType);
+    if (initiatorTypeSummary == null) {
+      initiatorTypeSummary = new InitiatorTypeSummary();
+      initiatorTypes.put(initiatorType, initiatorTypeSummary);
+    }
+    initiatorTypeSummary.count++;
+    initiatorTypeSummary.transferSize += entryTransferSize;
+    initiatorTypeSummary.duration += duration;
+  }
+
+  private static double getPhase(@NonNull JSONObject entry, @NonNull String start, @NonNull String end) {
+    double startValue = entry.optDouble(start, 0);
+    double endValue = entry.optDouble(end, 0);
+    return startValue > 0 && endValue > startValue ? endValue - startValue : 0;
+  }
+
+  /**
+   * Restarts the summary, when a main frame navigation starts.
+   */
+  public void reset() {
+    pageId = null;
+    timeOrigin = 0;
+    pageUrl = webView != null ? webView.getTopLevelUrl() : null;
+    resourceCount = 0;
+    cachedResourceCount = 0;
+    transferSize = 0;
+    encodedBodySize = 0;
+    decodedBodySize = 0;
+    startTime = Double.MAX_VALUE;
+    endTime = 0;
+    maxDuration = 0;
+    slowestResourceUrl = null;
+    redirectTime = 0;
+    dnsTime = 0;
+    connectTime = 0;
+    tlsTime = 0;
+    timeToFirstByte = 0;
+    downloadTime = 0;
+    initiatorTypes.clear();
+  }
+
+  /**
+   * @return the waterfall summary of the current page, times are in milliseconds and sizes in bytes.
+   */
+  @NonNull
+  public Map<String, Object> getSummary() {
+    Map<String, Object> summary = new HashMap<>();
+    summary.put("url", pageUrl);
+    summary.put("resourceCount", resourceCount);
+    summary.put("cachedResourceCount", cachedResourceCount);
+    summary.put("transferSize", transferSize);
+    summary.put("encodedBodySize", encodedBodySize);
+    summary.put("decodedBodySize", decodedBodySize);
+    // no entry may be in the waterfall, if the time origin of the main frame document is not known yet
+    boolean hasWaterfall = startTime != Double.MAX_VALUE;
+    summary.put("startTime", hasWaterfall ? startTime : 0);
+    summary.put("endTime", endTime);
+    summary.put("waterfallDuration", hasWaterfall ? endTime - startTime : 0);
+    summary.put("maxDuration", maxDuration);
+    summary.put("slowestResourceUrl", slowestResourceUrl);
+    summary.put("totalRedirectTime", redirectTime);
+    summary.put("totalDnsTime", dnsTime);
+    summary.put("totalConnectTime", connectTime);
+    summary.put("totalTlsTime", tlsTime);
+    summary.put("totalTimeToFirstByte", timeToFirstByte);
+    summary.put("totalDownloadTime", downloadTime);
+    Map<String, Object> initiatorTypesMap = new HashMap<>();
+    for (Map.Entry<String, InitiatorTypeSummary> initiatorType : initiatorTypes.entrySet()) {
+      initiatorTypesMap.put(initiatorType.getKey(), initiatorType.getValue().toMap());
+    }
+    summary.put("initiatorTypes", initiatorTypesMap);
+    return summary;
+  }
+
+  public void dispose() {
+    webView = null;
+  }
+
+  private static class InitiatorTypeSummary {
+    int count = 0;
+    long transferSize = 0;
+    double duration = 0;
+
+    @NonNull
+    Map<String, Object> toMap() {
+      Map<String, Object> map = new HashMap<>();
+      map.put("count", count);
+      map.put("transferSize", transferSize);
+      map.put("totalDuration", duration);
+      return map;
+    }
+  }
+}
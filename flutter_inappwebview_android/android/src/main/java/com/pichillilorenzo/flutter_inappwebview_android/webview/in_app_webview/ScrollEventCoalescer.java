@@ -0,0 +1,159 @@
+package com.pichillilorenzo.flutter_inappwebview_android.webview.in_app_webview;
+
+import android.view.Choreographer;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.pichillilorenzo.flutter_inappwebview_android.webview.WebViewChannelDelegate;
+
+/**
+ * Sends the scroll, over-scroll and zoom scale changes of an {@link InAppWebView} to Dart at most once per display frame,
+ * with the latest values, instead of once for each change.
+ * <p>
+ * If {@link InAppWebViewSettings#scrollEventsMinDelta} is greater than {@code 0}, a position closer than it
+ * to the last position sent is kept pending until the scroll settles, that is until no change has been made
+ * for {@link #SETTLE_DELAY_MS}. Must be used on the WebView thread.
+ */
+public class ScrollEventCoalescer implements Choreographer.FrameCallback {
+  public static final long SETTLE_DELAY_MS = 100;
+
+  @Nullable
+  private InAppWebView webView;
+  private boolean frameCallbackPosted = false;
+
+  private boolean scrollPending = false;
+  private int scrollX;
+  private int scrollY;
+  private int lastSentScrollX;
+  private int lastSentScrollY;
+
+  private boolean overScrollPending = false;
+  private int overScrollX;
+  private int overScrollY;
+  private boolean clampedX;
+  private boolean clampedY;
+  private int lastSentOverScrollX;
+  private int lastSentOverScrollY;
+
+  private boolean zoomScalePending = false;
+  private float oldScale;
+  private float newScale;
+
+  private final Runnable settleRunnable = new Runnable() {
+    @Override
+    public void run() {
+      flush(true);
+    }
+  };
+
+  public ScrollEventCoalescer(@NonNull InAppWebView webView) {
+    this.webView = webView;
+    this.lastSentScrollX = webView.getScrollX();
+    this.lastSentScrollY = webView.getScrollY();
+    this.lastSentOverScrollX = lastSentScrollX;
+    this.lastSentOverScrollY = lastSentScrollY;
+  }
+
+  public void onScrollChanged(int x, int y) {
+    scrollPending = true;
+    scrollX = x;
+    scrollY = y;
+    schedule();
+  }
+
+  public void onOverScrolled(int x, int y, boolean clampedX, boolean clampedY) {
+    overScrollPending = true;
+    overScrollX = x;
+    overScrollY = y;
+    this.clampedX = clampedX;
+    this.clampedY = clampedY;
+    schedule();
+  }
+
+  public void onZoomScaleChanged(float oldScale, float newScale) {
+    if (!zoomScalePending) {
+      this.oldScale = oldScale;
+    }
+    zoomScalePending = true;
+    this.newScale = newScale;
+    schedule();
+  }
+
+  private void schedule() {
+    if (webView == null) {
+      return;
+    }
+    if (!frameCallbackPosted) {
+      frameCallbackPosted = true;
+      Choreographer.getInstance().postFrameCallback(this);
+    }
+    webView.mainLooperHandler.removeCallbacks(settleRunnable);
+    webView.mainLooperHandler.postDelayed(settleRunnable, SETTLE_DELAY_MS);
+  }
+
+  @Override
+  public void doFrame(long frameTimeNanos) {
+    frameCallbackPosted = false;
+    flush(false);
+  }
+
+  /**
+   * @param settled {@code true} to send the pending positions even if they are closer than the minimum delta.
+   */
+  private void flush(boolean settled) {
+    if (webView == null) {
+      return;
+    }
+    WebViewChannelDelegate channelDelegate = webView.channelDelegate;
+    int minDelta = webView.customSettings.scrollEventsMinDelta != null ? webView.customSettings.scrollEventsMinDelta : 0;
+
+    if (scrollPending && (settled || isFarEnough(scrollX, scrollY, lastSentScrollX, lastSentScrollY, minDelta))) {
+      scrollPending = false;
+      if (scrollX != lastSentScrollX || scrollY != lastSentScrollY) {
+        lastSentScrollX = scrollX;
+        lastSentScrollY = scrollY;
+        if (channelDelegate != null) channelDelegate.onScrollChanged(scrollX, scrollY);
+      }
+    }
+    if (overScrollPending && (settled || isFarEnough(overScrollX, overScrollY, lastSentOverScrollX, lastSentOverScrollY, minDelta))) {
+      overScrollPending = false;
+      lastSentOverScrollX = overScrollX;
+      lastSentOverScrollY = overScrollY;
+      if (channelDelegate != null) channelDelegate.onOverScrolled(overScrollX, overScrollY, clampedX, clampedY);
+    }
+    if (zoomScalePending) {
+      zoomScalePending = false;
+      if (channelDelegate != null) channelDelegate.onZoomScaleChanged(oldScale, newScale);
+    }
+  }
+
+  private static boolean isFarEnough(int x, int y, int lastX, int lastY, int minDelta) {
+    return Math.abs(x - lastX) >= minDelta || Math.abs(y - lastY) >= minDelta;
+  }
+
+  /**
+   * Sends the pending changes immediately, for example before the WebView settings change.
+   */
+  public void flush() {
+    if (frameCallbackPosted) {
+      frameCallbackPosted = false;
+      Choreographer.getInstance().removeFrameCallback(this);
+    }
+    if (webView != null) {
+      webView.mainLooperHandler.removeCallbacks(settleRunnable);
+    }
+    flush(true);
+  }
+
+  public void dispose() {
+    if (frameCallbackPosted) {
+      frameCallbackPosted = false;
+      Choreographer.getInstance().removeFrameCallback(this);
+    }
+    if (webView != null) {
+      webView.mainLooperHandler.removeCallbacks(settleRunnable);
+    }
+    webView = null;
+  }
+}
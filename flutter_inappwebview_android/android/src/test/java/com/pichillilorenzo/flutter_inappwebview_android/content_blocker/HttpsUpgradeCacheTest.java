@@ -0,0 +1,51 @@
+package com.pichillilorenzo.flutter_inappwebview_android.content_blocker;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+public class HttpsUpgradeCacheTest {
+    private HttpsUpgradeCache httpsUpgradeCache;
+
+    @Before
+    public void setUp() {
+        httpsUpgradeCache = new HttpsUpgradeCache();
+    }
+
+    @Test
+    public void failureOfSubdomainDoesNotCancelParentPolicyWithIncludeSubDomains() {
+        httpsUpgradeCache.onSupported("example.com",
+                Collections.singletonList("max-age=31536000; includeSubDomains"));
+        httpsUpgradeCache.onUnsupported("sub.example.com");
+        assertEquals(HttpsUpgradeCache.Status.STRICT, httpsUpgradeCache.getStatus("sub.example.com"));
+        assertEquals(HttpsUpgradeCache.Status.STRICT, httpsUpgradeCache.getStatus("example.com"));
+    }
+
+    @Test
+    public void parentPolicyWithIncludeSubDomainsTakesPriorityOverSubdomainEntry() {
+        httpsUpgradeCache.onSupported("sub.example.com", null);
+        httpsUpgradeCache.onUnsupported("other.example.com");
+        httpsUpgradeCache.onSupported("example.com",
+                Collections.singletonList("max-age=31536000; includeSubDomains"));
+        assertEquals(HttpsUpgradeCache.Status.STRICT, httpsUpgradeCache.getStatus("sub.example.com"));
+        assertEquals(HttpsUpgradeCache.Status.STRICT, httpsUpgradeCache.getStatus("other.example.com"));
+    }
+
+    @Test
+    public void failureOfSubdomainIsRecordedWithoutIncludeSubDomains() {
+        httpsUpgradeCache.onSupported("example.com", Collections.singletonList("max-age=31536000"));
+        httpsUpgradeCache.onUnsupported("sub.example.com");
+        assertEquals(HttpsUpgradeCache.Status.UNSUPPORTED, httpsUpgradeCache.getStatus("sub.example.com"));
+        assertEquals(HttpsUpgradeCache.Status.STRICT, httpsUpgradeCache.getStatus("example.com"));
+    }
+
+    @Test
+    public void failureDoesNotCancelHostPolicy() {
+        httpsUpgradeCache.onSupported("example.com", Collections.singletonList("max-age=31536000"));
+        httpsUpgradeCache.onUnsupported("example.com");
+        assertEquals(HttpsUpgradeCache.Status.STRICT, httpsUpgradeCache.getStatus("example.com"));
+    }
+}
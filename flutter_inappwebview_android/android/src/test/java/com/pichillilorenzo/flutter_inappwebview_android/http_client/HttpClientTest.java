@@ -0,0 +1,73 @@
+package com.pichillilorenzo.flutter_inappwebview_android.http_client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+
+public class HttpClientTest {
+  private HttpServer server;
+  private String url;
+
+  @Before
+  public void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", new HttpHandler() {
+      @Override
+      public void handle(HttpExchange exchange) throws IOException {
+        byte[] body = "body".getBytes();
+        exchange.sendResponseHeaders(200, body.length);
+        OutputStream outputStream = exchange.getResponseBody();
+        outputStream.write(body);
+        outputStream.close();
+      }
+    });
+    server.start();
+    url = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+  }
+
+  @After
+  public void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  public void responseBeingReadDoesNotHoldTheSlotOfItsHost() throws IOException {
+    HttpClient httpClient = new HttpClient();
+    httpClient.setSettings(1000, 1000, 1);
+
+    HttpClientResponse firstResponse = httpClient.execute(url, "GET", null);
+    assertNotNull(firstResponse);
+    // the first response is still open, the second request must not wait for it
+    HttpClientResponse secondResponse = httpClient.execute(url, "GET", null);
+    assertNotNull(secondResponse);
+    assertEquals(0, httpClient.getStatistics().slotWaitTimeouts.get());
+    assertEquals(2, httpClient.getStatistics().activeConnections.get());
+
+    readToEnd(firstResponse.getInputStream());
+    firstResponse.close();
+    readToEnd(secondResponse.getInputStream());
+    secondResponse.close();
+    assertEquals(0, httpClient.getStatistics().activeConnections.get());
+    assertEquals(2, httpClient.getStatistics().releasedConnections.get());
+    assertEquals(0, httpClient.getStatistics().failedRequests.get());
+  }
+
+  private static void readToEnd(InputStream inputStream) throws IOException {
+    byte[] buffer = new byte[1024];
+    while (inputStream.read(buffer, 0, buffer.length) >= 0) {
+      // read the body
+    }
+  }
+}
@@ -209,6 +209,84 @@ class AndroidCookieManager extends PlatformCookieManager
         false;
   }
 
+  @override
+  Future<bool> setCookies(
+      {required WebUri url, required List<Cookie> cookies}) async {
+    assert(url.toString().isNotEmpty);
+
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('url', () => url.toString());
+    args.putIfAbsent(
+        'cookies',
+        () => cookies
+            .map((cookie) => <String, dynamic>{
+                  'name': cookie.name,
+                  'value': cookie.value?.toString() ?? "",
+                  'domain': cookie.domain,
+                  'path': cookie.path ?? "/",
+                  'expiresDate': cookie.expiresDate?.toString(),
+                  'isSecure': cookie.isSecure,
+                  'isHttpOnly': cookie.isHttpOnly,
+                  'sameSite': cookie.sameSite?.toNativeValue()
+                })
+            .toList());
+    return await channel?.invokeMethod<bool>('setCookies', args) ?? false;
+  }
+
+  @override
+  Future<bool> deleteCookiesByName(
+      {required WebUri url,
+      required List<String> names,
+      String path = "/",
+      String? domain}) async {
+    assert(url.toString().isNotEmpty);
+
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('url', () => url.toString());
+    args.putIfAbsent('names', () => names);
+    args.putIfAbsent('domain', () => domain);
+    args.putIfAbsent('path', () => path);
+    return await channel?.invokeMethod<bool>('deleteCookiesByName', args) ??
+        false;
+  }
+
+  @override
+  Future<String?> exportCookies({required List<WebUri> urls}) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('urls', () => urls.map((url) => url.toString()).toList());
+    return await channel?.invokeMethod<String?>('exportCookies', args);
+  }
+
+  @override
+  Future<bool> importCookies({required String jar}) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('jar', () => jar);
+    return await channel?.invokeMethod<bool>('importCookies', args) ?? false;
+  }
+
+  @override
+  Future<void> setFlushSettings(
+      {Duration? flushDelay, Duration? maxFlushDelay}) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('flushDelay', () => flushDelay?.inMilliseconds);
+    args.putIfAbsent('maxFlushDelay', () => maxFlushDelay?.inMilliseconds);
+    await channel?.invokeMethod('setFlushSettings', args);
+  }
+
+  @override
+  Future<void> flush() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    await channel?.invokeMethod('flush', args);
+  }
+
+  @override
+  Future<Map<String, dynamic>> getFlushStatistics() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    Map<dynamic, dynamic>? statistics =
+        await channel?.invokeMethod('getFlushStatistics', args);
+    return statistics?.cast<String, dynamic>() ?? <String, dynamic>{};
+  }
+
   @override
   void dispose() {
     // empty
@@ -0,0 +1,76 @@
+import 'dart:convert';
+import 'dart:developer' as developer;
+import 'dart:math';
+import 'dart:typed_data';
+
+import 'package:flutter/foundation.dart';
+import 'package:flutter/services.dart';
+
+///Sends the data streams of the responses returned to the native WebView.
+///Keep it in sync with `ResponseStreamChannel.java`.
+class ResponseStreamChannel {
+  static const int _MESSAGE_TYPE_DATA = 0;
+  static const int _MESSAGE_TYPE_END = 1;
+  static const int _MESSAGE_TYPE_ERROR = 2;
+
+  ///Maximum size of a chunk sent to the native side.
+  static const int MAX_CHUNK_SIZE = 64 * 1024;
+
+  ///Shared by all the channels, since the native side can outlive a controller,
+  ///for example when a kept alive WebView gets a new controller with the same channel.
+  static int _nextStreamId = 0;
+
+  final BasicMessageChannel<ByteData?> _channel;
+
+  ///[channelName] is the name of the method channel of the WebView.
+  ResponseStreamChannel(String channelName)
+      : _channel = BasicMessageChannel<ByteData?>(
+            '$channelName/responseStream', BinaryCodec());
+
+  ///Starts sending [stream] and returns its id, to be sent with the response.
+  int open(Stream<List<int>> stream) {
+    final streamId = _nextStreamId++;
+    _send(streamId, stream);
+    return streamId;
+  }
+
+  Future<void> _send(int streamId, Stream<List<int>> stream) async {
+    try {
+      // await for pauses the stream until the native side accepts each chunk,
+      // and cancels it if the native side stops reading
+      await for (final data in stream) {
+        final bytes = data is Uint8List ? data : Uint8List.fromList(data);
+        for (var offset = 0; offset < bytes.length; offset += MAX_CHUNK_SIZE) {
+          final chunk = Uint8List.sublistView(
+              bytes, offset, min(offset + MAX_CHUNK_SIZE, bytes.length));
+          if (!await _sendChunk(streamId, chunk)) {
+            return;
+          }
+        }
+      }
+      await _sendMessage(streamId, _MESSAGE_TYPE_END, null);
+    } catch (error, stacktrace) {
+      developer.log(error.toString() + '\n' + stacktrace.toString(),
+          name: this.runtimeType.toString());
+      await _sendMessage(streamId, _MESSAGE_TYPE_ERROR,
+          Uint8List.fromList(utf8.encode(error.toString())));
+    }
+  }
+
+  ///Returns `false` if the native side doesn't read the stream anymore,
+  ///for example because the WebView has been disposed.
+  Future<bool> _sendChunk(int streamId, Uint8List chunk) async {
+    final reply = await _sendMessage(streamId, _MESSAGE_TYPE_DATA, chunk);
+    return reply != null && reply.lengthInBytes > 0 && reply.getUint8(0) == 1;
+  }
+
+  Future<ByteData?> _sendMessage(int streamId, int type, Uint8List? data) {
+    final buffer = WriteBuffer();
+    buffer.putInt32(streamId, endian: Endian.big);
+    buffer.putUint8(type);
+    if (data != null) {
+      buffer.putUint8List(data);
+    }
+    return _channel.send(buffer.done());
+  }
+}
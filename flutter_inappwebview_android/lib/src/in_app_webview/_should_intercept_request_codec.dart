@@ -0,0 +1,104 @@
+import 'dart:convert';
+import 'dart:typed_data';
+
+import 'package:flutter/foundation.dart';
+import 'package:flutter_inappwebview_platform_interface/flutter_inappwebview_platform_interface.dart';
+
+///Binary encoding of the `shouldInterceptRequest` messages exchanged with the native side.
+///Keep it in sync with `ShouldInterceptRequestCodec.java`.
+class ShouldInterceptRequestCodec {
+  static const int _FLAG_IS_REDIRECT = 1;
+  static const int _FLAG_HAS_GESTURE = 1 << 1;
+  static const int _FLAG_IS_FOR_MAIN_FRAME = 1 << 2;
+
+  ///Reply sent to a request that will be answered on the response channel.
+  static final ByteData ACK = ByteData(1)..setUint8(0, 1);
+
+  static int decodeRequestId(ByteData message) {
+    return message.getInt32(0, Endian.big);
+  }
+
+  static WebResourceRequest decodeRequest(ByteData message) {
+    final buffer = ReadBuffer(message);
+    buffer.getInt32(endian: Endian.big);
+    final flags = buffer.getUint8();
+    final url = _readString(buffer) ?? '';
+    final method = _readString(buffer);
+    final headers = _readMap(buffer);
+    return WebResourceRequest(
+        url: WebUri(url),
+        headers: headers,
+        method: method,
+        isRedirect: flags & _FLAG_IS_REDIRECT != 0,
+        hasGesture: flags & _FLAG_HAS_GESTURE != 0,
+        isForMainFrame: flags & _FLAG_IS_FOR_MAIN_FRAME != 0);
+  }
+
+  ///[dataStreamId] is the id of the `ResponseStreamChannel` stream of the response data, if any.
+  static ByteData encodeResponse(int requestId, WebResourceResponse? response,
+      {int? dataStreamId}) {
+    final buffer = WriteBuffer();
+    buffer.putInt32(requestId, endian: Endian.big);
+    buffer.putUint8(response != null ? 1 : 0);
+    if (response != null) {
+      _writeString(buffer, response.contentType);
+      _writeString(buffer, response.contentEncoding);
+      buffer.putInt32(response.statusCode ?? -1, endian: Endian.big);
+      _writeString(buffer, response.reasonPhrase);
+      _writeMap(buffer, response.headers);
+      _writeBytes(buffer, dataStreamId == null ? response.data : null);
+      buffer.putInt32(dataStreamId ?? -1, endian: Endian.big);
+    }
+    return buffer.done();
+  }
+
+  static void _writeBytes(WriteBuffer buffer, Uint8List? value) {
+    if (value == null) {
+      buffer.putInt32(-1, endian: Endian.big);
+      return;
+    }
+    buffer.putInt32(value.length, endian: Endian.big);
+    buffer.putUint8List(value);
+  }
+
+  static void _writeString(WriteBuffer buffer, String? value) {
+    _writeBytes(
+        buffer, value != null ? Uint8List.fromList(utf8.encode(value)) : null);
+  }
+
+  static void _writeMap(WriteBuffer buffer, Map<String, String>? value) {
+    if (value == null) {
+      buffer.putInt32(-1, endian: Endian.big);
+      return;
+    }
+    buffer.putInt32(value.length, endian: Endian.big);
+    value.forEach((key, value) {
+      _writeString(buffer, key);
+      _writeString(buffer, value);
+    });
+  }
+
+  static String? _readString(ReadBuffer buffer) {
+    final length = buffer.getInt32(endian: Endian.big);
+    if (length < 0) {
+      return null;
+    }
+    return utf8.decode(buffer.getUint8List(length));
+  }
+
+  static Map<String, String>? _readMap(ReadBuffer buffer) {
+    final size = buffer.getInt32(endian: Endian.big);
+    if (size < 0) {
+      return null;
+    }
+    final map = <String, String>{};
+    for (var i = 0; i < size; i++) {
+      final key = _readString(buffer);
+      final value = _readString(buffer);
+      if (key != null && value != null) {
+        map[key] = value;
+      }
+    }
+    return map;
+  }
+}
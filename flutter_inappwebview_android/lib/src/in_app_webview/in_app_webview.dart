@@ -422,6 +422,15 @@ class AndroidInAppWebViewWidget extends PlatformInAppWebViewWidget {
     if (params.onLoadResource != null && settings.useOnLoadResource == null) {
       settings.useOnLoadResource = true;
     }
+    if (settings.useOnWindowFocus == null) {
+      settings.useOnWindowFocus = params.onWindowFocus != null;
+    }
+    if (settings.useOnWindowBlur == null) {
+      settings.useOnWindowBlur = params.onWindowBlur != null;
+    }
+    if (settings.useOnConsoleMessage == null) {
+      settings.useOnConsoleMessage = params.onConsoleMessage != null;
+    }
     if (params.onDownloadStartRequest != null &&
         settings.useOnDownloadStart == null) {
       settings.useOnDownloadStart = true;
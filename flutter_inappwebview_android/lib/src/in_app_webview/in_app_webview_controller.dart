@@ -1,3 +1,4 @@
+import 'dart:async';
 import 'dart:io';
 import 'dart:collection';
 import 'dart:convert';
@@ -17,6 +18,8 @@ import '../web_storage/web_storage.dart';
 
 import 'headless_in_app_webview.dart';
 import '_static_channel.dart';
+import '_should_intercept_request_codec.dart';
+import '_response_stream_channel.dart';
 
 import '../print_job/main.dart';
 
@@ -64,6 +67,8 @@ class AndroidInAppWebViewControllerCreationParams
 class AndroidInAppWebViewController extends PlatformInAppWebViewController
     with ChannelController {
   static final MethodChannel _staticChannel = IN_APP_WEBVIEW_STATIC_CHANNEL;
+  static const MethodChannel _headlessStaticChannel =
+      MethodChannel('com.pichillilorenzo/flutter_headless_inappwebview');
 
   // List of properties to be saved and restored for keep alive feature
   Map<String, JavaScriptHandlerCallback> _javaScriptHandlersMap =
@@ -76,6 +81,11 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
   Map<String, ScriptHtmlTagAttributes> _injectedScriptsFromURL = {};
   Set<AndroidWebMessageChannel> _webMessageChannels = Set();
   Set<AndroidWebMessageListener> _webMessageListeners = Set();
+  BasicMessageChannel<ByteData?>? _shouldInterceptRequestChannel;
+  BasicMessageChannel<ByteData?>? _shouldInterceptRequestResponseChannel;
+  ResponseStreamChannel? _responseStreamChannel;
+  Map<int, _FullPageScreenshot> _fullPageScreenshots = {};
+  int _nextFullPageScreenshotId = 0;
 
   // static map that contains the properties to be saved and restored for keep alive feature
   static final Map<InAppWebViewKeepAlive, InAppWebViewControllerKeepAliveProps?>
@@ -163,6 +173,17 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
     _controllerFromPlatform =
         params.webviewParams?.controllerFromPlatform?.call(this) ?? this;
 
+    if (params.id != null && channel != null) {
+      // must match the channel names of ShouldInterceptRequestChannel.java
+      _shouldInterceptRequestChannel = BasicMessageChannel<ByteData?>(
+          '${channel!.name}/shouldInterceptRequest', BinaryCodec());
+      _shouldInterceptRequestResponseChannel = BasicMessageChannel<ByteData?>(
+          '${channel!.name}/shouldInterceptRequest/response', BinaryCodec());
+      _shouldInterceptRequestChannel!
+          .setMessageHandler(_handleShouldInterceptRequestMessage);
+      _responseStreamChannel = ResponseStreamChannel(channel!.name);
+    }
+
     webStorage = AndroidWebStorage(AndroidWebStorageCreationParams(
         localStorage: AndroidLocalStorage.defaultStorage(controller: this),
         sessionStorage:
@@ -211,9 +232,73 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
         args: args);
   }
 
+  bool get _hasShouldInterceptRequestListener =>
+      (webviewParams != null &&
+          (webviewParams!.shouldInterceptRequest != null ||
+              // ignore: deprecated_member_use_from_same_package
+              webviewParams!.androidShouldInterceptRequest != null)) ||
+      _inAppBrowserEventHandler != null;
+
+  Future<WebResourceResponse?> _shouldInterceptRequest(
+      WebResourceRequest request) async {
+    if (webviewParams != null) {
+      if (webviewParams!.shouldInterceptRequest != null)
+        return await webviewParams!.shouldInterceptRequest!(
+            _controllerFromPlatform, request);
+      else {
+        // ignore: deprecated_member_use_from_same_package
+        return await webviewParams!.androidShouldInterceptRequest!(
+            _controllerFromPlatform, request);
+      }
+    }
+    return (await _inAppBrowserEventHandler!.shouldInterceptRequest(request)) ??
+        (await _inAppBrowserEventHandler!
+            .androidShouldInterceptRequest(request));
+  }
+
+  ///Starts sending [dataStream], if any, and adds its id to the response [map].
+  Map<String, dynamic> _toMapWithDataStream(
+      Map<String, dynamic> map, Stream<Uint8List>? dataStream) {
+    if (dataStream != null && _responseStreamChannel != null) {
+      map["dataStreamId"] = _responseStreamChannel!.open(dataStream);
+    }
+    return map;
+  }
+
+  Future<ByteData?> _handleShouldInterceptRequestMessage(
+      ByteData? message) async {
+    if (message == null ||
+        _shouldInterceptRequestResponseChannel == null ||
+        !_hasShouldInterceptRequestListener) {
+      // the WebView loads the resource normally
+      return null;
+    }
+    final requestId = ShouldInterceptRequestCodec.decodeRequestId(message);
+    final request = ShouldInterceptRequestCodec.decodeRequest(message);
+    // reply immediately, the response is sent on its own channel
+    // so that the native side can receive it off the main thread
+    _shouldInterceptRequest(request).then((response) {
+      final dataStream = response?.dataStream;
+      final dataStreamId =
+          dataStream != null ? _responseStreamChannel?.open(dataStream) : null;
+      _shouldInterceptRequestResponseChannel?.send(
+          ShouldInterceptRequestCodec.encodeResponse(requestId, response,
+              dataStreamId: dataStreamId));
+    }, onError: (error, stacktrace) {
+      developer.log(error.toString() + '\n' + stacktrace.toString(),
+          name: this.runtimeType.toString());
+      _shouldInterceptRequestResponseChannel?.send(
+          ShouldInterceptRequestCodec.encodeResponse(requestId, null));
+    });
+    return ShouldInterceptRequestCodec.ACK;
+  }
+
   Future<dynamic> _handleMethod(MethodCall call) async {
     if (PlatformInAppWebViewController.debugLoggingSettings.enabled &&
-        call.method != "onCallJsHandler") {
+        call.method != "onCallJsHandler" &&
+        call.method != "onCallJsHandlers" &&
+        call.method != "onCallJsBinaryHandler" &&
+        call.method != "onFullPageScreenshotTile") {
       _debugLog(call.method, call.arguments);
     }
 
@@ -352,6 +437,35 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
             _inAppBrowserEventHandler!.onConsoleMessage(consoleMessage);
         }
         break;
+      case "onConsoleMessages":
+        if ((webviewParams != null &&
+                webviewParams!.onConsoleMessage != null) ||
+            _inAppBrowserEventHandler != null) {
+          List<dynamic> consoleMessages = call.arguments["consoleMessages"];
+          for (final arguments in consoleMessages) {
+            ConsoleMessage consoleMessage =
+                ConsoleMessage.fromMap(arguments.cast<String, dynamic>())!;
+            if (webviewParams != null &&
+                webviewParams!.onConsoleMessage != null)
+              webviewParams!.onConsoleMessage!(
+                  _controllerFromPlatform, consoleMessage);
+            else
+              _inAppBrowserEventHandler!.onConsoleMessage(consoleMessage);
+          }
+        }
+        break;
+      case "onLoadResources":
+        if ((webviewParams != null &&
+                webviewParams!.onLoadResource != null) ||
+            _inAppBrowserEventHandler != null) {
+          List<dynamic> entries = jsonDecode(call.arguments["entries"]);
+          for (final entry in entries) {
+            Map<String, dynamic> arguments = entry.cast<String, dynamic>();
+            _onLoadResource(LoadedResource.fromMap(
+                _loadedResourceArgumentsToDouble(arguments))!);
+          }
+        }
+        break;
       case "onScrollChanged":
         if ((webviewParams != null && webviewParams!.onScrollChanged != null) ||
             _inAppBrowserEventHandler != null) {
@@ -402,26 +516,27 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
               call.arguments["request"].cast<String, dynamic>();
           WebResourceRequest request = WebResourceRequest.fromMap(requestMap)!;
 
+          CustomSchemeResponse? response;
           if (webviewParams != null) {
             if (webviewParams!.onLoadResourceWithCustomScheme != null)
-              return (await webviewParams!.onLoadResourceWithCustomScheme!(
-                      _controllerFromPlatform, request))
-                  ?.toMap();
+              response = await webviewParams!.onLoadResourceWithCustomScheme!(
+                  _controllerFromPlatform, request);
             else {
-              return (await params
-                          .webviewParams!
-                          // ignore: deprecated_member_use_from_same_package
-                          .onLoadResourceCustomScheme!(
-                      _controllerFromPlatform, request.url))
-                  ?.toMap();
+              response = await params
+                      .webviewParams!
+                      // ignore: deprecated_member_use_from_same_package
+                      .onLoadResourceCustomScheme!(
+                  _controllerFromPlatform, request.url);
             }
           } else {
-            return ((await _inAppBrowserEventHandler!
-                        .onLoadResourceWithCustomScheme(request)) ??
-                    (await _inAppBrowserEventHandler!
-                        .onLoadResourceCustomScheme(request.url)))
-                ?.toMap();
+            response = (await _inAppBrowserEventHandler!
+                    .onLoadResourceWithCustomScheme(request)) ??
+                (await _inAppBrowserEventHandler!
+                    .onLoadResourceCustomScheme(request.url));
           }
+          return response != null
+              ? _toMapWithDataStream(response.toMap(), response.dataStream)
+              : null;
         }
         break;
       case "onCreateWindow":
@@ -509,33 +624,14 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
         }
         break;
       case "shouldInterceptRequest":
-        if ((webviewParams != null &&
-                (webviewParams!.shouldInterceptRequest != null ||
-                    // ignore: deprecated_member_use_from_same_package
-                    webviewParams!.androidShouldInterceptRequest != null)) ||
-            _inAppBrowserEventHandler != null) {
+        if (_hasShouldInterceptRequestListener) {
           Map<String, dynamic> arguments =
               call.arguments.cast<String, dynamic>();
           WebResourceRequest request = WebResourceRequest.fromMap(arguments)!;
-
-          if (webviewParams != null) {
-            if (webviewParams!.shouldInterceptRequest != null)
-              return (await webviewParams!.shouldInterceptRequest!(
-                      _controllerFromPlatform, request))
-                  ?.toMap();
-            else {
-              // ignore: deprecated_member_use_from_same_package
-              return (await webviewParams!.androidShouldInterceptRequest!(
-                      _controllerFromPlatform, request))
-                  ?.toMap();
-            }
-          } else {
-            return ((await _inAppBrowserEventHandler!
-                        .shouldInterceptRequest(request)) ??
-                    (await _inAppBrowserEventHandler!
-                        .androidShouldInterceptRequest(request)))
-                ?.toMap();
-          }
+          final response = await _shouldInterceptRequest(request);
+          return response != null
+              ? _toMapWithDataStream(response.toMap(), response.dataStream)
+              : null;
         }
         break;
       case "onRenderProcessUnresponsive":
@@ -686,8 +782,14 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
                     // ignore: deprecated_member_use_from_same_package
                     webviewParams!.androidOnReceivedIcon != null)) ||
             _inAppBrowserEventHandler != null) {
-          Uint8List icon =
-              Uint8List.fromList(call.arguments["icon"].cast<int>());
+          // the native side sends the key of the icon in its favicon cache
+          Map<String, dynamic> args = <String, dynamic>{};
+          args.putIfAbsent('key', () => call.arguments["key"]);
+          Uint8List? icon =
+              await _staticChannel.invokeMethod('getCachedFavicon', args);
+          if (icon == null) {
+            break;
+          }
 
           if (webviewParams != null) {
             if (webviewParams!.onReceivedIcon != null)
@@ -1410,142 +1512,62 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
         String handlerName = call.arguments["handlerName"];
         // decode args to json
         List<dynamic> args = jsonDecode(call.arguments["args"]);
-
-        _debugLog(handlerName, args);
-
-        switch (handlerName) {
-          case "onLoadResource":
-            if ((webviewParams != null &&
-                    webviewParams!.onLoadResource != null) ||
-                _inAppBrowserEventHandler != null) {
-              Map<String, dynamic> arguments = args[0].cast<String, dynamic>();
-              arguments["startTime"] = arguments["startTime"] is int
-                  ? arguments["startTime"].toDouble()
-                  : arguments["startTime"];
-              arguments["duration"] = arguments["duration"] is int
-                  ? arguments["duration"].toDouble()
-                  : arguments["duration"];
-
-              var response = LoadedResource.fromMap(arguments)!;
-
-              if (webviewParams != null &&
-                  webviewParams!.onLoadResource != null)
-                webviewParams!.onLoadResource!(
-                    _controllerFromPlatform, response);
-              else
-                _inAppBrowserEventHandler!.onLoadResource(response);
-            }
-            return null;
-          case "shouldInterceptAjaxRequest":
-            if ((webviewParams != null &&
-                    webviewParams!.shouldInterceptAjaxRequest != null) ||
-                _inAppBrowserEventHandler != null) {
-              Map<String, dynamic> arguments = args[0].cast<String, dynamic>();
-              AjaxRequest request = AjaxRequest.fromMap(arguments)!;
-
-              if (webviewParams != null &&
-                  webviewParams!.shouldInterceptAjaxRequest != null)
-                return jsonEncode(
-                    await params.webviewParams!.shouldInterceptAjaxRequest!(
-                        _controllerFromPlatform, request));
-              else
-                return jsonEncode(await _inAppBrowserEventHandler!
-                    .shouldInterceptAjaxRequest(request));
-            }
-            return null;
-          case "onAjaxReadyStateChange":
-            if ((webviewParams != null &&
-                    webviewParams!.onAjaxReadyStateChange != null) ||
-                _inAppBrowserEventHandler != null) {
-              Map<String, dynamic> arguments = args[0].cast<String, dynamic>();
-              AjaxRequest request = AjaxRequest.fromMap(arguments)!;
-
-              if (webviewParams != null &&
-                  webviewParams!.onAjaxReadyStateChange != null)
-                return (await webviewParams!.onAjaxReadyStateChange!(
-                        _controllerFromPlatform, request))
-                    ?.toNativeValue();
-              else
-                return (await _inAppBrowserEventHandler!
-                        .onAjaxReadyStateChange(request))
-                    ?.toNativeValue();
-            }
-            return null;
-          case "onAjaxProgress":
-            if ((webviewParams != null &&
-                    webviewParams!.onAjaxProgress != null) ||
-                _inAppBrowserEventHandler != null) {
-              Map<String, dynamic> arguments = args[0].cast<String, dynamic>();
-              AjaxRequest request = AjaxRequest.fromMap(arguments)!;
-
-              if (webviewParams != null &&
-                  webviewParams!.onAjaxProgress != null)
-                return (await webviewParams!.onAjaxProgress!(
-                        _controllerFromPlatform, request))
-                    ?.toNativeValue();
-              else
-                return (await _inAppBrowserEventHandler!
-                        .onAjaxProgress(request))
-                    ?.toNativeValue();
-            }
-            return null;
-          case "shouldInterceptFetchRequest":
-            if ((webviewParams != null &&
-                    webviewParams!.shouldInterceptFetchRequest != null) ||
-                _inAppBrowserEventHandler != null) {
-              Map<String, dynamic> arguments = args[0].cast<String, dynamic>();
-              FetchRequest request = FetchRequest.fromMap(arguments)!;
-
-              if (webviewParams != null &&
-                  webviewParams!.shouldInterceptFetchRequest != null)
-                return jsonEncode(
-                    await webviewParams!.shouldInterceptFetchRequest!(
-                        _controllerFromPlatform, request));
-              else
-                return jsonEncode(await _inAppBrowserEventHandler!
-                    .shouldInterceptFetchRequest(request));
-            }
-            return null;
-          case "onWindowFocus":
-            if (webviewParams != null && webviewParams!.onWindowFocus != null)
-              webviewParams!.onWindowFocus!(_controllerFromPlatform);
-            else if (_inAppBrowserEventHandler != null)
-              _inAppBrowserEventHandler!.onWindowFocus();
-            return null;
-          case "onWindowBlur":
-            if (webviewParams != null && webviewParams!.onWindowBlur != null)
-              webviewParams!.onWindowBlur!(_controllerFromPlatform);
-            else if (_inAppBrowserEventHandler != null)
-              _inAppBrowserEventHandler!.onWindowBlur();
-            return null;
-          case "onInjectedScriptLoaded":
-            String id = args[0];
-            var onLoadCallback = _injectedScriptsFromURL[id]?.onLoad;
-            if ((webviewParams != null || _inAppBrowserEventHandler != null) &&
-                onLoadCallback != null) {
-              onLoadCallback();
-            }
-            return null;
-          case "onInjectedScriptError":
-            String id = args[0];
-            var onErrorCallback = _injectedScriptsFromURL[id]?.onError;
-            if ((webviewParams != null || _inAppBrowserEventHandler != null) &&
-                onErrorCallback != null) {
-              onErrorCallback();
-            }
-            return null;
-        }
-
+        return await _onCallJsHandler(handlerName, args);
+      case "onCallJsBinaryHandler":
+        String handlerName = call.arguments["handlerName"];
+        Uint8List data = call.arguments["data"];
         if (_javaScriptHandlersMap.containsKey(handlerName)) {
-          // convert result to json
           try {
-            return jsonEncode(await _javaScriptHandlersMap[handlerName]!(args));
+            final result = await _javaScriptHandlersMap[handlerName]!([data]);
+            // binary results are sent as they are, the other ones as json
+            return result is Uint8List ? result : jsonEncode(result);
           } catch (error, stacktrace) {
             developer.log(error.toString() + '\n' + stacktrace.toString(),
                 name: 'JavaScript Handler "$handlerName"');
             throw Exception(error.toString().replaceFirst('Exception: ', ''));
           }
         }
+        return null;
+      case "onCallJsHandlers":
+        // list of [handlerName, _callHandlerID, args]
+        List<dynamic> calls = jsonDecode(call.arguments["calls"]);
+        // each result is [_callHandlerID, isError, value]
+        return await Future.wait(calls.map((jsCall) async {
+          try {
+            return [
+              jsCall[1],
+              false,
+              await _onCallJsHandler(jsCall[0], jsCall[2] ?? [])
+            ];
+          } catch (error) {
+            return [
+              jsCall[1],
+              true,
+              error.toString().replaceFirst('Exception: ', '')
+            ];
+          }
+        }));
+      case "onFullPageScreenshotTile":
+        final fullPageScreenshot = _fullPageScreenshots[call.arguments["id"]];
+        if (fullPageScreenshot == null) {
+          // the subscription has been canceled, stop the capture
+          return false;
+        }
+        fullPageScreenshot.controller.add(ScreenshotTile.fromMap(
+            call.arguments["tile"]?.cast<String, dynamic>())!);
+        // the next tiles are drawn only when this returns
+        await fullPageScreenshot.resumed;
+        return _fullPageScreenshots.containsKey(call.arguments["id"]);
+      case "onFullPageScreenshotEnd":
+        final fullPageScreenshot =
+            _fullPageScreenshots.remove(call.arguments["id"]);
+        if (fullPageScreenshot != null) {
+          String? error = call.arguments["error"];
+          if (error != null) {
+            fullPageScreenshot.controller.addError(Exception(error));
+          }
+          fullPageScreenshot.controller.close();
+        }
         break;
       default:
         throw UnimplementedError("Unimplemented ${call.method} method");
@@ -1553,6 +1575,167 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
     return null;
   }
 
+  void _onLoadResource(LoadedResource resource) {
+    if (webviewParams != null && webviewParams!.onLoadResource != null)
+      webviewParams!.onLoadResource!(_controllerFromPlatform, resource);
+    else
+      _inAppBrowserEventHandler!.onLoadResource(resource);
+  }
+
+  static const _loadedResourceTimestamps = [
+    "startTime",
+    "duration",
+    "workerStart",
+    "redirectStart",
+    "redirectEnd",
+    "fetchStart",
+    "domainLookupStart",
+    "domainLookupEnd",
+    "connectStart",
+    "connectEnd",
+    "secureConnectionStart",
+    "requestStart",
+    "responseStart",
+    "responseEnd"
+  ];
+
+  Map<String, dynamic> _loadedResourceArgumentsToDouble(
+      Map<String, dynamic> arguments) {
+    for (final key in _loadedResourceTimestamps) {
+      if (arguments[key] is int) {
+        arguments[key] = arguments[key].toDouble();
+      }
+    }
+    return arguments;
+  }
+
+  Future<dynamic> _onCallJsHandler(
+      String handlerName, List<dynamic> args) async {
+    _debugLog(handlerName, args);
+
+    switch (handlerName) {
+      case "onLoadResource":
+        if ((webviewParams != null &&
+                webviewParams!.onLoadResource != null) ||
+            _inAppBrowserEventHandler != null) {
+          Map<String, dynamic> arguments = args[0].cast<String, dynamic>();
+          _onLoadResource(LoadedResource.fromMap(
+              _loadedResourceArgumentsToDouble(arguments))!);
+        }
+        return null;
+      case "shouldInterceptAjaxRequest":
+        if ((webviewParams != null &&
+                webviewParams!.shouldInterceptAjaxRequest != null) ||
+            _inAppBrowserEventHandler != null) {
+          Map<String, dynamic> arguments = args[0].cast<String, dynamic>();
+          AjaxRequest request = AjaxRequest.fromMap(arguments)!;
+
+          if (webviewParams != null &&
+              webviewParams!.shouldInterceptAjaxRequest != null)
+            return jsonEncode(
+                await params.webviewParams!.shouldInterceptAjaxRequest!(
+                    _controllerFromPlatform, request));
+          else
+            return jsonEncode(await _inAppBrowserEventHandler!
+                .shouldInterceptAjaxRequest(request));
+        }
+        return null;
+      case "onAjaxReadyStateChange":
+        if ((webviewParams != null &&
+                webviewParams!.onAjaxReadyStateChange != null) ||
+            _inAppBrowserEventHandler != null) {
+          Map<String, dynamic> arguments = args[0].cast<String, dynamic>();
+          AjaxRequest request = AjaxRequest.fromMap(arguments)!;
+
+          if (webviewParams != null &&
+              webviewParams!.onAjaxReadyStateChange != null)
+            return (await webviewParams!.onAjaxReadyStateChange!(
+                    _controllerFromPlatform, request))
+                ?.toNativeValue();
+          else
+            return (await _inAppBrowserEventHandler!
+                    .onAjaxReadyStateChange(request))
+                ?.toNativeValue();
+        }
+        return null;
+      case "onAjaxProgress":
+        if ((webviewParams != null &&
+                webviewParams!.onAjaxProgress != null) ||
+            _inAppBrowserEventHandler != null) {
+          Map<String, dynamic> arguments = args[0].cast<String, dynamic>();
+          AjaxRequest request = AjaxRequest.fromMap(arguments)!;
+
+          if (webviewParams != null &&
+              webviewParams!.onAjaxProgress != null)
+            return (await webviewParams!.onAjaxProgress!(
+                    _controllerFromPlatform, request))
+                ?.toNativeValue();
+          else
+            return (await _inAppBrowserEventHandler!
+                    .onAjaxProgress(request))
+                ?.toNativeValue();
+        }
+        return null;
+      case "shouldInterceptFetchRequest":
+        if ((webviewParams != null &&
+                webviewParams!.shouldInterceptFetchRequest != null) ||
+            _inAppBrowserEventHandler != null) {
+          Map<String, dynamic> arguments = args[0].cast<String, dynamic>();
+          FetchRequest request = FetchRequest.fromMap(arguments)!;
+
+          if (webviewParams != null &&
+              webviewParams!.shouldInterceptFetchRequest != null)
+            return jsonEncode(
+                await webviewParams!.shouldInterceptFetchRequest!(
+                    _controllerFromPlatform, request));
+          else
+            return jsonEncode(await _inAppBrowserEventHandler!
+                .shouldInterceptFetchRequest(request));
+        }
+        return null;
+      case "onWindowFocus":
+        if (webviewParams != null && webviewParams!.onWindowFocus != null)
+          webviewParams!.onWindowFocus!(_controllerFromPlatform);
+        else if (_inAppBrowserEventHandler != null)
+          _inAppBrowserEventHandler!.onWindowFocus();
+        return null;
+      case "onWindowBlur":
+        if (webviewParams != null && webviewParams!.onWindowBlur != null)
+          webviewParams!.onWindowBlur!(_controllerFromPlatform);
+        else if (_inAppBrowserEventHandler != null)
+          _inAppBrowserEventHandler!.onWindowBlur();
+        return null;
+      case "onInjectedScriptLoaded":
+        String id = args[0];
+        var onLoadCallback = _injectedScriptsFromURL[id]?.onLoad;
+        if ((webviewParams != null || _inAppBrowserEventHandler != null) &&
+            onLoadCallback != null) {
+          onLoadCallback();
+        }
+        return null;
+      case "onInjectedScriptError":
+        String id = args[0];
+        var onErrorCallback = _injectedScriptsFromURL[id]?.onError;
+        if ((webviewParams != null || _inAppBrowserEventHandler != null) &&
+            onErrorCallback != null) {
+          onErrorCallback();
+        }
+        return null;
+    }
+
+    if (_javaScriptHandlersMap.containsKey(handlerName)) {
+      // convert result to json
+      try {
+        return jsonEncode(await _javaScriptHandlersMap[handlerName]!(args));
+      } catch (error, stacktrace) {
+        developer.log(error.toString() + '\n' + stacktrace.toString(),
+            name: 'JavaScript Handler "$handlerName"');
+        throw Exception(error.toString().replaceFirst('Exception: ', ''));
+      }
+    }
+    return null;
+  }
+
   @override
   Future<WebUri?> getUrl() async {
     Map<String, dynamic> args = <String, dynamic>{};
@@ -2013,6 +2196,45 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
     return await channel?.invokeMethod<Uint8List?>('takeScreenshot', args);
   }
 
+  @override
+  Future<RawScreenshot?> takeRawScreenshot(
+      {ScreenshotConfiguration? screenshotConfiguration}) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent(
+        'screenshotConfiguration', () => screenshotConfiguration?.toMap());
+    Map<dynamic, dynamic>? result =
+        await channel?.invokeMethod('takeRawScreenshot', args);
+    return RawScreenshot.fromMap(result?.cast<String, dynamic>());
+  }
+
+  @override
+  Stream<ScreenshotTile> takeFullPageScreenshot(
+      {ScreenshotConfiguration? screenshotConfiguration, int? tileHeight}) {
+    final id = _nextFullPageScreenshotId++;
+    final fullPageScreenshot = _FullPageScreenshot();
+    fullPageScreenshot.controller = StreamController<ScreenshotTile>(
+        onListen: () async {
+          _fullPageScreenshots[id] = fullPageScreenshot;
+          Map<String, dynamic> args = <String, dynamic>{};
+          args.putIfAbsent('id', () => id);
+          args.putIfAbsent('screenshotConfiguration',
+              () => screenshotConfiguration?.toMap());
+          args.putIfAbsent('tileHeight', () => tileHeight);
+          bool? started =
+              await channel?.invokeMethod<bool>('takeFullPageScreenshot', args);
+          if (started != true && _fullPageScreenshots.remove(id) != null) {
+            fullPageScreenshot.controller.close();
+          }
+        },
+        onPause: fullPageScreenshot.pause,
+        onResume: fullPageScreenshot.resume,
+        onCancel: () {
+          _fullPageScreenshots.remove(id);
+          fullPageScreenshot.resume();
+        });
+    return fullPageScreenshot.controller.stream;
+  }
+
   @override
   @Deprecated('Use setSettings instead')
   Future<void> setOptions({required InAppWebViewGroupOptions options}) async {
@@ -2648,6 +2870,86 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
     return await channel?.invokeMethod('clearFormData', args);
   }
 
+  @override
+  Future<List<int>> getInterceptRequestRuleMatchCounts() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    List<dynamic>? matchCounts = await channel?.invokeMethod<List<dynamic>>(
+        'getInterceptRequestRuleMatchCounts', args);
+    return matchCounts?.cast<int>() ?? [];
+  }
+
+  @override
+  Future<List<ConsoleMessage>> getConsoleMessages({int? limit}) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('limit', () => limit);
+    List<dynamic>? consoleMessages =
+        await channel?.invokeMethod<List<dynamic>>('getConsoleMessages', args);
+    return consoleMessages
+            ?.map((e) => ConsoleMessage.fromMap(e.cast<String, dynamic>())!)
+            .toList() ??
+        [];
+  }
+
+  @override
+  Future<void> clearConsoleMessages() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    await channel?.invokeMethod('clearConsoleMessages', args);
+  }
+
+  @override
+  Future<Map<String, dynamic>?> getResourceTimingSummary() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    Map<String, dynamic>? summary = (await channel?.invokeMethod(
+            'getResourceTimingSummary', args))
+        ?.cast<String, dynamic>();
+    if (summary != null && summary["initiatorTypes"] != null) {
+      summary["initiatorTypes"] = (summary["initiatorTypes"] as Map).map(
+          (key, value) => MapEntry<String, dynamic>(
+              key, (value as Map).cast<String, dynamic>()));
+    }
+    return summary;
+  }
+
+  @override
+  Future<Map<String, dynamic>?> getUserScriptsBundleMetrics() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    Map<String, dynamic>? metrics = (await channel?.invokeMethod(
+            'getUserScriptsBundleMetrics', args))
+        ?.cast<String, dynamic>();
+    if (metrics != null) {
+      for (final key in [
+        "bundleSizes",
+        "bundleAssemblyTimes",
+        "pluginScriptSizes"
+      ]) {
+        metrics[key] = (metrics[key] as Map?)?.cast<String, dynamic>();
+      }
+    }
+    return metrics;
+  }
+
+  @override
+  Future<Map<String, dynamic>?> getContentBlockerStatistics() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    return (await channel?.invokeMethod('getContentBlockerStatistics', args))
+        ?.cast<String, dynamic>();
+  }
+
+  @override
+  Future<Map<String, dynamic>?> getShouldInterceptRequestStatistics() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    return (await channel?.invokeMethod(
+            'getShouldInterceptRequestStatistics', args))
+        ?.cast<String, dynamic>();
+  }
+
+  @override
+  Future<Map<String, dynamic>?> getJavaScriptBridgeStatistics() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    return (await channel?.invokeMethod('getJavaScriptBridgeStatistics', args))
+        ?.cast<String, dynamic>();
+  }
+
   @override
   Future<String> getDefaultUserAgent() async {
     Map<String, dynamic> args = <String, dynamic>{};
@@ -2738,6 +3040,162 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
     await _staticChannel.invokeMethod('clearAllCache', args);
   }
 
+  @override
+  Future<void> setHttpClientSettings(
+      {int? connectTimeout,
+      int? readTimeout,
+      int? maxConnectionsPerHost}) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('connectTimeout', () => connectTimeout);
+    args.putIfAbsent('readTimeout', () => readTimeout);
+    args.putIfAbsent('maxConnectionsPerHost', () => maxConnectionsPerHost);
+    await _staticChannel.invokeMethod('setHttpClientSettings', args);
+  }
+
+  @override
+  Future<Map<String, dynamic>> getHttpClientStatistics() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    Map<dynamic, dynamic>? statistics =
+        await _staticChannel.invokeMethod('getHttpClientStatistics', args);
+    return statistics?.cast<String, dynamic>() ?? <String, dynamic>{};
+  }
+
+  @override
+  Future<void> setWebViewPoolSettings(
+      {int? size, bool? preloadAboutBlank}) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('size', () => size);
+    args.putIfAbsent('preloadAboutBlank', () => preloadAboutBlank);
+    await _staticChannel.invokeMethod('setWebViewPoolSettings', args);
+  }
+
+  @override
+  Future<Map<String, dynamic>> getWebViewPoolStatistics() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    Map<dynamic, dynamic>? statistics =
+        await _staticChannel.invokeMethod('getWebViewPoolStatistics', args);
+    return statistics?.cast<String, dynamic>() ?? <String, dynamic>{};
+  }
+
+  @override
+  Future<Map<String, dynamic>> runHeadlessJob(
+      {WebUri? url,
+      String? data,
+      String mimeType = "text/html",
+      String encoding = "utf8",
+      WebUri? baseUrl,
+      String? script,
+      bool getHtml = false,
+      bool takeScreenshot = false,
+      ScreenshotConfiguration? screenshotConfiguration,
+      Size? size,
+      int priority = 0,
+      Duration? timeout,
+      bool clearStorage = true}) async {
+    assert(url != null || data != null);
+    Map<String, dynamic> job = <String, dynamic>{};
+    job.putIfAbsent('url', () => url?.toString());
+    job.putIfAbsent('data', () => data);
+    job.putIfAbsent('mimeType', () => mimeType);
+    job.putIfAbsent('encoding', () => encoding);
+    job.putIfAbsent('baseUrl', () => baseUrl?.toString() ?? "about:blank");
+    job.putIfAbsent('script', () => script);
+    job.putIfAbsent('getHtml', () => getHtml);
+    job.putIfAbsent('takeScreenshot', () => takeScreenshot);
+    job.putIfAbsent(
+        'screenshotConfiguration', () => screenshotConfiguration?.toMap());
+    job.putIfAbsent('size', () => size?.toMap());
+    job.putIfAbsent('priority', () => priority);
+    job.putIfAbsent('timeout', () => timeout?.inMilliseconds);
+    job.putIfAbsent('clearStorage', () => clearStorage);
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('job', () => job);
+    Map<String, dynamic> result =
+        (await _headlessStaticChannel.invokeMethod('runFarmJob', args))
+                ?.cast<String, dynamic>() ??
+            <String, dynamic>{};
+    // the script result and the HTML are JSON encoded by the WebView
+    if (result['scriptResult'] != null) {
+      result['scriptResult'] = jsonDecode(result['scriptResult']);
+    }
+    if (result['html'] != null) {
+      result['html'] = jsonDecode(result['html']);
+    }
+    return result;
+  }
+
+  @override
+  Future<void> setHeadlessFarmSettings(
+      {int? maxConcurrency, Duration? defaultJobTimeout}) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('maxConcurrency', () => maxConcurrency);
+    args.putIfAbsent(
+        'defaultJobTimeout', () => defaultJobTimeout?.inMilliseconds);
+    await _headlessStaticChannel.invokeMethod('setFarmSettings', args);
+  }
+
+  @override
+  Future<void> cancelHeadlessJobs() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    await _headlessStaticChannel.invokeMethod('cancelFarmJobs', args);
+  }
+
+  @override
+  Future<Map<String, dynamic>> getHeadlessFarmStatistics() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    Map<dynamic, dynamic>? statistics =
+        await _headlessStaticChannel.invokeMethod('getFarmStatistics', args);
+    return statistics?.cast<String, dynamic>() ?? <String, dynamic>{};
+  }
+
+  @override
+  Future<void> setWebViewMemorySettings(
+      {bool? freezeBackgroundWebViews, int? maxLiveBackgroundWebViews}) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent(
+        'freezeBackgroundWebViews', () => freezeBackgroundWebViews);
+    args.putIfAbsent(
+        'maxLiveBackgroundWebViews', () => maxLiveBackgroundWebViews);
+    await _staticChannel.invokeMethod('setWebViewMemorySettings', args);
+  }
+
+  @override
+  Future<Map<String, dynamic>> getWebViewMemoryStatistics() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    Map<dynamic, dynamic>? statistics =
+        await _staticChannel.invokeMethod('getWebViewMemoryStatistics', args);
+    return statistics?.cast<String, dynamic>() ?? <String, dynamic>{};
+  }
+
+  @override
+  Future<Uint8List?> getKeepAliveThumbnail(
+      InAppWebViewKeepAlive keepAlive) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('keepAliveId', () => keepAlive.id);
+    return await _staticChannel.invokeMethod<Uint8List?>(
+        'getKeepAliveThumbnail', args);
+  }
+
+  @override
+  Future<Uint8List?> getCachedFavicon({required WebUri url}) async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    args.putIfAbsent('url', () => url.toString());
+    return await _staticChannel.invokeMethod<Uint8List?>(
+        'getCachedFavicon', args);
+  }
+
+  @override
+  Future<void> clearFaviconCache() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    await _staticChannel.invokeMethod('clearFaviconCache', args);
+  }
+
+  @override
+  Future<void> enableSlowWholeDocumentDraw() async {
+    Map<String, dynamic> args = <String, dynamic>{};
+    await _staticChannel.invokeMethod('enableSlowWholeDocumentDraw', args);
+  }
+
   @override
   Future<String> get tRexRunnerHtml async => await rootBundle.loadString(
       'packages/flutter_inappwebview/assets/t_rex_runner/t-rex.html');
@@ -2755,6 +3213,12 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
   void dispose({bool isKeepAlive = false}) {
     disposeChannel(removeMethodCallHandler: !isKeepAlive);
     _inAppBrowser = null;
+    if (!isKeepAlive) {
+      _shouldInterceptRequestChannel?.setMessageHandler(null);
+    }
+    _shouldInterceptRequestChannel = null;
+    _shouldInterceptRequestResponseChannel = null;
+    _responseStreamChannel = null;
     webStorage.dispose();
     if (!isKeepAlive) {
       _controllerFromPlatform = null;
@@ -2770,10 +3234,34 @@ class AndroidInAppWebViewController extends PlatformInAppWebViewController
         webMessageListener.dispose();
       }
       _webMessageListeners.clear();
+      for (final fullPageScreenshot in _fullPageScreenshots.values) {
+        fullPageScreenshot.resume();
+        fullPageScreenshot.controller.close();
+      }
+      _fullPageScreenshots.clear();
     }
   }
 }
 
+///A running [AndroidInAppWebViewController.takeFullPageScreenshot] capture.
+class _FullPageScreenshot {
+  late StreamController<ScreenshotTile> controller;
+  Completer<void>? _resumeCompleter;
+
+  ///Completes when the stream is not paused.
+  Future<void> get resumed =>
+      _resumeCompleter?.future ?? Future<void>.value();
+
+  void pause() {
+    _resumeCompleter ??= Completer<void>();
+  }
+
+  void resume() {
+    _resumeCompleter?.complete();
+    _resumeCompleter = null;
+  }
+}
+
 extension InternalInAppWebViewController on AndroidInAppWebViewController {
   get handleMethod => _handleMethod;
 }
@@ -6,9 +6,11 @@ import 'dart:typed_data';
 import '../platform_webview_asset_loader.dart';
 import '../types/action_mode_menu_item.dart';
 import '../types/cache_mode.dart';
+import '../types/console_message_level.dart';
 import '../types/data_detector_types.dart';
 import '../types/force_dark.dart';
 import '../types/force_dark_strategy.dart';
+import '../types/intercept_request_rule.dart';
 import '../types/layout_algorithm.dart';
 import '../types/mixed_content_mode.dart';
 import '../types/over_scroll_mode.dart';
@@ -83,6 +85,35 @@ class InAppWebViewSettings_ {
       platforms: [AndroidPlatform(), IOSPlatform(), MacOSPlatform()])
   bool? useOnDownloadStart;
 
+  ///Set to `true` to be able to listen at the [PlatformWebViewCreationParams.onWindowFocus] event.
+  ///If `false`, the JavaScript code that listens at the window `focus` event is not injected in the web pages.
+  ///
+  ///If the [PlatformWebViewCreationParams.onWindowFocus] event is implemented and this value is `null`,
+  ///it will be automatically inferred as `true`, otherwise, it will be inferred as `false`.
+  ///This logic will not be applied for [PlatformInAppBrowser], where the default value is `true`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  bool? useOnWindowFocus;
+
+  ///Set to `true` to be able to listen at the [PlatformWebViewCreationParams.onWindowBlur] event.
+  ///If `false`, the JavaScript code that listens at the window `blur` event is not injected in the web pages.
+  ///
+  ///If the [PlatformWebViewCreationParams.onWindowBlur] event is implemented and this value is `null`,
+  ///it will be automatically inferred as `true`, otherwise, it will be inferred as `false`.
+  ///This logic will not be applied for [PlatformInAppBrowser], where the default value is `true`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  bool? useOnWindowBlur;
+
+  ///Set to `true` to get the arguments of the `console` methods joined in a single message
+  ///in the [PlatformWebViewCreationParams.onConsoleMessage] event.
+  ///If `false`, the JavaScript code that wraps the `console` methods is not injected in the web pages,
+  ///and the messages are the ones reported by the WebView.
+  ///
+  ///If the [PlatformWebViewCreationParams.onConsoleMessage] event is implemented and this value is `null`,
+  ///it will be automatically inferred as `true`, otherwise, it will be inferred as `false`.
+  ///This logic will not be applied for [PlatformInAppBrowser], where the default value is `true`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  bool? useOnConsoleMessage;
+
   ///Use [PlatformInAppWebViewController.clearAllCache] instead.
   @Deprecated("Use InAppWebViewController.clearAllCache instead")
   @SupportedPlatforms(
@@ -250,6 +281,13 @@ class InAppWebViewSettings_ {
   @ExchangeableObjectProperty(deserializer: _deserializeContentBlockers)
   List<ContentBlocker>? contentBlockers;
 
+  ///Set to `true` to make an HTTP `HEAD` request to get the resource type of a request, used by the `resource-type` trigger of the [contentBlockers],
+  ///when it can't be inferred from the request headers, the URL extension or a previously observed response.
+  ///It adds a network round trip before loading the resource, so it should be enabled only if the other sources are not enough.
+  ///The default value is `false`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  bool? contentBlockerHeadRequestFallback;
+
   ///Sets the content mode that the WebView needs to use when loading and rendering a webpage. The default value is [UserPreferredContentMode.RECOMMENDED].
   @SupportedPlatforms(platforms: [
     AndroidPlatform(),
@@ -823,6 +861,82 @@ as it can cause framerate drops on animations in Android 9 and lower (see [Hybri
   @SupportedPlatforms(platforms: [AndroidPlatform()])
   bool? useShouldInterceptRequest;
 
+  ///Maximum number of [PlatformWebViewCreationParams.shouldInterceptRequest] events waiting for a response at the same time.
+  ///The other requests wait for a free slot. If `null` or `0`, there is no limit.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  int? shouldInterceptRequestMaxConcurrency;
+
+  ///Maximum time, in milliseconds, that the WebView waits for a [PlatformWebViewCreationParams.shouldInterceptRequest] response,
+  ///including the time spent waiting for a free slot (see [shouldInterceptRequestMaxConcurrency]).
+  ///On timeout, the resource is loaded normally. If `null`, there is no timeout.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  int? shouldInterceptRequestTimeout;
+
+  ///List of rules evaluated natively before the [PlatformWebViewCreationParams.shouldInterceptRequest] event.
+  ///The first rule that matches a request decides what to do with it, without a round trip to Dart:
+  ///the request can be served from a file, loaded with rewritten headers, loaded normally or sent to the
+  ///[PlatformWebViewCreationParams.shouldInterceptRequest] event. The requests that don't match any rule
+  ///are sent to the event only if [useShouldInterceptRequest] is `true`.
+  ///
+  ///The content blockers are applied before the [InterceptRequestRuleActionType.SERVE_FILE]
+  ///and [InterceptRequestRuleActionType.REWRITE_HEADERS] actions, and [resourceCustomSchemes] is not used
+  ///for the requests they respond to. As with [useShouldInterceptRequest], the content blockers are not applied
+  ///to the requests sent to the event with [InterceptRequestRuleActionType.FORWARD_TO_DART].
+  ///
+  ///Use [PlatformInAppWebViewController.getInterceptRequestRuleMatchCounts] to get how many requests matched each rule.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  List<InterceptRequestRule_>? interceptRequestRules;
+
+  ///Set to `true` to send the JavaScript handler calls made during the same animation frame to Dart all together.
+  ///Each batch costs a single platform channel message and its results are sent back to JavaScript with a single evaluation,
+  ///which reduces the overhead of handlers called many times per second. The promises of a batch are settled when
+  ///all of its handlers have completed, so handlers that may take a long time should not be called while this option is enabled.
+  ///The calls made from iframes are not batched. The default value is `false`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  bool? batchJavaScriptHandlerCalls;
+
+  ///Set to `true` to send at most one [PlatformWebViewCreationParams.onScrollChanged], [PlatformWebViewCreationParams.onOverScrolled]
+  ///and [PlatformWebViewCreationParams.onZoomScaleChanged] event per display frame, with the latest values,
+  ///instead of one event for each change, which reduces the platform channel traffic while scrolling.
+  ///The `oldScale` of a coalesced [PlatformWebViewCreationParams.onZoomScaleChanged] event is the one of the first change.
+  ///Events are delayed by up to one frame, so it is opt-in. The default value is `false`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  bool? coalesceScrollEvents;
+
+  ///Minimum distance, in pixels, from the last position sent to [PlatformWebViewCreationParams.onScrollChanged] and [PlatformWebViewCreationParams.onOverScrolled]
+  ///for a new position to be sent while scrolling. The final position is always sent.
+  ///It is used only if [coalesceScrollEvents] is `true`. The default value is `0`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  int? scrollEventsMinDelta;
+
+  ///List of the levels of the console messages sent to the [PlatformWebViewCreationParams.onConsoleMessage] event.
+  ///The messages of the other levels are only kept for [PlatformInAppWebViewController.getConsoleMessages].
+  ///If `null`, the messages of all the levels are sent. The default value is `null`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  List<ConsoleMessageLevel_>? consoleMessageLevels;
+
+  ///Number of the last console messages kept natively, of any level, that can be read with [PlatformInAppWebViewController.getConsoleMessages],
+  ///for example after a crash. `0` to not keep them. The default value is `100`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  int? consoleMessageBufferSize;
+
+  ///Maximum number of console messages sent together to the [PlatformWebViewCreationParams.onConsoleMessage] event.
+  ///The messages are sent when this number of messages is pending or when [consoleMessageBatchInterval] has elapsed since the first one,
+  ///so that pages that log heavily cost a single platform channel message per batch. The default value is `1`, which sends each message immediately.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  int? consoleMessageBatchSize;
+
+  ///Maximum time, in milliseconds, that a console message waits to be sent when [consoleMessageBatchSize] is greater than `1`.
+  ///The default value is `0`, which sends the pending messages as soon as the current task of the WebView thread ends.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  int? consoleMessageBatchInterval;
+
+  ///Maximum number of console messages sent to the [PlatformWebViewCreationParams.onConsoleMessage] event per second.
+  ///The messages over the limit are dropped, but still kept for [PlatformInAppWebViewController.getConsoleMessages].
+  ///`0` for no limit. The default value is `0`.
+  @SupportedPlatforms(platforms: [AndroidPlatform()])
+  int? consoleMessageMaxRate;
+
   ///Set to `true` to be able to listen at the [PlatformWebViewCreationParams.onRenderProcessGone] event.
   ///
   ///If the [PlatformWebViewCreationParams.onRenderProcessGone] event is implemented and this value is `null`,
@@ -1794,6 +1908,21 @@ as it can cause framerate drops on animations in Android 9 and lower (see [Hybri
     this.iframeReferrerPolicy,
     this.iframeName,
     this.iframeCsp,
+    this.contentBlockerHeadRequestFallback = false,
+    this.shouldInterceptRequestMaxConcurrency,
+    this.shouldInterceptRequestTimeout,
+    this.interceptRequestRules,
+    this.batchJavaScriptHandlerCalls = false,
+    this.coalesceScrollEvents = false,
+    this.scrollEventsMinDelta = 0,
+    this.consoleMessageLevels,
+    this.consoleMessageBufferSize = 100,
+    this.consoleMessageBatchSize = 1,
+    this.consoleMessageBatchInterval = 0,
+    this.consoleMessageMaxRate = 0,
+    this.useOnWindowFocus,
+    this.useOnWindowBlur,
+    this.useOnConsoleMessage,
   }) {
     if (this.minimumFontSize == null)
       this.minimumFontSize = Util.isAndroid ? 8 : 0;
@@ -247,6 +247,16 @@ class InAppWebViewSettings {
   ///- iOS 13.0+ ([Official API - UIScrollView.automaticallyAdjustsScrollIndicatorInsets](https://developer.apple.com/documentation/uikit/uiscrollview/3198043-automaticallyadjustsscrollindica))
   bool? automaticallyAdjustsScrollIndicatorInsets;
 
+  ///Set to `true` to send the JavaScript handler calls made during the same animation frame to Dart all together.
+  ///Each batch costs a single platform channel message and its results are sent back to JavaScript with a single evaluation,
+  ///which reduces the overhead of handlers called many times per second. The promises of a batch are settled when
+  ///all of its handlers have completed, so handlers that may take a long time should not be called while this option is enabled.
+  ///The calls made from iframes are not batched. The default value is `false`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  bool? batchJavaScriptHandlerCalls;
+
   ///Sets whether the WebView should not load image resources from the network (resources accessed via http and https URI schemes). The default value is `false`.
   ///
   ///**Officially Supported Platforms/Implementations**:
@@ -296,6 +306,63 @@ class InAppWebViewSettings {
   @Deprecated('Use CookieManager.removeSessionCookies instead')
   bool? clearSessionCache;
 
+  ///Set to `true` to send at most one [PlatformWebViewCreationParams.onScrollChanged], [PlatformWebViewCreationParams.onOverScrolled]
+  ///and [PlatformWebViewCreationParams.onZoomScaleChanged] event per display frame, with the latest values,
+  ///instead of one event for each change, which reduces the platform channel traffic while scrolling.
+  ///The `oldScale` of a coalesced [PlatformWebViewCreationParams.onZoomScaleChanged] event is the one of the first change.
+  ///Events are delayed by up to one frame, so it is opt-in. The default value is `false`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  bool? coalesceScrollEvents;
+
+  ///Maximum time, in milliseconds, that a console message waits to be sent when [consoleMessageBatchSize] is greater than `1`.
+  ///The default value is `0`, which sends the pending messages as soon as the current task of the WebView thread ends.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  int? consoleMessageBatchInterval;
+
+  ///Maximum number of console messages sent together to the [PlatformWebViewCreationParams.onConsoleMessage] event.
+  ///The messages are sent when this number of messages is pending or when [consoleMessageBatchInterval] has elapsed since the first one,
+  ///so that pages that log heavily cost a single platform channel message per batch. The default value is `1`, which sends each message immediately.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  int? consoleMessageBatchSize;
+
+  ///Number of the last console messages kept natively, of any level, that can be read with [PlatformInAppWebViewController.getConsoleMessages],
+  ///for example after a crash. `0` to not keep them. The default value is `100`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  int? consoleMessageBufferSize;
+
+  ///List of the levels of the console messages sent to the [PlatformWebViewCreationParams.onConsoleMessage] event.
+  ///The messages of the other levels are only kept for [PlatformInAppWebViewController.getConsoleMessages].
+  ///If `null`, the messages of all the levels are sent. The default value is `null`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  List<ConsoleMessageLevel>? consoleMessageLevels;
+
+  ///Maximum number of console messages sent to the [PlatformWebViewCreationParams.onConsoleMessage] event per second.
+  ///The messages over the limit are dropped, but still kept for [PlatformInAppWebViewController.getConsoleMessages].
+  ///`0` for no limit. The default value is `0`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  int? consoleMessageMaxRate;
+
+  ///Set to `true` to make an HTTP `HEAD` request to get the resource type of a request, used by the `resource-type` trigger of the [contentBlockers],
+  ///when it can't be inferred from the request headers, the URL extension or a previously observed response.
+  ///It adds a network round trip before loading the resource, so it should be enabled only if the other sources are not enough.
+  ///The default value is `false`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  bool? contentBlockerHeadRequestFallback;
+
   ///List of [ContentBlocker] that are a set of rules used to block content in the browser window.
   ///
   ///**Officially Supported Platforms/Implementations**:
@@ -605,6 +672,23 @@ class InAppWebViewSettings {
   ///- MacOS
   bool? interceptOnlyAsyncAjaxRequests;
 
+  ///List of rules evaluated natively before the [PlatformWebViewCreationParams.shouldInterceptRequest] event.
+  ///The first rule that matches a request decides what to do with it, without a round trip to Dart:
+  ///the request can be served from a file, loaded with rewritten headers, loaded normally or sent to the
+  ///[PlatformWebViewCreationParams.shouldInterceptRequest] event. The requests that don't match any rule
+  ///are sent to the event only if [useShouldInterceptRequest] is `true`.
+  ///
+  ///The content blockers are applied before the [InterceptRequestRuleActionType.SERVE_FILE]
+  ///and [InterceptRequestRuleActionType.REWRITE_HEADERS] actions, and [resourceCustomSchemes] is not used
+  ///for the requests they respond to. As with [useShouldInterceptRequest], the content blockers are not applied
+  ///to the requests sent to the event with [InterceptRequestRuleActionType.FORWARD_TO_DART].
+  ///
+  ///Use [PlatformInAppWebViewController.getInterceptRequestRuleMatchCounts] to get how many requests matched each rule.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  List<InterceptRequestRule>? interceptRequestRules;
+
   ///A Boolean value that determines whether scrolling is disabled in a particular direction.
   ///If this property is `false`, scrolling is permitted in both horizontal and vertical directions.
   ///If this property is `true` and the user begins dragging in one general direction (horizontally or vertically),
@@ -921,6 +1005,14 @@ class InAppWebViewSettings {
   ///- Android native WebView ([Official API - WebView.setScrollBarStyle](https://developer.android.com/reference/android/webkit/WebView#setScrollBarStyle(int)))
   ScrollBarStyle? scrollBarStyle;
 
+  ///Minimum distance, in pixels, from the last position sent to [PlatformWebViewCreationParams.onScrollChanged] and [PlatformWebViewCreationParams.onOverScrolled]
+  ///for a new position to be sent while scrolling. The final position is always sent.
+  ///It is used only if [coalesceScrollEvents] is `true`. The default value is `0`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  int? scrollEventsMinDelta;
+
   ///Defines whether scrollbars will fade when the view is not scrolling.
   ///The default value is `true`.
   ///
@@ -958,6 +1050,21 @@ class InAppWebViewSettings {
   ///- MacOS 10.13+
   bool? sharedCookiesEnabled;
 
+  ///Maximum number of [PlatformWebViewCreationParams.shouldInterceptRequest] events waiting for a response at the same time.
+  ///The other requests wait for a free slot. If `null` or `0`, there is no limit.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  int? shouldInterceptRequestMaxConcurrency;
+
+  ///Maximum time, in milliseconds, that the WebView waits for a [PlatformWebViewCreationParams.shouldInterceptRequest] response,
+  ///including the time spent waiting for a free slot (see [shouldInterceptRequestMaxConcurrency]).
+  ///On timeout, the resource is loaded normally. If `null`, there is no timeout.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  int? shouldInterceptRequestTimeout;
+
   ///A Boolean value that indicates whether to include any background color or graphics when printing content.
   ///
   ///The default value is `false`.
@@ -1048,6 +1155,19 @@ class InAppWebViewSettings {
   ///- Android native WebView
   bool? useHybridComposition;
 
+  ///Set to `true` to get the arguments of the `console` methods joined in a single message
+  ///in the [PlatformWebViewCreationParams.onConsoleMessage] event.
+  ///If `false`, the JavaScript code that wraps the `console` methods is not injected in the web pages,
+  ///and the messages are the ones reported by the WebView.
+  ///
+  ///If the [PlatformWebViewCreationParams.onConsoleMessage] event is implemented and this value is `null`,
+  ///it will be automatically inferred as `true`, otherwise, it will be inferred as `false`.
+  ///This logic will not be applied for [PlatformInAppBrowser], where the default value is `true`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  bool? useOnConsoleMessage;
+
   ///Set to `true` to be able to listen at the [PlatformWebViewCreationParams.onDownloadStartRequest] event.
   ///
   ///If the [PlatformWebViewCreationParams.onDownloadStartRequest] event is implemented and this value is `null`,
@@ -1093,6 +1213,28 @@ class InAppWebViewSettings {
   ///- Android native WebView
   bool? useOnRenderProcessGone;
 
+  ///Set to `true` to be able to listen at the [PlatformWebViewCreationParams.onWindowBlur] event.
+  ///If `false`, the JavaScript code that listens at the window `blur` event is not injected in the web pages.
+  ///
+  ///If the [PlatformWebViewCreationParams.onWindowBlur] event is implemented and this value is `null`,
+  ///it will be automatically inferred as `true`, otherwise, it will be inferred as `false`.
+  ///This logic will not be applied for [PlatformInAppBrowser], where the default value is `true`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  bool? useOnWindowBlur;
+
+  ///Set to `true` to be able to listen at the [PlatformWebViewCreationParams.onWindowFocus] event.
+  ///If `false`, the JavaScript code that listens at the window `focus` event is not injected in the web pages.
+  ///
+  ///If the [PlatformWebViewCreationParams.onWindowFocus] event is implemented and this value is `null`,
+  ///it will be automatically inferred as `true`, otherwise, it will be inferred as `false`.
+  ///This logic will not be applied for [PlatformInAppBrowser], where the default value is `true`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  bool? useOnWindowFocus;
+
   ///Set to `true` to be able to listen at the [PlatformWebViewCreationParams.shouldInterceptAjaxRequest] event.
   ///
   ///Due to the async nature of [PlatformWebViewCreationParams.shouldInterceptAjaxRequest] event implementation,
@@ -1338,7 +1480,22 @@ class InAppWebViewSettings {
       this.iframeSandbox,
       this.iframeReferrerPolicy,
       this.iframeName,
-      this.iframeCsp}) {
+      this.iframeCsp,
+      this.contentBlockerHeadRequestFallback = false,
+      this.shouldInterceptRequestMaxConcurrency,
+      this.shouldInterceptRequestTimeout,
+      this.interceptRequestRules,
+      this.batchJavaScriptHandlerCalls = false,
+      this.coalesceScrollEvents = false,
+      this.scrollEventsMinDelta = 0,
+      this.consoleMessageLevels,
+      this.consoleMessageBufferSize = 100,
+      this.consoleMessageBatchSize = 1,
+      this.consoleMessageBatchInterval = 0,
+      this.consoleMessageMaxRate = 0,
+      this.useOnWindowFocus,
+      this.useOnWindowBlur,
+      this.useOnConsoleMessage}) {
     if (this.minimumFontSize == null)
       this.minimumFontSize = Util.isAndroid ? 8 : 0;
     assert(this.resourceCustomSchemes == null ||
@@ -1370,6 +1527,10 @@ class InAppWebViewSettings {
           ? WebUri(map['allowingReadAccessTo'])
           : null,
       appCachePath: map['appCachePath'],
+      consoleMessageLevels: map['consoleMessageLevels'] != null
+          ? List<ConsoleMessageLevel>.from(map['consoleMessageLevels']
+              .map((e) => ConsoleMessageLevel.fromNativeValue(e)!))
+          : null,
       defaultVideoPoster: map['defaultVideoPoster'],
       disabledActionModeMenuItems: ActionModeMenuItem.fromNativeValue(
           map['disabledActionModeMenuItems']),
@@ -1393,6 +1554,10 @@ class InAppWebViewSettings {
           ? Set<Sandbox>.from(
               map['iframeSandbox'].map((e) => Sandbox.fromNativeValue(e)!))
           : null,
+      interceptRequestRules: map['interceptRequestRules'] != null
+          ? List<InterceptRequestRule>.from(map['interceptRequestRules'].map(
+              (e) => InterceptRequestRule.fromMap(e?.cast<String, dynamic>())!))
+          : null,
       layoutAlgorithm: LayoutAlgorithm.fromNativeValue(map['layoutAlgorithm']),
       maximumViewportInset: MapEdgeInsets.fromMap(
           map['maximumViewportInset']?.cast<String, dynamic>()),
@@ -1413,13 +1578,19 @@ class InAppWebViewSettings {
               : null,
       scrollBarDefaultDelayBeforeFade: map['scrollBarDefaultDelayBeforeFade'],
       scrollBarFadeDuration: map['scrollBarFadeDuration'],
+      shouldInterceptRequestMaxConcurrency:
+          map['shouldInterceptRequestMaxConcurrency'],
+      shouldInterceptRequestTimeout: map['shouldInterceptRequestTimeout'],
       underPageBackgroundColor: map['underPageBackgroundColor'] != null
           ? UtilColor.fromStringRepresentation(map['underPageBackgroundColor'])
           : null,
+      useOnConsoleMessage: map['useOnConsoleMessage'],
       useOnDownloadStart: map['useOnDownloadStart'],
       useOnLoadResource: map['useOnLoadResource'],
       useOnNavigationResponse: map['useOnNavigationResponse'],
       useOnRenderProcessGone: map['useOnRenderProcessGone'],
+      useOnWindowBlur: map['useOnWindowBlur'],
+      useOnWindowFocus: map['useOnWindowFocus'],
       useShouldInterceptAjaxRequest: map['useShouldInterceptAjaxRequest'],
       useShouldInterceptFetchRequest: map['useShouldInterceptFetchRequest'],
       useShouldInterceptRequest: map['useShouldInterceptRequest'],
@@ -1458,6 +1629,7 @@ class InAppWebViewSettings {
     instance.applicationNameForUserAgent = map['applicationNameForUserAgent'];
     instance.automaticallyAdjustsScrollIndicatorInsets =
         map['automaticallyAdjustsScrollIndicatorInsets'];
+    instance.batchJavaScriptHandlerCalls = map['batchJavaScriptHandlerCalls'];
     instance.blockNetworkImage = map['blockNetworkImage'];
     instance.blockNetworkLoads = map['blockNetworkLoads'];
     instance.builtInZoomControls = map['builtInZoomControls'];
@@ -1465,6 +1637,13 @@ class InAppWebViewSettings {
     instance.cacheMode = CacheMode.fromNativeValue(map['cacheMode']);
     instance.clearCache = map['InAppWebViewController.clearAllCache'];
     instance.clearSessionCache = map['CookieManager.removeSessionCookies'];
+    instance.coalesceScrollEvents = map['coalesceScrollEvents'];
+    instance.consoleMessageBatchInterval = map['consoleMessageBatchInterval'];
+    instance.consoleMessageBatchSize = map['consoleMessageBatchSize'];
+    instance.consoleMessageBufferSize = map['consoleMessageBufferSize'];
+    instance.consoleMessageMaxRate = map['consoleMessageMaxRate'];
+    instance.contentBlockerHeadRequestFallback =
+        map['contentBlockerHeadRequestFallback'];
     instance.contentBlockers =
         _deserializeContentBlockers(map['contentBlockers']);
     instance.contentInsetAdjustmentBehavior =
@@ -1544,6 +1723,7 @@ class InAppWebViewSettings {
     instance.saveFormData = map['saveFormData'];
     instance.scrollBarStyle =
         ScrollBarStyle.fromNativeValue(map['scrollBarStyle']);
+    instance.scrollEventsMinDelta = map['scrollEventsMinDelta'];
     instance.scrollbarFadingEnabled = map['scrollbarFadingEnabled'];
     instance.scrollsToTop = map['scrollsToTop'];
     instance.selectionGranularity =
@@ -1595,11 +1775,20 @@ class InAppWebViewSettings {
       "applicationNameForUserAgent": applicationNameForUserAgent,
       "automaticallyAdjustsScrollIndicatorInsets":
           automaticallyAdjustsScrollIndicatorInsets,
+      "batchJavaScriptHandlerCalls": batchJavaScriptHandlerCalls,
       "blockNetworkImage": blockNetworkImage,
       "blockNetworkLoads": blockNetworkLoads,
       "builtInZoomControls": builtInZoomControls,
       "cacheEnabled": cacheEnabled,
       "cacheMode": cacheMode?.toNativeValue(),
+      "coalesceScrollEvents": coalesceScrollEvents,
+      "consoleMessageBatchInterval": consoleMessageBatchInterval,
+      "consoleMessageBatchSize": consoleMessageBatchSize,
+      "consoleMessageBufferSize": consoleMessageBufferSize,
+      "consoleMessageLevels":
+          consoleMessageLevels?.map((e) => e.toNativeValue()).toList(),
+      "consoleMessageMaxRate": consoleMessageMaxRate,
+      "contentBlockerHeadRequestFallback": contentBlockerHeadRequestFallback,
       "contentBlockers": contentBlockers?.map((e) => e.toMap()).toList(),
       "contentInsetAdjustmentBehavior":
           contentInsetAdjustmentBehavior?.toNativeValue(),
@@ -1645,6 +1834,8 @@ class InAppWebViewSettings {
       "incognito": incognito,
       "initialScale": initialScale,
       "interceptOnlyAsyncAjaxRequests": interceptOnlyAsyncAjaxRequests,
+      "interceptRequestRules":
+          interceptRequestRules?.map((e) => e.toMap()).toList(),
       "isDirectionalLockEnabled": isDirectionalLockEnabled,
       "isElementFullscreenEnabled": isElementFullscreenEnabled,
       "isFindInteractionEnabled": isFindInteractionEnabled,
@@ -1686,11 +1877,15 @@ class InAppWebViewSettings {
       "scrollBarDefaultDelayBeforeFade": scrollBarDefaultDelayBeforeFade,
       "scrollBarFadeDuration": scrollBarFadeDuration,
       "scrollBarStyle": scrollBarStyle?.toNativeValue(),
+      "scrollEventsMinDelta": scrollEventsMinDelta,
       "scrollbarFadingEnabled": scrollbarFadingEnabled,
       "scrollsToTop": scrollsToTop,
       "selectionGranularity": selectionGranularity?.toNativeValue(),
       "serifFontFamily": serifFontFamily,
       "sharedCookiesEnabled": sharedCookiesEnabled,
+      "shouldInterceptRequestMaxConcurrency":
+          shouldInterceptRequestMaxConcurrency,
+      "shouldInterceptRequestTimeout": shouldInterceptRequestTimeout,
       "shouldPrintBackgrounds": shouldPrintBackgrounds,
       "standardFontFamily": standardFontFamily,
       "supportMultipleWindows": supportMultipleWindows,
@@ -1702,10 +1897,13 @@ class InAppWebViewSettings {
       "underPageBackgroundColor": underPageBackgroundColor?.toHex(),
       "upgradeKnownHostsToHTTPS": upgradeKnownHostsToHTTPS,
       "useHybridComposition": useHybridComposition,
+      "useOnConsoleMessage": useOnConsoleMessage,
       "useOnDownloadStart": useOnDownloadStart,
       "useOnLoadResource": useOnLoadResource,
       "useOnNavigationResponse": useOnNavigationResponse,
       "useOnRenderProcessGone": useOnRenderProcessGone,
+      "useOnWindowBlur": useOnWindowBlur,
+      "useOnWindowFocus": useOnWindowFocus,
       "useShouldInterceptAjaxRequest": useShouldInterceptAjaxRequest,
       "useShouldInterceptFetchRequest": useShouldInterceptFetchRequest,
       "useShouldInterceptRequest": useShouldInterceptRequest,
@@ -1732,6 +1930,6 @@ class InAppWebViewSettings {
 
   @override
   String toString() {
-    return 'InAppWebViewSettings{accessibilityIgnoresInvertColors: $accessibilityIgnoresInvertColors, algorithmicDarkeningAllowed: $algorithmicDarkeningAllowed, allowBackgroundAudioPlaying: $allowBackgroundAudioPlaying, allowContentAccess: $allowContentAccess, allowFileAccess: $allowFileAccess, allowFileAccessFromFileURLs: $allowFileAccessFromFileURLs, allowUniversalAccessFromFileURLs: $allowUniversalAccessFromFileURLs, allowingReadAccessTo: $allowingReadAccessTo, allowsAirPlayForMediaPlayback: $allowsAirPlayForMediaPlayback, allowsBackForwardNavigationGestures: $allowsBackForwardNavigationGestures, allowsInlineMediaPlayback: $allowsInlineMediaPlayback, allowsLinkPreview: $allowsLinkPreview, allowsPictureInPictureMediaPlayback: $allowsPictureInPictureMediaPlayback, alwaysBounceHorizontal: $alwaysBounceHorizontal, alwaysBounceVertical: $alwaysBounceVertical, appCachePath: $appCachePath, applePayAPIEnabled: $applePayAPIEnabled, applicationNameForUserAgent: $applicationNameForUserAgent, automaticallyAdjustsScrollIndicatorInsets: $automaticallyAdjustsScrollIndicatorInsets, blockNetworkImage: $blockNetworkImage, blockNetworkLoads: $blockNetworkLoads, builtInZoomControls: $builtInZoomControls, cacheEnabled: $cacheEnabled, cacheMode: $cacheMode, contentBlockers: $contentBlockers, contentInsetAdjustmentBehavior: $contentInsetAdjustmentBehavior, cursiveFontFamily: $cursiveFontFamily, dataDetectorTypes: $dataDetectorTypes, databaseEnabled: $databaseEnabled, decelerationRate: $decelerationRate, defaultFixedFontSize: $defaultFixedFontSize, defaultFontSize: $defaultFontSize, defaultTextEncodingName: $defaultTextEncodingName, defaultVideoPoster: $defaultVideoPoster, disableContextMenu: $disableContextMenu, disableDefaultErrorPage: $disableDefaultErrorPage, disableHorizontalScroll: $disableHorizontalScroll, disableInputAccessoryView: $disableInputAccessoryView, disableLongPressContextMenuOnLinks: $disableLongPressContextMenuOnLinks, disableVerticalScroll: $disableVerticalScroll, disabledActionModeMenuItems: $disabledActionModeMenuItems, disallowOverScroll: $disallowOverScroll, displayZoomControls: $displayZoomControls, domStorageEnabled: $domStorageEnabled, enableViewportScale: $enableViewportScale, enterpriseAuthenticationAppLinkPolicyEnabled: $enterpriseAuthenticationAppLinkPolicyEnabled, fantasyFontFamily: $fantasyFontFamily, fixedFontFamily: $fixedFontFamily, forceDark: $forceDark, forceDarkStrategy: $forceDarkStrategy, geolocationEnabled: $geolocationEnabled, hardwareAcceleration: $hardwareAcceleration, horizontalScrollBarEnabled: $horizontalScrollBarEnabled, horizontalScrollbarThumbColor: $horizontalScrollbarThumbColor, horizontalScrollbarTrackColor: $horizontalScrollbarTrackColor, iframeAllow: $iframeAllow, iframeAllowFullscreen: $iframeAllowFullscreen, iframeCsp: $iframeCsp, iframeName: $iframeName, iframeReferrerPolicy: $iframeReferrerPolicy, iframeSandbox: $iframeSandbox, ignoresViewportScaleLimits: $ignoresViewportScaleLimits, incognito: $incognito, initialScale: $initialScale, interceptOnlyAsyncAjaxRequests: $interceptOnlyAsyncAjaxRequests, isDirectionalLockEnabled: $isDirectionalLockEnabled, isElementFullscreenEnabled: $isElementFullscreenEnabled, isFindInteractionEnabled: $isFindInteractionEnabled, isFraudulentWebsiteWarningEnabled: $isFraudulentWebsiteWarningEnabled, isInspectable: $isInspectable, isPagingEnabled: $isPagingEnabled, isSiteSpecificQuirksModeEnabled: $isSiteSpecificQuirksModeEnabled, isTextInteractionEnabled: $isTextInteractionEnabled, javaScriptCanOpenWindowsAutomatically: $javaScriptCanOpenWindowsAutomatically, javaScriptEnabled: $javaScriptEnabled, layoutAlgorithm: $layoutAlgorithm, limitsNavigationsToAppBoundDomains: $limitsNavigationsToAppBoundDomains, loadWithOverviewMode: $loadWithOverviewMode, loadsImagesAutomatically: $loadsImagesAutomatically, maximumViewportInset: $maximumViewportInset, maximumZoomScale: $maximumZoomScale, mediaPlaybackRequiresUserGesture: $mediaPlaybackRequiresUserGesture, mediaType: $mediaType, minimumFontSize: $minimumFontSize, minimumLogicalFontSize: $minimumLogicalFontSize, minimumViewportInset: $minimumViewportInset, minimumZoomScale: $minimumZoomScale, mixedContentMode: $mixedContentMode, needInitialFocus: $needInitialFocus, networkAvailable: $networkAvailable, offscreenPreRaster: $offscreenPreRaster, overScrollMode: $overScrollMode, pageZoom: $pageZoom, preferredContentMode: $preferredContentMode, regexToCancelSubFramesLoading: $regexToCancelSubFramesLoading, rendererPriorityPolicy: $rendererPriorityPolicy, requestedWithHeaderOriginAllowList: $requestedWithHeaderOriginAllowList, resourceCustomSchemes: $resourceCustomSchemes, safeBrowsingEnabled: $safeBrowsingEnabled, sansSerifFontFamily: $sansSerifFontFamily, saveFormData: $saveFormData, scrollBarDefaultDelayBeforeFade: $scrollBarDefaultDelayBeforeFade, scrollBarFadeDuration: $scrollBarFadeDuration, scrollBarStyle: $scrollBarStyle, scrollbarFadingEnabled: $scrollbarFadingEnabled, scrollsToTop: $scrollsToTop, selectionGranularity: $selectionGranularity, serifFontFamily: $serifFontFamily, sharedCookiesEnabled: $sharedCookiesEnabled, shouldPrintBackgrounds: $shouldPrintBackgrounds, standardFontFamily: $standardFontFamily, supportMultipleWindows: $supportMultipleWindows, supportZoom: $supportZoom, suppressesIncrementalRendering: $suppressesIncrementalRendering, textZoom: $textZoom, thirdPartyCookiesEnabled: $thirdPartyCookiesEnabled, transparentBackground: $transparentBackground, underPageBackgroundColor: $underPageBackgroundColor, upgradeKnownHostsToHTTPS: $upgradeKnownHostsToHTTPS, useHybridComposition: $useHybridComposition, useOnDownloadStart: $useOnDownloadStart, useOnLoadResource: $useOnLoadResource, useOnNavigationResponse: $useOnNavigationResponse, useOnRenderProcessGone: $useOnRenderProcessGone, useShouldInterceptAjaxRequest: $useShouldInterceptAjaxRequest, useShouldInterceptFetchRequest: $useShouldInterceptFetchRequest, useShouldInterceptRequest: $useShouldInterceptRequest, useShouldOverrideUrlLoading: $useShouldOverrideUrlLoading, useWideViewPort: $useWideViewPort, userAgent: $userAgent, verticalScrollBarEnabled: $verticalScrollBarEnabled, verticalScrollbarPosition: $verticalScrollbarPosition, verticalScrollbarThumbColor: $verticalScrollbarThumbColor, verticalScrollbarTrackColor: $verticalScrollbarTrackColor, webViewAssetLoader: $webViewAssetLoader}';
+    return 'InAppWebViewSettings{accessibilityIgnoresInvertColors: $accessibilityIgnoresInvertColors, algorithmicDarkeningAllowed: $algorithmicDarkeningAllowed, allowBackgroundAudioPlaying: $allowBackgroundAudioPlaying, allowContentAccess: $allowContentAccess, allowFileAccess: $allowFileAccess, allowFileAccessFromFileURLs: $allowFileAccessFromFileURLs, allowUniversalAccessFromFileURLs: $allowUniversalAccessFromFileURLs, allowingReadAccessTo: $allowingReadAccessTo, allowsAirPlayForMediaPlayback: $allowsAirPlayForMediaPlayback, allowsBackForwardNavigationGestures: $allowsBackForwardNavigationGestures, allowsInlineMediaPlayback: $allowsInlineMediaPlayback, allowsLinkPreview: $allowsLinkPreview, allowsPictureInPictureMediaPlayback: $allowsPictureInPictureMediaPlayback, alwaysBounceHorizontal: $alwaysBounceHorizontal, alwaysBounceVertical: $alwaysBounceVertical, appCachePath: $appCachePath, applePayAPIEnabled: $applePayAPIEnabled, applicationNameForUserAgent: $applicationNameForUserAgent, automaticallyAdjustsScrollIndicatorInsets: $automaticallyAdjustsScrollIndicatorInsets, batchJavaScriptHandlerCalls: $batchJavaScriptHandlerCalls, blockNetworkImage: $blockNetworkImage, blockNetworkLoads: $blockNetworkLoads, builtInZoomControls: $builtInZoomControls, cacheEnabled: $cacheEnabled, cacheMode: $cacheMode, coalesceScrollEvents: $coalesceScrollEvents, consoleMessageBatchInterval: $consoleMessageBatchInterval, consoleMessageBatchSize: $consoleMessageBatchSize, consoleMessageBufferSize: $consoleMessageBufferSize, consoleMessageLevels: $consoleMessageLevels, consoleMessageMaxRate: $consoleMessageMaxRate, contentBlockerHeadRequestFallback: $contentBlockerHeadRequestFallback, contentBlockers: $contentBlockers, contentInsetAdjustmentBehavior: $contentInsetAdjustmentBehavior, cursiveFontFamily: $cursiveFontFamily, dataDetectorTypes: $dataDetectorTypes, databaseEnabled: $databaseEnabled, decelerationRate: $decelerationRate, defaultFixedFontSize: $defaultFixedFontSize, defaultFontSize: $defaultFontSize, defaultTextEncodingName: $defaultTextEncodingName, defaultVideoPoster: $defaultVideoPoster, disableContextMenu: $disableContextMenu, disableDefaultErrorPage: $disableDefaultErrorPage, disableHorizontalScroll: $disableHorizontalScroll, disableInputAccessoryView: $disableInputAccessoryView, disableLongPressContextMenuOnLinks: $disableLongPressContextMenuOnLinks, disableVerticalScroll: $disableVerticalScroll, disabledActionModeMenuItems: $disabledActionModeMenuItems, disallowOverScroll: $disallowOverScroll, displayZoomControls: $displayZoomControls, domStorageEnabled: $domStorageEnabled, enableViewportScale: $enableViewportScale, enterpriseAuthenticationAppLinkPolicyEnabled: $enterpriseAuthenticationAppLinkPolicyEnabled, fantasyFontFamily: $fantasyFontFamily, fixedFontFamily: $fixedFontFamily, forceDark: $forceDark, forceDarkStrategy: $forceDarkStrategy, geolocationEnabled: $geolocationEnabled, hardwareAcceleration: $hardwareAcceleration, horizontalScrollBarEnabled: $horizontalScrollBarEnabled, horizontalScrollbarThumbColor: $horizontalScrollbarThumbColor, horizontalScrollbarTrackColor: $horizontalScrollbarTrackColor, iframeAllow: $iframeAllow, iframeAllowFullscreen: $iframeAllowFullscreen, iframeCsp: $iframeCsp, iframeName: $iframeName, iframeReferrerPolicy: $iframeReferrerPolicy, iframeSandbox: $iframeSandbox, ignoresViewportScaleLimits: $ignoresViewportScaleLimits, incognito: $incognito, initialScale: $initialScale, interceptOnlyAsyncAjaxRequests: $interceptOnlyAsyncAjaxRequests, interceptRequestRules: $interceptRequestRules, isDirectionalLockEnabled: $isDirectionalLockEnabled, isElementFullscreenEnabled: $isElementFullscreenEnabled, isFindInteractionEnabled: $isFindInteractionEnabled, isFraudulentWebsiteWarningEnabled: $isFraudulentWebsiteWarningEnabled, isInspectable: $isInspectable, isPagingEnabled: $isPagingEnabled, isSiteSpecificQuirksModeEnabled: $isSiteSpecificQuirksModeEnabled, isTextInteractionEnabled: $isTextInteractionEnabled, javaScriptCanOpenWindowsAutomatically: $javaScriptCanOpenWindowsAutomatically, javaScriptEnabled: $javaScriptEnabled, layoutAlgorithm: $layoutAlgorithm, limitsNavigationsToAppBoundDomains: $limitsNavigationsToAppBoundDomains, loadWithOverviewMode: $loadWithOverviewMode, loadsImagesAutomatically: $loadsImagesAutomatically, maximumViewportInset: $maximumViewportInset, maximumZoomScale: $maximumZoomScale, mediaPlaybackRequiresUserGesture: $mediaPlaybackRequiresUserGesture, mediaType: $mediaType, minimumFontSize: $minimumFontSize, minimumLogicalFontSize: $minimumLogicalFontSize, minimumViewportInset: $minimumViewportInset, minimumZoomScale: $minimumZoomScale, mixedContentMode: $mixedContentMode, needInitialFocus: $needInitialFocus, networkAvailable: $networkAvailable, offscreenPreRaster: $offscreenPreRaster, overScrollMode: $overScrollMode, pageZoom: $pageZoom, preferredContentMode: $preferredContentMode, regexToCancelSubFramesLoading: $regexToCancelSubFramesLoading, rendererPriorityPolicy: $rendererPriorityPolicy, requestedWithHeaderOriginAllowList: $requestedWithHeaderOriginAllowList, resourceCustomSchemes: $resourceCustomSchemes, safeBrowsingEnabled: $safeBrowsingEnabled, sansSerifFontFamily: $sansSerifFontFamily, saveFormData: $saveFormData, scrollBarDefaultDelayBeforeFade: $scrollBarDefaultDelayBeforeFade, scrollBarFadeDuration: $scrollBarFadeDuration, scrollBarStyle: $scrollBarStyle, scrollEventsMinDelta: $scrollEventsMinDelta, scrollbarFadingEnabled: $scrollbarFadingEnabled, scrollsToTop: $scrollsToTop, selectionGranularity: $selectionGranularity, serifFontFamily: $serifFontFamily, sharedCookiesEnabled: $sharedCookiesEnabled, shouldInterceptRequestMaxConcurrency: $shouldInterceptRequestMaxConcurrency, shouldInterceptRequestTimeout: $shouldInterceptRequestTimeout, shouldPrintBackgrounds: $shouldPrintBackgrounds, standardFontFamily: $standardFontFamily, supportMultipleWindows: $supportMultipleWindows, supportZoom: $supportZoom, suppressesIncrementalRendering: $suppressesIncrementalRendering, textZoom: $textZoom, thirdPartyCookiesEnabled: $thirdPartyCookiesEnabled, transparentBackground: $transparentBackground, underPageBackgroundColor: $underPageBackgroundColor, upgradeKnownHostsToHTTPS: $upgradeKnownHostsToHTTPS, useHybridComposition: $useHybridComposition, useOnConsoleMessage: $useOnConsoleMessage, useOnDownloadStart: $useOnDownloadStart, useOnLoadResource: $useOnLoadResource, useOnNavigationResponse: $useOnNavigationResponse, useOnRenderProcessGone: $useOnRenderProcessGone, useOnWindowBlur: $useOnWindowBlur, useOnWindowFocus: $useOnWindowFocus, useShouldInterceptAjaxRequest: $useShouldInterceptAjaxRequest, useShouldInterceptFetchRequest: $useShouldInterceptFetchRequest, useShouldInterceptRequest: $useShouldInterceptRequest, useShouldOverrideUrlLoading: $useShouldOverrideUrlLoading, useWideViewPort: $useWideViewPort, userAgent: $userAgent, verticalScrollBarEnabled: $verticalScrollBarEnabled, verticalScrollbarPosition: $verticalScrollbarPosition, verticalScrollbarThumbColor: $verticalScrollbarThumbColor, verticalScrollbarTrackColor: $verticalScrollbarTrackColor, webViewAssetLoader: $webViewAssetLoader}';
   }
 }
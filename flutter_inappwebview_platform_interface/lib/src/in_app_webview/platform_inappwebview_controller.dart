@@ -690,6 +690,11 @@ abstract class PlatformInAppWebViewController extends PlatformInterface
   ///  """);
   ///```
   ///
+  ///On Android, binary data can be sent to the handler with `window.flutter_inappwebview.callBinaryHandler(handlerName <String>, data <ArrayBuffer|ArrayBufferView>)`.
+  ///In this case, the handler receives a single [Uint8List] argument. If the handler returns a [Uint8List], the promise resolves with an `ArrayBuffer`,
+  ///otherwise the result is json encoded as for `callHandler`. If the WebView supports the `WEB_MESSAGE_LISTENER` and `WEB_MESSAGE_ARRAY_BUFFER` features,
+  ///the data is transferred as it is, otherwise it is base64 encoded.
+  ///
   ///There could be forbidden names for JavaScript handlers depending on the implementation platform.
   ///
   ///**NOTE**: This method should be called, for example, in the [PlatformWebViewCreationParams.onWebViewCreated] or [PlatformWebViewCreationParams.onLoadStart] events or, at least,
@@ -758,6 +763,49 @@ abstract class PlatformInAppWebViewController extends PlatformInterface
         'takeScreenshot is not implemented on the current platform');
   }
 
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.takeRawScreenshot}
+  ///Takes a screenshot of the WebView's visible viewport and returns its uncompressed pixels. Returns `null` if it wasn't be able to take it.
+  ///
+  ///Use it instead of [takeScreenshot] when the image doesn't need to be encoded, for example to show it with [decodeImageFromPixels],
+  ///to avoid the cost of the compression.
+  ///
+  ///[screenshotConfiguration] represents the configuration data to use when generating an image from a web view’s contents.
+  ///[ScreenshotConfiguration.compressFormat] and [ScreenshotConfiguration.quality] are ignored.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<RawScreenshot?> takeRawScreenshot(
+      {ScreenshotConfiguration? screenshotConfiguration}) {
+    throw UnimplementedError(
+        'takeRawScreenshot is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.takeFullPageScreenshot}
+  ///Takes a screenshot of the whole document, not only of the WebView's visible viewport,
+  ///and returns it as a stream of horizontal tiles, from top to bottom, each one encoded as a separate image.
+  ///
+  ///The tiles are drawn while the stream is listened to and only a few of them are in memory at the same time,
+  ///so that very long pages can be captured without holding the full image: pausing the stream pauses the capture
+  ///and canceling the subscription stops it. The stream is empty if the document is empty.
+  ///
+  ///[screenshotConfiguration] represents the configuration data to use when generating an image from a web view’s contents.
+  ///[ScreenshotConfiguration.rect] is ignored.
+  ///
+  ///[tileHeight] is the height of the tiles in the final image, in pixels. The default value is `1024`.
+  ///
+  ///**NOTE for Android native WebView**: the parts of the document outside the visible viewport are drawn only if
+  ///[enableSlowWholeDocumentDraw] has been called before creating any WebView.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Stream<ScreenshotTile> takeFullPageScreenshot(
+      {ScreenshotConfiguration? screenshotConfiguration, int? tileHeight}) {
+    throw UnimplementedError(
+        'takeFullPageScreenshot is not implemented on the current platform');
+  }
+
   ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.setSettings}
   ///Sets the WebView settings with the new [settings] and evaluates them.
   ///
@@ -1795,6 +1843,139 @@ abstract class PlatformInAppWebViewController extends PlatformInterface
         'clearFormData is not implemented on the current platform');
   }
 
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getInterceptRequestRuleMatchCounts}
+  ///Gets the number of requests matched by each rule of [InAppWebViewSettings.interceptRequestRules],
+  ///in the same order as the rules. An invalid rule never matches.
+  ///
+  ///The counts restart from `0` when the rules are set again.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<List<int>> getInterceptRequestRuleMatchCounts() {
+    throw UnimplementedError(
+        'getInterceptRequestRuleMatchCounts is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getConsoleMessages}
+  ///Gets the last console messages of the WebView, of any level, from the oldest to the most recent,
+  ///for example to report them after a crash. They include the messages not sent to the
+  ///[PlatformWebViewCreationParams.onConsoleMessage] event because of [InAppWebViewSettings.consoleMessageLevels]
+  ///or [InAppWebViewSettings.consoleMessageMaxRate].
+  ///
+  ///[limit] is the maximum number of messages to return. If `null`, all the messages kept are returned,
+  ///up to [InAppWebViewSettings.consoleMessageBufferSize].
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<List<ConsoleMessage>> getConsoleMessages({int? limit}) {
+    throw UnimplementedError(
+        'getConsoleMessages is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.clearConsoleMessages}
+  ///Clears the console messages kept for [getConsoleMessages].
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> clearConsoleMessages() {
+    throw UnimplementedError(
+        'clearConsoleMessages is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getResourceTimingSummary}
+  ///Gets the summary of the resource timing entries of the current page, computed natively
+  ///from the entries also sent to [PlatformWebViewCreationParams.onLoadResource].
+  ///No entry is collected if [InAppWebViewSettings.useOnLoadResource] is `false`.
+  ///The summary restarts when a new page starts loading.
+  ///The `startTime` and `endTime` of the resources of the iframes are converted to the time base of the main frame document.
+  ///
+  ///The summary contains the `url` of the page, the `resourceCount` and `cachedResourceCount`,
+  ///the `transferSize`, `encodedBodySize` and `decodedBodySize` in bytes,
+  ///the `startTime`, `endTime` and `waterfallDuration` of the waterfall, the `maxDuration` and `slowestResourceUrl`,
+  ///the `totalRedirectTime`, `totalDnsTime`, `totalConnectTime`, `totalTlsTime`, `totalTimeToFirstByte` and `totalDownloadTime`
+  ///of all the resources, in milliseconds, and the `count`, `transferSize` and `totalDuration`
+  ///of each initiator type in `initiatorTypes`.
+  ///The phases of the cross-origin resources served without a `Timing-Allow-Origin` header are not counted.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<Map<String, dynamic>?> getResourceTimingSummary() {
+    throw UnimplementedError(
+        'getResourceTimingSummary is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getUserScriptsBundleMetrics}
+  ///Gets the metrics of the JavaScript code injected on each page, assembled from the user scripts and the internal plugin scripts.
+  ///The code is assembled once and reused until a user script or a content world is added or removed.
+  ///
+  ///The metrics contain the `version` of the scripts, incremented on each change, the size in characters (`bundleSizes`)
+  ///and the assembly time in milliseconds (`bundleAssemblyTimes`) of each assembled bundle,
+  ///how many times the bundles have been reused (`hits`) and assembled (`assemblies`),
+  ///the `totalAssemblyTime` in milliseconds,
+  ///and the size in characters of the plugin scripts currently registered, by script group (`pluginScriptSizes`).
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<Map<String, dynamic>?> getUserScriptsBundleMetrics() {
+    throw UnimplementedError(
+        'getUserScriptsBundleMetrics is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getContentBlockerStatistics}
+  ///Gets the counters of the work done by the content blockers of the WebView on the request path,
+  ///since the WebView has been created.
+  ///
+  ///The statistics contain the number of `checkedRequests`, the number of rules evaluated against them (`evaluatedRules`)
+  ///and of rules that matched (`matchedRules`), the `candidateBufferAllocations` and `matchListAllocations` made while matching,
+  ///how many times the rules have been compiled (`publishedSnapshots`), the requests upgraded to HTTPS by the `make-https` action
+  ///(`httpsUpgrades`) and the upgrades skipped because the host failed recently over HTTPS (`skippedHttpsUpgrades`).
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<Map<String, dynamic>?> getContentBlockerStatistics() {
+    throw UnimplementedError(
+        'getContentBlockerStatistics is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getShouldInterceptRequestStatistics}
+  ///Gets the counters of the requests sent to the [PlatformWebViewCreationParams.shouldInterceptRequest] event,
+  ///since the WebView has been created.
+  ///
+  ///The statistics contain the number of `requests`, of `handledRequests` and `unhandledRequests`,
+  ///the requests that reached [InAppWebViewSettings.shouldInterceptRequestTimeout] (`timeouts`) and the responses received after it (`lateResponses`).
+  ///The queue time, from the WebView asking for the request to the request being sent to Dart, and the handler time,
+  ///from there to the response being received, are in nanoseconds: `totalQueueTimeNanos`, `maxQueueTimeNanos`,
+  ///`totalHandlerTimeNanos` and `maxHandlerTimeNanos`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<Map<String, dynamic>?> getShouldInterceptRequestStatistics() {
+    throw UnimplementedError(
+        'getShouldInterceptRequestStatistics is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getJavaScriptBridgeStatistics}
+  ///Gets the counters of the JavaScript handler calls received from the page, since the WebView has been created.
+  ///
+  ///The statistics contain the number of `calls`, the number of `batches` and of calls sent in batches (`batchedCalls`),
+  ///the `maxBatchSize` and the `failedBatches`. The batch time, from a batch being received to its results being sent back
+  ///to JavaScript, is in nanoseconds: `totalBatchTimeNanos` and `maxBatchTimeNanos`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<Map<String, dynamic>?> getJavaScriptBridgeStatistics() {
+    throw UnimplementedError(
+        'getJavaScriptBridgeStatistics is not implemented on the current platform');
+  }
+
   ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.reloadFromOrigin}
   ///Reloads the current page, performing end-to-end revalidation using cache-validating conditionals if possible.
   ///
@@ -2327,6 +2508,250 @@ abstract class PlatformInAppWebViewController extends PlatformInterface
         'clearAllCache is not implemented on the current platform');
   }
 
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.setHttpClientSettings}
+  ///Configures the HTTP client used by the requests that the plugin makes natively,
+  ///such as the [ContentBlockerActionType.MAKE_HTTPS] content blocker action
+  ///or the [InterceptRequestRuleActionType.REWRITE_HEADERS] intercept request rule action.
+  ///The client is shared by all the WebViews and keeps the connections alive to reuse them.
+  ///A `null` value leaves the current value unchanged.
+  ///
+  ///[connectTimeout] and [readTimeout] are in milliseconds. The default values are `15000`.
+  ///
+  ///[maxConnectionsPerHost] is the maximum number of requests to the same host waiting for their response headers
+  ///at the same time, `0` for no limit. The default value is `6`. A response being read doesn't count towards the limit,
+  ///and a request that is still waiting after [connectTimeout] is made anyway.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> setHttpClientSettings(
+      {int? connectTimeout, int? readTimeout, int? maxConnectionsPerHost}) {
+    throw UnimplementedError(
+        'setHttpClientSettings is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getHttpClientStatistics}
+  ///Gets the counters of the HTTP client described in [setHttpClientSettings]:
+  ///- `requests`, `failedRequests`: number of requests, and of requests that didn't get a response.
+  ///- `activeConnections`: number of responses not closed yet.
+  ///- `releasedConnections`: number of responses read to the end, whose connection went back to the pool.
+  ///- `discardedConnections`: number of responses closed before their end, whose connection was closed.
+  ///- `slotWaitTimeouts`: number of requests made without a free slot of their host, after waiting for the connect timeout.
+  ///- `bytesRead`: number of response body bytes read.
+  ///- `totalSlotWaitTimeNanos`, `maxSlotWaitTimeNanos`: time spent waiting for a free slot of the host.
+  ///- `totalTimeToHeadersNanos`, `maxTimeToHeadersNanos`: time from the request being sent to the response headers being received.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<Map<String, dynamic>> getHttpClientStatistics() {
+    throw UnimplementedError(
+        'getHttpClientStatistics is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.setWebViewPoolSettings}
+  ///Configures the pool of idle native WebViews created in advance, when the main thread is idle,
+  ///and used by the next WebViews created, including the headless ones, to save the native WebView construction time.
+  ///A `null` value leaves the current value unchanged.
+  ///
+  ///[size] is the number of idle WebViews to keep, up to `8`. The default value is `0`, that disables the pool.
+  ///
+  ///If [preloadAboutBlank] is `true`, the idle WebViews load `about:blank` to start their renderer process in advance.
+  ///The default value is `false`.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> setWebViewPoolSettings({int? size, bool? preloadAboutBlank}) {
+    throw UnimplementedError(
+        'setWebViewPoolSettings is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getWebViewPoolStatistics}
+  ///Gets the counters of the pool described in [setWebViewPoolSettings]:
+  ///- `size`, `idle`: configured size and number of idle WebViews.
+  ///- `requests`, `hits`, `misses`, `hitRate`: number of WebViews created, and of the ones taken from the pool or not.
+  ///- `creations`, `averageCreationTimeNanos`: number of WebViews created by the pool and their average creation time.
+  ///- `savedCreationTimeNanos`: creation time saved by the pool, estimated from the average creation time.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<Map<String, dynamic>> getWebViewPoolStatistics() {
+    throw UnimplementedError(
+        'getWebViewPoolStatistics is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.runHeadlessJob}
+  ///Runs a job on the farm of reusable headless native WebViews: loads [url], or [data] with [mimeType], [encoding] and [baseUrl],
+  ///then evaluates [script], gets the HTML of the page if [getHtml] is `true`
+  ///and takes a screenshot if [takeScreenshot] is `true`, as described by [screenshotConfiguration].
+  ///
+  ///At most [setHeadlessFarmSettings] `maxConcurrency` jobs run at the same time, each one in its own WebView of [size];
+  ///the other ones wait in a queue, ordered by [priority], the highest first, then by submission order.
+  ///A job fails if it takes more than [timeout]. If [clearStorage] is `true`, the local and session storage
+  ///of the page are cleared once the job has finished, and the deletion of its IndexedDB databases and Cache Storage is started.
+  ///The isolation between the jobs is partial: the cookies and the HTTP cache are shared with all the WebViews of the app,
+  ///so they are never cleared. The history of a WebView is always cleared between two jobs.
+  ///
+  ///Returns a map with the `scriptResult`, `html`, `screenshot` results and the `loadTime` and `runTime` in milliseconds.
+  ///Throws a [PlatformException] if the job fails, times out or is cancelled.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<Map<String, dynamic>> runHeadlessJob(
+      {WebUri? url,
+      String? data,
+      String mimeType = "text/html",
+      String encoding = "utf8",
+      WebUri? baseUrl,
+      String? script,
+      bool getHtml = false,
+      bool takeScreenshot = false,
+      ScreenshotConfiguration? screenshotConfiguration,
+      Size? size,
+      int priority = 0,
+      Duration? timeout,
+      bool clearStorage = true}) {
+    throw UnimplementedError(
+        'runHeadlessJob is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.setHeadlessFarmSettings}
+  ///Configures the farm of headless WebViews used by [runHeadlessJob]. A `null` value leaves the current value unchanged.
+  ///
+  ///[maxConcurrency] is the maximum number of WebViews, and so of jobs running at the same time, up to `8`.
+  ///The default value is `2`. An idle WebView is destroyed after 30 seconds.
+  ///
+  ///[defaultJobTimeout] is the timeout of the jobs that don't specify one. The default value is 30 seconds.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> setHeadlessFarmSettings(
+      {int? maxConcurrency, Duration? defaultJobTimeout}) {
+    throw UnimplementedError(
+        'setHeadlessFarmSettings is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.cancelHeadlessJobs}
+  ///Cancels the jobs of [runHeadlessJob] still in the queue. The running jobs are not cancelled.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> cancelHeadlessJobs() {
+    throw UnimplementedError(
+        'cancelHeadlessJobs is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getHeadlessFarmStatistics}
+  ///Gets the counters of the farm used by [runHeadlessJob]:
+  ///- `maxConcurrency`, `webViews`, `runningJobs`, `queuedJobs`, `maxQueueLength`: current state of the farm.
+  ///- `submittedJobs`, `completedJobs`, `failedJobs`, `timedOutJobs`, `cancelledJobs`: number of jobs.
+  ///- `averageQueueTime`, `averageRunTime`: average latencies in milliseconds.
+  ///- `throughput`: jobs completed per second since the first job.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<Map<String, dynamic>> getHeadlessFarmStatistics() {
+    throw UnimplementedError(
+        'getHeadlessFarmStatistics is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.setWebViewMemorySettings}
+  ///Configures how the WebViews kept alive with an [InAppWebViewKeepAlive] react to the memory pressure signals of the system.
+  ///A `null` value leaves the current value unchanged.
+  ///
+  ///A kept alive WebView is in background while its widget is not in the widget tree.
+  ///When the system asks the app to trim its memory, the background WebViews are paused.
+  ///When the memory is running low, the shared caches are also cleared and, if [freezeBackgroundWebViews] is `true`,
+  ///the least recently used background WebViews are frozen:
+  ///their history, current settings, user scripts and a thumbnail (see [getKeepAliveThumbnail]) are saved and the native WebView is destroyed.
+  ///A frozen WebView is restored when its widget is used again, but the JavaScript state of its page is lost, the page is loaded again.
+  ///While a WebView is frozen, the methods of its controller throw a [PlatformException] telling that it is frozen.
+  ///The default value is `true`.
+  ///
+  ///[maxLiveBackgroundWebViews] is the maximum number of background WebViews not frozen, whatever the memory pressure.
+  ///A negative value, the default one, means no limit.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> setWebViewMemorySettings(
+      {bool? freezeBackgroundWebViews, int? maxLiveBackgroundWebViews}) {
+    throw UnimplementedError(
+        'setWebViewMemorySettings is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getWebViewMemoryStatistics}
+  ///Gets the counters described in [setWebViewMemorySettings]:
+  ///- `trimCount`, `lastTrimLevel`: number of memory trim signals received and the last trim level.
+  ///- `pauseCount`, `freezeCount`, `restoreCount`: number of WebViews paused, frozen and restored.
+  ///- `liveWebViews`, `backgroundWebViews`, `pausedWebViews`, `frozenWebViews`: current number of kept alive WebViews.
+  ///- `estimatedMemoryBytes`: estimated memory of the kept alive WebViews, the size of their rendered surface, or of the thumbnail when frozen.
+  ///- `webViews`: the `keepAliveId`, `state`, `idleTime` in milliseconds and `estimatedMemoryBytes` of each kept alive WebView.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<Map<String, dynamic>> getWebViewMemoryStatistics() {
+    throw UnimplementedError(
+        'getWebViewMemoryStatistics is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getKeepAliveThumbnail}
+  ///Gets the JPEG thumbnail of the page of the WebView using [keepAlive], taken when it was frozen as described in [setWebViewMemorySettings].
+  ///Returns `null` if the WebView is not frozen.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<Uint8List?> getKeepAliveThumbnail(InAppWebViewKeepAlive keepAlive) {
+    throw UnimplementedError(
+        'getKeepAliveThumbnail is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.getCachedFavicon}
+  ///Gets the PNG data of the last favicon received by a WebView for the origin of [url],
+  ///as sent to [PlatformWebViewCreationParams.onReceivedIcon]. Returns `null` if there isn't any.
+  ///
+  ///The favicons are kept in memory and on disk, shared by all the WebViews, so that the same icon
+  ///received again is neither encoded nor sent again.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<Uint8List?> getCachedFavicon({required WebUri url}) {
+    throw UnimplementedError(
+        'getCachedFavicon is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.clearFaviconCache}
+  ///Clears the favicons described in [getCachedFavicon].
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> clearFaviconCache() {
+    throw UnimplementedError(
+        'clearFaviconCache is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.enableSlowWholeDocumentDraw}
+  ///Makes the WebViews draw the whole document instead of only its visible part, as needed by [takeFullPageScreenshot].
+  ///It has a significant performance cost, and it must be called before creating any WebView.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView ([Official API - WebView.enableSlowWholeDocumentDraw](https://developer.android.com/reference/android/webkit/WebView#enableSlowWholeDocumentDraw()))
+  ///{@endtemplate}
+  Future<void> enableSlowWholeDocumentDraw() {
+    throw UnimplementedError(
+        'enableSlowWholeDocumentDraw is not implemented on the current platform');
+  }
+
   ///{@template flutter_inappwebview_platform_interface.PlatformInAppWebViewController.tRexRunnerHtml}
   ///Gets the html (with javascript) of the Chromium's t-rex runner game. Used in combination with [tRexRunnerCss].
   ///
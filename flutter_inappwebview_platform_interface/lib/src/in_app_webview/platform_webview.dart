@@ -843,6 +843,9 @@ class PlatformWebViewCreationParams<T> {
   ///
   ///[icon] represents the favicon for the current page.
   ///
+  ///**NOTE for Android native WebView**: the event is not fired again if the favicon is the same as the last one.
+  ///The favicons can be read later with [PlatformInAppWebViewController.getCachedFavicon].
+  ///
   ///**Officially Supported Platforms/Implementations**:
   ///- Android native WebView ([Official API - WebChromeClient.onReceivedIcon](https://developer.android.com/reference/android/webkit/WebChromeClient#onReceivedIcon(android.webkit.WebView,%20android.graphics.Bitmap)))
   ///{@endtemplate}
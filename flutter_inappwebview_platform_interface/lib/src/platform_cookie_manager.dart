@@ -6,6 +6,7 @@ import 'package:plugin_platform_interface/plugin_platform_interface.dart';
 import 'in_app_webview/platform_inappwebview_controller.dart';
 import 'types/main.dart';
 import 'web_uri.dart';
+import 'platform_webview_feature.dart';
 import 'inappwebview_platform.dart';
 import 'in_app_webview/platform_headless_in_app_webview.dart';
 import 'webview_environment/platform_webview_environment.dart';
@@ -226,6 +227,7 @@ abstract class PlatformCookieManager extends PlatformInterface {
   ///In this case the [url] parameter is ignored.
   ///
   ///The return value indicates whether cookies were deleted successfully.
+  ///On Android, it is `true` only if all the cookies have been deleted.
   ///Note that it will return always `true` for Web platform, iOS below 11.0 and MacOS below 10.13.
   ///
   ///**NOTE for iOS below 11.0 and MacOS below 10.13**: If [webViewController] is `null` or JavaScript is disabled for it, it will try to use a [PlatformHeadlessInAppWebView]
@@ -302,4 +304,114 @@ abstract class PlatformCookieManager extends PlatformInterface {
     throw UnimplementedError(
         'removeSessionCookies is not implemented on the current platform');
   }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformCookieManager.setCookies}
+  ///Sets the [cookies] for the given [url], as [setCookie] would do for each one of them,
+  ///but the cookie store is written to disk only once.
+  ///The `maxAge` and `isSessionOnly` properties of the cookies are ignored; the default path of a cookie is `"/"`.
+  ///
+  ///The return value indicates whether all the cookies were set successfully.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<bool> setCookies(
+      {required WebUri url, required List<Cookie> cookies}) {
+    throw UnimplementedError(
+        'setCookies is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformCookieManager.deleteCookiesByName}
+  ///Removes the cookies named [names] for the given [url], [domain] and [path],
+  ///as [deleteCookie] would do for each one of them, but the cookie store is written to disk only once.
+  ///
+  ///The default value of [path] is `"/"`.
+  ///
+  ///The return value indicates whether all the cookies were deleted successfully.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<bool> deleteCookiesByName(
+      {required WebUri url,
+      required List<String> names,
+      String path = "/",
+      String? domain}) {
+    throw UnimplementedError(
+        'deleteCookiesByName is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformCookieManager.exportCookies}
+  ///Exports the cookies for the given [urls] as a JSON cookie jar, that can be imported with [importCookies].
+  ///The cookie store can't list all its cookies, so only the cookies that would be sent to [urls] are exported.
+  ///
+  ///**NOTE for Android native WebView**: the cookie attributes, and so the expiration date, are exported
+  ///only if [WebViewFeature.GET_COOKIE_INFO] feature is supported, otherwise the cookies are imported as session cookies
+  ///and a cookie is exported once per host of [urls].
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<String?> exportCookies({required List<WebUri> urls}) {
+    throw UnimplementedError(
+        'exportCookies is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformCookieManager.importCookies}
+  ///Imports a cookie [jar] exported by [exportCookies]. The expired cookies are skipped
+  ///and the cookie store is written to disk only once.
+  ///
+  ///The return value indicates whether all the cookies were imported successfully.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<bool> importCookies({required String jar}) {
+    throw UnimplementedError(
+        'importCookies is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformCookieManager.setFlushSettings}
+  ///Configures when the cookie changes are written to disk. A `null` value leaves the current value unchanged.
+  ///
+  ///The changes made within [flushDelay] of each other are written to disk once, [flushDelay] after the last change,
+  ///but at most [maxFlushDelay] after the first one. The default values are 200 and 1000 milliseconds.
+  ///A [flushDelay] of [Duration.zero] writes each change immediately. Use [flush] to write the pending changes
+  ///before a durability critical step.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<void> setFlushSettings(
+      {Duration? flushDelay, Duration? maxFlushDelay}) {
+    throw UnimplementedError(
+        'setFlushSettings is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformCookieManager.flush}
+  ///Writes the pending cookie changes to disk now, see [setFlushSettings].
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView ([Official API - CookieManager.flush](https://developer.android.com/reference/android/webkit/CookieManager#flush()))
+  ///{@endtemplate}
+  Future<void> flush() {
+    throw UnimplementedError(
+        'flush is not implemented on the current platform');
+  }
+
+  ///{@template flutter_inappwebview_platform_interface.PlatformCookieManager.getFlushStatistics}
+  ///Gets the counters of the writes described in [setFlushSettings]:
+  ///- `flushDelay`, `maxFlushDelay`: current settings, in milliseconds.
+  ///- `flushPending`: whether changes are waiting to be written.
+  ///- `requestedFlushes`: number of writes requested by the cookie changes.
+  ///- `explicitFlushes`: number of calls to [flush].
+  ///- `performedFlushes`: number of writes actually performed.
+  ///
+  ///**Officially Supported Platforms/Implementations**:
+  ///- Android native WebView
+  ///{@endtemplate}
+  Future<Map<String, dynamic>> getFlushStatistics() {
+    throw UnimplementedError(
+        'getFlushStatistics is not implemented on the current platform');
+  }
 }
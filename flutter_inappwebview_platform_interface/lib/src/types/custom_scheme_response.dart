@@ -5,6 +5,12 @@ import '../in_app_webview/platform_webview.dart';
 
 part 'custom_scheme_response.g.dart';
 
+// a stream can't be exchanged as a map value: the platform implementations that support it
+// send its chunks separately
+dynamic _dataStreamSerializer(Stream<Uint8List>? dataStream) => null;
+
+Stream<Uint8List>? _dataStreamDeserializer(dynamic value) => null;
+
 ///Class representing the response returned by the [PlatformWebViewCreationParams.onLoadResourceWithCustomScheme] event.
 ///It allows to load a specific resource. The resource data must be encoded to `base64`.
 @ExchangeableObject()
@@ -12,6 +18,17 @@ class CustomSchemeResponse_ {
   ///Data enconded to 'base64'.
   Uint8List data;
 
+  ///The data as a stream of chunks. If not `null`, [data] is ignored.
+  ///
+  ///The WebView starts loading the resource as soon as the first chunk is available,
+  ///and the next chunks are requested only when the previous ones have been read,
+  ///so that large resources are never fully loaded in memory.
+  ///
+  ///**NOTE**: available only on Android.
+  @ExchangeableObjectProperty(
+      serializer: _dataStreamSerializer, deserializer: _dataStreamDeserializer)
+  Stream<Uint8List>? dataStream;
+
   ///Content-Type of the data, such as `image/png`.
   String contentType;
 
@@ -21,5 +38,6 @@ class CustomSchemeResponse_ {
   CustomSchemeResponse_(
       {required this.data,
       required this.contentType,
-      this.contentEncoding = 'utf-8'});
+      this.contentEncoding = 'utf-8',
+      this.dataStream});
 }
@@ -17,10 +17,20 @@ class CustomSchemeResponse {
 
   ///Data enconded to 'base64'.
   Uint8List data;
+
+  ///The data as a stream of chunks. If not `null`, [data] is ignored.
+  ///
+  ///The WebView starts loading the resource as soon as the first chunk is available,
+  ///and the next chunks are requested only when the previous ones have been read,
+  ///so that large resources are never fully loaded in memory.
+  ///
+  ///**NOTE**: available only on Android.
+  Stream<Uint8List>? dataStream;
   CustomSchemeResponse(
       {this.contentEncoding = 'utf-8',
       required this.contentType,
-      required this.data});
+      required this.data,
+      this.dataStream});
 
   ///Gets a possible [CustomSchemeResponse] instance from a [Map] value.
   static CustomSchemeResponse? fromMap(Map<String, dynamic>? map) {
@@ -30,6 +40,7 @@ class CustomSchemeResponse {
     final instance = CustomSchemeResponse(
       contentType: map['contentType'],
       data: map['data'],
+      dataStream: _dataStreamDeserializer(map['dataStream']),
     );
     instance.contentEncoding = map['contentEncoding'];
     return instance;
@@ -41,6 +52,7 @@ class CustomSchemeResponse {
       "contentEncoding": contentEncoding,
       "contentType": contentType,
       "data": data,
+      "dataStream": _dataStreamSerializer(dataStream),
     };
   }
 
@@ -51,6 +63,6 @@ class CustomSchemeResponse {
 
   @override
   String toString() {
-    return 'CustomSchemeResponse{contentEncoding: $contentEncoding, contentType: $contentType, data: $data}';
+    return 'CustomSchemeResponse{contentEncoding: $contentEncoding, contentType: $contentType, data: $data, dataStream: $dataStream}';
   }
 }
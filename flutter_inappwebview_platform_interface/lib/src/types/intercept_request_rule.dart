@@ -0,0 +1,39 @@
+import 'package:flutter_inappwebview_internal_annotations/flutter_inappwebview_internal_annotations.dart';
+
+import '../in_app_webview/in_app_webview_settings.dart';
+import 'content_blocker_trigger_resource_type.dart';
+import 'intercept_request_rule_action.dart';
+
+part 'intercept_request_rule.g.dart';
+
+///Class that represents a rule of [InAppWebViewSettings.interceptRequestRules].
+///The rules are evaluated natively, so the requests they handle don't go through Dart.
+///
+///A request matches the rule if it matches all of its filters.
+@ExchangeableObject()
+class InterceptRequestRule_ {
+  ///A regular expression pattern to match the URL against.
+  String urlFilter;
+
+  ///The request methods, case-insensitive, that the request must have. If `null` or empty, any method matches.
+  List<String>? methods;
+
+  ///The resource types that the request must have. If `null` or empty, any resource type matches.
+  ///
+  ///The resource type is inferred from the URL, as for the content blockers.
+  List<ContentBlockerTriggerResourceType_>? resourceTypes;
+
+  ///A map of header names, case-insensitive, to regular expression patterns
+  ///that the header values must contain. A request without one of these headers doesn't match.
+  Map<String, String>? headerFilters;
+
+  ///The action taken when the rule matches.
+  InterceptRequestRuleAction_ action;
+
+  InterceptRequestRule_(
+      {required this.urlFilter,
+      this.methods,
+      this.resourceTypes,
+      this.headerFilters,
+      required this.action});
+}
@@ -0,0 +1,79 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'intercept_request_rule.dart';
+
+// **************************************************************************
+// ExchangeableObjectGenerator
+// **************************************************************************
+
+///Class that represents a rule of [InAppWebViewSettings.interceptRequestRules].
+///The rules are evaluated natively, so the requests they handle don't go through Dart.
+///
+///A request matches the rule if it matches all of its filters.
+class InterceptRequestRule {
+  ///The action taken when the rule matches.
+  InterceptRequestRuleAction action;
+
+  ///A map of header names, case-insensitive, to regular expression patterns
+  ///that the header values must contain. A request without one of these headers doesn't match.
+  Map<String, String>? headerFilters;
+
+  ///The request methods, case-insensitive, that the request must have. If `null` or empty, any method matches.
+  List<String>? methods;
+
+  ///The resource types that the request must have. If `null` or empty, any resource type matches.
+  ///
+  ///The resource type is inferred from the URL, as for the content blockers.
+  List<ContentBlockerTriggerResourceType>? resourceTypes;
+
+  ///A regular expression pattern to match the URL against.
+  String urlFilter;
+  InterceptRequestRule(
+      {required this.action,
+      this.headerFilters,
+      this.methods,
+      this.resourceTypes,
+      required this.urlFilter});
+
+  ///Gets a possible [InterceptRequestRule] instance from a [Map] value.
+  static InterceptRequestRule? fromMap(Map<String, dynamic>? map) {
+    if (map == null) {
+      return null;
+    }
+    final instance = InterceptRequestRule(
+      action: InterceptRequestRuleAction.fromMap(
+          map['action']?.cast<String, dynamic>())!,
+      headerFilters: map['headerFilters']?.cast<String, String>(),
+      methods: map['methods'] != null
+          ? List<String>.from(map['methods']!.cast<String>())
+          : null,
+      resourceTypes: map['resourceTypes'] != null
+          ? List<ContentBlockerTriggerResourceType>.from(map['resourceTypes']
+              .map((e) => ContentBlockerTriggerResourceType.fromNativeValue(e)!))
+          : null,
+      urlFilter: map['urlFilter'],
+    );
+    return instance;
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toMap() {
+    return {
+      "action": action.toMap(),
+      "headerFilters": headerFilters,
+      "methods": methods,
+      "resourceTypes": resourceTypes?.map((e) => e.toNativeValue()).toList(),
+      "urlFilter": urlFilter,
+    };
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toJson() {
+    return toMap();
+  }
+
+  @override
+  String toString() {
+    return 'InterceptRequestRule{action: $action, headerFilters: $headerFilters, methods: $methods, resourceTypes: $resourceTypes, urlFilter: $urlFilter}';
+  }
+}
@@ -0,0 +1,41 @@
+import 'package:flutter_inappwebview_internal_annotations/flutter_inappwebview_internal_annotations.dart';
+
+import 'intercept_request_rule.dart';
+import 'intercept_request_rule_action_type.dart';
+
+part 'intercept_request_rule_action.g.dart';
+
+///Class that represents the action taken when an [InterceptRequestRule] matches a request.
+@ExchangeableObject()
+class InterceptRequestRuleAction_ {
+  ///Type of the action.
+  InterceptRequestRuleActionType_ type;
+
+  ///Used by [InterceptRequestRuleActionType.SERVE_FILE].
+  ///The path of a Flutter asset, for example `assets/images/logo.png`, or the absolute path of a file.
+  String? filePath;
+
+  ///Used by [InterceptRequestRuleActionType.SERVE_FILE].
+  ///The MIME type of the file. If `null`, it is guessed from the file name.
+  String? contentType;
+
+  ///Used by [InterceptRequestRuleActionType.SERVE_FILE].
+  ///The encoding of the file. The default value is `utf-8`.
+  String? contentEncoding;
+
+  ///Used by [InterceptRequestRuleActionType.SERVE_FILE], the headers of the response,
+  ///and by [InterceptRequestRuleActionType.REWRITE_HEADERS], the request headers to add or replace.
+  Map<String, String>? headers;
+
+  ///Used by [InterceptRequestRuleActionType.REWRITE_HEADERS].
+  ///The names of the request headers to remove.
+  List<String>? removeHeaders;
+
+  InterceptRequestRuleAction_(
+      {required this.type,
+      this.filePath,
+      this.contentType,
+      this.contentEncoding,
+      this.headers,
+      this.removeHeaders});
+}
@@ -0,0 +1,80 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'intercept_request_rule_action.dart';
+
+// **************************************************************************
+// ExchangeableObjectGenerator
+// **************************************************************************
+
+///Class that represents the action taken when an [InterceptRequestRule] matches a request.
+class InterceptRequestRuleAction {
+  ///Used by [InterceptRequestRuleActionType.SERVE_FILE].
+  ///The encoding of the file. The default value is `utf-8`.
+  String? contentEncoding;
+
+  ///Used by [InterceptRequestRuleActionType.SERVE_FILE].
+  ///The MIME type of the file. If `null`, it is guessed from the file name.
+  String? contentType;
+
+  ///Used by [InterceptRequestRuleActionType.SERVE_FILE].
+  ///The path of a Flutter asset, for example `assets/images/logo.png`, or the absolute path of a file.
+  String? filePath;
+
+  ///Used by [InterceptRequestRuleActionType.SERVE_FILE], the headers of the response,
+  ///and by [InterceptRequestRuleActionType.REWRITE_HEADERS], the request headers to add or replace.
+  Map<String, String>? headers;
+
+  ///Used by [InterceptRequestRuleActionType.REWRITE_HEADERS].
+  ///The names of the request headers to remove.
+  List<String>? removeHeaders;
+
+  ///Type of the action.
+  InterceptRequestRuleActionType type;
+  InterceptRequestRuleAction(
+      {this.contentEncoding,
+      this.contentType,
+      this.filePath,
+      this.headers,
+      this.removeHeaders,
+      required this.type});
+
+  ///Gets a possible [InterceptRequestRuleAction] instance from a [Map] value.
+  static InterceptRequestRuleAction? fromMap(Map<String, dynamic>? map) {
+    if (map == null) {
+      return null;
+    }
+    final instance = InterceptRequestRuleAction(
+      contentEncoding: map['contentEncoding'],
+      contentType: map['contentType'],
+      filePath: map['filePath'],
+      headers: map['headers']?.cast<String, String>(),
+      removeHeaders: map['removeHeaders'] != null
+          ? List<String>.from(map['removeHeaders']!.cast<String>())
+          : null,
+      type: InterceptRequestRuleActionType.fromNativeValue(map['type'])!,
+    );
+    return instance;
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toMap() {
+    return {
+      "contentEncoding": contentEncoding,
+      "contentType": contentType,
+      "filePath": filePath,
+      "headers": headers,
+      "removeHeaders": removeHeaders,
+      "type": type.toNativeValue(),
+    };
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toJson() {
+    return toMap();
+  }
+
+  @override
+  String toString() {
+    return 'InterceptRequestRuleAction{contentEncoding: $contentEncoding, contentType: $contentType, filePath: $filePath, headers: $headers, removeHeaders: $removeHeaders, type: $type}';
+  }
+}
@@ -0,0 +1,34 @@
+import 'package:flutter_inappwebview_internal_annotations/flutter_inappwebview_internal_annotations.dart';
+
+import 'intercept_request_rule_action.dart';
+
+part 'intercept_request_rule_action_type.g.dart';
+
+///Class that represents the kind of action of an [InterceptRequestRuleAction].
+@ExchangeableEnum()
+class InterceptRequestRuleActionType_ {
+  // ignore: unused_field
+  final String _value;
+  const InterceptRequestRuleActionType_._internal(this._value);
+
+  ///Sends the request to the `shouldInterceptRequest` event,
+  ///even if [InAppWebViewSettings.useShouldInterceptRequest] is `false`.
+  static const FORWARD_TO_DART =
+      const InterceptRequestRuleActionType_._internal('forward-to-dart');
+
+  ///Responds with the file at [InterceptRequestRuleAction.filePath].
+  static const SERVE_FILE =
+      const InterceptRequestRuleActionType_._internal('serve-file');
+
+  ///Loads the resource natively, after applying [InterceptRequestRuleAction.headers]
+  ///and [InterceptRequestRuleAction.removeHeaders] to the request headers.
+  ///Only `GET` and `HEAD` requests can be rewritten, because the request body is not available.
+  ///Redirects are not followed natively: if the server responds with a redirect,
+  ///the WebView loads the resource itself, without the rewritten headers.
+  static const REWRITE_HEADERS =
+      const InterceptRequestRuleActionType_._internal('rewrite-headers');
+
+  ///Lets the WebView load the resource normally, without sending the request to the `shouldInterceptRequest` event.
+  static const PASS_THROUGH =
+      const InterceptRequestRuleActionType_._internal('pass-through');
+}
@@ -0,0 +1,91 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'intercept_request_rule_action_type.dart';
+
+// **************************************************************************
+// ExchangeableEnumGenerator
+// **************************************************************************
+
+///Class that represents the kind of action of an [InterceptRequestRuleAction].
+class InterceptRequestRuleActionType {
+  final String _value;
+  final String _nativeValue;
+  const InterceptRequestRuleActionType._internal(
+      this._value, this._nativeValue);
+// ignore: unused_element
+  factory InterceptRequestRuleActionType._internalMultiPlatform(
+          String value, Function nativeValue) =>
+      InterceptRequestRuleActionType._internal(value, nativeValue());
+
+  ///Sends the request to the `shouldInterceptRequest` event,
+  ///even if [InAppWebViewSettings.useShouldInterceptRequest] is `false`.
+  static const FORWARD_TO_DART = InterceptRequestRuleActionType._internal(
+      'forward-to-dart', 'forward-to-dart');
+
+  ///Lets the WebView load the resource normally, without sending the request to the `shouldInterceptRequest` event.
+  static const PASS_THROUGH = InterceptRequestRuleActionType._internal(
+      'pass-through', 'pass-through');
+
+  ///Loads the resource natively, after applying [InterceptRequestRuleAction.headers]
+  ///and [InterceptRequestRuleAction.removeHeaders] to the request headers.
+  ///Only `GET` and `HEAD` requests can be rewritten, because the request body is not available.
+  ///Redirects are not followed natively: if the server responds with a redirect,
+  ///the WebView loads the resource itself, without the rewritten headers.
+  static const REWRITE_HEADERS = InterceptRequestRuleActionType._internal(
+      'rewrite-headers', 'rewrite-headers');
+
+  ///Responds with the file at [InterceptRequestRuleAction.filePath].
+  static const SERVE_FILE =
+      InterceptRequestRuleActionType._internal('serve-file', 'serve-file');
+
+  ///Set of all values of [InterceptRequestRuleActionType].
+  static final Set<InterceptRequestRuleActionType> values = [
+    InterceptRequestRuleActionType.FORWARD_TO_DART,
+    InterceptRequestRuleActionType.PASS_THROUGH,
+    InterceptRequestRuleActionType.REWRITE_HEADERS,
+    InterceptRequestRuleActionType.SERVE_FILE,
+  ].toSet();
+
+  ///Gets a possible [InterceptRequestRuleActionType] instance from [String] value.
+  static InterceptRequestRuleActionType? fromValue(String? value) {
+    if (value != null) {
+      try {
+        return InterceptRequestRuleActionType.values
+            .firstWhere((element) => element.toValue() == value);
+      } catch (e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  ///Gets a possible [InterceptRequestRuleActionType] instance from a native value.
+  static InterceptRequestRuleActionType? fromNativeValue(String? value) {
+    if (value != null) {
+      try {
+        return InterceptRequestRuleActionType.values
+            .firstWhere((element) => element.toNativeValue() == value);
+      } catch (e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  ///Gets [String] value.
+  String toValue() => _value;
+
+  ///Gets [String] native value.
+  String toNativeValue() => _nativeValue;
+
+  @override
+  int get hashCode => _value.hashCode;
+
+  @override
+  bool operator ==(value) => value == _value;
+
+  @override
+  String toString() {
+    return _value;
+  }
+}
@@ -20,6 +20,73 @@ class LoadedResource_ {
   ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) duration to fetch a resource.
   double? duration;
 
+  ///A string representing the network protocol used to fetch the resource, as identified by the ALPN Protocol ID (RFC7301).
+  String? nextHopProtocol;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately before dispatching the `FetchEvent` if a Service Worker thread is already running, or immediately before starting the Service Worker thread if it is not already running.
+  double? workerStart;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) for the start time of the fetch which initiates the redirect.
+  double? redirectStart;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately after receiving the last byte of the response of the last redirect.
+  double? redirectEnd;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately before the browser starts to fetch the resource.
+  double? fetchStart;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately before the browser starts the domain name lookup for the resource.
+  double? domainLookupStart;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately after the browser finishes the domain name lookup for the resource.
+  double? domainLookupEnd;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately before the browser starts to establish the connection to the server to retrieve the resource.
+  double? connectStart;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately after the browser finishes establishing the connection to the server to retrieve the resource.
+  double? connectEnd;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately before the browser starts the handshake process to secure the current connection.
+  double? secureConnectionStart;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately before the browser starts requesting the resource from the server.
+  double? requestStart;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately after the browser receives the first byte of the response from the server.
+  double? responseStart;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately after the browser receives the last byte of the resource or immediately before the transport connection is closed, whichever comes first.
+  double? responseEnd;
+
+  ///The size, in bytes, of the fetched resource, including the response header fields plus the response payload body. It is `0` if the resource was fetched from a local cache.
+  int? transferSize;
+
+  ///The size, in bytes, received from the fetch (HTTP or cache) of the payload body, before removing any applied content encodings.
+  int? encodedBodySize;
+
+  ///The size, in bytes, received from the fetch (HTTP or cache) of the message body, after removing any applied content encodings.
+  int? decodedBodySize;
+
   LoadedResource_(
-      {this.initiatorType, this.url, this.startTime, this.duration});
+      {this.initiatorType,
+      this.url,
+      this.startTime,
+      this.duration,
+      this.nextHopProtocol,
+      this.workerStart,
+      this.redirectStart,
+      this.redirectEnd,
+      this.fetchStart,
+      this.domainLookupStart,
+      this.domainLookupEnd,
+      this.connectStart,
+      this.connectEnd,
+      this.secureConnectionStart,
+      this.requestStart,
+      this.responseStart,
+      this.responseEnd,
+      this.transferSize,
+      this.encodedBodySize,
+      this.decodedBodySize});
 }
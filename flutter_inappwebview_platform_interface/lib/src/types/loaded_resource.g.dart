@@ -9,18 +9,86 @@ part of 'loaded_resource.dart';
 ///Class representing a resource response of the `WebView`.
 ///It is used by the method [PlatformWebViewCreationParams.onLoadResource].
 class LoadedResource {
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately after the browser finishes establishing the connection to the server to retrieve the resource.
+  double? connectEnd;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately before the browser starts to establish the connection to the server to retrieve the resource.
+  double? connectStart;
+
+  ///The size, in bytes, received from the fetch (HTTP or cache) of the message body, after removing any applied content encodings.
+  int? decodedBodySize;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately after the browser finishes the domain name lookup for the resource.
+  double? domainLookupEnd;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately before the browser starts the domain name lookup for the resource.
+  double? domainLookupStart;
+
   ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) duration to fetch a resource.
   double? duration;
 
+  ///The size, in bytes, received from the fetch (HTTP or cache) of the payload body, before removing any applied content encodings.
+  int? encodedBodySize;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately before the browser starts to fetch the resource.
+  double? fetchStart;
+
   ///A string representing the type of resource.
   String? initiatorType;
 
+  ///A string representing the network protocol used to fetch the resource, as identified by the ALPN Protocol ID (RFC7301).
+  String? nextHopProtocol;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately after receiving the last byte of the response of the last redirect.
+  double? redirectEnd;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) for the start time of the fetch which initiates the redirect.
+  double? redirectStart;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately before the browser starts requesting the resource from the server.
+  double? requestStart;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately after the browser receives the last byte of the resource or immediately before the transport connection is closed, whichever comes first.
+  double? responseEnd;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately after the browser receives the first byte of the response from the server.
+  double? responseStart;
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately before the browser starts the handshake process to secure the current connection.
+  double? secureConnectionStart;
+
   ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) for the time a resource fetch started.
   double? startTime;
 
+  ///The size, in bytes, of the fetched resource, including the response header fields plus the response payload body. It is `0` if the resource was fetched from a local cache.
+  int? transferSize;
+
   ///Resource URL.
   WebUri? url;
-  LoadedResource({this.duration, this.initiatorType, this.startTime, this.url});
+
+  ///Returns the [DOMHighResTimeStamp](https://developer.mozilla.org/en-US/docs/Web/API/DOMHighResTimeStamp) immediately before dispatching the `FetchEvent` if a Service Worker thread is already running, or immediately before starting the Service Worker thread if it is not already running.
+  double? workerStart;
+  LoadedResource(
+      {this.connectEnd,
+      this.connectStart,
+      this.decodedBodySize,
+      this.domainLookupEnd,
+      this.domainLookupStart,
+      this.duration,
+      this.encodedBodySize,
+      this.fetchStart,
+      this.initiatorType,
+      this.nextHopProtocol,
+      this.redirectEnd,
+      this.redirectStart,
+      this.requestStart,
+      this.responseEnd,
+      this.responseStart,
+      this.secureConnectionStart,
+      this.startTime,
+      this.transferSize,
+      this.url,
+      this.workerStart});
 
   ///Gets a possible [LoadedResource] instance from a [Map] value.
   static LoadedResource? fromMap(Map<String, dynamic>? map) {
@@ -28,10 +96,26 @@ class LoadedResource {
       return null;
     }
     final instance = LoadedResource(
+      connectEnd: map['connectEnd'],
+      connectStart: map['connectStart'],
+      decodedBodySize: map['decodedBodySize'],
+      domainLookupEnd: map['domainLookupEnd'],
+      domainLookupStart: map['domainLookupStart'],
       duration: map['duration'],
+      encodedBodySize: map['encodedBodySize'],
+      fetchStart: map['fetchStart'],
       initiatorType: map['initiatorType'],
+      nextHopProtocol: map['nextHopProtocol'],
+      redirectEnd: map['redirectEnd'],
+      redirectStart: map['redirectStart'],
+      requestStart: map['requestStart'],
+      responseEnd: map['responseEnd'],
+      responseStart: map['responseStart'],
+      secureConnectionStart: map['secureConnectionStart'],
       startTime: map['startTime'],
+      transferSize: map['transferSize'],
       url: map['url'] != null ? WebUri(map['url']) : null,
+      workerStart: map['workerStart'],
     );
     return instance;
   }
@@ -39,10 +123,26 @@ class LoadedResource {
   ///Converts instance to a map.
   Map<String, dynamic> toMap() {
     return {
+      "connectEnd": connectEnd,
+      "connectStart": connectStart,
+      "decodedBodySize": decodedBodySize,
+      "domainLookupEnd": domainLookupEnd,
+      "domainLookupStart": domainLookupStart,
       "duration": duration,
+      "encodedBodySize": encodedBodySize,
+      "fetchStart": fetchStart,
       "initiatorType": initiatorType,
+      "nextHopProtocol": nextHopProtocol,
+      "redirectEnd": redirectEnd,
+      "redirectStart": redirectStart,
+      "requestStart": requestStart,
+      "responseEnd": responseEnd,
+      "responseStart": responseStart,
+      "secureConnectionStart": secureConnectionStart,
       "startTime": startTime,
+      "transferSize": transferSize,
       "url": url?.toString(),
+      "workerStart": workerStart,
     };
   }
 
@@ -53,6 +153,6 @@ class LoadedResource {
 
   @override
   String toString() {
-    return 'LoadedResource{duration: $duration, initiatorType: $initiatorType, startTime: $startTime, url: $url}';
+    return 'LoadedResource{connectEnd: $connectEnd, connectStart: $connectStart, decodedBodySize: $decodedBodySize, domainLookupEnd: $domainLookupEnd, domainLookupStart: $domainLookupStart, duration: $duration, encodedBodySize: $encodedBodySize, fetchStart: $fetchStart, initiatorType: $initiatorType, nextHopProtocol: $nextHopProtocol, redirectEnd: $redirectEnd, redirectStart: $redirectStart, requestStart: $requestStart, responseEnd: $responseEnd, responseStart: $responseStart, secureConnectionStart: $secureConnectionStart, startTime: $startTime, transferSize: $transferSize, url: $url, workerStart: $workerStart}';
   }
 }
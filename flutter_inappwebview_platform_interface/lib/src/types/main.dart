@@ -59,6 +59,10 @@ export 'in_app_webview_hit_test_result_type.dart'
     show InAppWebViewHitTestResultType;
 export 'in_app_webview_initial_data.dart' show InAppWebViewInitialData;
 export 'in_app_webview_rect.dart' show InAppWebViewRect;
+export 'intercept_request_rule.dart' show InterceptRequestRule;
+export 'intercept_request_rule_action.dart' show InterceptRequestRuleAction;
+export 'intercept_request_rule_action_type.dart'
+    show InterceptRequestRuleActionType;
 export 'javascript_handler_callback.dart' show JavaScriptHandlerCallback;
 export 'js_alert_request.dart' show JsAlertRequest;
 export 'js_alert_response.dart' show JsAlertResponse;
@@ -117,6 +121,7 @@ export 'proxy_rule.dart' show ProxyRule;
 export 'proxy_scheme_filter.dart' show ProxySchemeFilter;
 export 'pull_to_refresh_size.dart'
     show PullToRefreshSize, AndroidPullToRefreshSize;
+export 'raw_screenshot.dart' show RawScreenshot;
 export 'referrer_policy.dart' show ReferrerPolicy;
 export 'render_process_gone_detail.dart' show RenderProcessGoneDetail;
 export 'renderer_priority.dart' show RendererPriority;
@@ -128,6 +133,7 @@ export 'safe_browsing_response_action.dart' show SafeBrowsingResponseAction;
 export 'safe_browsing_threat.dart' show SafeBrowsingThreat;
 export 'sandbox.dart' show Sandbox;
 export 'screenshot_configuration.dart' show ScreenshotConfiguration;
+export 'screenshot_tile.dart' show ScreenshotTile;
 export 'script_html_tag_attributes.dart' show ScriptHtmlTagAttributes;
 export 'scrollbar_style.dart' show ScrollBarStyle, AndroidScrollBarStyle;
 export 'scrollview_content_inset_adjustment_behavior.dart'
@@ -0,0 +1,25 @@
+import 'dart:typed_data';
+
+import 'package:flutter_inappwebview_internal_annotations/flutter_inappwebview_internal_annotations.dart';
+
+import '../in_app_webview/platform_inappwebview_controller.dart';
+
+part 'raw_screenshot.g.dart';
+
+///Class that represents the uncompressed pixels of a screenshot taken with [PlatformInAppWebViewController.takeRawScreenshot].
+@ExchangeableObject()
+class RawScreenshot_ {
+  ///The width of the screenshot, in pixels.
+  int width;
+
+  ///The height of the screenshot, in pixels.
+  int height;
+
+  ///The pixels of the screenshot, row by row, as 4 bytes per pixel in the RGBA order, with premultiplied alpha.
+  ///Its length is `width * height * 4`.
+  Uint8List data;
+
+  @ExchangeableObjectConstructor()
+  RawScreenshot_(
+      {required this.width, required this.height, required this.data});
+}
@@ -0,0 +1,54 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'raw_screenshot.dart';
+
+// **************************************************************************
+// ExchangeableObjectGenerator
+// **************************************************************************
+
+///Class that represents the uncompressed pixels of a screenshot taken with [PlatformInAppWebViewController.takeRawScreenshot].
+class RawScreenshot {
+  ///The pixels of the screenshot, row by row, as 4 bytes per pixel in the RGBA order, with premultiplied alpha.
+  ///Its length is `width * height * 4`.
+  Uint8List data;
+
+  ///The height of the screenshot, in pixels.
+  int height;
+
+  ///The width of the screenshot, in pixels.
+  int width;
+  RawScreenshot(
+      {required this.width, required this.height, required this.data});
+
+  ///Gets a possible [RawScreenshot] instance from a [Map] value.
+  static RawScreenshot? fromMap(Map<String, dynamic>? map) {
+    if (map == null) {
+      return null;
+    }
+    final instance = RawScreenshot(
+      data: map['data'],
+      height: map['height'],
+      width: map['width'],
+    );
+    return instance;
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toMap() {
+    return {
+      "data": data,
+      "height": height,
+      "width": width,
+    };
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toJson() {
+    return toMap();
+  }
+
+  @override
+  String toString() {
+    return 'RawScreenshot{data: $data, height: $height, width: $width}';
+  }
+}
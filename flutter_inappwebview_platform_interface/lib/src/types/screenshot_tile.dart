@@ -0,0 +1,42 @@
+import 'dart:typed_data';
+
+import 'package:flutter_inappwebview_internal_annotations/flutter_inappwebview_internal_annotations.dart';
+
+import '../in_app_webview/platform_inappwebview_controller.dart';
+
+part 'screenshot_tile.g.dart';
+
+///Class that represents a horizontal strip of a screenshot taken with [PlatformInAppWebViewController.takeFullPageScreenshot].
+@ExchangeableObject()
+class ScreenshotTile_ {
+  ///The position of the tile, starting from `0` for the top one.
+  int index;
+
+  ///The vertical position of the tile in the full image, in pixels.
+  int y;
+
+  ///The width of the tile, in pixels.
+  int width;
+
+  ///The height of the tile, in pixels.
+  int height;
+
+  ///The width of the full image, in pixels.
+  int imageWidth;
+
+  ///The height of the full image, in pixels.
+  int imageHeight;
+
+  ///The tile image, encoded with the [ScreenshotConfiguration.compressFormat].
+  Uint8List data;
+
+  @ExchangeableObjectConstructor()
+  ScreenshotTile_(
+      {required this.index,
+      required this.y,
+      required this.width,
+      required this.height,
+      required this.imageWidth,
+      required this.imageHeight,
+      required this.data});
+}
@@ -0,0 +1,79 @@
+// GENERATED CODE - DO NOT MODIFY BY HAND
+
+part of 'screenshot_tile.dart';
+
+// **************************************************************************
+// ExchangeableObjectGenerator
+// **************************************************************************
+
+///Class that represents a horizontal strip of a screenshot taken with [PlatformInAppWebViewController.takeFullPageScreenshot].
+class ScreenshotTile {
+  ///The tile image, encoded with the [ScreenshotConfiguration.compressFormat].
+  Uint8List data;
+
+  ///The height of the tile, in pixels.
+  int height;
+
+  ///The height of the full image, in pixels.
+  int imageHeight;
+
+  ///The width of the full image, in pixels.
+  int imageWidth;
+
+  ///The position of the tile, starting from `0` for the top one.
+  int index;
+
+  ///The width of the tile, in pixels.
+  int width;
+
+  ///The vertical position of the tile in the full image, in pixels.
+  int y;
+  ScreenshotTile(
+      {required this.index,
+      required this.y,
+      required this.width,
+      required this.height,
+      required this.imageWidth,
+      required this.imageHeight,
+      required this.data});
+
+  ///Gets a possible [ScreenshotTile] instance from a [Map] value.
+  static ScreenshotTile? fromMap(Map<String, dynamic>? map) {
+    if (map == null) {
+      return null;
+    }
+    final instance = ScreenshotTile(
+      data: map['data'],
+      height: map['height'],
+      imageHeight: map['imageHeight'],
+      imageWidth: map['imageWidth'],
+      index: map['index'],
+      width: map['width'],
+      y: map['y'],
+    );
+    return instance;
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toMap() {
+    return {
+      "data": data,
+      "height": height,
+      "imageHeight": imageHeight,
+      "imageWidth": imageWidth,
+      "index": index,
+      "width": width,
+      "y": y,
+    };
+  }
+
+  ///Converts instance to a map.
+  Map<String, dynamic> toJson() {
+    return toMap();
+  }
+
+  @override
+  String toString() {
+    return 'ScreenshotTile{data: $data, height: $height, imageHeight: $imageHeight, imageWidth: $imageWidth, index: $index, width: $width, y: $y}';
+  }
+}
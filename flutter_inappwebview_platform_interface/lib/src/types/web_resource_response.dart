@@ -4,6 +4,12 @@ import 'package:flutter_inappwebview_internal_annotations/flutter_inappwebview_i
 
 part 'web_resource_response.g.dart';
 
+// a stream can't be exchanged as a map value: the platform implementations that support it
+// send its chunks separately
+dynamic _dataStreamSerializer(Stream<Uint8List>? dataStream) => null;
+
+Stream<Uint8List>? _dataStreamDeserializer(dynamic value) => null;
+
 ///Class representing a resource response of the `WebView`.
 @ExchangeableObject()
 class WebResourceResponse_ {
@@ -16,6 +22,17 @@ class WebResourceResponse_ {
   ///The data provided by the resource response.
   Uint8List? data;
 
+  ///The data provided by the resource response, as a stream of chunks. If not `null`, [data] is ignored.
+  ///
+  ///The WebView starts loading the resource as soon as the first chunk is available,
+  ///and the next chunks are requested only when the previous ones have been read,
+  ///so that large resources are never fully loaded in memory.
+  ///
+  ///**NOTE**: available only on Android. It is not used by the Service Worker API.
+  @ExchangeableObjectProperty(
+      serializer: _dataStreamSerializer, deserializer: _dataStreamDeserializer)
+  Stream<Uint8List>? dataStream;
+
   ///The headers for the resource response. If [headers] isn't `null`, then you need to set also [statusCode] and [reasonPhrase].
   ///
   ///**NOTE**: available on Android 21+. For Android < 21 it won't be used.
@@ -37,6 +54,7 @@ class WebResourceResponse_ {
       {this.contentType = "",
       this.contentEncoding = "utf-8",
       this.data,
+      this.dataStream,
       this.headers,
       this.statusCode,
       this.reasonPhrase});
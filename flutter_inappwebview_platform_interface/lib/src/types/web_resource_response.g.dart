@@ -17,6 +17,15 @@ class WebResourceResponse {
   ///The data provided by the resource response.
   Uint8List? data;
 
+  ///The data provided by the resource response, as a stream of chunks. If not `null`, [data] is ignored.
+  ///
+  ///The WebView starts loading the resource as soon as the first chunk is available,
+  ///and the next chunks are requested only when the previous ones have been read,
+  ///so that large resources are never fully loaded in memory.
+  ///
+  ///**NOTE**: available only on Android. It is not used by the Service Worker API.
+  Stream<Uint8List>? dataStream;
+
   ///The headers for the resource response. If [headers] isn't `null`, then you need to set also [statusCode] and [reasonPhrase].
   ///
   ///**NOTE**: available on Android 21+. For Android < 21 it won't be used.
@@ -37,6 +46,7 @@ class WebResourceResponse {
       {this.contentEncoding = "utf-8",
       this.contentType = "",
       this.data,
+      this.dataStream,
       this.headers,
       this.reasonPhrase,
       this.statusCode});
@@ -48,6 +58,7 @@ class WebResourceResponse {
     }
     final instance = WebResourceResponse(
       data: map['data'],
+      dataStream: _dataStreamDeserializer(map['dataStream']),
       headers: map['headers']?.cast<String, String>(),
       reasonPhrase: map['reasonPhrase'],
       statusCode: map['statusCode'],
@@ -63,6 +74,7 @@ class WebResourceResponse {
       "contentEncoding": contentEncoding,
       "contentType": contentType,
       "data": data,
+      "dataStream": _dataStreamSerializer(dataStream),
       "headers": headers,
       "reasonPhrase": reasonPhrase,
       "statusCode": statusCode,
@@ -76,6 +88,6 @@ class WebResourceResponse {
 
   @override
   String toString() {
-    return 'WebResourceResponse{contentEncoding: $contentEncoding, contentType: $contentType, data: $data, headers: $headers, reasonPhrase: $reasonPhrase, statusCode: $statusCode}';
+    return 'WebResourceResponse{contentEncoding: $contentEncoding, contentType: $contentType, data: $data, dataStream: $dataStream, headers: $headers, reasonPhrase: $reasonPhrase, statusCode: $statusCode}';
   }
 }